@@ -35,6 +35,8 @@ final class DriverEventDissector
     private static final DataHeaderFlyweight DATA_HEADER = new DataHeaderFlyweight();
     private static final StatusMessageFlyweight SM_HEADER = new StatusMessageFlyweight();
     private static final NakFlyweight NAK_HEADER = new NakFlyweight();
+    private static final SackFlyweight SACK_HEADER = new SackFlyweight();
+    private static final FecFlyweight FEC_HEADER = new FecFlyweight();
     private static final SetupFlyweight SETUP_HEADER = new SetupFlyweight();
     private static final RttMeasurementFlyweight RTT_MEASUREMENT = new RttMeasurementFlyweight();
     private static final HeaderFlyweight HEADER = new HeaderFlyweight();
@@ -95,6 +97,16 @@ final class DriverEventDissector
                 dissectNakFrame(builder);
                 break;
 
+            case HeaderFlyweight.HDR_TYPE_SACK:
+                SACK_HEADER.wrap(buffer, frameOffset, buffer.capacity() - frameOffset);
+                dissectSackFrame(builder);
+                break;
+
+            case HeaderFlyweight.HDR_TYPE_FEC:
+                FEC_HEADER.wrap(buffer, frameOffset, buffer.capacity() - frameOffset);
+                dissectFecFrame(builder);
+                break;
+
             case HeaderFlyweight.HDR_TYPE_SETUP:
                 SETUP_HEADER.wrap(buffer, frameOffset, buffer.capacity() - frameOffset);
                 dissectSetupFrame(builder);
@@ -461,6 +473,50 @@ final class DriverEventDissector
             .append(NAK_HEADER.length());
     }
 
+    private static void dissectSackFrame(final StringBuilder builder)
+    {
+        builder.append("SACK ");
+        HeaderFlyweight.appendFlagsAsChars(SACK_HEADER.flags(), builder);
+
+        builder
+            .append(" len ")
+            .append(SACK_HEADER.frameLength())
+            .append(' ')
+            .append(SACK_HEADER.sessionId())
+            .append(':')
+            .append(SACK_HEADER.streamId())
+            .append(':')
+            .append(SACK_HEADER.termId())
+            .append(" @")
+            .append(SACK_HEADER.termOffset())
+            .append(' ')
+            .append(SACK_HEADER.blockCount())
+            .append('x')
+            .append(SACK_HEADER.blockLength());
+    }
+
+    private static void dissectFecFrame(final StringBuilder builder)
+    {
+        builder.append("FEC ");
+        HeaderFlyweight.appendFlagsAsChars(FEC_HEADER.flags(), builder);
+
+        builder
+            .append(" len ")
+            .append(FEC_HEADER.frameLength())
+            .append(' ')
+            .append(FEC_HEADER.sessionId())
+            .append(':')
+            .append(FEC_HEADER.streamId())
+            .append(':')
+            .append(FEC_HEADER.termId())
+            .append(" @")
+            .append(FEC_HEADER.termOffset())
+            .append(' ')
+            .append(FEC_HEADER.groupLength())
+            .append('/')
+            .append(FEC_HEADER.blockLength());
+    }
+
     private static void dissectSetupFrame(final StringBuilder builder)
     {
         builder.append("SETUP ");
@@ -190,6 +190,56 @@ class DriverEventDissectorTest
             builder.toString());
     }
 
+    @Test
+    void dissectFrameTypeSack()
+    {
+        internalEncodeLogHeader(buffer, 0, 3, 3, () -> 3_000_000_000L);
+        final int socketAddressOffset = encodeSocketAddress(
+            buffer, LOG_HEADER_LENGTH, new InetSocketAddress("localhost", 8888));
+        final SackFlyweight flyweight = new SackFlyweight();
+        flyweight.wrap(buffer, LOG_HEADER_LENGTH + socketAddressOffset, 300);
+        flyweight.headerType(HDR_TYPE_SACK);
+        flyweight.flags((short)0);
+        flyweight.frameLength(34);
+        flyweight.sessionId(5);
+        flyweight.streamId(8);
+        flyweight.termId(20);
+        flyweight.termOffset(1024);
+        flyweight.blockLength(32);
+        flyweight.blockCount(12);
+
+        dissectFrame(CMD_OUT_ERROR, buffer, 0, builder);
+
+        assertEquals("[3.000000] " + CONTEXT + ": " + CMD_OUT_ERROR.name() + " [3/3]: 127.0.0.1:8888 " +
+            "SACK 00000000 len 34 5:8:20 @1024 12x32",
+            builder.toString());
+    }
+
+    @Test
+    void dissectFrameTypeFec()
+    {
+        internalEncodeLogHeader(buffer, 0, 3, 3, () -> 3_000_000_000L);
+        final int socketAddressOffset = encodeSocketAddress(
+            buffer, LOG_HEADER_LENGTH, new InetSocketAddress("localhost", 8888));
+        final FecFlyweight flyweight = new FecFlyweight();
+        flyweight.wrap(buffer, LOG_HEADER_LENGTH + socketAddressOffset, 300);
+        flyweight.headerType(HDR_TYPE_FEC);
+        flyweight.flags((short)0);
+        flyweight.frameLength(1440);
+        flyweight.sessionId(5);
+        flyweight.streamId(8);
+        flyweight.termId(20);
+        flyweight.termOffset(11264);
+        flyweight.blockLength(1408);
+        flyweight.groupLength(11264);
+
+        dissectFrame(CMD_OUT_ERROR, buffer, 0, builder);
+
+        assertEquals("[3.000000] " + CONTEXT + ": " + CMD_OUT_ERROR.name() + " [3/3]: 127.0.0.1:8888 " +
+            "FEC 00000000 len 1440 5:8:20 @11264 11264/1408",
+            builder.toString());
+    }
+
     @Test
     void dissectFrameTypeSetup()
     {
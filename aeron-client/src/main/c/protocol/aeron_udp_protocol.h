@@ -151,6 +151,8 @@ int aeron_udp_protocol_group_tag(aeron_status_message_header_t *sm, int64_t *gro
 #define AERON_HDR_TYPE_ATS_DATA (0x08)
 #define AERON_HDR_TYPE_ATS_SETUP (0x09)
 #define AERON_HDR_TYPE_ATS_SM (0x0A)
+#define AERON_HDR_TYPE_SACK (0x0B)
+#define AERON_HDR_TYPE_FEC (0x0C)
 #define AERON_HDR_TYPE_EXT (0xFFFF)
 
 #define AERON_DATA_HEADER_LENGTH (sizeof(aeron_data_header_t))
@@ -166,6 +168,8 @@ int aeron_udp_protocol_group_tag(aeron_status_message_header_t *sm, int64_t *gro
 #define AERON_STATUS_MESSAGE_HEADER_SEND_SETUP_FLAG (UINT8_C(0x80))
 #define AERON_STATUS_MESSAGE_HEADER_EOS_FLAG (UINT8_C(0x40))
 
+#define AERON_SETUP_HEADER_SACK_FLAG (UINT8_C(0x80))
+
 #define AERON_RTTM_HEADER_REPLY_FLAG (UINT8_C(0x80))
 
 #define AERON_RES_HEADER_TYPE_NAME_TO_IP4_MD (0x01)
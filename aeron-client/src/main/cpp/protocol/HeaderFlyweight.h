@@ -112,6 +112,10 @@ public:
     static const std::int32_t HDR_TYPE_ERR = 0x04;
     /** header type SETUP */
     static const std::int32_t HDR_TYPE_SETUP = 0x05;
+    /** header type SACK */
+    static const std::int32_t HDR_TYPE_SACK = 0x0B;
+    /** header type FEC */
+    static const std::int32_t HDR_TYPE_FEC = 0x0C;
     /** header type EXT */
     static const std::int32_t HDR_TYPE_EXT = 0xFFFF;
 
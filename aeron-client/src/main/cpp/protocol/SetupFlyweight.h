@@ -52,6 +52,9 @@ class SetupFlyweight : public HeaderFlyweight
 public:
     typedef SetupFlyweight this_t;
 
+    /** Set by a source to indicate it will accept SACK frames from receivers for the stream. */
+    static const std::uint8_t SACK_FLAG = 0x80;
+
     SetupFlyweight(concurrent::AtomicBuffer &buffer, std::int32_t offset) :
         HeaderFlyweight(buffer, offset), m_struct(overlayStruct<SetupDefn>(0))
     {
@@ -133,6 +133,58 @@ public final class AeronCounters
      */
     public static final int MDC_DESTINATIONS_COUNTER_TYPE_ID = 18;
 
+    /**
+     * The current delay in nanoseconds before a sender can send more data on a stream which is paced by a max send
+     * rate.
+     *
+     * @since 1.43.0
+     */
+    public static final int DRIVER_SENDER_PACING_DELAY_TYPE_ID = 19;
+
+    /**
+     * Summary of the one-way latency, from the sending driver to the receiving driver, of the frames of an image
+     * over the last interval.
+     *
+     * @since 1.43.0
+     */
+    public static final int DRIVER_RECEIVER_LATENCY_TYPE_ID = 20;
+
+    /**
+     * Summary of the round trip times measured by a network publication to its receivers over the last interval.
+     *
+     * @since 1.43.0
+     */
+    public static final int DRIVER_SENDER_RTT_TYPE_ID = 21;
+
+    /**
+     * Summary of the round trip times measured by an image to its sources over the last interval.
+     *
+     * @since 1.43.0
+     */
+    public static final int DRIVER_RECEIVER_RTT_TYPE_ID = 22;
+
+    /**
+     * Summary of the duty cycle times of a driver agent over the last interval.
+     *
+     * @since 1.43.0
+     */
+    public static final int DRIVER_DUTY_CYCLE_TIME_TYPE_ID = 23;
+
+    /**
+     * The max duty cycle time of an additional sender or receiver agent, beyond the first, in the driver.
+     *
+     * @since 1.43.0
+     */
+    public static final int DRIVER_AGENT_MAX_CYCLE_TIME_TYPE_ID = 24;
+
+    /**
+     * The count of cycle time threshold exceeded of an additional sender or receiver agent, beyond the first, in the
+     * driver.
+     *
+     * @since 1.43.0
+     */
+    public static final int DRIVER_AGENT_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID = 25;
+
     // Archive counters
     /**
      * The position a recording has reached when being archived.
@@ -74,6 +74,15 @@ public final class ChannelUriStringBuilder
     private String mediaReceiveTimestampOffset;
     private String channelReceiveTimestampOffset;
     private String channelSendTimestampOffset;
+    private Integer maxMessagesPerSend;
+    private Integer receiverAgent;
+    private Integer senderAgent;
+    private Boolean sack;
+    private Integer maxRetransmits;
+    private Long maxSendRate;
+    private Integer sendBurst;
+    private Integer fecGroupSize;
+    private Integer receiveSocketCount;
 
     /**
      * Default constructor
@@ -134,6 +143,15 @@ public final class ChannelUriStringBuilder
         mediaReceiveTimestampOffset(channelUri);
         channelReceiveTimestampOffset(channelUri);
         channelSendTimestampOffset(channelUri);
+        maxMessagesPerSend(channelUri);
+        receiverAgent(channelUri);
+        senderAgent(channelUri);
+        sack(channelUri);
+        maxRetransmits(channelUri);
+        maxSendRate(channelUri);
+        sendBurst(channelUri);
+        fecGroupSize(channelUri);
+        receiveSocketCount(channelUri);
     }
 
     /**
@@ -175,6 +193,15 @@ public final class ChannelUriStringBuilder
         mediaReceiveTimestampOffset = null;
         channelReceiveTimestampOffset = null;
         channelSendTimestampOffset = null;
+        maxMessagesPerSend = null;
+        receiverAgent = null;
+        senderAgent = null;
+        sack = null;
+        maxRetransmits = null;
+        maxSendRate = null;
+        sendBurst = null;
+        fecGroupSize = null;
+        receiveSocketCount = null;
 
         return this;
     }
@@ -1426,6 +1453,54 @@ public final class ChannelUriStringBuilder
         return flowControl(flowControlValue);
     }
 
+    /**
+     * Set quorum flow control settings to be used on a stream. All specified values may be null and the default
+     * specified in the MediaDriver.Context will be used instead. Only one of rank or percentile should be specified.
+     *
+     * @param rank         of the receiver, counting from 1 for the slowest, which limits the sender.
+     * @param percentile   of receivers, from 1 to 100, which the sender is kept within the window of.
+     * @param ejectionLag  length by which receivers can trail before being ejected, allows suffixing (e.g. 16m).
+     * @param minGroupSize group size required to allow publications for this stream to be moved to connected status.
+     * @param timeout      timeout receivers, default is ns, but allows suffixing of time units (e.g. 5s).
+     * @return this for fluent API.
+     */
+    public ChannelUriStringBuilder quorumFlowControl(
+        final Integer rank,
+        final Integer percentile,
+        final String ejectionLag,
+        final Integer minGroupSize,
+        final String timeout)
+    {
+        String flowControlValue = "quorum";
+
+        if (null != rank)
+        {
+            flowControlValue += (",k:" + rank);
+        }
+
+        if (null != percentile)
+        {
+            flowControlValue += (",p:" + percentile);
+        }
+
+        if (null != ejectionLag)
+        {
+            flowControlValue += (",l:" + ejectionLag);
+        }
+
+        if (null != minGroupSize)
+        {
+            flowControlValue += (",g:/" + minGroupSize);
+        }
+
+        if (null != timeout)
+        {
+            flowControlValue += (",t:" + timeout);
+        }
+
+        return flowControl(flowControlValue);
+    }
+
     /**
      * Set the flow control to be value which is in the {@link ChannelUri} which may be null.
      *
@@ -1931,6 +2006,538 @@ public final class ChannelUriStringBuilder
         return channelSendTimestampOffset(channelUri.get(CHANNEL_SEND_TIMESTAMP_OFFSET_PARAM_NAME));
     }
 
+    /**
+     * Set the maximum number of consecutive MTU length frames a network publication will send in a single duty
+     * cycle of the sender.
+     *
+     * @param maxMessagesPerSend maximum number of MTU length frames to send per duty cycle.
+     * @return this for a fluent API.
+     * @see CommonContext#MAX_MESSAGES_PER_SEND_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder maxMessagesPerSend(final Integer maxMessagesPerSend)
+    {
+        if (null != maxMessagesPerSend && maxMessagesPerSend < 1)
+        {
+            throw new IllegalArgumentException("maxMessagesPerSend must be positive: " + maxMessagesPerSend);
+        }
+
+        this.maxMessagesPerSend = maxMessagesPerSend;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of consecutive MTU length frames a network publication will send in a single duty
+     * cycle of the sender from an existing {@link ChannelUri}, which may have a null value for this field.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#MAX_MESSAGES_PER_SEND_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder maxMessagesPerSend(final ChannelUri channelUri)
+    {
+        final String valueStr = channelUri.get(MAX_MESSAGES_PER_SEND_PARAM_NAME);
+        if (null == valueStr)
+        {
+            this.maxMessagesPerSend = null;
+            return this;
+        }
+        else
+        {
+            try
+            {
+                return maxMessagesPerSend(Integer.valueOf(valueStr));
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException("'max-msgs-per-send' must be a valid integer", ex);
+            }
+        }
+    }
+
+    /**
+     * Get the maximum number of consecutive MTU length frames a network publication will send in a single duty
+     * cycle of the sender.
+     *
+     * @return maximum number of MTU length frames to send per duty cycle.
+     * @see CommonContext#MAX_MESSAGES_PER_SEND_PARAM_NAME
+     * @since 1.43.0
+     */
+    public Integer maxMessagesPerSend()
+    {
+        return maxMessagesPerSend;
+    }
+
+    /**
+     * Set the index of the receiver agent in the media driver which should service this subscription channel.
+     *
+     * @param receiverAgent index of the receiver agent.
+     * @return this for a fluent API.
+     * @see CommonContext#RECEIVER_AGENT_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder receiverAgent(final Integer receiverAgent)
+    {
+        if (null != receiverAgent && receiverAgent < 0)
+        {
+            throw new IllegalArgumentException("receiverAgent must not be negative: " + receiverAgent);
+        }
+
+        this.receiverAgent = receiverAgent;
+        return this;
+    }
+
+    /**
+     * Set the index of the receiver agent in the media driver which should service this subscription channel from
+     * an existing {@link ChannelUri}, which may have a null value for this field.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#RECEIVER_AGENT_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder receiverAgent(final ChannelUri channelUri)
+    {
+        final String valueStr = channelUri.get(RECEIVER_AGENT_PARAM_NAME);
+        if (null == valueStr)
+        {
+            this.receiverAgent = null;
+            return this;
+        }
+        else
+        {
+            try
+            {
+                return receiverAgent(Integer.valueOf(valueStr));
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException("'rcv-agent' must be a valid integer", ex);
+            }
+        }
+    }
+
+    /**
+     * Get the index of the receiver agent in the media driver which should service this subscription channel.
+     *
+     * @return index of the receiver agent.
+     * @see CommonContext#RECEIVER_AGENT_PARAM_NAME
+     * @since 1.43.0
+     */
+    public Integer receiverAgent()
+    {
+        return receiverAgent;
+    }
+
+    /**
+     * Set the index of the sender agent in the media driver which should service this publication channel.
+     *
+     * @param senderAgent index of the sender agent.
+     * @return this for a fluent API.
+     * @see CommonContext#SENDER_AGENT_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder senderAgent(final Integer senderAgent)
+    {
+        if (null != senderAgent && senderAgent < 0)
+        {
+            throw new IllegalArgumentException("senderAgent must not be negative: " + senderAgent);
+        }
+
+        this.senderAgent = senderAgent;
+        return this;
+    }
+
+    /**
+     * Set the index of the sender agent in the media driver which should service this publication channel from an
+     * existing {@link ChannelUri}, which may have a null value for this field.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#SENDER_AGENT_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder senderAgent(final ChannelUri channelUri)
+    {
+        final String valueStr = channelUri.get(SENDER_AGENT_PARAM_NAME);
+        if (null == valueStr)
+        {
+            this.senderAgent = null;
+            return this;
+        }
+        else
+        {
+            try
+            {
+                return senderAgent(Integer.valueOf(valueStr));
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException("'snd-agent' must be a valid integer", ex);
+            }
+        }
+    }
+
+    /**
+     * Get the index of the sender agent in the media driver which should service this publication channel.
+     *
+     * @return index of the sender agent.
+     * @see CommonContext#SENDER_AGENT_PARAM_NAME
+     * @since 1.43.0
+     */
+    public Integer senderAgent()
+    {
+        return senderAgent;
+    }
+
+    /**
+     * Set the subscription semantics for if loss should be reported with Selective-ACK frames to sources which support
+     * them, or the publication semantics for if support for Selective-ACK frames is advertised to receivers.
+     *
+     * @param sack true if loss should be reported with Selective-ACK frames.
+     * @return this for a fluent API.
+     * @see CommonContext#SACK_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder sack(final Boolean sack)
+    {
+        this.sack = sack;
+        return this;
+    }
+
+    /**
+     * Set the sack value to be what is in the {@link ChannelUri} which may be null.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#SACK_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder sack(final ChannelUri channelUri)
+    {
+        final String sackValue = channelUri.get(SACK_PARAM_NAME);
+        if (null == sackValue)
+        {
+            sack = null;
+            return this;
+        }
+        else
+        {
+            return sack(Boolean.valueOf(sackValue));
+        }
+    }
+
+    /**
+     * Get the subscription semantics for if loss should be reported with Selective-ACK frames.
+     *
+     * @return the subscription semantics for if loss should be reported with Selective-ACK frames.
+     * @see CommonContext#SACK_PARAM_NAME
+     * @since 1.43.0
+     */
+    public Boolean sack()
+    {
+        return sack;
+    }
+
+    /**
+     * Set the max number of active retransmissions for a network publication.
+     *
+     * @param maxRetransmits max number of active retransmissions.
+     * @return this for a fluent API.
+     * @see CommonContext#MAX_RETRANSMITS_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder maxRetransmits(final Integer maxRetransmits)
+    {
+        if (null != maxRetransmits && maxRetransmits < 1)
+        {
+            throw new IllegalArgumentException("maxRetransmits must be positive: " + maxRetransmits);
+        }
+
+        this.maxRetransmits = maxRetransmits;
+        return this;
+    }
+
+    /**
+     * Set the max number of active retransmissions for a network publication from an existing {@link ChannelUri},
+     * which may have a null value for this field.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#MAX_RETRANSMITS_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder maxRetransmits(final ChannelUri channelUri)
+    {
+        final String valueStr = channelUri.get(MAX_RETRANSMITS_PARAM_NAME);
+        if (null == valueStr)
+        {
+            this.maxRetransmits = null;
+            return this;
+        }
+        else
+        {
+            try
+            {
+                return maxRetransmits(Integer.valueOf(valueStr));
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException("'max-retransmits' must be a valid integer", ex);
+            }
+        }
+    }
+
+    /**
+     * Get the max number of active retransmissions for a network publication.
+     *
+     * @return max number of active retransmissions.
+     * @see CommonContext#MAX_RETRANSMITS_PARAM_NAME
+     * @since 1.43.0
+     */
+    public Integer maxRetransmits()
+    {
+        return maxRetransmits;
+    }
+
+    /**
+     * Set the max rate in bytes per second at which a network publication will send data.
+     *
+     * @param maxSendRate in bytes per second.
+     * @return this for a fluent API.
+     * @see CommonContext#MAX_SEND_RATE_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder maxSendRate(final Long maxSendRate)
+    {
+        if (null != maxSendRate && maxSendRate < 1)
+        {
+            throw new IllegalArgumentException("maxSendRate must be positive: " + maxSendRate);
+        }
+
+        this.maxSendRate = maxSendRate;
+        return this;
+    }
+
+    /**
+     * Set the max rate in bytes per second at which a network publication will send data from an existing
+     * {@link ChannelUri}, which may have a null value for this field.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#MAX_SEND_RATE_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder maxSendRate(final ChannelUri channelUri)
+    {
+        final String valueStr = channelUri.get(MAX_SEND_RATE_PARAM_NAME);
+        if (null == valueStr)
+        {
+            this.maxSendRate = null;
+            return this;
+        }
+        else
+        {
+            return maxSendRate(parseSize(MAX_SEND_RATE_PARAM_NAME, valueStr));
+        }
+    }
+
+    /**
+     * Get the max rate in bytes per second at which a network publication will send data.
+     *
+     * @return max rate in bytes per second or null if not specified.
+     * @see CommonContext#MAX_SEND_RATE_PARAM_NAME
+     * @since 1.43.0
+     */
+    public Long maxSendRate()
+    {
+        return maxSendRate;
+    }
+
+    /**
+     * Set the length in bytes of a burst a network publication may send at once when paced by a max send rate.
+     *
+     * @param sendBurst length in bytes.
+     * @return this for a fluent API.
+     * @see CommonContext#SEND_BURST_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder sendBurst(final Integer sendBurst)
+    {
+        if (null != sendBurst && sendBurst < 1)
+        {
+            throw new IllegalArgumentException("sendBurst must be positive: " + sendBurst);
+        }
+
+        this.sendBurst = sendBurst;
+        return this;
+    }
+
+    /**
+     * Set the length in bytes of a burst a network publication may send at once when paced by a max send rate from
+     * an existing {@link ChannelUri}, which may have a null value for this field.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#SEND_BURST_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder sendBurst(final ChannelUri channelUri)
+    {
+        final String valueStr = channelUri.get(SEND_BURST_PARAM_NAME);
+        if (null == valueStr)
+        {
+            this.sendBurst = null;
+            return this;
+        }
+        else
+        {
+            final long value = parseSize(SEND_BURST_PARAM_NAME, valueStr);
+            if (value > Integer.MAX_VALUE)
+            {
+                throw new IllegalStateException("value exceeds maximum permitted: value=" + value);
+            }
+
+            return sendBurst((int)value);
+        }
+    }
+
+    /**
+     * Get the length in bytes of a burst a network publication may send at once when paced by a max send rate.
+     *
+     * @return length in bytes of a burst or null if not specified.
+     * @see CommonContext#SEND_BURST_PARAM_NAME
+     * @since 1.43.0
+     */
+    public Integer sendBurst()
+    {
+        return sendBurst;
+    }
+
+    /**
+     * Set the number of blocks in a forward error correction group for a network publication.
+     *
+     * @param fecGroupSize number of blocks covered by each parity frame.
+     * @return this for a fluent API.
+     * @see CommonContext#FEC_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder fecGroupSize(final Integer fecGroupSize)
+    {
+        if (null != fecGroupSize && fecGroupSize < 1)
+        {
+            throw new IllegalArgumentException("fecGroupSize must be positive: " + fecGroupSize);
+        }
+
+        this.fecGroupSize = fecGroupSize;
+        return this;
+    }
+
+    /**
+     * Set the number of blocks in a forward error correction group for a network publication from an existing
+     * {@link ChannelUri}, which may have a null value for this field.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#FEC_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder fecGroupSize(final ChannelUri channelUri)
+    {
+        final String valueStr = channelUri.get(FEC_PARAM_NAME);
+        if (null == valueStr)
+        {
+            this.fecGroupSize = null;
+            return this;
+        }
+        else
+        {
+            try
+            {
+                return fecGroupSize(Integer.valueOf(valueStr));
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException("'fec' must be a valid integer", ex);
+            }
+        }
+    }
+
+    /**
+     * Get the number of blocks in a forward error correction group for a network publication.
+     *
+     * @return number of blocks covered by each parity frame or null if not specified.
+     * @see CommonContext#FEC_PARAM_NAME
+     * @since 1.43.0
+     */
+    public Integer fecGroupSize()
+    {
+        return fecGroupSize;
+    }
+
+    /**
+     * Set the number of sockets a unicast subscription channel should open on its endpoint with SO_REUSEPORT so
+     * sources are spread across receiver agents.
+     *
+     * @param receiveSocketCount number of sockets to open on the endpoint.
+     * @return this for a fluent API.
+     * @see CommonContext#RECEIVE_SOCKET_COUNT_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder receiveSocketCount(final Integer receiveSocketCount)
+    {
+        if (null != receiveSocketCount && receiveSocketCount < 1)
+        {
+            throw new IllegalArgumentException("receiveSocketCount must be positive: " + receiveSocketCount);
+        }
+
+        this.receiveSocketCount = receiveSocketCount;
+        return this;
+    }
+
+    /**
+     * Set the number of sockets a unicast subscription channel should open on its endpoint with SO_REUSEPORT from an
+     * existing {@link ChannelUri}, which may have a null value for this field.
+     *
+     * @param channelUri to read the value from.
+     * @return this for a fluent API.
+     * @see CommonContext#RECEIVE_SOCKET_COUNT_PARAM_NAME
+     * @since 1.43.0
+     */
+    public ChannelUriStringBuilder receiveSocketCount(final ChannelUri channelUri)
+    {
+        final String valueStr = channelUri.get(RECEIVE_SOCKET_COUNT_PARAM_NAME);
+        if (null == valueStr)
+        {
+            this.receiveSocketCount = null;
+            return this;
+        }
+        else
+        {
+            try
+            {
+                return receiveSocketCount(Integer.valueOf(valueStr));
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException("'rcv-sockets' must be a valid integer", ex);
+            }
+        }
+    }
+
+    /**
+     * Get the number of sockets a unicast subscription channel should open on its endpoint with SO_REUSEPORT.
+     *
+     * @return number of sockets to open on the endpoint or null if not specified.
+     * @see CommonContext#RECEIVE_SOCKET_COUNT_PARAM_NAME
+     * @since 1.43.0
+     */
+    public Integer receiveSocketCount()
+    {
+        return receiveSocketCount;
+    }
+
     /**
      * Build a channel URI String for the given parameters.
      *
@@ -2107,6 +2714,51 @@ public final class ChannelUriStringBuilder
                 .append('|');
         }
 
+        if (null != maxMessagesPerSend)
+        {
+            sb.append(MAX_MESSAGES_PER_SEND_PARAM_NAME).append('=').append(maxMessagesPerSend).append('|');
+        }
+
+        if (null != receiverAgent)
+        {
+            sb.append(RECEIVER_AGENT_PARAM_NAME).append('=').append(receiverAgent).append('|');
+        }
+
+        if (null != senderAgent)
+        {
+            sb.append(SENDER_AGENT_PARAM_NAME).append('=').append(senderAgent).append('|');
+        }
+
+        if (null != sack)
+        {
+            sb.append(SACK_PARAM_NAME).append('=').append(sack).append('|');
+        }
+
+        if (null != maxRetransmits)
+        {
+            sb.append(MAX_RETRANSMITS_PARAM_NAME).append('=').append(maxRetransmits).append('|');
+        }
+
+        if (null != maxSendRate)
+        {
+            sb.append(MAX_SEND_RATE_PARAM_NAME).append('=').append(maxSendRate).append('|');
+        }
+
+        if (null != sendBurst)
+        {
+            sb.append(SEND_BURST_PARAM_NAME).append('=').append(sendBurst).append('|');
+        }
+
+        if (null != fecGroupSize)
+        {
+            sb.append(FEC_PARAM_NAME).append('=').append(fecGroupSize).append('|');
+        }
+
+        if (null != receiveSocketCount)
+        {
+            sb.append(RECEIVE_SOCKET_COUNT_PARAM_NAME).append('=').append(receiveSocketCount).append('|');
+        }
+
         final char lastChar = sb.charAt(sb.length() - 1);
         if (lastChar == '|' || lastChar == '?')
         {
@@ -288,13 +288,13 @@ public class CommonContext implements Cloneable
 
     /**
      * Parameter name for Subscription URI param to indicate the congestion control algorithm to be used.
-     * Options include {@code static} and {@code cubic}.
+     * Options include {@code static}, {@code cubic}, and {@code bbr}.
      */
     public static final String CONGESTION_CONTROL_PARAM_NAME = "cc";
 
     /**
      * Parameter name for Publication URI param to indicate the flow control strategy to be used.
-     * Options include {@code min}, {@code max}, and {@code pref}.
+     * Options include {@code min}, {@code max}, {@code pref}, and {@code quorum}.
      */
     public static final String FLOW_CONTROL_PARAM_NAME = "fc";
 
@@ -347,6 +347,84 @@ public class CommonContext implements Cloneable
      */
     public static final String CHANNEL_SEND_TIMESTAMP_OFFSET_PARAM_NAME = "channel-snd-ts-offset";
 
+    /**
+     * Parameter name for the maximum number of consecutive MTU length frames a network publication will send in a
+     * single duty cycle of the sender. Overrides the media driver default for the publication.
+     *
+     * @since 1.43.0
+     */
+    public static final String MAX_MESSAGES_PER_SEND_PARAM_NAME = "max-msgs-per-send";
+
+    /**
+     * Parameter name for the index of the receiver agent in the media driver which should service a subscription
+     * channel when the driver is configured with more than one receiver agent. If not specified, the channel is
+     * assigned by a hash of the channel.
+     *
+     * @since 1.43.0
+     */
+    public static final String RECEIVER_AGENT_PARAM_NAME = "rcv-agent";
+
+    /**
+     * Parameter name for the index of the sender agent in the media driver which should service a publication channel
+     * when the driver is configured with more than one sender agent. If not specified, the channel is assigned by a
+     * hash of the channel.
+     *
+     * @since 1.43.0
+     */
+    public static final String SENDER_AGENT_PARAM_NAME = "snd-agent";
+
+    /**
+     * Parameter name for a subscription channel to report loss with Selective-ACK frames, carrying a bitmap of what has
+     * been received after the first gap, rather than a NAK per gap. On a publication channel the source advertises
+     * support for Selective-ACK in its setup frames. A subscription only sends Selective-ACK frames to sources which
+     * advertise support, otherwise NAKs are sent.
+     *
+     * @since 1.43.0
+     */
+    public static final String SACK_PARAM_NAME = "sack";
+
+    /**
+     * Parameter name for the max number of active retransmissions for a network publication, each of which can cover
+     * a range of a term coalesced from many NAKs. Overrides the media driver default for the publication.
+     *
+     * @since 1.43.0
+     */
+    public static final String MAX_RETRANSMITS_PARAM_NAME = "max-retransmits";
+
+    /**
+     * Parameter name for the max rate in bytes per second at which a network publication will send data, which may
+     * have a suffix of k, m, or g. Data is paced by a token bucket with a depth of {@link #SEND_BURST_PARAM_NAME}.
+     *
+     * @since 1.43.0
+     */
+    public static final String MAX_SEND_RATE_PARAM_NAME = "max-send-rate";
+
+    /**
+     * Parameter name for the length in bytes of a burst a network publication may send at once when paced by
+     * {@link #MAX_SEND_RATE_PARAM_NAME}, which may have a suffix of k, m, or g.
+     *
+     * @since 1.43.0
+     */
+    public static final String SEND_BURST_PARAM_NAME = "send-burst";
+
+    /**
+     * Parameter name for the number of blocks in a forward error correction group for a network publication. When set
+     * an XOR parity frame is sent after each group of blocks so a receiver can rebuild a single gap of up to a block
+     * in length without a NAK. A block is an MTU in length so parity frames are an FEC header larger than an MTU.
+     *
+     * @since 1.43.0
+     */
+    public static final String FEC_PARAM_NAME = "fec";
+
+    /**
+     * Parameter name for the number of sockets a unicast subscription channel opens on its endpoint with SO_REUSEPORT.
+     * Each socket is serviced by a different receiver agent, where there is more than one, and the kernel spreads
+     * sources across the sockets by a hash of their address so each image stays with the socket that sees its source.
+     *
+     * @since 1.43.0
+     */
+    public static final String RECEIVE_SOCKET_COUNT_PARAM_NAME = "rcv-sockets";
+
     /**
      * Placeholder value to use in URIs to specify that a timestamp should be stored in the reserved value field.
      */
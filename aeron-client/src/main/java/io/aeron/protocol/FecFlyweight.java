@@ -0,0 +1,276 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.protocol;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Flyweight for a Forward Error Correction Frame.
+ * <p>
+ * Carries the XOR parity of a group of blocks of a term which begins at a term offset. The group is cut into blocks
+ * of {@link #blockLength()} bytes, the last of which can be short, and the parity which follows the header is the XOR
+ * of all the blocks as if each short block were padded with zeros. A receiver which is missing a single range of up to
+ * a block within the group can rebuild it from the parity and the rest of the group without a NAK.
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +---------------------------------------------------------------+
+ *  |                         Frame Length                          |
+ *  +---------------+---------------+-------------------------------+
+ *  |    Version    |     Flags     |          Type (=0x0C)         |
+ *  +---------------+---------------+-------------------------------+
+ *  |                          Session ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                           Stream ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                            Term ID                            |
+ *  +---------------------------------------------------------------+
+ *  |                          Term Offset                          |
+ *  +---------------------------------------------------------------+
+ *  |                         Block Length                          |
+ *  +---------------------------------------------------------------+
+ *  |                         Group Length                          |
+ *  +---------------------------------------------------------------+
+ *  |                            Parity                            ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ */
+public class FecFlyweight extends HeaderFlyweight
+{
+    /**
+     * Length of the header of the frame in bytes which precedes the parity.
+     */
+    public static final int HEADER_LENGTH = 32;
+
+    /**
+     * Offset in the frame at which the session-id field begins.
+     */
+    private static final int SESSION_ID_FIELD_OFFSET = 8;
+
+    /**
+     * Offset in the frame at which the stream-id field begins.
+     */
+    private static final int STREAM_ID_FIELD_OFFSET = 12;
+
+    /**
+     * Offset in the frame at which the term-id field begins.
+     */
+    private static final int TERM_ID_FIELD_OFFSET = 16;
+
+    /**
+     * Offset in the frame at which the term-offset field begins.
+     */
+    private static final int TERM_OFFSET_FIELD_OFFSET = 20;
+
+    /**
+     * Offset in the frame at which the block length field begins.
+     */
+    private static final int BLOCK_LENGTH_FIELD_OFFSET = 24;
+
+    /**
+     * Offset in the frame at which the group length field begins.
+     */
+    private static final int GROUP_LENGTH_FIELD_OFFSET = 28;
+
+    /**
+     * Default constructor which can later be used to wrap a frame.
+     */
+    public FecFlyweight()
+    {
+    }
+
+    /**
+     * Construct the flyweight over a frame.
+     *
+     * @param buffer containing the frame.
+     */
+    public FecFlyweight(final ByteBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    /**
+     * Construct the flyweight over a frame.
+     *
+     * @param buffer containing the frame.
+     */
+    public FecFlyweight(final UnsafeBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    /**
+     * The session-id for the stream.
+     *
+     * @return session-id for the stream.
+     */
+    public int sessionId()
+    {
+        return getInt(SESSION_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set session-id for the stream.
+     *
+     * @param sessionId session-id for the stream.
+     * @return this for a fluent API.
+     */
+    public FecFlyweight sessionId(final int sessionId)
+    {
+        putInt(SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * The stream-id for the stream.
+     *
+     * @return stream-id for the stream.
+     */
+    public int streamId()
+    {
+        return getInt(STREAM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set stream-id for the stream.
+     *
+     * @param streamId stream-id for the stream.
+     * @return this for a fluent API.
+     */
+    public FecFlyweight streamId(final int streamId)
+    {
+        putInt(STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * The term-id for the stream.
+     *
+     * @return term-id for the stream.
+     */
+    public int termId()
+    {
+        return getInt(TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set term-id for the stream.
+     *
+     * @param termId term-id for the stream.
+     * @return this for a fluent API.
+     */
+    public FecFlyweight termId(final int termId)
+    {
+        putInt(TERM_ID_FIELD_OFFSET, termId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * The term-offset at which the group begins.
+     *
+     * @return term-offset at which the group begins.
+     */
+    public int termOffset()
+    {
+        return getInt(TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set term-offset at which the group begins.
+     *
+     * @param termOffset at which the group begins.
+     * @return this for a fluent API.
+     */
+    public FecFlyweight termOffset(final int termOffset)
+    {
+        putInt(TERM_OFFSET_FIELD_OFFSET, termOffset, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * The length in bytes of each block in the group, and of the parity.
+     *
+     * @return length in bytes of each block.
+     */
+    public int blockLength()
+    {
+        return getInt(BLOCK_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set the length in bytes of each block in the group, and of the parity.
+     *
+     * @param blockLength in bytes of each block.
+     * @return this for a fluent API.
+     */
+    public FecFlyweight blockLength(final int blockLength)
+    {
+        putInt(BLOCK_LENGTH_FIELD_OFFSET, blockLength, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * The length in bytes of the range of the term covered by the parity.
+     *
+     * @return length in bytes of the group.
+     */
+    public int groupLength()
+    {
+        return getInt(GROUP_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set the length in bytes of the range of the term covered by the parity.
+     *
+     * @param groupLength in bytes of the group.
+     * @return this for a fluent API.
+     */
+    public FecFlyweight groupLength(final int groupLength)
+    {
+        putInt(GROUP_LENGTH_FIELD_OFFSET, groupLength, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "FEC{" +
+            "frame-length=" + frameLength() +
+            " version=" + version() +
+            " flags=" + String.valueOf(flagsToChars(flags())) +
+            " type=" + headerType() +
+            " session-id=" + sessionId() +
+            " stream-id=" + streamId() +
+            " term-id=" + termId() +
+            " term-offset=" + termOffset() +
+            " block-length=" + blockLength() +
+            " group-length=" + groupLength() +
+            "}";
+    }
+}
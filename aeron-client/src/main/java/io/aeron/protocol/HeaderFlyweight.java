@@ -79,6 +79,16 @@ public class HeaderFlyweight extends UnsafeBuffer
      */
     public static final int HDR_TYPE_RES = 0x07;
 
+    /**
+     * header type SACK
+     */
+    public static final int HDR_TYPE_SACK = 0x0B;
+
+    /**
+     * header type FEC
+     */
+    public static final int HDR_TYPE_FEC = 0x0C;
+
     /**
      * header type EXT
      */
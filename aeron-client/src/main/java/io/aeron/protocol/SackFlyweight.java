@@ -0,0 +1,339 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.protocol;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
+/**
+ * Flyweight for a Selective-ACK Message Frame.
+ * <p>
+ * Reports the blocks of a term which have been received, and by omission those which are missing, from a term offset
+ * at which the first gap begins. Each block is {@link #blockLength()} bytes and is represented by a bit in a bitmap
+ * which follows the header, with the least significant bit of the first byte being the first block. A set bit
+ * indicates the block has been received. Runs of clear bits are requested for retransmit as if each were a NAK.
+ * <pre>
+ *   0                   1                   2                   3
+ *   0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1 2 3 4 5 6 7 8 9 0 1
+ *  +---------------------------------------------------------------+
+ *  |                         Frame Length                          |
+ *  +---------------+---------------+-------------------------------+
+ *  |    Version    |     Flags     |          Type (=0x0B)         |
+ *  +---------------+---------------+-------------------------------+
+ *  |                          Session ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                           Stream ID                           |
+ *  +---------------------------------------------------------------+
+ *  |                            Term ID                            |
+ *  +---------------------------------------------------------------+
+ *  |                          Term Offset                          |
+ *  +---------------------------------------------------------------+
+ *  |                         Block Length                          |
+ *  +---------------------------------------------------------------+
+ *  |                          Block Count                          |
+ *  +---------------------------------------------------------------+
+ *  |                            Bitmap                            ...
+ * ...                                                              |
+ *  +---------------------------------------------------------------+
+ * </pre>
+ */
+public class SackFlyweight extends HeaderFlyweight
+{
+    /**
+     * Length of the header of the frame in bytes which precedes the bitmap.
+     */
+    public static final int HEADER_LENGTH = 32;
+
+    /**
+     * Maximum number of blocks which can be reported in a single frame.
+     */
+    public static final int MAX_BLOCK_COUNT = 8 * 1024;
+
+    /**
+     * Maximum length of the frame in bytes including the bitmap.
+     */
+    public static final int MAX_FRAME_LENGTH = computeFrameLength(MAX_BLOCK_COUNT);
+
+    /**
+     * Offset in the frame at which the session-id field begins.
+     */
+    private static final int SESSION_ID_FIELD_OFFSET = 8;
+
+    /**
+     * Offset in the frame at which the stream-id field begins.
+     */
+    private static final int STREAM_ID_FIELD_OFFSET = 12;
+
+    /**
+     * Offset in the frame at which the term-id field begins.
+     */
+    private static final int TERM_ID_FIELD_OFFSET = 16;
+
+    /**
+     * Offset in the frame at which the term-offset field begins.
+     */
+    private static final int TERM_OFFSET_FIELD_OFFSET = 20;
+
+    /**
+     * Offset in the frame at which the block length field begins.
+     */
+    private static final int BLOCK_LENGTH_FIELD_OFFSET = 24;
+
+    /**
+     * Offset in the frame at which the block count field begins.
+     */
+    private static final int BLOCK_COUNT_FIELD_OFFSET = 28;
+
+    /**
+     * Default constructor which can later be used to wrap a frame.
+     */
+    public SackFlyweight()
+    {
+    }
+
+    /**
+     * Construct the flyweight over a frame.
+     *
+     * @param buffer containing the frame.
+     */
+    public SackFlyweight(final ByteBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    /**
+     * Construct the flyweight over a frame.
+     *
+     * @param buffer containing the frame.
+     */
+    public SackFlyweight(final UnsafeBuffer buffer)
+    {
+        super(buffer);
+    }
+
+    /**
+     * Length of the frame in bytes for a given number of blocks.
+     *
+     * @param blockCount to be reported in the bitmap.
+     * @return length of the frame in bytes.
+     */
+    public static int computeFrameLength(final int blockCount)
+    {
+        return HEADER_LENGTH + ((blockCount + 7) >> 3);
+    }
+
+    /**
+     * The session-id for the stream.
+     *
+     * @return session-id for the stream.
+     */
+    public int sessionId()
+    {
+        return getInt(SESSION_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set session-id for the stream.
+     *
+     * @param sessionId session-id for the stream.
+     * @return this for a fluent API.
+     */
+    public SackFlyweight sessionId(final int sessionId)
+    {
+        putInt(SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * The stream-id for the stream.
+     *
+     * @return stream-id for the stream.
+     */
+    public int streamId()
+    {
+        return getInt(STREAM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set stream-id for the stream.
+     *
+     * @param streamId stream-id for the stream.
+     * @return this for a fluent API.
+     */
+    public SackFlyweight streamId(final int streamId)
+    {
+        putInt(STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * The term-id for the stream.
+     *
+     * @return term-id for the stream.
+     */
+    public int termId()
+    {
+        return getInt(TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set term-id for the stream.
+     *
+     * @param termId term-id for the stream.
+     * @return this for a fluent API.
+     */
+    public SackFlyweight termId(final int termId)
+    {
+        putInt(TERM_ID_FIELD_OFFSET, termId, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * The term-offset at which the first block begins.
+     *
+     * @return term-offset at which the first block begins.
+     */
+    public int termOffset()
+    {
+        return getInt(TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set term-offset at which the first block begins.
+     *
+     * @param termOffset at which the first block begins.
+     * @return this for a fluent API.
+     */
+    public SackFlyweight termOffset(final int termOffset)
+    {
+        putInt(TERM_OFFSET_FIELD_OFFSET, termOffset, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * The length in bytes of the range of the term represented by each bit in the bitmap.
+     *
+     * @return length in bytes of each block.
+     */
+    public int blockLength()
+    {
+        return getInt(BLOCK_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set the length in bytes of the range of the term represented by each bit in the bitmap.
+     *
+     * @param blockLength in bytes of each block.
+     * @return this for a fluent API.
+     */
+    public SackFlyweight blockLength(final int blockLength)
+    {
+        putInt(BLOCK_LENGTH_FIELD_OFFSET, blockLength, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * The number of blocks represented in the bitmap.
+     *
+     * @return number of blocks represented in the bitmap.
+     */
+    public int blockCount()
+    {
+        return getInt(BLOCK_COUNT_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set the number of blocks represented in the bitmap.
+     *
+     * @param blockCount represented in the bitmap.
+     * @return this for a fluent API.
+     */
+    public SackFlyweight blockCount(final int blockCount)
+    {
+        putInt(BLOCK_COUNT_FIELD_OFFSET, blockCount, LITTLE_ENDIAN);
+
+        return this;
+    }
+
+    /**
+     * Has a block been received.
+     *
+     * @param index of the block in the bitmap.
+     * @return true if the block has been received otherwise false.
+     */
+    public boolean isBlockReceived(final int index)
+    {
+        return 0 != (getByte(HEADER_LENGTH + (index >> 3)) & (1 << (index & 7)));
+    }
+
+    /**
+     * Set if a block has been received.
+     *
+     * @param index      of the block in the bitmap.
+     * @param isReceived true if the block has been received otherwise false.
+     * @return this for a fluent API.
+     */
+    public SackFlyweight blockReceived(final int index, final boolean isReceived)
+    {
+        final int offset = HEADER_LENGTH + (index >> 3);
+        final int mask = 1 << (index & 7);
+        final int bits = getByte(offset);
+
+        putByte(offset, (byte)(isReceived ? bits | mask : bits & ~mask));
+
+        return this;
+    }
+
+    /**
+     * Set all blocks in the bitmap up to a block count as received.
+     *
+     * @param blockCount to be set as received.
+     * @return this for a fluent API.
+     */
+    public SackFlyweight allBlocksReceived(final int blockCount)
+    {
+        setMemory(HEADER_LENGTH, (blockCount + 7) >> 3, (byte)0xFF);
+
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+    {
+        return "SACK{" +
+            "frame-length=" + frameLength() +
+            " version=" + version() +
+            " flags=" + String.valueOf(flagsToChars(flags())) +
+            " type=" + headerType() +
+            " session-id=" + sessionId() +
+            " stream-id=" + streamId() +
+            " term-id=" + termId() +
+            " term-offset=" + termOffset() +
+            " block-length=" + blockLength() +
+            " block-count=" + blockCount() +
+            "}";
+    }
+}
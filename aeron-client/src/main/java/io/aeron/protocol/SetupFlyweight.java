@@ -34,6 +34,12 @@ public class SetupFlyweight extends HeaderFlyweight
      */
     public static final int HEADER_LENGTH = 40;
 
+    /**
+     * Set by a source to indicate it will accept {@link SackFlyweight} frames from receivers for the stream, when its
+     * channel has {@link io.aeron.CommonContext#SACK_PARAM_NAME} set to true.
+     */
+    public static final short SACK_FLAG = 0x80;
+
     /**
      * Offset in the frame at which the term-offset field begins.
      */
@@ -210,7 +210,8 @@ class ChannelUriStringBuilderTest
             "term-length=1048576|init-term-id=5|term-offset=64|term-id=4353|session-id=2314234|gtag=3|" +
             "linger=100000055000001|sparse=true|eos=true|tether=false|group=false|ssc=true|so-sndbuf=8388608|" +
             "so-rcvbuf=2097152|rcv-wnd=1048576|media-rcv-ts-offset=reserved|channel-rcv-ts-offset=0|" +
-            "channel-snd-ts-offset=8";
+            "channel-snd-ts-offset=8|max-msgs-per-send=4|rcv-agent=1|snd-agent=2|sack=true|max-retransmits=64|" +
+            "max-send-rate=104857600|send-burst=65536|fec=8|rcv-sockets=4";
 
         final ChannelUri fromString = ChannelUri.parse(uri);
         final ChannelUri fromBuilder = ChannelUri.parse(new ChannelUriStringBuilder(uri).build());
@@ -18,21 +18,24 @@ package io.aeron.driver;
 import io.aeron.CommonContext;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.status.FlowControlReceivers;
+import io.aeron.driver.status.SystemCounters;
 import io.aeron.protocol.SetupFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.CloseHelper;
 import org.agrona.ErrorHandler;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.CountersManager;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 
+import static io.aeron.driver.status.SystemCounterDescriptor.FLOW_CONTROL_RECEIVERS_EJECTED;
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
 import static io.aeron.protocol.StatusMessageFlyweight.END_OF_STREAM_FLAG;
 import static org.agrona.AsciiEncoding.parseIntAscii;
 import static org.agrona.AsciiEncoding.parseLongAscii;
 import static org.agrona.SystemUtil.parseDuration;
-import static org.agrona.collections.ArrayUtil.add;
+import static org.agrona.collections.ArrayUtil.ensureCapacity;
 
 abstract class AbstractMinMulticastFlowControlLhsPadding
 {
@@ -62,6 +65,12 @@ abstract class AbstractMinMulticastFlowControlRhsPadding extends AbstractMinMult
  * <p>
  * Tracking of receivers is done as long as they continue to send Status Messages. Once SMs stop, the receiver tracking
  * for that receiver will time out after a given number of nanoseconds.
+ * <p>
+ * The sender is limited by the position plus window of a gating receiver, which is the slowest receiver unless a
+ * specialisation chooses a different {@link #gatingRank(int)}. Receivers are found by receiver id in a map and kept in
+ * a max-heap of the receivers up to the gating receiver and a min-heap of those ahead of it, so a Status Message is
+ * processed in O(log n) for n receivers. Receivers are only scanned for timeout once the earliest of them could have
+ * timed out, or one has flagged end of stream.
  */
 public abstract class AbstractMinMulticastFlowControl
     extends AbstractMinMulticastFlowControlRhsPadding
@@ -74,9 +83,16 @@ public abstract class AbstractMinMulticastFlowControl
     private int groupMinSize;
     private long groupTag;
     private long receiverTimeoutNs;
-    private Receiver[] receivers = EMPTY_RECEIVERS;
+    private long timeOfNextReceiverTimeoutCheckNs = Long.MAX_VALUE;
+    private boolean hasEosFlaggedReceiver;
+    private final ReceiverHeap gatingReceivers = new ReceiverHeap(true);
+    private final ReceiverHeap leadingReceivers = new ReceiverHeap(false);
+    private final Long2ObjectHashMap<Receiver> receiverByIdMap = new Long2ObjectHashMap<>();
+    private final ArrayList<Receiver> receiversToRemove = new ArrayList<>();
     private String channel;
     private AtomicCounter receiverCount;
+    private AtomicCounter receiversEjected;
+    private boolean hasMultipleSenders;
     private ErrorHandler errorHandler;
 
     /**
@@ -108,8 +124,13 @@ public abstract class AbstractMinMulticastFlowControl
         channel = udpChannel.originalUriString();
 
         parseUriParam(udpChannel.channelUri().get(CommonContext.FLOW_CONTROL_PARAM_NAME));
-        hasRequiredReceivers = receivers.length >= groupMinSize;
+        hasRequiredReceivers = receiverByIdMap.size() >= groupMinSize;
         errorHandler = context.errorHandler();
+        hasMultipleSenders = context.senderAgentCount() > 1;
+        if (receiverEjectionLag() > 0)
+        {
+            receiversEjected = context.systemCounters().get(FLOW_CONTROL_RECEIVERS_EJECTED);
+        }
         receiverCount = FlowControlReceivers.allocate(
             context.tempBuffer(), countersManager, registrationId, sessionId, streamId, channel);
         timeOfLastSetupNs = 0;
@@ -134,7 +155,7 @@ public abstract class AbstractMinMulticastFlowControl
         final int positionBitsToShift,
         final long timeNs)
     {
-        if (receivers.length > 0)
+        if (!receiverByIdMap.isEmpty())
         {
             timeOfLastSetupNs = timeNs;
             lastSetupSenderLimit = senderLimit;
@@ -148,38 +169,18 @@ public abstract class AbstractMinMulticastFlowControl
      */
     public long onIdle(final long timeNs, final long senderLimit, final long senderPosition, final boolean isEos)
     {
-        long minLimitPosition = lastSetupSenderLimit(timeNs);
-        int removed = 0;
-        Receiver[] receivers = this.receivers;
-
-        for (int lastIndex = receivers.length - 1, i = lastIndex; i >= 0; i--)
+        if (hasEosFlaggedReceiver || timeOfNextReceiverTimeoutCheckNs - timeNs < 0)
         {
-            final Receiver receiver = receivers[i];
-            if ((receiver.timeOfLastStatusMessageNs + receiverTimeoutNs) - timeNs < 0 || receiver.eosFlagged)
-            {
-                if (i != lastIndex)
-                {
-                    receivers[i] = receivers[lastIndex--];
-                }
-                removed++;
-                receiverRemoved(
-                    receiver.receiverId, receiver.sessionId, receiver.streamId, channel, receivers.length - removed);
-            }
-            else
-            {
-                minLimitPosition = Math.min(minLimitPosition, receiver.lastPositionPlusWindow);
-            }
+            removeTimedOutAndEosFlaggedReceivers(timeNs);
         }
 
-        if (removed > 0)
+        final int receiverCount = receiverByIdMap.size();
+        if (receiverCount < groupMinSize || 0 == receiverCount)
         {
-            receivers = truncateReceivers(receivers, removed);
-            hasRequiredReceivers = receivers.length >= groupMinSize;
-            this.receivers = receivers;
-            receiverCount.setOrdered(receivers.length);
+            return senderLimit;
         }
 
-        return receivers.length < groupMinSize || receivers.length == 0 ? senderLimit : minLimitPosition;
+        return Math.min(lastSetupSenderLimit(timeNs), gatingReceivers.peek().lastPositionPlusWindow);
     }
 
     /**
@@ -221,46 +222,53 @@ public abstract class AbstractMinMulticastFlowControl
         final long receiverId = flyweight.receiverId();
         final long lastPositionPlusWindow = position + windowLength;
         final boolean eosFlagged = END_OF_STREAM_FLAG == (flyweight.flags() & END_OF_STREAM_FLAG);
-        boolean isExisting = false;
-        long minPosition = lastSetupSenderLimit(timeNs);
 
-        Receiver[] receivers = this.receivers;
-
-        for (final Receiver receiver : receivers)
+        final Receiver existingReceiver = matchesTag ? receiverByIdMap.get(receiverId) : null;
+        if (null != existingReceiver)
         {
-            if (matchesTag && receiverId == receiver.receiverId)
+            existingReceiver.eosFlagged = eosFlagged;
+            existingReceiver.lastPosition = Math.max(position, existingReceiver.lastPosition);
+            existingReceiver.lastPositionPlusWindow = lastPositionPlusWindow;
+            existingReceiver.timeOfLastStatusMessageNs = timeNs;
+            hasEosFlaggedReceiver |= eosFlagged;
+            updateReceiver(existingReceiver);
+
+            if (isBeyondEjectionLag(lastPositionPlusWindow))
             {
-                receiver.eosFlagged = eosFlagged;
-                receiver.lastPosition = Math.max(position, receiver.lastPosition);
-                receiver.lastPositionPlusWindow = lastPositionPlusWindow;
-                receiver.timeOfLastStatusMessageNs = timeNs;
-                isExisting = true;
+                removeReceiver(existingReceiver);
+                SystemCounters.increment(receiversEjected, hasMultipleSenders);
+                receiverRemoved(
+                    receiverId, flyweight.sessionId(), flyweight.streamId(), channel, receiverByIdMap.size());
             }
+        }
 
-            minPosition = Math.min(minPosition, receiver.lastPositionPlusWindow);
+        final long setupSenderLimit = lastSetupSenderLimit(timeNs);
+        long minPosition = setupSenderLimit;
+        if (!receiverByIdMap.isEmpty())
+        {
+            minPosition = Math.min(setupSenderLimit, gatingReceivers.peek().lastPositionPlusWindow);
         }
 
-        if (!isExisting &&
+        if (null == existingReceiver &&
             !eosFlagged &&
             matchesTag &&
-            (0 == receivers.length || lastPositionPlusWindow >= minPosition - windowLength))
+            (receiverByIdMap.isEmpty() ||
+            (lastPositionPlusWindow >= minPosition - windowLength && !isBeyondEjectionLag(lastPositionPlusWindow))))
         {
             final Receiver receiver = new Receiver(
                 receiverId, flyweight.sessionId(), flyweight.streamId(), position, lastPositionPlusWindow, timeNs);
-            receivers = add(receivers, receiver);
-            hasRequiredReceivers = receivers.length >= groupMinSize;
-            this.receivers = receivers;
-            minPosition = Math.min(minPosition, lastPositionPlusWindow);
-            receiverAdded(receiver.receiverId, receiver.sessionId, receiver.streamId, channel, receivers.length);
-            receiverCount.setOrdered(receivers.length);
+            addReceiver(receiver);
+            minPosition = Math.min(setupSenderLimit, gatingReceivers.peek().lastPositionPlusWindow);
+            timeOfNextReceiverTimeoutCheckNs = Math.min(timeOfNextReceiverTimeoutCheckNs, timeNs + receiverTimeoutNs);
+            receiverAdded(receiver.receiverId, receiver.sessionId, receiver.streamId, channel, receiverByIdMap.size());
             lastSetupSenderLimit = -1;
         }
 
-        if (receivers.length < groupMinSize)
+        if (receiverByIdMap.size() < groupMinSize)
         {
             return senderLimit;
         }
-        else if (0 == receivers.length)
+        else if (receiverByIdMap.isEmpty())
         {
             return Math.max(senderLimit, lastPositionPlusWindow);
         }
@@ -270,6 +278,30 @@ public abstract class AbstractMinMulticastFlowControl
         }
     }
 
+    /**
+     * Rank of the gating receiver which limits the sender by its position plus window, counting from 1 for the slowest
+     * receiver. The default of 1 limits the sender to the slowest receiver.
+     *
+     * @param receiverCount number of receivers being tracked.
+     * @return rank of the gating receiver which will be clamped to the range 1 to receiverCount.
+     */
+    protected int gatingRank(final int receiverCount)
+    {
+        return 1;
+    }
+
+    /**
+     * Length in bytes by which the position plus window of a receiver can trail the gating receiver before the receiver
+     * is ejected from tracking and counted by {@link io.aeron.driver.status.SystemCounterDescriptor
+     * #FLOW_CONTROL_RECEIVERS_EJECTED}. An ejected receiver is tracked again if it catches up.
+     *
+     * @return length in bytes by which a receiver can trail the gating receiver, or 0 if receivers are never ejected.
+     */
+    protected long receiverEjectionLag()
+    {
+        return 0;
+    }
+
     /**
      * Timeout after which an inactive receiver will be dropped.
      *
@@ -310,21 +342,6 @@ public abstract class AbstractMinMulticastFlowControl
         return groupMinSize;
     }
 
-    static Receiver[] truncateReceivers(final Receiver[] receivers, final int removed)
-    {
-        final int length = receivers.length;
-        final int newLength = length - removed;
-
-        if (0 == newLength)
-        {
-            return EMPTY_RECEIVERS;
-        }
-        else
-        {
-            return Arrays.copyOf(receivers, newLength);
-        }
-    }
-
     private void parseUriParam(final String fcValue)
     {
         if (null != fcValue)
@@ -371,6 +388,110 @@ public abstract class AbstractMinMulticastFlowControl
 //            ", channel=" + channel);
     }
 
+    private void addReceiver(final Receiver receiver)
+    {
+        receiverByIdMap.put(receiver.receiverId, receiver);
+
+        if (0 == gatingReceivers.size ||
+            receiver.lastPositionPlusWindow <= gatingReceivers.peek().lastPositionPlusWindow)
+        {
+            gatingReceivers.add(receiver);
+        }
+        else
+        {
+            leadingReceivers.add(receiver);
+        }
+
+        receiversChanged();
+    }
+
+    private void removeReceiver(final Receiver receiver)
+    {
+        receiverByIdMap.remove(receiver.receiverId);
+        receiver.heap.remove(receiver.heapIndex);
+        receiversChanged();
+    }
+
+    private void updateReceiver(final Receiver receiver)
+    {
+        receiver.heap.update(receiver.heapIndex);
+
+        if (0 != leadingReceivers.size &&
+            gatingReceivers.peek().lastPositionPlusWindow > leadingReceivers.peek().lastPositionPlusWindow)
+        {
+            final Receiver gatingReceiver = gatingReceivers.poll();
+            gatingReceivers.add(leadingReceivers.poll());
+            leadingReceivers.add(gatingReceiver);
+        }
+    }
+
+    private boolean isBeyondEjectionLag(final long lastPositionPlusWindow)
+    {
+        final long ejectionLag = receiverEjectionLag();
+
+        return ejectionLag > 0 &&
+            0 != gatingReceivers.size &&
+            gatingReceivers.peek().lastPositionPlusWindow - lastPositionPlusWindow > ejectionLag;
+    }
+
+    private void removeTimedOutAndEosFlaggedReceivers(final long timeNs)
+    {
+        final long nextCheckNs = collectReceiversToRemove(gatingReceivers, timeNs, Long.MAX_VALUE);
+        timeOfNextReceiverTimeoutCheckNs = collectReceiversToRemove(leadingReceivers, timeNs, nextCheckNs);
+        hasEosFlaggedReceiver = false;
+
+        final ArrayList<Receiver> receiversToRemove = this.receiversToRemove;
+        for (int i = 0, size = receiversToRemove.size(); i < size; i++)
+        {
+            final Receiver receiver = receiversToRemove.get(i);
+            removeReceiver(receiver);
+            receiverRemoved(
+                receiver.receiverId, receiver.sessionId, receiver.streamId, channel, receiverByIdMap.size());
+        }
+
+        receiversToRemove.clear();
+    }
+
+    private long collectReceiversToRemove(final ReceiverHeap heap, final long timeNs, final long nextCheckNs)
+    {
+        long timeOfNextCheckNs = nextCheckNs;
+
+        for (int i = 0, size = heap.size; i < size; i++)
+        {
+            final Receiver receiver = heap.receivers[i];
+            final long timeoutNs = receiver.timeOfLastStatusMessageNs + receiverTimeoutNs;
+            if (timeoutNs - timeNs < 0 || receiver.eosFlagged)
+            {
+                receiversToRemove.add(receiver);
+            }
+            else
+            {
+                timeOfNextCheckNs = Math.min(timeOfNextCheckNs, timeoutNs);
+            }
+        }
+
+        return timeOfNextCheckNs;
+    }
+
+    private void receiversChanged()
+    {
+        final int receiverCount = receiverByIdMap.size();
+        final int gatingRank = 0 == receiverCount ? 0 : Math.max(1, Math.min(receiverCount, gatingRank(receiverCount)));
+
+        while (gatingReceivers.size > gatingRank)
+        {
+            leadingReceivers.add(gatingReceivers.poll());
+        }
+
+        while (gatingReceivers.size < gatingRank)
+        {
+            gatingReceivers.add(leadingReceivers.poll());
+        }
+
+        hasRequiredReceivers = receiverCount >= groupMinSize;
+        this.receiverCount.setOrdered(receiverCount);
+    }
+
     private long lastSetupSenderLimit(final long nowNs)
     {
         if (-1 != lastSetupSenderLimit)
@@ -396,6 +517,8 @@ public abstract class AbstractMinMulticastFlowControl
         long lastPosition;
         long lastPositionPlusWindow;
         long timeOfLastStatusMessageNs;
+        ReceiverHeap heap;
+        int heapIndex;
         boolean eosFlagged;
 
         Receiver(
@@ -415,4 +538,137 @@ public abstract class AbstractMinMulticastFlowControl
             this.eosFlagged = false;
         }
     }
+
+    static final class ReceiverHeap
+    {
+        private final boolean isMaxHeap;
+        Receiver[] receivers = EMPTY_RECEIVERS;
+        int size;
+
+        ReceiverHeap(final boolean isMaxHeap)
+        {
+            this.isMaxHeap = isMaxHeap;
+        }
+
+        Receiver peek()
+        {
+            return receivers[0];
+        }
+
+        Receiver poll()
+        {
+            final Receiver receiver = receivers[0];
+            remove(0);
+
+            return receiver;
+        }
+
+        void add(final Receiver receiver)
+        {
+            final int index = size;
+            if (index == receivers.length)
+            {
+                receivers = ensureCapacity(receivers, Math.max(8, index << 1));
+            }
+
+            receivers[index] = receiver;
+            receiver.heap = this;
+            receiver.heapIndex = index;
+            size = index + 1;
+            siftUp(index);
+        }
+
+        void remove(final int index)
+        {
+            final int lastIndex = --size;
+            final Receiver lastReceiver = receivers[lastIndex];
+            receivers[lastIndex] = null;
+
+            if (index != lastIndex)
+            {
+                receivers[index] = lastReceiver;
+                lastReceiver.heapIndex = index;
+                update(index);
+            }
+        }
+
+        void update(final int index)
+        {
+            siftDown(siftUp(index));
+        }
+
+        private boolean isBefore(final long position, final long otherPosition)
+        {
+            return isMaxHeap ? position > otherPosition : position < otherPosition;
+        }
+
+        private int siftUp(final int startIndex)
+        {
+            final Receiver[] receivers = this.receivers;
+            final Receiver receiver = receivers[startIndex];
+            final long position = receiver.lastPositionPlusWindow;
+            int index = startIndex;
+
+            while (index > 0)
+            {
+                final int parentIndex = (index - 1) >> 1;
+                final Receiver parent = receivers[parentIndex];
+                if (!isBefore(position, parent.lastPositionPlusWindow))
+                {
+                    break;
+                }
+
+                receivers[index] = parent;
+                parent.heapIndex = index;
+                index = parentIndex;
+            }
+
+            receivers[index] = receiver;
+            receiver.heapIndex = index;
+
+            return index;
+        }
+
+        private void siftDown(final int startIndex)
+        {
+            final Receiver[] receivers = this.receivers;
+            final int size = this.size;
+            final Receiver receiver = receivers[startIndex];
+            final long position = receiver.lastPositionPlusWindow;
+            int index = startIndex;
+
+            while (true)
+            {
+                int childIndex = (index << 1) + 1;
+                if (childIndex >= size)
+                {
+                    break;
+                }
+
+                Receiver child = receivers[childIndex];
+                final int rightIndex = childIndex + 1;
+                if (rightIndex < size)
+                {
+                    final Receiver rightChild = receivers[rightIndex];
+                    if (isBefore(rightChild.lastPositionPlusWindow, child.lastPositionPlusWindow))
+                    {
+                        childIndex = rightIndex;
+                        child = rightChild;
+                    }
+                }
+
+                if (!isBefore(child.lastPositionPlusWindow, position))
+                {
+                    break;
+                }
+
+                receivers[index] = child;
+                child.heapIndex = index;
+                index = childIndex;
+            }
+
+            receivers[index] = receiver;
+            receiver.heapIndex = index;
+        }
+    }
 }
@@ -28,6 +28,7 @@ final class AeronClient implements DriverManagedResource
     private final long clientLivenessTimeoutMs;
     private boolean reachedEndOfLife = false;
     private boolean closedByCommand = false;
+    private long timerId;
     private final AtomicCounter clientTimeouts;
     private final AtomicCounter heartbeatTimestamp;
 
@@ -101,6 +102,21 @@ final class AeronClient implements DriverManagedResource
         return reachedEndOfLife;
     }
 
+    long timeoutDeadlineMs()
+    {
+        return heartbeatTimestamp.get() + clientLivenessTimeoutMs + 1;
+    }
+
+    long timerId()
+    {
+        return timerId;
+    }
+
+    void timerId(final long timerId)
+    {
+        this.timerId = timerId;
+    }
+
     void timeOfLastKeepaliveMs(final long nowMs)
     {
         heartbeatTimestamp.setOrdered(nowMs);
@@ -273,31 +273,30 @@ final class ClientCommandAdapter implements ControlledMessageHandler
                 }
             }
         }
-        catch (final ControlProtocolException ex)
+        catch (final Exception ex)
+        {
+            onCommandError(correlationId, ex);
+        }
+
+        return Action.CONTINUE;
+    }
+
+    void onCommandError(final long correlationId, final Exception ex)
+    {
+        recordError(ex);
+        if (ex instanceof ControlProtocolException)
         {
-            recordError(ex);
-            clientProxy.onError(correlationId, ex.errorCode(), ex.getMessage());
+            clientProxy.onError(correlationId, ((ControlProtocolException)ex).errorCode(), ex.getMessage());
         }
-        catch (final StorageSpaceException ex)
+        else if (ex instanceof StorageSpaceException || StorageSpaceException.isStorageSpaceError(ex))
         {
-            recordError(ex);
             clientProxy.onError(correlationId, STORAGE_SPACE, ex.getMessage());
         }
-        catch (final Exception ex)
+        else
         {
-            recordError(ex);
-            if (StorageSpaceException.isStorageSpaceError(ex))
-            {
-                clientProxy.onError(correlationId, STORAGE_SPACE, ex.getMessage());
-            }
-            else
-            {
-                final String errorMessage = ex.getClass().getName() + " : " + ex.getMessage();
-                clientProxy.onError(correlationId, GENERIC_ERROR, errorMessage);
-            }
+            final String errorMessage = ex.getClass().getName() + " : " + ex.getMessage();
+            clientProxy.onError(correlationId, GENERIC_ERROR, errorMessage);
         }
-
-        return Action.CONTINUE;
     }
 
     private void addPublication(final long correlationId, final boolean isExclusive)
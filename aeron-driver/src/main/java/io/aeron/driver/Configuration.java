@@ -144,6 +144,71 @@ public final class Configuration
      */
     public static final long LOW_FILE_STORE_WARNING_THRESHOLD_DEFAULT = TERM_BUFFER_LENGTH_DEFAULT * 10L;
 
+    /**
+     * Property name for a directory in which log buffers are created rather than under the {@code aeron.dir}, such as
+     * a hugetlbfs mount or a tmpfs mounted with {@code huge=always}, so term buffers are backed by huge pages.
+     * <p>
+     * Log buffers are created in a subdirectory named after the {@code aeron.dir} and a hash of its canonical path,
+     * which is deleted along with it, so the directory can be shared by drivers on the same host. Drivers in separate
+     * containers sharing the directory need distinct {@code aeron.dir} paths. The {@link #FILE_PAGE_SIZE_PROP_NAME}
+     * should be set to the huge page size so that log lengths are a multiple of it.
+     *
+     * @since 1.43.0
+     */
+    public static final String LOG_BUFFERS_DIR_PROP_NAME = "aeron.log.buffers.dir";
+
+    /**
+     * Property name for the number of freed log buffers of each term length which are retained, and zeroed on reuse,
+     * by later publications and images, rather than creating and mapping a new file each time. 0 disables pooling.
+     *
+     * @since 1.43.0
+     */
+    public static final String LOG_BUFFERS_POOL_CAPACITY_PROP_NAME = "aeron.log.buffers.pool.capacity";
+
+    /**
+     * Default number of freed log buffers of each term length retained for reuse which disables pooling.
+     *
+     * @since 1.43.0
+     */
+    public static final int LOG_BUFFERS_POOL_CAPACITY_DEFAULT = 0;
+
+    /**
+     * Property name for the minimum time a freed log buffer is retained in the pool before it can be reused. Clients
+     * keep the log of a closed publication or image mapped for their resource linger duration, so this must be at
+     * least the {@link Aeron.Configuration#RESOURCE_LINGER_DURATION_PROP_NAME} of clients to prevent a client seeing
+     * the log reused by another stream.
+     *
+     * @since 1.43.0
+     */
+    public static final String LOG_BUFFERS_POOL_REUSE_DELAY_PROP_NAME = "aeron.log.buffers.pool.reuse.delay";
+
+    /**
+     * Default minimum time a freed log buffer is retained in the pool before it can be reused which is the default
+     * client resource linger duration.
+     *
+     * @since 1.43.0
+     */
+    public static final long LOG_BUFFERS_POOL_REUSE_DELAY_DEFAULT_NS =
+        Aeron.Configuration.RESOURCE_LINGER_DURATION_DEFAULT_NS;
+
+    /**
+     * Property name for boolean value of if log buffers for new publications should be created and mapped on a
+     * background thread so the conductor can continue to process other commands, and completes the add publication
+     * command once the log is ready. This starts an additional thread regardless of {@link ThreadingMode}.
+     *
+     * @since 1.43.0
+     */
+    public static final String LOG_BUFFERS_ASYNC_ALLOCATION_PROP_NAME = "aeron.log.buffers.async.allocation";
+
+    /**
+     * Property name for {@link IdleStrategy} to be employed by the background thread which allocates log buffers
+     * when {@link #LOG_BUFFERS_ASYNC_ALLOCATION_PROP_NAME} is set.
+     *
+     * @since 1.43.0
+     */
+    public static final String LOG_BUFFERS_ALLOCATOR_IDLE_STRATEGY_PROP_NAME =
+        "aeron.log.buffers.allocator.idle.strategy";
+
     /**
      * Length (in bytes) of the conductor buffer for control commands from the clients to the media driver conductor.
      */
@@ -509,6 +574,16 @@ public final class Configuration
      */
     public static final String RECEIVE_CHANNEL_ENDPOINT_SUPPLIER_PROP_NAME = "aeron.ReceiveChannelEndpoint.supplier";
 
+    /**
+     * Property name for {@link DataTransportPollerSupplier}.
+     */
+    public static final String DATA_TRANSPORT_POLLER_SUPPLIER_PROP_NAME = "aeron.DataTransportPoller.supplier";
+
+    /**
+     * Property name for {@link ControlTransportPollerSupplier}.
+     */
+    public static final String CONTROL_TRANSPORT_POLLER_SUPPLIER_PROP_NAME = "aeron.ControlTransportPoller.supplier";
+
     /**
      * Property name for Application Specific Feedback added to Status Messages by the driver for flow control.
      * <p>
@@ -645,10 +720,28 @@ public final class Configuration
     public static final long UNTETHERED_RESTING_TIMEOUT_DEFAULT_NS = TimeUnit.SECONDS.toNanos(10);
 
     /**
-     * Default max number of active retransmissions per connected stream.
+     * Property name for the max number of active retransmissions per network publication. Each retransmission can
+     * cover a range of a term which is coalesced from many NAKs.
+     */
+    public static final String MAX_RETRANSMITS_PROP_NAME = "aeron.max.retransmits";
+
+    /**
+     * Default max number of active retransmissions per network publication.
      */
     public static final int MAX_RETRANSMITS_DEFAULT = 16;
 
+    /**
+     * Maximum value for the max number of active retransmissions per network publication.
+     */
+    public static final int MAX_RETRANSMITS_MAX = 1024;
+
+    /**
+     * Maximum number of blocks in a forward error correction group for a network publication.
+     *
+     * @see io.aeron.CommonContext#FEC_PARAM_NAME
+     */
+    public static final int FEC_GROUP_SIZE_MAX = 256;
+
     /**
      * Property name for the class used to validate if a driver should terminate based on token.
      */
@@ -720,6 +813,45 @@ public final class Configuration
      */
     public static final long RE_RESOLUTION_CHECK_INTERVAL_DEFAULT_NS = TimeUnit.SECONDS.toNanos(1);
 
+    /**
+     * Property name for the interval at which latency histograms are summarised into their counters and reset.
+     *
+     * @since 1.43.0
+     */
+    public static final String LATENCY_HISTOGRAM_INTERVAL_PROP_NAME = "aeron.driver.latency.histogram.interval";
+
+    /**
+     * Default value for the interval at which latency histograms are summarised into their counters and reset.
+     *
+     * @since 1.43.0
+     */
+    public static final long LATENCY_HISTOGRAM_INTERVAL_DEFAULT_NS = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Property name for the interval at which publications and images measure the round trip time to each other for
+     * their RTT counters. A value of 0 disables the measurements and counters.
+     *
+     * @since 1.43.0
+     */
+    public static final String RTT_MEASUREMENT_INTERVAL_PROP_NAME = "aeron.driver.rtt.measurement.interval";
+
+    /**
+     * Default value for the interval at which publications and images measure the round trip time to each other, which
+     * is disabled.
+     *
+     * @since 1.43.0
+     */
+    public static final long RTT_MEASUREMENT_INTERVAL_DEFAULT_NS = 0;
+
+    /**
+     * Property name for enabling histograms of the duty cycle times of the conductor, sender, and receiver agents
+     * which are summarised into counters each latency histogram interval.
+     *
+     * @see #LATENCY_HISTOGRAM_INTERVAL_PROP_NAME
+     * @since 1.43.0
+     */
+    public static final String DUTY_CYCLE_HISTOGRAM_ENABLED_PROP_NAME = "aeron.driver.duty.cycle.histogram.enabled";
+
     /**
      * Property name for threshold value for the conductor work cycle threshold to track for being exceeded.
      */
@@ -770,6 +902,75 @@ public final class Configuration
      */
     public static final String RECEIVER_WILDCARD_PORT_RANGE_PROP_NAME = "aeron.receiver.wildcard.port.range";
 
+    /**
+     * Property name for the maximum number of datagrams the Receiver will read from a transport in a single poll.
+     */
+    public static final String RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME = "aeron.receiver.io.vector.capacity";
+
+    /**
+     * Default for the maximum number of datagrams the Receiver will read from a transport in a single poll.
+     */
+    public static final int RECEIVER_IO_VECTOR_CAPACITY_DEFAULT = 2;
+
+    /**
+     * Maximum value for the number of datagrams the Receiver will read from a transport in a single poll.
+     */
+    public static final int RECEIVER_IO_VECTOR_CAPACITY_MAX = 16;
+
+    /**
+     * Property name for the maximum number of MTU sized messages a {@link NetworkPublication} will send in a single
+     * duty cycle of the Sender.
+     */
+    public static final String NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_PROP_NAME =
+        "aeron.network.publication.max.messages.per.send";
+
+    /**
+     * Default for the maximum number of MTU sized messages a {@link NetworkPublication} will send in a single duty
+     * cycle of the Sender.
+     */
+    public static final int NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_DEFAULT = 2;
+
+    /**
+     * Maximum value for the number of MTU sized messages a {@link NetworkPublication} will send in a single duty
+     * cycle of the Sender.
+     */
+    public static final int NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_MAX = 16;
+
+    /**
+     * Property name for the number of {@link Receiver} agents over which receive channel endpoints are distributed.
+     */
+    public static final String RECEIVER_AGENT_COUNT_PROP_NAME = "aeron.receiver.agent.count";
+
+    /**
+     * Default for the number of {@link Receiver} agents over which receive channel endpoints are distributed.
+     */
+    public static final int RECEIVER_AGENT_COUNT_DEFAULT = 1;
+
+    /**
+     * Property name for the number of {@link Sender} agents over which send channel endpoints are distributed.
+     */
+    public static final String SENDER_AGENT_COUNT_PROP_NAME = "aeron.sender.agent.count";
+
+    /**
+     * Default for the number of {@link Sender} agents over which send channel endpoints are distributed.
+     */
+    public static final int SENDER_AGENT_COUNT_DEFAULT = 1;
+
+    /**
+     * Property name for the maximum number of gaps in a term a receiver will NAK each time its loss timer expires.
+     */
+    public static final String NAK_MAX_GAPS_PROP_NAME = "aeron.nak.max.gaps";
+
+    /**
+     * Default for the maximum number of gaps in a term a receiver will NAK each time its loss timer expires.
+     */
+    public static final int NAK_MAX_GAPS_DEFAULT = 1;
+
+    /**
+     * Maximum value for the number of gaps in a term a receiver will NAK each time its loss timer expires.
+     */
+    public static final int NAK_MAX_GAPS_MAX = 64;
+
     /**
      * Should the driver configuration be printed on start.
      *
@@ -995,6 +1196,54 @@ public final class Configuration
         return getSizeAsLong(LOW_FILE_STORE_WARNING_THRESHOLD_PROP_NAME, LOW_FILE_STORE_WARNING_THRESHOLD_DEFAULT);
     }
 
+    /**
+     * Directory in which log buffers are created rather than under the {@code aeron.dir}.
+     *
+     * @return directory in which log buffers are created or null if under the {@code aeron.dir}.
+     * @see #LOG_BUFFERS_DIR_PROP_NAME
+     * @since 1.43.0
+     */
+    public static String logBuffersDirectoryName()
+    {
+        return getProperty(LOG_BUFFERS_DIR_PROP_NAME);
+    }
+
+    /**
+     * Number of freed log buffers of each term length which are retained for reuse.
+     *
+     * @return number of freed log buffers of each term length which are retained for reuse.
+     * @see #LOG_BUFFERS_POOL_CAPACITY_PROP_NAME
+     * @since 1.43.0
+     */
+    public static int logBuffersPoolCapacity()
+    {
+        return getInteger(LOG_BUFFERS_POOL_CAPACITY_PROP_NAME, LOG_BUFFERS_POOL_CAPACITY_DEFAULT);
+    }
+
+    /**
+     * Minimum time a freed log buffer is retained in the pool before it can be reused.
+     *
+     * @return minimum time in nanoseconds a freed log buffer is retained in the pool before it can be reused.
+     * @see #LOG_BUFFERS_POOL_REUSE_DELAY_PROP_NAME
+     * @since 1.43.0
+     */
+    public static long logBuffersPoolReuseDelayNs()
+    {
+        return getDurationInNanos(LOG_BUFFERS_POOL_REUSE_DELAY_PROP_NAME, LOG_BUFFERS_POOL_REUSE_DELAY_DEFAULT_NS);
+    }
+
+    /**
+     * Should log buffers for new publications be created and mapped on a background thread.
+     *
+     * @return true if log buffers for new publications should be created and mapped on a background thread.
+     * @see #LOG_BUFFERS_ASYNC_ALLOCATION_PROP_NAME
+     * @since 1.43.0
+     */
+    public static boolean logBuffersAsyncAllocation()
+    {
+        return "true".equals(getProperty(LOG_BUFFERS_ASYNC_ALLOCATION_PROP_NAME));
+    }
+
     /**
      * The window limit on UDP {@link Publication} side by which the publisher can get ahead of consumers.
      *
@@ -1153,6 +1402,42 @@ public final class Configuration
         return getDurationInNanos(RE_RESOLUTION_CHECK_INTERVAL_PROP_NAME, RE_RESOLUTION_CHECK_INTERVAL_DEFAULT_NS);
     }
 
+    /**
+     * Interval at which latency histograms are summarised into their counters and reset.
+     *
+     * @return interval at which latency histograms are summarised into their counters and reset.
+     * @see #LATENCY_HISTOGRAM_INTERVAL_PROP_NAME
+     * @since 1.43.0
+     */
+    public static long latencyHistogramIntervalNs()
+    {
+        return getDurationInNanos(LATENCY_HISTOGRAM_INTERVAL_PROP_NAME, LATENCY_HISTOGRAM_INTERVAL_DEFAULT_NS);
+    }
+
+    /**
+     * Interval at which publications and images measure the round trip time to each other for their RTT counters.
+     *
+     * @return interval at which round trip times are measured or 0 if disabled.
+     * @see #RTT_MEASUREMENT_INTERVAL_PROP_NAME
+     * @since 1.43.0
+     */
+    public static long rttMeasurementIntervalNs()
+    {
+        return getDurationInNanos(RTT_MEASUREMENT_INTERVAL_PROP_NAME, RTT_MEASUREMENT_INTERVAL_DEFAULT_NS);
+    }
+
+    /**
+     * Should histograms of the duty cycle times of the conductor, sender, and receiver agents be recorded.
+     *
+     * @return true if histograms of the duty cycle times should be recorded.
+     * @see #DUTY_CYCLE_HISTOGRAM_ENABLED_PROP_NAME
+     * @since 1.43.0
+     */
+    public static boolean dutyCycleHistogramEnabled()
+    {
+        return "true".equals(getProperty(DUTY_CYCLE_HISTOGRAM_ENABLED_PROP_NAME, "false"));
+    }
+
     /**
      * How far ahead a producer can get from a consumer position.
      *
@@ -1524,6 +1809,81 @@ public final class Configuration
         return getProperty(RECEIVER_WILDCARD_PORT_RANGE_PROP_NAME);
     }
 
+    /**
+     * Get the maximum number of datagrams the Receiver will read from a transport in a single poll before moving on
+     * to the next transport.
+     *
+     * @return maximum number of datagrams read from a transport in a single poll.
+     * @see #RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME
+     * @see #RECEIVER_IO_VECTOR_CAPACITY_DEFAULT
+     */
+    public static int receiverIoVectorCapacity()
+    {
+        return getInteger(RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME, RECEIVER_IO_VECTOR_CAPACITY_DEFAULT);
+    }
+
+    /**
+     * Get the maximum number of MTU sized messages a {@link NetworkPublication} will send in a single duty cycle of
+     * the Sender.
+     *
+     * @return maximum number of messages sent by a publication in a single duty cycle.
+     * @see #NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_PROP_NAME
+     * @see #NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_DEFAULT
+     */
+    public static int networkPublicationMaxMessagesPerSend()
+    {
+        return getInteger(
+            NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_PROP_NAME, NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_DEFAULT);
+    }
+
+    /**
+     * Get the number of {@link Receiver} agents over which receive channel endpoints are distributed.
+     *
+     * @return number of {@link Receiver} agents.
+     * @see #RECEIVER_AGENT_COUNT_PROP_NAME
+     * @see #RECEIVER_AGENT_COUNT_DEFAULT
+     */
+    public static int receiverAgentCount()
+    {
+        return getInteger(RECEIVER_AGENT_COUNT_PROP_NAME, RECEIVER_AGENT_COUNT_DEFAULT);
+    }
+
+    /**
+     * Get the number of {@link Sender} agents over which send channel endpoints are distributed.
+     *
+     * @return number of {@link Sender} agents.
+     * @see #SENDER_AGENT_COUNT_PROP_NAME
+     * @see #SENDER_AGENT_COUNT_DEFAULT
+     */
+    public static int senderAgentCount()
+    {
+        return getInteger(SENDER_AGENT_COUNT_PROP_NAME, SENDER_AGENT_COUNT_DEFAULT);
+    }
+
+    /**
+     * Get the maximum number of gaps in a term a receiver will NAK each time its loss timer expires.
+     *
+     * @return maximum number of gaps NAKed per loss timer expiry.
+     * @see #NAK_MAX_GAPS_PROP_NAME
+     * @see #NAK_MAX_GAPS_DEFAULT
+     */
+    public static int nakMaxGaps()
+    {
+        return getInteger(NAK_MAX_GAPS_PROP_NAME, NAK_MAX_GAPS_DEFAULT);
+    }
+
+    /**
+     * Get the max number of active retransmissions per network publication.
+     *
+     * @return max number of active retransmissions per network publication.
+     * @see #MAX_RETRANSMITS_PROP_NAME
+     * @see #MAX_RETRANSMITS_DEFAULT
+     */
+    public static int maxRetransmits()
+    {
+        return getInteger(MAX_RETRANSMITS_PROP_NAME, MAX_RETRANSMITS_DEFAULT);
+    }
+
     /**
      * Get the {@link IdleStrategy} that should be applied to {@link org.agrona.concurrent.Agent}s.
      *
@@ -1631,6 +1991,20 @@ public final class Configuration
             getProperty(CONDUCTOR_IDLE_STRATEGY_PROP_NAME, DEFAULT_IDLE_STRATEGY), controllableStatus);
     }
 
+    /**
+     * {@link IdleStrategy} to be employed by the background thread which allocates log buffers.
+     *
+     * @param controllableStatus to allow control of {@link ControllableIdleStrategy}, which can be null if not used.
+     * @return {@link IdleStrategy} to be employed by the background thread which allocates log buffers.
+     * @see #LOG_BUFFERS_ALLOCATOR_IDLE_STRATEGY_PROP_NAME
+     * @since 1.43.0
+     */
+    public static IdleStrategy logBuffersAllocatorIdleStrategy(final StatusIndicator controllableStatus)
+    {
+        return agentIdleStrategy(
+            getProperty(LOG_BUFFERS_ALLOCATOR_IDLE_STRATEGY_PROP_NAME, DEFAULT_IDLE_STRATEGY), controllableStatus);
+    }
+
     /**
      * {@link IdleStrategy} to be employed by {@link Sender} and {@link Receiver} for
      * {@link ThreadingMode#SHARED_NETWORK}.
@@ -1732,6 +2106,60 @@ public final class Configuration
         return supplier;
     }
 
+    /**
+     * Get the supplier of the {@link io.aeron.driver.media.DataTransportPoller} used by the {@link Receiver} which
+     * can be used to replace how receive transports are polled and read.
+     *
+     * @return the {@link DataTransportPollerSupplier}.
+     */
+    public static DataTransportPollerSupplier dataTransportPollerSupplier()
+    {
+        DataTransportPollerSupplier supplier = null;
+        try
+        {
+            final String className = getProperty(DATA_TRANSPORT_POLLER_SUPPLIER_PROP_NAME);
+            if (null == className)
+            {
+                return new DefaultDataTransportPollerSupplier();
+            }
+
+            supplier = (DataTransportPollerSupplier)Class.forName(className).getConstructor().newInstance();
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return supplier;
+    }
+
+    /**
+     * Get the supplier of the {@link io.aeron.driver.media.ControlTransportPoller} used by the {@link Sender} which
+     * can be used to replace how send transports are polled for control messages.
+     *
+     * @return the {@link ControlTransportPollerSupplier}.
+     */
+    public static ControlTransportPollerSupplier controlTransportPollerSupplier()
+    {
+        ControlTransportPollerSupplier supplier = null;
+        try
+        {
+            final String className = getProperty(CONTROL_TRANSPORT_POLLER_SUPPLIER_PROP_NAME);
+            if (null == className)
+            {
+                return new DefaultControlTransportPollerSupplier();
+            }
+
+            supplier = (ControlTransportPollerSupplier)Class.forName(className).getConstructor().newInstance();
+        }
+        catch (final Exception ex)
+        {
+            LangUtil.rethrowUnchecked(ex);
+        }
+
+        return supplier;
+    }
+
     /**
      * Get the supplier of {@link FlowControl}s which can be used for changing behavior of flow control for unicast
      * publications.
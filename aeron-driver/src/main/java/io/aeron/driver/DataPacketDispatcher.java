@@ -18,19 +18,26 @@ package io.aeron.driver;
 import io.aeron.driver.exceptions.UnknownSubscriptionException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntHashSet;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.net.InetSocketAddress;
 
 import static io.aeron.driver.DataPacketDispatcher.SessionState.*;
+import static org.agrona.collections.Hashing.compoundKey;
 
 /**
  * Handling of dispatching data packets to {@link PublicationImage}s streams.
  * <p>
+ * Session interest is held in a single open-addressed table keyed by the compound (streamId, sessionId) so a data
+ * packet for a known session is resolved with one lookup. The per-stream interest is only consulted for sessions not
+ * yet seen, and tracks the session ids it has in the table so they can be removed without scanning it.
+ * <p>
  * All methods should be called from the {@link Receiver} thread.
  */
 public final class DataPacketDispatcher
@@ -48,6 +55,7 @@ public final class DataPacketDispatcher
     {
         SessionState state;
         PublicationImage image;
+        boolean isSack;
 
         SessionInterest(final SessionState state)
         {
@@ -58,8 +66,8 @@ public final class DataPacketDispatcher
     static class StreamInterest
     {
         boolean isAllSessions;
-        final Int2ObjectHashMap<SessionInterest> sessionInterestByIdMap = new Int2ObjectHashMap<>();
         final IntHashSet subscribedSessionIds = new IntHashSet();
+        final IntHashSet sessionIds = new IntHashSet();
 
         StreamInterest(final boolean isAllSessions)
         {
@@ -68,6 +76,7 @@ public final class DataPacketDispatcher
     }
 
     private final Int2ObjectHashMap<StreamInterest> streamInterestByIdMap = new Int2ObjectHashMap<>();
+    private final Long2ObjectHashMap<SessionInterest> sessionInterestByStreamAndSessionId = new Long2ObjectHashMap<>();
     private final DriverConductorProxy conductorProxy;
     private final Receiver receiver;
 
@@ -94,14 +103,13 @@ public final class DataPacketDispatcher
         {
             streamInterest.isAllSessions = true;
 
-            final Int2ObjectHashMap<SessionInterest>.ValueIterator iterator =
-                streamInterest.sessionInterestByIdMap.values().iterator();
-
+            final IntHashSet.IntIterator iterator = streamInterest.sessionIds.iterator();
             while (iterator.hasNext())
             {
-                final SessionInterest sessionInterest = iterator.next();
-                if (NO_INTEREST == sessionInterest.state)
+                final long key = compoundKey(streamId, iterator.nextValue());
+                if (NO_INTEREST == sessionInterestByStreamAndSessionId.get(key).state)
                 {
+                    sessionInterestByStreamAndSessionId.remove(key);
                     iterator.remove();
                 }
             }
@@ -125,10 +133,11 @@ public final class DataPacketDispatcher
 
         streamInterest.subscribedSessionIds.add(sessionId);
 
-        final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
+        final SessionInterest sessionInterest =
+            sessionInterestByStreamAndSessionId.get(compoundKey(streamId, sessionId));
         if (null != sessionInterest && NO_INTEREST == sessionInterest.state)
         {
-            streamInterest.sessionInterestByIdMap.remove(sessionId);
+            removeSessionInterest(streamInterest, streamId, sessionId);
         }
     }
 
@@ -145,17 +154,14 @@ public final class DataPacketDispatcher
             throw new UnknownSubscriptionException("no subscription for stream " + streamId);
         }
 
-        final Int2ObjectHashMap<SessionInterest>.EntryIterator iterator =
-            streamInterest.sessionInterestByIdMap.entrySet().iterator();
-
+        final IntHashSet.IntIterator iterator = streamInterest.sessionIds.iterator();
         while (iterator.hasNext())
         {
-            iterator.next();
-
-            final int sessionId = iterator.getIntKey();
+            final int sessionId = iterator.nextValue();
             if (!streamInterest.subscribedSessionIds.contains(sessionId))
             {
-                final SessionInterest sessionInterest = iterator.getValue();
+                final SessionInterest sessionInterest =
+                    sessionInterestByStreamAndSessionId.remove(compoundKey(streamId, sessionId));
                 if (null != sessionInterest.image)
                 {
                     sessionInterest.image.deactivate();
@@ -189,7 +195,7 @@ public final class DataPacketDispatcher
 
         if (!streamInterest.isAllSessions)
         {
-            final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.remove(sessionId);
+            final SessionInterest sessionInterest = removeSessionInterest(streamInterest, streamId, sessionId);
             if (null != sessionInterest && null != sessionInterest.image)
             {
                 sessionInterest.image.deactivate();
@@ -201,6 +207,7 @@ public final class DataPacketDispatcher
         if (!streamInterest.isAllSessions && streamInterest.subscribedSessionIds.isEmpty())
         {
             streamInterestByIdMap.remove(streamId);
+            removeSessionInterests(streamInterest, streamId);
         }
     }
 
@@ -211,13 +218,15 @@ public final class DataPacketDispatcher
      */
     public void addPublicationImage(final PublicationImage image)
     {
-        final StreamInterest streamInterest = streamInterestByIdMap.get(image.streamId());
-        SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(image.sessionId());
+        final int streamId = image.streamId();
+        final int sessionId = image.sessionId();
+        SessionInterest sessionInterest =
+            sessionInterestByStreamAndSessionId.get(compoundKey(streamId, sessionId));
 
         if (null == sessionInterest)
         {
             sessionInterest = new SessionInterest(ACTIVE);
-            streamInterest.sessionInterestByIdMap.put(image.sessionId(), sessionInterest);
+            putSessionInterest(streamInterestByIdMap.get(streamId), streamId, sessionId, sessionInterest);
         }
         else
         {
@@ -225,6 +234,7 @@ public final class DataPacketDispatcher
         }
 
         sessionInterest.image = image;
+        image.isSack(sessionInterest.isSack);
         image.activate();
     }
 
@@ -235,23 +245,22 @@ public final class DataPacketDispatcher
      */
     public void removePublicationImage(final PublicationImage image)
     {
-        final StreamInterest streamInterest = streamInterestByIdMap.get(image.streamId());
-        if (null != streamInterest)
+        final int streamId = image.streamId();
+        final int sessionId = image.sessionId();
+        final SessionInterest sessionInterest =
+            sessionInterestByStreamAndSessionId.get(compoundKey(streamId, sessionId));
+        if (null != sessionInterest && null != sessionInterest.image)
         {
-            final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(image.sessionId());
-            if (null != sessionInterest && null != sessionInterest.image)
+            if (sessionInterest.image.correlationId() == image.correlationId())
             {
-                if (sessionInterest.image.correlationId() == image.correlationId())
+                if (image.isEndOfStream)
+                {
+                    removeSessionInterest(streamInterestByIdMap.get(streamId), streamId, sessionId);
+                }
+                else
                 {
-                    if (image.isEndOfStream)
-                    {
-                        streamInterest.sessionInterestByIdMap.remove(image.sessionId());
-                    }
-                    else
-                    {
-                        sessionInterest.state = ON_COOL_DOWN;
-                        sessionInterest.image = null;
-                    }
+                    sessionInterest.state = ON_COOL_DOWN;
+                    sessionInterest.image = null;
                 }
             }
         }
@@ -267,14 +276,11 @@ public final class DataPacketDispatcher
      */
     public void removePendingSetup(final int sessionId, final int streamId)
     {
-        final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
-        if (null != streamInterest)
+        final SessionInterest sessionInterest =
+            sessionInterestByStreamAndSessionId.get(compoundKey(streamId, sessionId));
+        if (null != sessionInterest && PENDING_SETUP_FRAME == sessionInterest.state)
         {
-            final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
-            if (null != sessionInterest && PENDING_SETUP_FRAME == sessionInterest.state)
-            {
-                streamInterest.sessionInterestByIdMap.remove(sessionId);
-            }
+            removeSessionInterest(streamInterestByIdMap.get(streamId), streamId, sessionId);
         }
     }
 
@@ -286,14 +292,11 @@ public final class DataPacketDispatcher
      */
     public void removeCoolDown(final int sessionId, final int streamId)
     {
-        final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
-        if (null != streamInterest)
+        final SessionInterest sessionInterest =
+            sessionInterestByStreamAndSessionId.get(compoundKey(streamId, sessionId));
+        if (null != sessionInterest && ON_COOL_DOWN == sessionInterest.state)
         {
-            final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
-            if (null != sessionInterest && ON_COOL_DOWN == sessionInterest.state)
-            {
-                streamInterest.sessionInterestByIdMap.remove(sessionId);
-            }
+            removeSessionInterest(streamInterestByIdMap.get(streamId), streamId, sessionId);
         }
     }
 
@@ -317,31 +320,31 @@ public final class DataPacketDispatcher
         final int transportIndex)
     {
         final int streamId = header.streamId();
-        final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
+        final int sessionId = header.sessionId();
+        final long key = compoundKey(streamId, sessionId);
+        final SessionInterest sessionInterest = sessionInterestByStreamAndSessionId.get(key);
 
-        if (null != streamInterest)
+        if (null != sessionInterest)
         {
-            final int sessionId = header.sessionId();
-            final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
-
-            if (null != sessionInterest)
+            if (null != sessionInterest.image)
             {
-                if (null != sessionInterest.image)
-                {
-                    return sessionInterest.image.insertPacket(
-                        header.termId(), header.termOffset(), buffer, length, transportIndex, srcAddress);
-                }
+                return sessionInterest.image.insertPacket(
+                    header.termId(), header.termOffset(), buffer, length, transportIndex, srcAddress);
             }
-            else if (!DataHeaderFlyweight.isEndOfStream(buffer))
+        }
+        else if (!DataHeaderFlyweight.isEndOfStream(buffer))
+        {
+            final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
+            if (null != streamInterest)
             {
                 if (streamInterest.isAllSessions || streamInterest.subscribedSessionIds.contains(sessionId))
                 {
-                    streamInterest.sessionInterestByIdMap.put(sessionId, new SessionInterest(PENDING_SETUP_FRAME));
+                    putSessionInterest(streamInterest, streamId, sessionId, new SessionInterest(PENDING_SETUP_FRAME));
                     elicitSetupMessageFromSource(channelEndpoint, transportIndex, srcAddress, streamId, sessionId);
                 }
                 else
                 {
-                    streamInterest.sessionInterestByIdMap.put(sessionId, new SessionInterest(NO_INTEREST));
+                    putSessionInterest(streamInterest, streamId, sessionId, new SessionInterest(NO_INTEREST));
                 }
             }
         }
@@ -364,40 +367,49 @@ public final class DataPacketDispatcher
         final int transportIndex)
     {
         final int streamId = msg.streamId();
-        final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
+        final int sessionId = msg.sessionId();
+        final long key = compoundKey(streamId, sessionId);
+        final SessionInterest sessionInterest = sessionInterestByStreamAndSessionId.get(key);
 
-        if (null != streamInterest)
+        if (null != sessionInterest)
         {
-            final int sessionId = msg.sessionId();
-            final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
+            if (null == sessionInterest.image && PENDING_SETUP_FRAME == sessionInterest.state)
+            {
+                sessionInterest.state = INIT_IN_PROGRESS;
+                sessionInterest.isSack = isSack(channelEndpoint, msg);
 
-            if (null != sessionInterest)
+                createPublicationImage(
+                    channelEndpoint,
+                    transportIndex,
+                    srcAddress,
+                    streamId,
+                    sessionId,
+                    msg.initialTermId(),
+                    msg.activeTermId(),
+                    msg.termOffset(),
+                    msg.termLength(),
+                    msg.mtuLength(),
+                    msg.ttl());
+            }
+            else if (null != sessionInterest.image)
             {
-                if (null == sessionInterest.image && PENDING_SETUP_FRAME == sessionInterest.state)
-                {
-                    sessionInterest.state = INIT_IN_PROGRESS;
-
-                    createPublicationImage(
-                        channelEndpoint,
-                        transportIndex,
-                        srcAddress,
-                        streamId,
-                        sessionId,
-                        msg.initialTermId(),
-                        msg.activeTermId(),
-                        msg.termOffset(),
-                        msg.termLength(),
-                        msg.mtuLength(),
-                        msg.ttl());
-                }
-                else if (null != sessionInterest.image)
-                {
-                    sessionInterest.image.addDestinationConnectionIfUnknown(transportIndex, srcAddress);
-                }
+                sessionInterest.image.addDestinationConnectionIfUnknown(transportIndex, srcAddress);
             }
-            else if (streamInterest.isAllSessions || streamInterest.subscribedSessionIds.contains(sessionId))
+        }
+        else
+        {
+            final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
+            if (null == streamInterest)
             {
-                streamInterest.sessionInterestByIdMap.put(sessionId, new SessionInterest(INIT_IN_PROGRESS));
+                return;
+            }
+
+            if (streamInterest.isAllSessions || streamInterest.subscribedSessionIds.contains(sessionId))
+            {
+                final SessionInterest newSessionInterest = new SessionInterest(INIT_IN_PROGRESS);
+                newSessionInterest.isSack = isSack(channelEndpoint, msg);
+                putSessionInterest(streamInterest, streamId, sessionId, newSessionInterest);
+
                 createPublicationImage(
                     channelEndpoint,
                     transportIndex,
@@ -413,11 +425,39 @@ public final class DataPacketDispatcher
             }
             else
             {
-                streamInterest.sessionInterestByIdMap.put(sessionId, new SessionInterest(NO_INTEREST));
+                putSessionInterest(streamInterest, streamId, sessionId, new SessionInterest(NO_INTEREST));
             }
         }
     }
 
+    /**
+     * Dispatch a forward error correction message to registered interest.
+     *
+     * @param channelEndpoint of reception.
+     * @param msg             flyweight over the network packet.
+     * @param buffer          containing the FEC frame.
+     * @param length          of the FEC frame.
+     * @param srcAddress      the message came from.
+     * @param transportIndex  on which the message was received.
+     */
+    public void onFecMessage(
+        final ReceiveChannelEndpoint channelEndpoint,
+        final FecFlyweight msg,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress,
+        final int transportIndex)
+    {
+        final SessionInterest sessionInterest =
+            sessionInterestByStreamAndSessionId.get(compoundKey(msg.streamId(), msg.sessionId()));
+
+        if (null != sessionInterest && null != sessionInterest.image)
+        {
+            sessionInterest.image.onFecPacket(
+                msg.termId(), msg.termOffset(), msg.blockLength(), msg.groupLength(), buffer, length);
+        }
+    }
+
     /**
      * Dispatch an RTT measurement message to registered interest.
      *
@@ -433,27 +473,23 @@ public final class DataPacketDispatcher
         final int transportIndex)
     {
         final int streamId = msg.streamId();
-        final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
+        final int sessionId = msg.sessionId();
+        final long key = compoundKey(streamId, sessionId);
+        final SessionInterest sessionInterest = sessionInterestByStreamAndSessionId.get(key);
 
-        if (null != streamInterest)
+        if (null != sessionInterest && null != sessionInterest.image)
         {
-            final int sessionId = msg.sessionId();
-            final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
-
-            if (null != sessionInterest && null != sessionInterest.image)
+            if (RttMeasurementFlyweight.REPLY_FLAG == (msg.flags() & RttMeasurementFlyweight.REPLY_FLAG))
             {
-                if (RttMeasurementFlyweight.REPLY_FLAG == (msg.flags() & RttMeasurementFlyweight.REPLY_FLAG))
-                {
-                    final InetSocketAddress controlAddress = channelEndpoint.isMulticast(transportIndex) ?
-                        channelEndpoint.udpChannel(transportIndex).remoteControl() : srcAddress;
+                final InetSocketAddress controlAddress = channelEndpoint.isMulticast(transportIndex) ?
+                    channelEndpoint.udpChannel(transportIndex).remoteControl() : srcAddress;
 
-                    channelEndpoint.sendRttMeasurement(
-                        transportIndex, controlAddress, sessionId, streamId, msg.echoTimestampNs(), 0, false);
-                }
-                else
-                {
-                    sessionInterest.image.onRttMeasurement(msg, transportIndex, srcAddress);
-                }
+                channelEndpoint.sendRttMeasurement(
+                    transportIndex, controlAddress, sessionId, streamId, msg.echoTimestampNs(), 0, false);
+            }
+            else
+            {
+                sessionInterest.image.onRttMeasurement(msg, transportIndex, srcAddress);
             }
         }
     }
@@ -468,6 +504,41 @@ public final class DataPacketDispatcher
         return !streamInterestByIdMap.isEmpty();
     }
 
+    private void putSessionInterest(
+        final StreamInterest streamInterest,
+        final int streamId,
+        final int sessionId,
+        final SessionInterest sessionInterest)
+    {
+        sessionInterestByStreamAndSessionId.put(compoundKey(streamId, sessionId), sessionInterest);
+        if (null != streamInterest)
+        {
+            streamInterest.sessionIds.add(sessionId);
+        }
+    }
+
+    private SessionInterest removeSessionInterest(
+        final StreamInterest streamInterest, final int streamId, final int sessionId)
+    {
+        if (null != streamInterest)
+        {
+            streamInterest.sessionIds.remove(sessionId);
+        }
+
+        return sessionInterestByStreamAndSessionId.remove(compoundKey(streamId, sessionId));
+    }
+
+    private void removeSessionInterests(final StreamInterest streamInterest, final int streamId)
+    {
+        final IntHashSet.IntIterator iterator = streamInterest.sessionIds.iterator();
+        while (iterator.hasNext())
+        {
+            sessionInterestByStreamAndSessionId.remove(compoundKey(streamId, iterator.nextValue()));
+        }
+
+        streamInterest.sessionIds.clear();
+    }
+
     private void elicitSetupMessageFromSource(
         final ReceiveChannelEndpoint channelEndpoint,
         final int transportIndex,
@@ -516,4 +587,9 @@ public final class DataPacketDispatcher
             srcAddress,
             channelEndpoint);
     }
+
+    private static boolean isSack(final ReceiveChannelEndpoint channelEndpoint, final SetupFlyweight msg)
+    {
+        return channelEndpoint.isSack() && SetupFlyweight.SACK_FLAG == (msg.flags() & SetupFlyweight.SACK_FLAG);
+    }
 }
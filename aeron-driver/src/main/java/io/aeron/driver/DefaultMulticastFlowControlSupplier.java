@@ -49,6 +49,9 @@ public class DefaultMulticastFlowControlSupplier implements FlowControlSupplier
                 case TaggedMulticastFlowControl.FC_PARAM_VALUE:
                     return new TaggedMulticastFlowControl();
 
+                case QuorumMulticastFlowControl.FC_PARAM_VALUE:
+                    return new QuorumMulticastFlowControl();
+
                 default:
                     throw new IllegalArgumentException("unsupported multicast flow control strategy: fc=" + fcStr);
             }
@@ -66,6 +69,10 @@ public class DefaultMulticastFlowControlSupplier implements FlowControlSupplier
         {
             return new TaggedMulticastFlowControl();
         }
+        else if (QuorumMulticastFlowControl.class.getName().equals(MULTICAST_FLOW_CONTROL_STRATEGY))
+        {
+            return new QuorumMulticastFlowControl();
+        }
 
         FlowControl flowControl = null;
         try
@@ -24,6 +24,7 @@ import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.exceptions.InvalidChannelException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveDestinationTransport;
+import io.aeron.driver.media.ReceiveChannelEndpointThreadLocals;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.status.*;
@@ -34,8 +35,10 @@ import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.status.ChannelEndpointStatus;
 import org.agrona.BitUtil;
 import org.agrona.CloseHelper;
+import org.agrona.DeadlineTimerWheel;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.*;
@@ -48,6 +51,7 @@ import org.agrona.concurrent.status.UnsafeBufferPosition;
 import java.net.InetSocketAddress;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.ChannelUri.SPY_QUALIFIER;
@@ -67,6 +71,7 @@ import static org.agrona.collections.ArrayListUtil.fastUnorderedRemove;
  */
 public final class DriverConductor implements Agent
 {
+    private static final int CLIENT_TIMER_WHEEL_TICKS = 128;
     private static final long CLOCK_UPDATE_INTERNAL_NS = TimeUnit.MILLISECONDS.toNanos(1);
     private static final String[] INVALID_DESTINATION_KEYS =
     {
@@ -103,6 +108,11 @@ public final class DriverConductor implements Agent
     private final ArrayList<SubscriptionLink> subscriptionLinks = new ArrayList<>();
     private final ArrayList<CounterLink> counterLinks = new ArrayList<>();
     private final ArrayList<AeronClient> clients = new ArrayList<>();
+    private final ArrayList<AeronClient> clientsToReschedule = new ArrayList<>();
+    private final Long2ObjectHashMap<AeronClient> clientByTimerIdMap = new Long2ObjectHashMap<>();
+    private final DeadlineTimerWheel clientTimerWheel;
+    private final DeadlineTimerWheel.TimerHandler clientTimerHandler = this::onClientTimerExpiry;
+    private boolean hasClientReachedEndOfLife = false;
     private final ArrayDeque<DriverManagedResource> endOfLiveResources = new ArrayDeque<>();
     private final ObjectHashSet<SessionKey> activeSessionSet = new ObjectHashSet<>();
     private final EpochClock epochClock;
@@ -110,11 +120,16 @@ public final class DriverConductor implements Agent
     private final CachedEpochClock cachedEpochClock;
     private final CachedNanoClock cachedNanoClock;
     private final CountersManager countersManager;
-    private final NetworkPublicationThreadLocals networkPublicationThreadLocals = new NetworkPublicationThreadLocals();
+    private NetworkPublicationThreadLocals[] networkPublicationThreadLocals = new NetworkPublicationThreadLocals[0];
+    private ReceiveChannelEndpointThreadLocals[] receiveChannelEndpointThreadLocals =
+        new ReceiveChannelEndpointThreadLocals[0];
     private final MutableDirectBuffer tempBuffer;
     private final DataHeaderFlyweight defaultDataHeader = new DataHeaderFlyweight(createDefaultHeader(0, 0, 0));
     private final AtomicCounter errorCounter;
     private final DutyCycleTracker dutyCycleTracker;
+    private final LogBufferAllocator logBufferAllocator;
+    private long allocatedLogCorrelationId = Aeron.NULL_VALUE;
+    private RawLog allocatedLog;
     private TimeTrackingNameResolver nameResolver;
 
     DriverConductor(final MediaDriver.Context ctx)
@@ -122,6 +137,11 @@ public final class DriverConductor implements Agent
         this.ctx = ctx;
         timerIntervalNs = ctx.timerIntervalNs();
         clientLivenessTimeoutNs = ctx.clientLivenessTimeoutNs();
+        clientTimerWheel = new DeadlineTimerWheel(
+            TimeUnit.MILLISECONDS,
+            0,
+            BitUtil.findNextPositivePowerOfTwo(Math.max(1, TimeUnit.NANOSECONDS.toMillis(timerIntervalNs))),
+            CLIENT_TIMER_WHEEL_TICKS);
         driverCmdQueue = ctx.driverCommandQueue();
         receiverProxy = ctx.receiverProxy();
         senderProxy = ctx.senderProxy();
@@ -145,6 +165,9 @@ public final class DriverConductor implements Agent
             clientProxy,
             this);
 
+        logBufferAllocator = ctx.logBuffersAsyncAllocation() ? new LogBufferAllocator(
+            logFactory, ctx.logBuffersAllocatorIdleStrategy(), ctx.errorHandler(), errorCounter) : null;
+
         lastCommandConsumerPosition = toDriverCommands.consumerPosition();
     }
 
@@ -156,6 +179,7 @@ public final class DriverConductor implements Agent
         final long nowNs = nanoClock.nanoTime();
         cachedNanoClock.update(nowNs);
         cachedEpochClock.update(epochClock.time());
+        clientTimerWheel.resetStartTime(cachedEpochClock.time());
         dutyCycleTracker.update(nowNs);
         timerCheckDeadlineNs = nowNs + timerIntervalNs;
         clockUpdateDeadlineNs = nowNs + CLOCK_UPDATE_INTERNAL_NS;
@@ -182,6 +206,11 @@ public final class DriverConductor implements Agent
         ctx.systemCounters().get(CONDUCTOR_MAX_CYCLE_TIME).appendToLabel(": " + ctx.threadingMode().name());
         ctx.systemCounters().get(CONDUCTOR_CYCLE_TIME_THRESHOLD_EXCEEDED).appendToLabel(
             ": threshold=" + ctx.conductorCycleThresholdNs() + "ns " + ctx.threadingMode().name());
+
+        if (null != logBufferAllocator)
+        {
+            logBufferAllocator.start(ctx.logBuffersAllocatorThreadFactory());
+        }
     }
 
     /**
@@ -189,7 +218,7 @@ public final class DriverConductor implements Agent
      */
     public void onClose()
     {
-        CloseHelper.close(ctx.errorHandler(), nameResolver);
+        CloseHelper.closeAll(ctx.errorHandler(), nameResolver, logBufferAllocator);
         publicationImages.forEach(PublicationImage::free);
         networkPublications.forEach(NetworkPublication::free);
         ipcPublications.forEach(IpcPublication::free);
@@ -218,6 +247,7 @@ public final class DriverConductor implements Agent
         workCount += processTimers(nowNs);
         workCount += driverCmdQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
         workCount += clientCommandAdapter.receive();
+        workCount += processLogBufferAllocations();
         workCount += trackStreamPositions(workCount, nowNs);
         workCount += nameResolver.doWork(cachedEpochClock.time());
         workCount += freeEndOfLifeResources(ctx.resourceFreeLimit());
@@ -230,6 +260,7 @@ public final class DriverConductor implements Agent
         return senderProxy.isApplyingBackpressure() || receiverProxy.isApplyingBackpressure();
     }
 
+    @SuppressWarnings("MethodLength")
     void onCreatePublicationImage(
         final int sessionId,
         final int streamId,
@@ -260,6 +291,8 @@ public final class DriverConductor implements Agent
             CongestionControl congestionControl = null;
             UnsafeBufferPosition hwmPos = null;
             UnsafeBufferPosition rcvPos = null;
+            LatencyCounters receiverLatency = null;
+            LatencyCounters receiverRtt = null;
 
             try
             {
@@ -282,7 +315,7 @@ public final class DriverConductor implements Agent
                     senderMtuLength,
                     controlAddress,
                     sourceAddress,
-                    ctx.receiverCachedNanoClock(),
+                    channelEndpoint.cachedNanoClock(),
                     ctx,
                     countersManager);
 
@@ -315,6 +348,22 @@ public final class DriverConductor implements Agent
                     sourceIdentity,
                     congestionControl);
 
+                if (subscriptionChannel.isChannelSendTimestampEnabled())
+                {
+                    receiverLatency = ReceiverLatency.allocate(
+                        tempBuffer, countersManager, registrationId, sessionId, streamId, uri,
+                        ctx.latencyHistogramIntervalNs(), cachedNanoClock.nanoTime());
+                    image.receiverLatency(receiverLatency, subscriptionChannel.channelSendTimestampOffset());
+                }
+
+                if (ctx.rttMeasurementIntervalNs() > 0)
+                {
+                    receiverRtt = ReceiverRtt.allocate(
+                        tempBuffer, countersManager, registrationId, sessionId, streamId, uri,
+                        ctx.latencyHistogramIntervalNs(), cachedNanoClock.nanoTime());
+                    image.receiverRtt(receiverRtt);
+                }
+
                 channelEndpoint.incRefImages();
                 publicationImages.add(image);
                 receiverProxy.newPublicationImage(channelEndpoint, image);
@@ -337,7 +386,7 @@ public final class DriverConductor implements Agent
             catch (final Exception ex)
             {
                 subscriberPositions.forEach((subscriberPosition) -> subscriberPosition.position().close());
-                CloseHelper.quietCloseAll(rawLog, congestionControl, hwmPos, rcvPos);
+                CloseHelper.quietCloseAll(rawLog, congestionControl, hwmPos, rcvPos, receiverLatency, receiverRtt);
                 throw ex;
             }
         }
@@ -463,8 +512,26 @@ public final class DriverConductor implements Agent
         final PublicationParams params = getPublicationParams(channelUri, ctx, this, false);
         validateEndpointForPublication(udpChannel);
         validateMtuForMaxMessage(params, channel);
+        validateFecForPublication(params, udpChannel);
+
+        if (null != logBufferAllocator)
+        {
+            final SendChannelEndpoint existingEndpoint = findExistingSendChannelEndpoint(udpChannel);
+            final boolean isNewLogRequired =
+                isExclusive || null == findPublication(networkPublications, streamId, existingEndpoint);
+
+            if (isNewLogRequired && deferLogBufferAllocation(
+                correlationId,
+                clientId,
+                params,
+                () -> onAddNetworkPublication(channel, streamId, correlationId, clientId, isExclusive)))
+            {
+                return;
+            }
+        }
 
         final SendChannelEndpoint channelEndpoint = getOrCreateSendChannelEndpoint(params, udpChannel, correlationId);
+        validateFecForPublication(params, channelEndpoint.udpChannel());
 
         NetworkPublication publication = null;
         if (!isExclusive)
@@ -580,6 +647,11 @@ public final class DriverConductor implements Agent
                 {
                     receiverProxy.removeSubscription(
                         channelEndpoint, subscription.streamId(), subscription.sessionId());
+                    for (final ReceiveChannelEndpoint fanOutEndpoint : channelEndpoint.fanOutEndpoints())
+                    {
+                        receiverProxy.removeSubscription(
+                            fanOutEndpoint, subscription.streamId(), subscription.sessionId());
+                    }
                 }
             }
             else
@@ -587,6 +659,10 @@ public final class DriverConductor implements Agent
                 if (0 == channelEndpoint.decRefToStream(subscription.streamId()))
                 {
                     receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    for (final ReceiveChannelEndpoint fanOutEndpoint : channelEndpoint.fanOutEndpoints())
+                    {
+                        receiverProxy.removeSubscription(fanOutEndpoint, subscription.streamId());
+                    }
                 }
             }
 
@@ -644,11 +720,16 @@ public final class DriverConductor implements Agent
         }
     }
 
-    void tryCloseReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
+    void tryCloseReceiveChannelEndpoint(final ReceiveChannelEndpoint endpoint)
     {
+        final ReceiveChannelEndpoint channelEndpoint = endpoint.fanOutPrimary();
         if (channelEndpoint.shouldBeClosed())
         {
             receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
+            for (final ReceiveChannelEndpoint fanOutEndpoint : channelEndpoint.fanOutEndpoints())
+            {
+                receiverProxy.closeReceiveChannelEndpoint(fanOutEndpoint);
+            }
             receiveChannelEndpointByChannelMap.remove(channelEndpoint.subscriptionUdpChannel().canonicalForm());
             channelEndpoint.closeIndicators();
         }
@@ -689,6 +770,16 @@ public final class DriverConductor implements Agent
             }
 
             validateMtuForMaxMessage(params, channel);
+
+            if (deferLogBufferAllocation(
+                correlationId,
+                clientId,
+                params,
+                () -> onAddIpcPublication(channel, streamId, correlationId, clientId, isExclusive)))
+            {
+                return;
+            }
+
             publication = addIpcPublication(correlationId, clientId, streamId, channel, isExclusive, params);
             isNewPublication = true;
         }
@@ -740,6 +831,12 @@ public final class DriverConductor implements Agent
 
         if (null == publicationLink)
         {
+            if (null != logBufferAllocator && logBufferAllocator.cancel(registrationId))
+            {
+                clientProxy.operationSucceeded(correlationId);
+                return;
+            }
+
             throw new ControlProtocolException(UNKNOWN_PUBLICATION, "unknown publication: " + registrationId);
         }
 
@@ -830,6 +927,10 @@ public final class DriverConductor implements Agent
             if (1 == channelEndpoint.incRefToStreamAndSession(streamId, params.sessionId))
             {
                 receiverProxy.addSubscription(channelEndpoint, streamId, params.sessionId);
+                for (final ReceiveChannelEndpoint fanOutEndpoint : channelEndpoint.fanOutEndpoints())
+                {
+                    receiverProxy.addSubscription(fanOutEndpoint, streamId, params.sessionId);
+                }
             }
         }
         else
@@ -837,6 +938,10 @@ public final class DriverConductor implements Agent
             if (1 == channelEndpoint.incRefToStream(streamId))
             {
                 receiverProxy.addSubscription(channelEndpoint, streamId);
+                for (final ReceiveChannelEndpoint fanOutEndpoint : channelEndpoint.fanOutEndpoints())
+                {
+                    receiverProxy.addSubscription(fanOutEndpoint, streamId);
+                }
             }
         }
 
@@ -978,10 +1083,16 @@ public final class DriverConductor implements Agent
 
     void onClientClose(final long clientId)
     {
+        if (null != logBufferAllocator)
+        {
+            logBufferAllocator.cancelForClient(clientId);
+        }
+
         final AeronClient client = findClient(clients, clientId);
         if (null != client)
         {
             client.onClosedByCommand();
+            rescheduleClientTimer(client, cachedEpochClock.time());
         }
     }
 
@@ -1171,13 +1282,90 @@ public final class DriverConductor implements Agent
         final long nowMs = cachedEpochClock.time();
         toDriverCommands.consumerHeartbeatTime(nowMs);
 
-        checkManagedResources(clients, nowNs, nowMs);
-        checkManagedResources(publicationLinks, nowNs, nowMs);
+        checkClientTimers(nowMs);
+
+        if (hasClientReachedEndOfLife)
+        {
+            checkManagedResources(publicationLinks, nowNs, nowMs);
+        }
+
         checkManagedResources(networkPublications, nowNs, nowMs);
-        checkManagedResources(subscriptionLinks, nowNs, nowMs);
+
+        if (hasClientReachedEndOfLife)
+        {
+            checkManagedResources(subscriptionLinks, nowNs, nowMs);
+        }
+
         checkManagedResources(publicationImages, nowNs, nowMs);
         checkManagedResources(ipcPublications, nowNs, nowMs);
-        checkManagedResources(counterLinks, nowNs, nowMs);
+
+        if (hasClientReachedEndOfLife)
+        {
+            checkManagedResources(counterLinks, nowNs, nowMs);
+            hasClientReachedEndOfLife = false;
+        }
+    }
+
+    private void checkClientTimers(final long nowMs)
+    {
+        do
+        {
+            clientTimerWheel.poll(nowMs, clientTimerHandler, Integer.MAX_VALUE);
+        }
+        while (clientTimerWheel.currentTickTime() <= nowMs);
+
+        final ArrayList<AeronClient> clientsToReschedule = this.clientsToReschedule;
+        for (int i = 0, size = clientsToReschedule.size(); i < size; i++)
+        {
+            final AeronClient client = clientsToReschedule.get(i);
+            scheduleClientTimer(client, client.timeoutDeadlineMs());
+        }
+        clientsToReschedule.clear();
+    }
+
+    private boolean onClientTimerExpiry(final TimeUnit timeUnit, final long nowMs, final long timerId)
+    {
+        final AeronClient client = clientByTimerIdMap.remove(timerId);
+        if (null != client)
+        {
+            client.onTimeEvent(cachedNanoClock.nanoTime(), nowMs, this);
+
+            if (client.hasReachedEndOfLife())
+            {
+                if (null != logBufferAllocator)
+                {
+                    logBufferAllocator.cancelForClient(client.clientId());
+                }
+
+                CloseHelper.close(ctx.errorHandler(), client::close);
+                endOfLiveResources.add(client);
+                fastUnorderedRemove(clients, clients.indexOf(client));
+                hasClientReachedEndOfLife = true;
+            }
+            else
+            {
+                clientsToReschedule.add(client);
+            }
+        }
+
+        return true;
+    }
+
+    private void scheduleClientTimer(final AeronClient client, final long deadlineMs)
+    {
+        final long timerId = clientTimerWheel.scheduleTimer(deadlineMs);
+        client.timerId(timerId);
+        clientByTimerIdMap.put(timerId, client);
+    }
+
+    private void rescheduleClientTimer(final AeronClient client, final long deadlineMs)
+    {
+        final long timerId = client.timerId();
+        if (null != clientByTimerIdMap.remove(timerId))
+        {
+            clientTimerWheel.cancelTimer(timerId);
+            scheduleClientTimer(client, deadlineMs);
+        }
     }
 
     private void checkForBlockedToDriverCommands(final long nowNs)
@@ -1250,6 +1438,7 @@ public final class DriverConductor implements Agent
         return null;
     }
 
+    @SuppressWarnings("MethodLength")
     private NetworkPublication newNetworkPublication(
         final long registrationId,
         final long clientId,
@@ -1283,6 +1472,8 @@ public final class DriverConductor implements Agent
         UnsafeBufferPosition senderPos = null;
         UnsafeBufferPosition senderLmt = null;
         AtomicCounter senderBpe = null;
+        AtomicCounter senderPacingDelay = null;
+        LatencyCounters senderRtt = null;
         try
         {
             publisherPos = PublisherPos.allocate(
@@ -1296,6 +1487,19 @@ public final class DriverConductor implements Agent
             senderBpe = SenderBpe.allocate(
                 tempBuffer, countersManager, registrationId, sessionId, streamId, channel);
 
+            if (params.maxSendRate > 0)
+            {
+                senderPacingDelay = SenderPacingDelay.allocate(
+                    tempBuffer, countersManager, registrationId, sessionId, streamId, channel);
+            }
+
+            if (ctx.rttMeasurementIntervalNs() > 0)
+            {
+                senderRtt = SenderRtt.allocate(
+                    tempBuffer, countersManager, registrationId, sessionId, streamId, channel,
+                    ctx.latencyHistogramIntervalNs(), cachedNanoClock.nanoTime());
+            }
+
             countersManager.setCounterOwnerId(publisherLmt.id(), clientId);
 
             if (params.hasPosition)
@@ -1309,10 +1513,13 @@ public final class DriverConductor implements Agent
             }
 
             final RetransmitHandler retransmitHandler = new RetransmitHandler(
-                ctx.senderCachedNanoClock(),
+                channelEndpoint.cachedNanoClock(),
                 ctx.systemCounters().get(INVALID_PACKETS),
                 ctx.retransmitUnicastDelayGenerator(),
-                ctx.retransmitUnicastLingerGenerator());
+                ctx.retransmitUnicastLingerGenerator(),
+                params.maxRetransmits,
+                ctx.systemCounters().get(RETRANSMIT_BYTES_COALESCED),
+                ctx.systemCounters().get(RETRANSMIT_BYTES_DROPPED));
 
             final NetworkPublication publication = new NetworkPublication(
                 registrationId,
@@ -1326,12 +1533,14 @@ public final class DriverConductor implements Agent
                 senderPos,
                 senderLmt,
                 senderBpe,
+                senderPacingDelay,
+                senderRtt,
                 sessionId,
                 streamId,
                 initialTermId,
                 flowControl,
                 retransmitHandler,
-                networkPublicationThreadLocals,
+                networkPublicationThreadLocals(channelEndpoint.senderIndex()),
                 isExclusive);
 
             channelEndpoint.incRef();
@@ -1343,7 +1552,8 @@ public final class DriverConductor implements Agent
         }
         catch (final Exception ex)
         {
-            CloseHelper.quietCloseAll(rawLog, publisherPos, publisherLmt, senderPos, senderLmt, senderBpe);
+            CloseHelper.quietCloseAll(
+                rawLog, publisherPos, publisherLmt, senderPos, senderLmt, senderBpe, senderPacingDelay, senderRtt);
             throw ex;
         }
     }
@@ -1355,7 +1565,7 @@ public final class DriverConductor implements Agent
         final long registrationId,
         final PublicationParams params)
     {
-        final RawLog rawLog = logFactory.newPublication(registrationId, params.termLength, params.isSparse);
+        final RawLog rawLog = newPublicationLog(registrationId, params);
         initLogMetadata(sessionId, streamId, initialTermId, params.mtuLength, registrationId, rawLog);
         initialisePositionCounters(initialTermId, params, rawLog.metaData());
 
@@ -1369,13 +1579,87 @@ public final class DriverConductor implements Agent
         final long registrationId,
         final PublicationParams params)
     {
-        final RawLog rawLog = logFactory.newPublication(registrationId, params.termLength, params.isSparse);
+        final RawLog rawLog = newPublicationLog(registrationId, params);
         initLogMetadata(sessionId, streamId, initialTermId, params.mtuLength, registrationId, rawLog);
         initialisePositionCounters(initialTermId, params, rawLog.metaData());
 
         return rawLog;
     }
 
+    private RawLog newPublicationLog(final long registrationId, final PublicationParams params)
+    {
+        if (null != allocatedLog && allocatedLogCorrelationId == registrationId)
+        {
+            final RawLog rawLog = allocatedLog;
+            allocatedLog = null;
+
+            return rawLog;
+        }
+
+        return logFactory.newPublication(registrationId, params.termLength, params.isSparse);
+    }
+
+    private boolean deferLogBufferAllocation(
+        final long correlationId, final long clientId, final PublicationParams params, final Runnable command)
+    {
+        return null != logBufferAllocator &&
+            allocatedLogCorrelationId != correlationId &&
+            logBufferAllocator.allocate(correlationId, clientId, params.termLength, params.isSparse, command);
+    }
+
+    private int processLogBufferAllocations()
+    {
+        if (null == logBufferAllocator)
+        {
+            return 0;
+        }
+
+        int workCount = 0;
+        LogBufferAllocator.Allocation allocation;
+        while (null != (allocation = logBufferAllocator.poll()))
+        {
+            final long correlationId = allocation.correlationId;
+            if (allocation.isCancelled)
+            {
+                if (null != allocation.rawLog)
+                {
+                    logBufferAllocator.free(allocation.rawLog);
+                }
+            }
+            else if (null != allocation.error)
+            {
+                clientCommandAdapter.onCommandError(correlationId, allocation.error);
+            }
+            else
+            {
+                allocatedLogCorrelationId = correlationId;
+                allocatedLog = allocation.rawLog;
+                try
+                {
+                    allocation.command.run();
+                }
+                catch (final Exception ex)
+                {
+                    clientCommandAdapter.onCommandError(correlationId, ex);
+                }
+                finally
+                {
+                    if (null != allocatedLog)
+                    {
+                        logBufferAllocator.free(allocatedLog);
+                        allocatedLog = null;
+                    }
+
+                    allocatedLogCorrelationId = Aeron.NULL_VALUE;
+                }
+            }
+
+            workCount++;
+        }
+
+        return workCount;
+    }
+
     private void initLogMetadata(
         final int sessionId,
         final int streamId,
@@ -1455,7 +1739,9 @@ public final class DriverConductor implements Agent
                 statusIndicator = SendChannelStatus.allocate(
                     tempBuffer, countersManager, registrationId, udpChannel.originalUriString());
 
+                final int senderIndex = agentIndex(udpChannel, SENDER_AGENT_PARAM_NAME, senderProxy.senderCount());
                 channelEndpoint = ctx.sendChannelEndpointSupplier().newInstance(udpChannel, statusIndicator, ctx);
+                channelEndpoint.senderIndex(senderIndex, senderProxy.cachedNanoClock(senderIndex));
 
                 localSocketAddressIndicator = SendLocalSocketAddress.allocate(
                     tempBuffer, countersManager, registrationId, channelEndpoint.statusIndicatorCounterId());
@@ -1515,7 +1801,7 @@ public final class DriverConductor implements Agent
         }
     }
 
-    private void validateReceiveTimestampOffset(
+    private void validateChannelTimestampOffsets(
         final UdpChannel udpChannel, final ReceiveChannelEndpoint channelEndpoint)
     {
         if (udpChannel.channelReceiveTimestampOffset() !=
@@ -1527,6 +1813,16 @@ public final class DriverConductor implements Agent
                 " existingChannel=" + channelEndpoint.originalUriString() + " channel=" +
                 udpChannel.originalUriString());
         }
+
+        if (udpChannel.channelSendTimestampOffset() !=
+            channelEndpoint.subscriptionUdpChannel().channelSendTimestampOffset())
+        {
+            throw new InvalidChannelException(
+                "option conflicts with existing subscription: " + CHANNEL_SEND_TIMESTAMP_OFFSET_PARAM_NAME + "=" +
+                udpChannel.channelSendTimestampOffset() +
+                " existingChannel=" + channelEndpoint.originalUriString() + " channel=" +
+                udpChannel.originalUriString());
+        }
     }
 
     private SendChannelEndpoint findExistingSendChannelEndpoint(final UdpChannel udpChannel)
@@ -1567,7 +1863,7 @@ public final class DriverConductor implements Agent
         final ReceiveChannelEndpoint channelEndpoint = findExistingReceiveChannelEndpoint(udpChannel);
         if (null != channelEndpoint)
         {
-            validateReceiveTimestampOffset(udpChannel, channelEndpoint);
+            validateChannelTimestampOffsets(udpChannel, channelEndpoint);
 
             for (int i = 0, size = subscriptionLinks.size(); i < size; i++)
             {
@@ -1703,10 +1999,31 @@ public final class DriverConductor implements Agent
                 final String channel = udpChannel.originalUriString();
                 channelStatus = ReceiveChannelStatus.allocate(tempBuffer, countersManager, registrationId, channel);
 
+                final int receiverIndex = agentIndex(
+                    udpChannel, RECEIVER_AGENT_PARAM_NAME, receiverProxy.receiverCount());
                 final DataPacketDispatcher dispatcher = new DataPacketDispatcher(
-                    ctx.driverConductorProxy(), receiverProxy.receiver());
+                    ctx.driverConductorProxy(), receiverProxy.receiver(receiverIndex));
                 channelEndpoint = ctx.receiveChannelEndpointSupplier().newInstance(
                     udpChannel, dispatcher, channelStatus, ctx);
+                channelEndpoint.receiverIndex(
+                    receiverIndex,
+                    receiveChannelEndpointThreadLocals(receiverIndex),
+                    receiverProxy.cachedNanoClock(receiverIndex));
+
+                final int receiveSocketCount = receiveSocketCount(udpChannel);
+                for (int i = 1; i < receiveSocketCount; i++)
+                {
+                    final int fanOutReceiverIndex = (receiverIndex + i) % receiverProxy.receiverCount();
+                    final DataPacketDispatcher fanOutDispatcher = new DataPacketDispatcher(
+                        ctx.driverConductorProxy(), receiverProxy.receiver(fanOutReceiverIndex));
+                    final ReceiveChannelEndpoint fanOutEndpoint = ctx.receiveChannelEndpointSupplier().newInstance(
+                        udpChannel, fanOutDispatcher, channelStatus, ctx);
+                    fanOutEndpoint.receiverIndex(
+                        fanOutReceiverIndex,
+                        receiveChannelEndpointThreadLocals(fanOutReceiverIndex),
+                        receiverProxy.cachedNanoClock(fanOutReceiverIndex));
+                    channelEndpoint.addFanOutEndpoint(fanOutEndpoint);
+                }
 
                 if (!udpChannel.isManualControlMode())
                 {
@@ -1720,9 +2037,17 @@ public final class DriverConductor implements Agent
 
                 receiveChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
                 receiverProxy.registerReceiveChannelEndpoint(channelEndpoint);
+                for (final ReceiveChannelEndpoint fanOutEndpoint : channelEndpoint.fanOutEndpoints())
+                {
+                    receiverProxy.registerReceiveChannelEndpoint(fanOutEndpoint);
+                }
             }
             catch (final Exception ex)
             {
+                if (null != channelEndpoint)
+                {
+                    CloseHelper.closeAll(channelEndpoint.fanOutEndpoints());
+                }
                 CloseHelper.closeAll(channelStatus, localSocketAddressIndicator, channelEndpoint);
                 throw ex;
             }
@@ -1747,11 +2072,125 @@ public final class DriverConductor implements Agent
                 channelEndpoint.socketSndbufLength(),
                 udpChannel.originalUriString(),
                 channelEndpoint.originalUriString());
+
+            final int existingCount = channelEndpoint.fanOutEndpoints().length + 1;
+            if (null != udpChannel.channelUri().get(RECEIVE_SOCKET_COUNT_PARAM_NAME) &&
+                receiveSocketCount(udpChannel) != existingCount)
+            {
+                throw new InvalidChannelException(
+                    RECEIVE_SOCKET_COUNT_PARAM_NAME + "=" + receiveSocketCount(udpChannel) +
+                    " does not match existing value of " + existingCount +
+                    ": existingChannel=" + channelEndpoint.originalUriString() +
+                    " channel=" + udpChannel.originalUriString());
+            }
         }
 
         return channelEndpoint;
     }
 
+    private NetworkPublicationThreadLocals networkPublicationThreadLocals(final int senderIndex)
+    {
+        if (senderIndex >= networkPublicationThreadLocals.length)
+        {
+            networkPublicationThreadLocals = Arrays.copyOf(networkPublicationThreadLocals, senderIndex + 1);
+        }
+
+        NetworkPublicationThreadLocals threadLocals = networkPublicationThreadLocals[senderIndex];
+        if (null == threadLocals)
+        {
+            threadLocals = new NetworkPublicationThreadLocals();
+            networkPublicationThreadLocals[senderIndex] = threadLocals;
+        }
+
+        return threadLocals;
+    }
+
+    private ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals(final int receiverIndex)
+    {
+        if (receiverIndex >= receiveChannelEndpointThreadLocals.length)
+        {
+            receiveChannelEndpointThreadLocals = Arrays.copyOf(receiveChannelEndpointThreadLocals, receiverIndex + 1);
+        }
+
+        ReceiveChannelEndpointThreadLocals threadLocals = receiveChannelEndpointThreadLocals[receiverIndex];
+        if (null == threadLocals)
+        {
+            threadLocals = 0 == receiverIndex ?
+                ctx.receiveChannelEndpointThreadLocals() : new ReceiveChannelEndpointThreadLocals();
+            receiveChannelEndpointThreadLocals[receiverIndex] = threadLocals;
+        }
+
+        return threadLocals;
+    }
+
+    private static int agentIndex(final UdpChannel udpChannel, final String paramName, final int agentCount)
+    {
+        final String agentParam = udpChannel.channelUri().get(paramName);
+        if (null != agentParam)
+        {
+            final int agentIndex;
+            try
+            {
+                agentIndex = Integer.parseInt(agentParam);
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException(
+                    paramName + "=" + agentParam + " must be a number: channel=" + udpChannel.originalUriString(), ex);
+            }
+
+            if (agentIndex < 0 || agentIndex >= agentCount)
+            {
+                throw new IllegalArgumentException(
+                    paramName + "=" + agentIndex + " must be in range 0-" + (agentCount - 1) +
+                    ": channel=" + udpChannel.originalUriString());
+            }
+
+            return agentIndex;
+        }
+
+        return agentCount > 1 ? (udpChannel.canonicalForm().hashCode() & Integer.MAX_VALUE) % agentCount : 0;
+    }
+
+    private static int receiveSocketCount(final UdpChannel udpChannel)
+    {
+        final String countParam = udpChannel.channelUri().get(RECEIVE_SOCKET_COUNT_PARAM_NAME);
+        if (null == countParam)
+        {
+            return 1;
+        }
+
+        final int count;
+        try
+        {
+            count = Integer.parseInt(countParam);
+        }
+        catch (final NumberFormatException ex)
+        {
+            throw new IllegalArgumentException(
+                RECEIVE_SOCKET_COUNT_PARAM_NAME + "=" + countParam + " must be a number: channel=" +
+                udpChannel.originalUriString(), ex);
+        }
+
+        if (count < 1)
+        {
+            throw new IllegalArgumentException(
+                RECEIVE_SOCKET_COUNT_PARAM_NAME + "=" + count + " must be at least 1: channel=" +
+                udpChannel.originalUriString());
+        }
+
+        if (count > 1 && (udpChannel.isMulticast() || udpChannel.hasExplicitControl() ||
+            udpChannel.isManualControlMode() || 0 == udpChannel.remoteData().getPort()))
+        {
+            throw new InvalidChannelException(
+                RECEIVE_SOCKET_COUNT_PARAM_NAME + "=" + count +
+                " is only valid for a unicast subscription with a fixed endpoint port: channel=" +
+                udpChannel.originalUriString());
+        }
+
+        return count;
+    }
+
     private ReceiveChannelEndpoint findExistingReceiveChannelEndpoint(final UdpChannel udpChannel)
     {
         if (udpChannel.hasTag())
@@ -1792,6 +2231,7 @@ public final class DriverConductor implements Agent
                 ctx.systemCounters().get(SystemCounterDescriptor.CLIENT_TIMEOUTS),
                 counter);
             clients.add(client);
+            scheduleClientTimer(client, client.timeoutDeadlineMs());
 
             clientProxy.onCounterReady(clientId, counterId);
         }
@@ -2144,6 +2584,25 @@ public final class DriverConductor implements Agent
                 "Media timestamps '" + MEDIA_RCV_TIMESTAMP_OFFSET_PARAM_NAME +
                 "' are not supported in the Java driver: channel=" + udpChannel.originalUriString());
         }
+
+        if (udpChannel.isChannelSendTimestampEnabled() &&
+            udpChannel.channelSendTimestampOffset() == udpChannel.channelReceiveTimestampOffset())
+        {
+            throw new InvalidChannelException(
+                "'" + CHANNEL_SEND_TIMESTAMP_OFFSET_PARAM_NAME + "' must not be the same as '" +
+                CHANNEL_RECEIVE_TIMESTAMP_OFFSET_PARAM_NAME + "' for a subscription as the receive timestamp " +
+                "overwrites the send timestamp: channel=" + udpChannel.originalUriString());
+        }
+    }
+
+    private static void validateFecForPublication(final PublicationParams params, final UdpChannel udpChannel)
+    {
+        if (params.fecGroupSize > 0 && udpChannel.isChannelSendTimestampEnabled())
+        {
+            throw new InvalidChannelException(
+                "'" + FEC_PARAM_NAME + "' is not supported with '" + CHANNEL_SEND_TIMESTAMP_OFFSET_PARAM_NAME +
+                "' as retransmitted frames are timestamped again: channel=" + udpChannel.originalUriString());
+        }
     }
 
     private static void validateDestinationUri(final ChannelUri uri, final String destinationUri)
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.buffer.LogFactory;
+import io.aeron.driver.buffer.RawLog;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.AgentRunner;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates and maps log buffers for new publications on a background thread so the {@link DriverConductor} can
+ * continue to process other commands, heartbeats, and timers while a large log is allocated. The command which
+ * required the log is completed by the {@link DriverConductor} once the allocation is polled.
+ * <p>
+ * Logs which are no longer required are also freed on the background thread.
+ * <p>
+ * Allocations which are outstanding can be cancelled when the publication is removed, or the client closed, before
+ * the command is completed. The log of a cancelled allocation is freed and its command is not run.
+ */
+final class LogBufferAllocator implements Agent, AutoCloseable
+{
+    /**
+     * Max number of allocations which can be outstanding before logs are allocated on the caller thread.
+     */
+    static final int CAPACITY = 128;
+
+    /**
+     * Request to allocate a log for the command with a correlation id, and the result when polled.
+     */
+    static final class Allocation
+    {
+        final long correlationId;
+        final long clientId;
+        final int termLength;
+        final boolean isSparse;
+        final Runnable command;
+        RawLog rawLog;
+        Exception error;
+        boolean isCancelled;
+
+        Allocation(
+            final long correlationId,
+            final long clientId,
+            final int termLength,
+            final boolean isSparse,
+            final Runnable command)
+        {
+            this.correlationId = correlationId;
+            this.clientId = clientId;
+            this.termLength = termLength;
+            this.isSparse = isSparse;
+            this.command = command;
+        }
+    }
+
+    private final OneToOneConcurrentArrayQueue<Allocation> requestQueue =
+        new OneToOneConcurrentArrayQueue<>(CAPACITY);
+    private final OneToOneConcurrentArrayQueue<Allocation> completedQueue =
+        new OneToOneConcurrentArrayQueue<>(CAPACITY);
+    private final OneToOneConcurrentArrayQueue<RawLog> freeQueue = new OneToOneConcurrentArrayQueue<>(CAPACITY);
+    private final Long2ObjectHashMap<Allocation> outstandingByCorrelationIdMap = new Long2ObjectHashMap<>();
+    private final LogFactory logFactory;
+    private final AgentRunner runner;
+    private final ErrorHandler errorHandler;
+
+    LogBufferAllocator(
+        final LogFactory logFactory,
+        final IdleStrategy idleStrategy,
+        final ErrorHandler errorHandler,
+        final AtomicCounter errorCounter)
+    {
+        this.logFactory = logFactory;
+        this.errorHandler = errorHandler;
+        this.runner = new AgentRunner(idleStrategy, errorHandler, errorCounter, this);
+    }
+
+    /**
+     * Start the background thread on which logs are allocated.
+     *
+     * @param threadFactory to create the background thread.
+     */
+    void start(final ThreadFactory threadFactory)
+    {
+        AgentRunner.startOnThread(runner, threadFactory);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        CloseHelper.close(errorHandler, runner);
+
+        Allocation allocation;
+        while (null != (allocation = requestQueue.poll()) || null != (allocation = completedQueue.poll()))
+        {
+            CloseHelper.close(errorHandler, allocation.rawLog);
+        }
+
+        RawLog rawLog;
+        while (null != (rawLog = freeQueue.poll()))
+        {
+            CloseHelper.close(errorHandler, rawLog);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String roleName()
+    {
+        return "log-buffer-allocator";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int doWork()
+    {
+        int workCount = 0;
+
+        RawLog rawLog;
+        while (null != (rawLog = freeQueue.poll()))
+        {
+            CloseHelper.close(errorHandler, rawLog);
+            workCount++;
+        }
+
+        final Allocation allocation = requestQueue.poll();
+        if (null != allocation)
+        {
+            try
+            {
+                allocation.rawLog = logFactory.newPublication(
+                    allocation.correlationId, allocation.termLength, allocation.isSparse);
+            }
+            catch (final Exception ex)
+            {
+                allocation.error = ex;
+            }
+
+            completedQueue.offer(allocation);
+            workCount++;
+        }
+
+        return workCount;
+    }
+
+    /**
+     * Request a log be allocated for a publication, and the command which required it be run again once polled.
+     *
+     * @param correlationId of the command which is the registration id of the publication.
+     * @param clientId      of the client which issued the command.
+     * @param termLength    of the log.
+     * @param isSparse      should the log be sparse.
+     * @param command       to run once the allocation is polled.
+     * @return true if the allocation was requested or false if at capacity and it should be done on the caller thread.
+     */
+    boolean allocate(
+        final long correlationId,
+        final long clientId,
+        final int termLength,
+        final boolean isSparse,
+        final Runnable command)
+    {
+        final Allocation allocation = new Allocation(correlationId, clientId, termLength, isSparse, command);
+        if (outstandingByCorrelationIdMap.size() >= CAPACITY || !requestQueue.offer(allocation))
+        {
+            return false;
+        }
+
+        outstandingByCorrelationIdMap.put(correlationId, allocation);
+        return true;
+    }
+
+    /**
+     * Cancel an outstanding allocation so its command is not run and its log is freed once polled.
+     *
+     * @param correlationId of the command which requested the allocation.
+     * @return true if an outstanding allocation was cancelled otherwise false.
+     */
+    boolean cancel(final long correlationId)
+    {
+        final Allocation allocation = outstandingByCorrelationIdMap.get(correlationId);
+        if (null == allocation || allocation.isCancelled)
+        {
+            return false;
+        }
+
+        allocation.isCancelled = true;
+        return true;
+    }
+
+    /**
+     * Cancel all outstanding allocations for commands issued by a client.
+     *
+     * @param clientId of the client which issued the commands.
+     */
+    void cancelForClient(final long clientId)
+    {
+        for (final Allocation allocation : outstandingByCorrelationIdMap.values())
+        {
+            if (clientId == allocation.clientId)
+            {
+                allocation.isCancelled = true;
+            }
+        }
+    }
+
+    /**
+     * Poll for an allocation which has completed with either a log or an error.
+     *
+     * @return the completed allocation or null if none.
+     */
+    Allocation poll()
+    {
+        final Allocation allocation = completedQueue.poll();
+        if (null != allocation)
+        {
+            outstandingByCorrelationIdMap.remove(allocation.correlationId);
+        }
+
+        return allocation;
+    }
+
+    /**
+     * Free a log on the background thread, or on the caller thread if the queue is full.
+     *
+     * @param rawLog to be freed.
+     */
+    void free(final RawLog rawLog)
+    {
+        if (!freeQueue.offer(rawLog))
+        {
+            CloseHelper.close(errorHandler, rawLog);
+        }
+    }
+}
@@ -24,33 +24,55 @@ import static io.aeron.logbuffer.TermGapScanner.scanForGap;
 /**
  * Detecting and handling of gaps in a message stream.
  * <p>
- * Each detector only notifies a single run of a gap in a message stream.
+ * The feedback delay is timed from the first gap in the rebuild window. When the detector is created with a max gaps
+ * greater than 1 then further gaps up to that count in the same term are found on each scan and notified along with
+ * the first gap when the timer expires.
  */
 public class LossDetector implements TermGapScanner.GapHandler
 {
     private long deadlineNs = Aeron.NULL_VALUE;
 
     private int scannedTermId;
-    private int scannedTermOffset = -1;
-    private int scannedLength;
+    private int scannedGapCount;
+    private final int[] scannedTermOffsets;
+    private final int[] scannedLengths;
 
     private int activeTermId;
-    private int activeTermOffset = -1;
-    private int activeLength;
+    private int activeGapCount;
+    private final int[] activeTermOffsets;
+    private final int[] activeLengths;
 
     private final FeedbackDelayGenerator delayGenerator;
     private final LossHandler lossHandler;
 
     /**
-     * Create a loss detector for a channel.
+     * Create a loss detector for a channel which notifies a single gap at a time.
      *
      * @param delayGenerator to use for delay determination
      * @param lossHandler    to call when signalling a gap
      */
     public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler)
+    {
+        this(delayGenerator, lossHandler, 1);
+    }
+
+    /**
+     * Create a loss detector for a channel.
+     *
+     * @param delayGenerator to use for delay determination
+     * @param lossHandler    to call when signalling a gap
+     * @param maxGaps        to be notified each time the timer expires.
+     */
+    public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler, final int maxGaps)
     {
         this.delayGenerator = delayGenerator;
         this.lossHandler = lossHandler;
+
+        scannedTermOffsets = new int[maxGaps];
+        scannedLengths = new int[maxGaps];
+        activeTermOffsets = new int[maxGaps];
+        activeLengths = new int[maxGaps];
+        activeTermOffsets[0] = -1;
     }
 
     /**
@@ -88,14 +110,21 @@ public class LossDetector implements TermGapScanner.GapHandler
             final int hwmTermOffset = (int)hwmPosition & termLengthMask;
             final int limitOffset = rebuildTermCount == hwmTermCount ? hwmTermOffset : termLengthMask + 1;
 
+            scannedGapCount = 0;
             rebuildOffset = scanForGap(termBuffer, rebuildTermId, rebuildOffset, limitOffset, this);
             if (rebuildOffset < limitOffset)
             {
-                if (scannedTermOffset != activeTermOffset || scannedTermId != activeTermId)
+                scanForFurtherGaps(termBuffer, rebuildTermId, limitOffset);
+
+                if (scannedTermOffsets[0] != activeTermOffsets[0] || scannedTermId != activeTermId)
                 {
                     activateGap(nowNs);
                     lossFound = true;
                 }
+                else
+                {
+                    updateFurtherGaps();
+                }
 
                 checkTimerExpiry(nowNs);
             }
@@ -109,9 +138,13 @@ public class LossDetector implements TermGapScanner.GapHandler
      */
     public void onGap(final int termId, final int offset, final int length)
     {
-        scannedTermId = termId;
-        scannedTermOffset = offset;
-        scannedLength = length;
+        if (scannedGapCount < scannedTermOffsets.length)
+        {
+            scannedTermId = termId;
+            scannedTermOffsets[scannedGapCount] = offset;
+            scannedLengths[scannedGapCount] = length;
+            scannedGapCount++;
+        }
     }
 
     /**
@@ -148,11 +181,44 @@ public class LossDetector implements TermGapScanner.GapHandler
         return (int)(scanOutcome >>> 32);
     }
 
+    private void scanForFurtherGaps(final UnsafeBuffer termBuffer, final int termId, final int limitOffset)
+    {
+        final int maxGaps = scannedTermOffsets.length;
+        int gapCount = scannedGapCount;
+        int offset = scannedTermOffsets[gapCount - 1] + scannedLengths[gapCount - 1];
+
+        while (gapCount < maxGaps && offset < limitOffset)
+        {
+            scanForGap(termBuffer, termId, offset, limitOffset, this);
+            if (scannedGapCount == gapCount)
+            {
+                break;
+            }
+
+            gapCount = scannedGapCount;
+            offset = scannedTermOffsets[gapCount - 1] + scannedLengths[gapCount - 1];
+        }
+    }
+
+    private void updateFurtherGaps()
+    {
+        final int gapCount = scannedGapCount;
+        for (int i = 1; i < gapCount; i++)
+        {
+            activeTermOffsets[i] = scannedTermOffsets[i];
+            activeLengths[i] = scannedLengths[i];
+        }
+
+        activeGapCount = gapCount;
+    }
+
     private void activateGap(final long nowNs)
     {
+        final int gapCount = scannedGapCount;
         activeTermId = scannedTermId;
-        activeTermOffset = scannedTermOffset;
-        activeLength = scannedLength;
+        activeGapCount = gapCount;
+        System.arraycopy(scannedTermOffsets, 0, activeTermOffsets, 0, gapCount);
+        System.arraycopy(scannedLengths, 0, activeLengths, 0, gapCount);
 
         if (delayGenerator.shouldFeedbackImmediately())
         {
@@ -168,7 +234,11 @@ public class LossDetector implements TermGapScanner.GapHandler
     {
         if (deadlineNs - nowNs <= 0)
         {
-            lossHandler.onGapDetected(activeTermId, activeTermOffset, activeLength);
+            for (int i = 0, gapCount = activeGapCount; i < gapCount; i++)
+            {
+                lossHandler.onGapDetected(activeTermId, activeTermOffsets[i], activeLengths[i]);
+            }
+
             deadlineNs = nowNs + delayGenerator.generateDelay();
         }
     }
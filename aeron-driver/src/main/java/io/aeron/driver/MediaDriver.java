@@ -16,6 +16,7 @@
 package io.aeron.driver;
 
 import io.aeron.Aeron;
+import io.aeron.AeronCounters;
 import io.aeron.CncFileDescriptor;
 import io.aeron.CommonContext;
 import io.aeron.driver.buffer.FileStoreLogFactory;
@@ -23,6 +24,7 @@ import io.aeron.driver.buffer.LogFactory;
 import io.aeron.driver.exceptions.ActiveDriverException;
 import io.aeron.driver.media.*;
 import io.aeron.driver.reports.LossReport;
+import io.aeron.driver.status.DutyCycleHistogramTracker;
 import io.aeron.driver.status.DutyCycleStallTracker;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.exceptions.AeronException;
@@ -39,6 +41,7 @@ import org.agrona.concurrent.ringbuffer.RingBuffer;
 import org.agrona.concurrent.status.*;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
@@ -47,12 +50,15 @@ import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.DatagramChannel;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static io.aeron.CncFileDescriptor.*;
 import static io.aeron.driver.Configuration.*;
@@ -85,8 +91,8 @@ public final class MediaDriver implements AutoCloseable
     private final AgentRunner sharedRunner;
     private final AgentRunner sharedNetworkRunner;
     private final AgentRunner conductorRunner;
-    private final AgentRunner receiverRunner;
-    private final AgentRunner senderRunner;
+    private final AgentRunner[] receiverRunners;
+    private final AgentRunner[] senderRunners;
     private final AgentInvoker sharedInvoker;
     private final Context ctx;
 
@@ -128,11 +134,11 @@ public final class MediaDriver implements AutoCloseable
             this.ctx = ctx;
 
             final DriverConductor conductor = new DriverConductor(ctx);
-            final Receiver receiver = new Receiver(ctx);
-            final Sender sender = new Sender(ctx);
+            final Receiver[] receivers = newReceivers(ctx);
+            final Sender[] senders = newSenders(ctx);
 
-            ctx.receiverProxy().receiver(receiver);
-            ctx.senderProxy().sender(sender);
+            ctx.receiverProxy().receivers(receivers);
+            ctx.senderProxy().senders(senders);
             ctx.driverConductorProxy().driverConductor(conductor);
 
             final AtomicCounter errorCounter = ctx.systemCounters().get(ERRORS);
@@ -142,12 +148,12 @@ public final class MediaDriver implements AutoCloseable
             {
                 case INVOKER:
                     sharedInvoker = new AgentInvoker(
-                        errorHandler, errorCounter, new CompositeAgent(sender, receiver, conductor));
+                        errorHandler, errorCounter, new CompositeAgent(agents(senders, receivers, conductor)));
                     sharedRunner = null;
                     sharedNetworkRunner = null;
                     conductorRunner = null;
-                    receiverRunner = null;
-                    senderRunner = null;
+                    receiverRunners = null;
+                    senderRunners = null;
                     break;
 
                 case SHARED:
@@ -155,11 +161,11 @@ public final class MediaDriver implements AutoCloseable
                         ctx.sharedIdleStrategy(),
                         errorHandler,
                         errorCounter,
-                        new CompositeAgent(sender, receiver, conductor));
+                        new CompositeAgent(agents(senders, receivers, conductor)));
                     sharedNetworkRunner = null;
                     conductorRunner = null;
-                    receiverRunner = null;
-                    senderRunner = null;
+                    receiverRunners = null;
+                    senderRunners = null;
                     sharedInvoker = null;
                     break;
 
@@ -168,19 +174,29 @@ public final class MediaDriver implements AutoCloseable
                         ctx.sharedNetworkIdleStrategy(),
                         errorHandler,
                         errorCounter,
-                        new CompositeAgent(sender, receiver));
+                        new CompositeAgent(agents(senders, receivers, null)));
                     conductorRunner = new AgentRunner(
                         ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
                     sharedRunner = null;
-                    receiverRunner = null;
-                    senderRunner = null;
+                    receiverRunners = null;
+                    senderRunners = null;
                     sharedInvoker = null;
                     break;
 
                 default:
                 case DEDICATED:
-                    senderRunner = new AgentRunner(ctx.senderIdleStrategy(), errorHandler, errorCounter, sender);
-                    receiverRunner = new AgentRunner(ctx.receiverIdleStrategy(), errorHandler, errorCounter, receiver);
+                    senderRunners = new AgentRunner[senders.length];
+                    for (int i = 0; i < senders.length; i++)
+                    {
+                        senderRunners[i] = new AgentRunner(
+                            senderIdleStrategy(ctx, i), errorHandler, errorCounter, senders[i]);
+                    }
+                    receiverRunners = new AgentRunner[receivers.length];
+                    for (int i = 0; i < receivers.length; i++)
+                    {
+                        receiverRunners[i] = new AgentRunner(
+                            receiverIdleStrategy(ctx, i), errorHandler, errorCounter, receivers[i]);
+                    }
                     conductorRunner = new AgentRunner(
                         ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
                     sharedNetworkRunner = null;
@@ -269,14 +285,20 @@ public final class MediaDriver implements AutoCloseable
             AgentRunner.startOnThread(mediaDriver.conductorRunner, ctx.conductorThreadFactory());
         }
 
-        if (null != mediaDriver.senderRunner)
+        if (null != mediaDriver.senderRunners)
         {
-            AgentRunner.startOnThread(mediaDriver.senderRunner, ctx.senderThreadFactory());
+            for (final AgentRunner senderRunner : mediaDriver.senderRunners)
+            {
+                AgentRunner.startOnThread(senderRunner, ctx.senderThreadFactory());
+            }
         }
 
-        if (null != mediaDriver.receiverRunner)
+        if (null != mediaDriver.receiverRunners)
         {
-            AgentRunner.startOnThread(mediaDriver.receiverRunner, ctx.receiverThreadFactory());
+            for (final AgentRunner receiverRunner : mediaDriver.receiverRunners)
+            {
+                AgentRunner.startOnThread(receiverRunner, ctx.receiverThreadFactory());
+            }
         }
 
         if (null != mediaDriver.sharedNetworkRunner)
@@ -324,8 +346,21 @@ public final class MediaDriver implements AutoCloseable
     {
         try
         {
-            CloseHelper.closeAll(
-                sharedRunner, sharedNetworkRunner, receiverRunner, senderRunner, conductorRunner, sharedInvoker);
+            final ArrayList<AutoCloseable> closeables = new ArrayList<>();
+            closeables.add(sharedRunner);
+            closeables.add(sharedNetworkRunner);
+            if (null != receiverRunners)
+            {
+                Collections.addAll(closeables, receiverRunners);
+            }
+            if (null != senderRunners)
+            {
+                Collections.addAll(closeables, senderRunners);
+            }
+            closeables.add(conductorRunner);
+            closeables.add(sharedInvoker);
+
+            CloseHelper.closeAll(closeables);
         }
         finally
         {
@@ -347,6 +382,78 @@ public final class MediaDriver implements AutoCloseable
         return ctx.aeronDirectoryName();
     }
 
+    private static Receiver[] newReceivers(final Context ctx)
+    {
+        final Receiver[] receivers = new Receiver[ctx.receiverAgentCount()];
+        receivers[0] = new Receiver(ctx);
+
+        for (int i = 1; i < receivers.length; i++)
+        {
+            receivers[i] = new Receiver(
+                ctx,
+                i,
+                ctx.dataTransportPollerSupplier().newInstance(ctx),
+                new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY),
+                ctx.newAgentDutyCycleTracker("receiver-" + i, ctx.receiverCycleThresholdNs()),
+                new CachedNanoClock());
+        }
+
+        return receivers;
+    }
+
+    private static Sender[] newSenders(final Context ctx)
+    {
+        final Sender[] senders = new Sender[ctx.senderAgentCount()];
+        senders[0] = new Sender(ctx);
+
+        for (int i = 1; i < senders.length; i++)
+        {
+            senders[i] = new Sender(
+                ctx,
+                i,
+                ctx.controlTransportPollerSupplier().newInstance(ctx),
+                new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY),
+                ctx.newAgentDutyCycleTracker("sender-" + i, ctx.senderCycleThresholdNs()),
+                new CachedNanoClock());
+        }
+
+        return senders;
+    }
+
+    private static IdleStrategy senderIdleStrategy(final Context ctx, final int senderIndex)
+    {
+        if (0 == senderIndex)
+        {
+            return ctx.senderIdleStrategy();
+        }
+
+        return ctx.senderIdleStrategySupplier().get();
+    }
+
+    private static IdleStrategy receiverIdleStrategy(final Context ctx, final int receiverIndex)
+    {
+        if (0 == receiverIndex)
+        {
+            return ctx.receiverIdleStrategy();
+        }
+
+        return ctx.receiverIdleStrategySupplier().get();
+    }
+
+    private static ArrayList<Agent> agents(
+        final Sender[] senders, final Receiver[] receivers, final DriverConductor conductor)
+    {
+        final ArrayList<Agent> agents = new ArrayList<>();
+        Collections.addAll(agents, senders);
+        Collections.addAll(agents, receivers);
+        if (null != conductor)
+        {
+            agents.add(conductor);
+        }
+
+        return agents;
+    }
+
     private static void ensureDirectoryIsRecreated(final Context ctx)
     {
         if (ctx.aeronDirectory().isDirectory())
@@ -434,6 +541,7 @@ public final class MediaDriver implements AutoCloseable
         private boolean reliableStream = Configuration.reliableStream();
         private boolean tetherSubscriptions = Configuration.tetherSubscriptions();
         private boolean rejoinStream = Configuration.rejoinStream();
+        private boolean logBuffersAsyncAllocation = Configuration.logBuffersAsyncAllocation();
 
         private long lowStorageWarningThreshold = Configuration.lowStorageWarningThreshold();
         private long timerIntervalNs = Configuration.timerIntervalNs();
@@ -452,6 +560,9 @@ public final class MediaDriver implements AutoCloseable
         private long nakMulticastMaxBackoffNs = Configuration.nakMulticastMaxBackoffNs();
         private long flowControlReceiverTimeoutNs = Configuration.flowControlReceiverTimeoutNs();
         private long reResolutionCheckIntervalNs = Configuration.reResolutionCheckIntervalNs();
+        private long latencyHistogramIntervalNs = Configuration.latencyHistogramIntervalNs();
+        private long rttMeasurementIntervalNs = Configuration.rttMeasurementIntervalNs();
+        private boolean dutyCycleHistogramEnabled = Configuration.dutyCycleHistogramEnabled();
         private long conductorCycleThresholdNs = Configuration.conductorCycleThresholdNs();
         private long senderCycleThresholdNs = Configuration.senderCycleThresholdNs();
         private long receiverCycleThresholdNs = Configuration.receiverCycleThresholdNs();
@@ -478,11 +589,21 @@ public final class MediaDriver implements AutoCloseable
         private int lossReportBufferLength = Configuration.lossReportBufferLength();
         private int sendToStatusMessagePollRatio = Configuration.sendToStatusMessagePollRatio();
         private int resourceFreeLimit = Configuration.resourceFreeLimit();
+        private int receiverIoVectorCapacity = Configuration.receiverIoVectorCapacity();
+        private int networkPublicationMaxMessagesPerSend = Configuration.networkPublicationMaxMessagesPerSend();
+        private int receiverAgentCount = Configuration.receiverAgentCount();
+        private int senderAgentCount = Configuration.senderAgentCount();
+        private int nakMaxGaps = Configuration.nakMaxGaps();
+        private int maxRetransmits = Configuration.maxRetransmits();
+        private int logBuffersPoolCapacity = Configuration.logBuffersPoolCapacity();
+        private long logBuffersPoolReuseDelayNs = Configuration.logBuffersPoolReuseDelayNs();
 
         private Long receiverGroupTag = Configuration.groupTag();
         private long flowControlGroupTag = Configuration.flowControlGroupTag();
         private int flowControlGroupMinSize = Configuration.flowControlGroupMinSize();
         private InferableBoolean receiverGroupConsideration = Configuration.receiverGroupConsideration();
+        private String logBuffersDirectoryName = Configuration.logBuffersDirectoryName();
+        private File logBuffersDirectory;
         private String resolverName = Configuration.resolverName();
         private String resolverInterface = Configuration.resolverInterface();
         private String resolverBootstrapNeighbor = Configuration.resolverBootstrapNeighbor();
@@ -501,13 +622,19 @@ public final class MediaDriver implements AutoCloseable
         private ThreadFactory receiverThreadFactory;
         private ThreadFactory sharedThreadFactory;
         private ThreadFactory sharedNetworkThreadFactory;
+        private ThreadFactory logBuffersAllocatorThreadFactory;
         private IdleStrategy conductorIdleStrategy;
         private IdleStrategy senderIdleStrategy;
+        private Supplier<IdleStrategy> senderIdleStrategySupplier;
         private IdleStrategy receiverIdleStrategy;
+        private Supplier<IdleStrategy> receiverIdleStrategySupplier;
         private IdleStrategy sharedNetworkIdleStrategy;
         private IdleStrategy sharedIdleStrategy;
+        private IdleStrategy logBuffersAllocatorIdleStrategy;
         private SendChannelEndpointSupplier sendChannelEndpointSupplier;
         private ReceiveChannelEndpointSupplier receiveChannelEndpointSupplier;
+        private DataTransportPollerSupplier dataTransportPollerSupplier;
+        private ControlTransportPollerSupplier controlTransportPollerSupplier;
         private ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals;
         private MutableDirectBuffer tempBuffer;
         private FlowControlSupplier unicastFlowControlSupplier;
@@ -647,6 +774,18 @@ public final class MediaDriver implements AutoCloseable
                 validateInitialWindowLength(initialWindowLength, mtuLength);
                 validateUnblockTimeout(publicationUnblockTimeoutNs, clientLivenessTimeoutNs, timerIntervalNs);
                 validateUntetheredTimeouts(untetheredWindowLimitTimeoutNs, untetheredRestingTimeoutNs, timerIntervalNs);
+                validateValueRange(
+                    receiverIoVectorCapacity, 1, RECEIVER_IO_VECTOR_CAPACITY_MAX, "receiverIoVectorCapacity");
+                validateValueRange(
+                    networkPublicationMaxMessagesPerSend,
+                    1,
+                    NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_MAX,
+                    "networkPublicationMaxMessagesPerSend");
+                validateValueRange(receiverAgentCount, 1, Integer.MAX_VALUE, "receiverAgentCount");
+                validateValueRange(senderAgentCount, 1, Integer.MAX_VALUE, "senderAgentCount");
+                validateValueRange(nakMaxGaps, 1, NAK_MAX_GAPS_MAX, "nakMaxGaps");
+                validateValueRange(maxRetransmits, 1, MAX_RETRANSMITS_MAX, "maxRetransmits");
+                validateValueRange(logBuffersPoolCapacity, 0, Integer.MAX_VALUE, "logBuffersPoolCapacity");
 
                 final long cncFileLength = BitUtil.align(
                     (long)END_OF_METADATA_OFFSET +
@@ -694,12 +833,17 @@ public final class MediaDriver implements AutoCloseable
 
         /**
          * Delete the directory used by the {@link MediaDriver} which delegates to
-         * {@link CommonContext#deleteAeronDirectory()}.
+         * {@link CommonContext#deleteAeronDirectory()}, and the log buffers directory if created elsewhere.
          */
         public void deleteDirectory()
         {
             if (null != aeronDirectory())
             {
+                if (null != logBuffersDirectoryName)
+                {
+                    IoUtil.delete(logBuffersDirectory(), false);
+                }
+
                 super.deleteAeronDirectory();
             }
         }
@@ -1032,6 +1176,174 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Directory in which log buffers are created rather than under the {@link #aeronDirectoryName()}, such as a
+         * hugetlbfs mount, or null to create them under the {@link #aeronDirectoryName()}.
+         *
+         * @return directory in which log buffers are created or null if under the {@link #aeronDirectoryName()}.
+         * @see Configuration#LOG_BUFFERS_DIR_PROP_NAME
+         * @since 1.43.0
+         */
+        public String logBuffersDirectoryName()
+        {
+            return logBuffersDirectoryName;
+        }
+
+        /**
+         * Directory in which log buffers are created rather than under the {@link #aeronDirectoryName()}, such as a
+         * hugetlbfs mount, or null to create them under the {@link #aeronDirectoryName()}.
+         *
+         * @param dirName in which log buffers are created or null if under the {@link #aeronDirectoryName()}.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFERS_DIR_PROP_NAME
+         * @since 1.43.0
+         */
+        public Context logBuffersDirectoryName(final String dirName)
+        {
+            this.logBuffersDirectoryName = dirName;
+            return this;
+        }
+
+        /**
+         * Number of freed log buffers of each term length which are retained, and zeroed on reuse, by later
+         * publications and images. 0 disables pooling.
+         *
+         * @return number of freed log buffers of each term length which are retained for reuse.
+         * @see Configuration#LOG_BUFFERS_POOL_CAPACITY_PROP_NAME
+         * @since 1.43.0
+         */
+        public int logBuffersPoolCapacity()
+        {
+            return logBuffersPoolCapacity;
+        }
+
+        /**
+         * Number of freed log buffers of each term length which are retained, and zeroed on reuse, by later
+         * publications and images. 0 disables pooling.
+         *
+         * @param capacity of freed log buffers of each term length which are retained for reuse.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFERS_POOL_CAPACITY_PROP_NAME
+         * @since 1.43.0
+         */
+        public Context logBuffersPoolCapacity(final int capacity)
+        {
+            this.logBuffersPoolCapacity = capacity;
+            return this;
+        }
+
+        /**
+         * Minimum time a freed log buffer is retained in the pool before it can be reused. This must be at least the
+         * resource linger duration of clients, which keep the log of a closed publication or image mapped until it
+         * expires, so a client does not see the log reused by another stream.
+         *
+         * @return minimum time in nanoseconds a freed log buffer is retained in the pool before it can be reused.
+         * @see Configuration#LOG_BUFFERS_POOL_REUSE_DELAY_PROP_NAME
+         * @since 1.43.0
+         */
+        public long logBuffersPoolReuseDelayNs()
+        {
+            return logBuffersPoolReuseDelayNs;
+        }
+
+        /**
+         * Minimum time a freed log buffer is retained in the pool before it can be reused. This must be at least the
+         * resource linger duration of clients, which keep the log of a closed publication or image mapped until it
+         * expires, so a client does not see the log reused by another stream.
+         *
+         * @param reuseDelayNs minimum time in nanoseconds a freed log buffer is retained before it can be reused.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFERS_POOL_REUSE_DELAY_PROP_NAME
+         * @since 1.43.0
+         */
+        public Context logBuffersPoolReuseDelayNs(final long reuseDelayNs)
+        {
+            this.logBuffersPoolReuseDelayNs = reuseDelayNs;
+            return this;
+        }
+
+        /**
+         * Should log buffers for new publications be created and mapped on a background thread so the conductor can
+         * continue to process other commands while a large log is allocated.
+         *
+         * @return true if log buffers for new publications should be created and mapped on a background thread.
+         * @see Configuration#LOG_BUFFERS_ASYNC_ALLOCATION_PROP_NAME
+         * @since 1.43.0
+         */
+        public boolean logBuffersAsyncAllocation()
+        {
+            return logBuffersAsyncAllocation;
+        }
+
+        /**
+         * Should log buffers for new publications be created and mapped on a background thread so the conductor can
+         * continue to process other commands while a large log is allocated.
+         *
+         * @param logBuffersAsyncAllocation true if log buffers should be created and mapped on a background thread.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFERS_ASYNC_ALLOCATION_PROP_NAME
+         * @since 1.43.0
+         */
+        public Context logBuffersAsyncAllocation(final boolean logBuffersAsyncAllocation)
+        {
+            this.logBuffersAsyncAllocation = logBuffersAsyncAllocation;
+            return this;
+        }
+
+        /**
+         * {@link ThreadFactory} to be used for creating the background thread which allocates log buffers when
+         * {@link #logBuffersAsyncAllocation()} is true.
+         *
+         * @return {@link ThreadFactory} to be used for creating the background thread which allocates log buffers.
+         * @since 1.43.0
+         */
+        public ThreadFactory logBuffersAllocatorThreadFactory()
+        {
+            return logBuffersAllocatorThreadFactory;
+        }
+
+        /**
+         * {@link ThreadFactory} to be used for creating the background thread which allocates log buffers when
+         * {@link #logBuffersAsyncAllocation()} is true.
+         *
+         * @param factory to be used for creating the background thread which allocates log buffers.
+         * @return this for a fluent API.
+         * @since 1.43.0
+         */
+        public Context logBuffersAllocatorThreadFactory(final ThreadFactory factory)
+        {
+            logBuffersAllocatorThreadFactory = factory;
+            return this;
+        }
+
+        /**
+         * {@link IdleStrategy} to be used by the background thread which allocates log buffers when
+         * {@link #logBuffersAsyncAllocation()} is true.
+         *
+         * @return {@link IdleStrategy} to be used by the background thread which allocates log buffers.
+         * @see Configuration#LOG_BUFFERS_ALLOCATOR_IDLE_STRATEGY_PROP_NAME
+         * @since 1.43.0
+         */
+        public IdleStrategy logBuffersAllocatorIdleStrategy()
+        {
+            return logBuffersAllocatorIdleStrategy;
+        }
+
+        /**
+         * {@link IdleStrategy} to be used by the background thread which allocates log buffers when
+         * {@link #logBuffersAsyncAllocation()} is true.
+         *
+         * @param strategy to be used by the background thread which allocates log buffers.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFERS_ALLOCATOR_IDLE_STRATEGY_PROP_NAME
+         * @since 1.43.0
+         */
+        public Context logBuffersAllocatorIdleStrategy(final IdleStrategy strategy)
+        {
+            logBuffersAllocatorIdleStrategy = strategy;
+            return this;
+        }
+
         /**
          * The length in bytes of the loss report buffer.
          *
@@ -2188,6 +2500,35 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Supplier of the {@link IdleStrategy} for each additional {@link Sender} agent beyond the first when in
+         * {@link ThreadingMode#DEDICATED}. A new instance is required per agent as they are used from different threads.
+         *
+         * @return supplier of the {@link IdleStrategy} for each additional {@link Sender} agent.
+         * @see #senderAgentCount()
+         * @since 1.43.0
+         */
+        public Supplier<IdleStrategy> senderIdleStrategySupplier()
+        {
+            return senderIdleStrategySupplier;
+        }
+
+        /**
+         * Supplier of the {@link IdleStrategy} for each additional {@link Sender} agent beyond the first when in
+         * {@link ThreadingMode#DEDICATED}. A new instance is required per agent as they are used from different threads.
+         * Defaults to creating the strategy configured by {@link Configuration#SENDER_IDLE_STRATEGY_PROP_NAME}.
+         *
+         * @param idleStrategySupplier of the {@link IdleStrategy} for each additional {@link Sender} agent.
+         * @return this for a fluent API.
+         * @see #senderAgentCount(int)
+         * @since 1.43.0
+         */
+        public Context senderIdleStrategySupplier(final Supplier<IdleStrategy> idleStrategySupplier)
+        {
+            senderIdleStrategySupplier = idleStrategySupplier;
+            return this;
+        }
+
         /**
          * {@link IdleStrategy} to be used by the {@link Receiver} when in {@link ThreadingMode#DEDICATED}.
          *
@@ -2212,6 +2553,35 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Supplier of the {@link IdleStrategy} for each additional {@link Receiver} agent beyond the first when in
+         * {@link ThreadingMode#DEDICATED}. A new instance is required per agent as they are used from different threads.
+         *
+         * @return supplier of the {@link IdleStrategy} for each additional {@link Receiver} agent.
+         * @see #receiverAgentCount()
+         * @since 1.43.0
+         */
+        public Supplier<IdleStrategy> receiverIdleStrategySupplier()
+        {
+            return receiverIdleStrategySupplier;
+        }
+
+        /**
+         * Supplier of the {@link IdleStrategy} for each additional {@link Receiver} agent beyond the first when in
+         * {@link ThreadingMode#DEDICATED}. A new instance is required per agent as they are used from different threads.
+         * Defaults to creating the strategy configured by {@link Configuration#RECEIVER_IDLE_STRATEGY_PROP_NAME}.
+         *
+         * @param idleStrategySupplier of the {@link IdleStrategy} for each additional {@link Receiver} agent.
+         * @return this for a fluent API.
+         * @see #receiverAgentCount(int)
+         * @since 1.43.0
+         */
+        public Context receiverIdleStrategySupplier(final Supplier<IdleStrategy> idleStrategySupplier)
+        {
+            receiverIdleStrategySupplier = idleStrategySupplier;
+            return this;
+        }
+
         /**
          * {@link IdleStrategy} to be used by the {@link DriverConductor} when in {@link ThreadingMode#DEDICATED}
          * or {@link ThreadingMode#SHARED_NETWORK}.
@@ -2342,6 +2712,62 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Supplier of the {@link DataTransportPoller} used by the {@link Receiver} to poll and read from receive
+         * channel transports.
+         *
+         * @return the supplier of the {@link DataTransportPoller}.
+         * @see Configuration#DATA_TRANSPORT_POLLER_SUPPLIER_PROP_NAME
+         * @since 1.43.0
+         */
+        public DataTransportPollerSupplier dataTransportPollerSupplier()
+        {
+            return dataTransportPollerSupplier;
+        }
+
+        /**
+         * Supplier of the {@link DataTransportPoller} used by the {@link Receiver} to poll and read from receive
+         * channel transports.
+         *
+         * @param supplier of the {@link DataTransportPoller}.
+         * @return this for a fluent API.
+         * @see Configuration#DATA_TRANSPORT_POLLER_SUPPLIER_PROP_NAME
+         * @since 1.43.0
+         */
+        public Context dataTransportPollerSupplier(final DataTransportPollerSupplier supplier)
+        {
+            dataTransportPollerSupplier = supplier;
+            return this;
+        }
+
+        /**
+         * Supplier of the {@link ControlTransportPoller} used by the {@link Sender} to poll and read control messages
+         * from send channel transports.
+         *
+         * @return the supplier of the {@link ControlTransportPoller}.
+         * @see Configuration#CONTROL_TRANSPORT_POLLER_SUPPLIER_PROP_NAME
+         * @since 1.43.0
+         */
+        public ControlTransportPollerSupplier controlTransportPollerSupplier()
+        {
+            return controlTransportPollerSupplier;
+        }
+
+        /**
+         * Supplier of the {@link ControlTransportPoller} used by the {@link Sender} to poll and read control messages
+         * from send channel transports.
+         *
+         * @param supplier of the {@link ControlTransportPoller}.
+         * @return this for a fluent API.
+         * @see Configuration#CONTROL_TRANSPORT_POLLER_SUPPLIER_PROP_NAME
+         * @since 1.43.0
+         */
+        public Context controlTransportPollerSupplier(final ControlTransportPollerSupplier supplier)
+        {
+            controlTransportPollerSupplier = supplier;
+            return this;
+        }
+
         /**
          * The thread local buffers and associated objects for use by subclasses of {@link ReceiveChannelEndpoint}.
          *
@@ -3088,6 +3514,96 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the interval at which latency histograms are summarised into their counters and reset.
+         *
+         * @return interval in ns.
+         * @see Configuration#LATENCY_HISTOGRAM_INTERVAL_PROP_NAME
+         * @see Configuration#LATENCY_HISTOGRAM_INTERVAL_DEFAULT_NS
+         * @since 1.43.0
+         */
+        public long latencyHistogramIntervalNs()
+        {
+            return latencyHistogramIntervalNs;
+        }
+
+        /**
+         * Set the interval at which latency histograms are summarised into their counters and reset.
+         *
+         * @param latencyHistogramIntervalNs at which latency histograms are summarised.
+         * @return this for fluent API.
+         * @see Configuration#LATENCY_HISTOGRAM_INTERVAL_PROP_NAME
+         * @see Configuration#LATENCY_HISTOGRAM_INTERVAL_DEFAULT_NS
+         * @since 1.43.0
+         */
+        public Context latencyHistogramIntervalNs(final long latencyHistogramIntervalNs)
+        {
+            this.latencyHistogramIntervalNs = latencyHistogramIntervalNs;
+            return this;
+        }
+
+        /**
+         * Get the interval at which publications and images measure the round trip time to each other for their RTT
+         * counters.
+         * <p>
+         * A value of 0 turns off the measurements and counters.
+         *
+         * @return interval in ns.
+         * @see Configuration#RTT_MEASUREMENT_INTERVAL_PROP_NAME
+         * @see Configuration#RTT_MEASUREMENT_INTERVAL_DEFAULT_NS
+         * @since 1.43.0
+         */
+        public long rttMeasurementIntervalNs()
+        {
+            return rttMeasurementIntervalNs;
+        }
+
+        /**
+         * Set the interval at which publications and images measure the round trip time to each other for their RTT
+         * counters.
+         * <p>
+         * A value of 0 turns off the measurements and counters.
+         *
+         * @param rttMeasurementIntervalNs at which round trip times are measured.
+         * @return this for fluent API.
+         * @see Configuration#RTT_MEASUREMENT_INTERVAL_PROP_NAME
+         * @see Configuration#RTT_MEASUREMENT_INTERVAL_DEFAULT_NS
+         * @since 1.43.0
+         */
+        public Context rttMeasurementIntervalNs(final long rttMeasurementIntervalNs)
+        {
+            this.rttMeasurementIntervalNs = rttMeasurementIntervalNs;
+            return this;
+        }
+
+        /**
+         * Should histograms of the duty cycle times of the conductor, sender, and receiver agents be recorded and
+         * summarised into counters each {@link #latencyHistogramIntervalNs()}.
+         *
+         * @return true if histograms of the duty cycle times should be recorded.
+         * @see Configuration#DUTY_CYCLE_HISTOGRAM_ENABLED_PROP_NAME
+         * @since 1.43.0
+         */
+        public boolean dutyCycleHistogramEnabled()
+        {
+            return dutyCycleHistogramEnabled;
+        }
+
+        /**
+         * Should histograms of the duty cycle times of the conductor, sender, and receiver agents be recorded and
+         * summarised into counters each {@link #latencyHistogramIntervalNs()}.
+         *
+         * @param dutyCycleHistogramEnabled true if histograms of the duty cycle times should be recorded.
+         * @return this for fluent API.
+         * @see Configuration#DUTY_CYCLE_HISTOGRAM_ENABLED_PROP_NAME
+         * @since 1.43.0
+         */
+        public Context dutyCycleHistogramEnabled(final boolean dutyCycleHistogramEnabled)
+        {
+            this.dutyCycleHistogramEnabled = dutyCycleHistogramEnabled;
+            return this;
+        }
+
         /**
          * Set a threshold for the conductor work cycle time which when exceed it will increment the
          * {@link io.aeron.driver.status.SystemCounterDescriptor#CONDUCTOR_CYCLE_TIME_THRESHOLD_EXCEEDED} counter.
@@ -3231,6 +3747,192 @@ public final class MediaDriver implements AutoCloseable
             return resourceFreeLimit;
         }
 
+        /**
+         * Maximum number of datagrams the {@link Receiver} will read from a transport in a single poll before moving on
+         * to the next transport.
+         *
+         * @param receiverIoVectorCapacity maximum number of datagrams to read per transport per poll.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME
+         * @see Configuration#RECEIVER_IO_VECTOR_CAPACITY_DEFAULT
+         * @since 1.43.0
+         */
+        public Context receiverIoVectorCapacity(final int receiverIoVectorCapacity)
+        {
+            this.receiverIoVectorCapacity = receiverIoVectorCapacity;
+            return this;
+        }
+
+        /**
+         * Maximum number of datagrams the {@link Receiver} will read from a transport in a single poll before moving on
+         * to the next transport.
+         *
+         * @return maximum number of datagrams to read per transport per poll.
+         * @see Configuration#RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME
+         * @since 1.43.0
+         */
+        public int receiverIoVectorCapacity()
+        {
+            return receiverIoVectorCapacity;
+        }
+
+        /**
+         * Maximum number of MTU sized messages a {@link NetworkPublication} will send in a single duty cycle of the
+         * {@link Sender}. After a short send the publication drops back to a single message until a send succeeds.
+         *
+         * @param networkPublicationMaxMessagesPerSend maximum number of messages to send per duty cycle.
+         * @return this for a fluent API.
+         * @see Configuration#NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_PROP_NAME
+         * @see Configuration#NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_DEFAULT
+         * @since 1.43.0
+         */
+        public Context networkPublicationMaxMessagesPerSend(final int networkPublicationMaxMessagesPerSend)
+        {
+            this.networkPublicationMaxMessagesPerSend = networkPublicationMaxMessagesPerSend;
+            return this;
+        }
+
+        /**
+         * Maximum number of MTU sized messages a {@link NetworkPublication} will send in a single duty cycle of the
+         * {@link Sender}.
+         *
+         * @return maximum number of messages to send per duty cycle.
+         * @see Configuration#NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_PROP_NAME
+         * @since 1.43.0
+         */
+        public int networkPublicationMaxMessagesPerSend()
+        {
+            return networkPublicationMaxMessagesPerSend;
+        }
+
+        /**
+         * Number of {@link Receiver} agents over which receive channel endpoints are distributed. Each agent has its
+         * own {@link DataTransportPoller} and, with {@link ThreadingMode#DEDICATED}, its own thread. An endpoint is
+         * assigned to an agent by a hash of its channel unless {@link io.aeron.CommonContext#RECEIVER_AGENT_PARAM_NAME}
+         * is specified on the channel.
+         * <p>
+         * Additional agents beyond the first get their {@link IdleStrategy} from
+         * {@link #receiverIdleStrategySupplier(Supplier)} as instances cannot be shared between threads, and report
+         * their cycle times to their own counters labelled with the {@link Receiver#roleName()}.
+         *
+         * @param receiverAgentCount number of {@link Receiver} agents.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_AGENT_COUNT_PROP_NAME
+         * @see Configuration#RECEIVER_AGENT_COUNT_DEFAULT
+         * @since 1.43.0
+         */
+        public Context receiverAgentCount(final int receiverAgentCount)
+        {
+            this.receiverAgentCount = receiverAgentCount;
+            return this;
+        }
+
+        /**
+         * Number of {@link Receiver} agents over which receive channel endpoints are distributed.
+         *
+         * @return number of {@link Receiver} agents.
+         * @see Configuration#RECEIVER_AGENT_COUNT_PROP_NAME
+         * @since 1.43.0
+         */
+        public int receiverAgentCount()
+        {
+            return receiverAgentCount;
+        }
+
+        /**
+         * Number of {@link Sender} agents over which send channel endpoints, and their publications, are distributed.
+         * Each agent has its own {@link ControlTransportPoller} so status messages and NAKs for an endpoint are
+         * handled by the agent which sends for it. With {@link ThreadingMode#DEDICATED} each agent has its own thread.
+         * An endpoint is assigned to an agent by a hash of its channel unless
+         * {@link io.aeron.CommonContext#SENDER_AGENT_PARAM_NAME} is specified on the channel.
+         * <p>
+         * Additional agents beyond the first get their {@link IdleStrategy} from
+         * {@link #senderIdleStrategySupplier(Supplier)} as instances cannot be shared between threads, and report
+         * their cycle times to their own counters labelled with the {@link Sender#roleName()}.
+         *
+         * @param senderAgentCount number of {@link Sender} agents.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_AGENT_COUNT_PROP_NAME
+         * @see Configuration#SENDER_AGENT_COUNT_DEFAULT
+         * @since 1.43.0
+         */
+        public Context senderAgentCount(final int senderAgentCount)
+        {
+            this.senderAgentCount = senderAgentCount;
+            return this;
+        }
+
+        /**
+         * Number of {@link Sender} agents over which send channel endpoints are distributed.
+         *
+         * @return number of {@link Sender} agents.
+         * @see Configuration#SENDER_AGENT_COUNT_PROP_NAME
+         * @since 1.43.0
+         */
+        public int senderAgentCount()
+        {
+            return senderAgentCount;
+        }
+
+        /**
+         * Maximum number of gaps in a term a receiver will NAK each time its loss timer expires. With a value greater
+         * than 1 the gaps after the first are found in the same scan and NAKed together with it so scattered loss
+         * can be repaired in a single round trip rather than one round trip per gap.
+         *
+         * @param nakMaxGaps maximum number of gaps NAKed per loss timer expiry.
+         * @return this for a fluent API.
+         * @see Configuration#NAK_MAX_GAPS_PROP_NAME
+         * @see Configuration#NAK_MAX_GAPS_DEFAULT
+         * @since 1.43.0
+         */
+        public Context nakMaxGaps(final int nakMaxGaps)
+        {
+            this.nakMaxGaps = nakMaxGaps;
+            return this;
+        }
+
+        /**
+         * Maximum number of gaps in a term a receiver will NAK each time its loss timer expires.
+         *
+         * @return maximum number of gaps NAKed per loss timer expiry.
+         * @see Configuration#NAK_MAX_GAPS_PROP_NAME
+         * @since 1.43.0
+         */
+        public int nakMaxGaps()
+        {
+            return nakMaxGaps;
+        }
+
+        /**
+         * Max number of active retransmissions per network publication. NAKs which overlap, or are adjacent to, a
+         * delayed retransmission are merged into it, so this bounds the number of distinct ranges of a term being
+         * retransmitted rather than the number of NAKs. Can be overridden per publication.
+         *
+         * @param maxRetransmits max number of active retransmissions per network publication.
+         * @return this for a fluent API.
+         * @see Configuration#MAX_RETRANSMITS_PROP_NAME
+         * @see Configuration#MAX_RETRANSMITS_DEFAULT
+         * @see io.aeron.CommonContext#MAX_RETRANSMITS_PARAM_NAME
+         * @since 1.43.0
+         */
+        public Context maxRetransmits(final int maxRetransmits)
+        {
+            this.maxRetransmits = maxRetransmits;
+            return this;
+        }
+
+        /**
+         * Max number of active retransmissions per network publication.
+         *
+         * @return max number of active retransmissions per network publication.
+         * @see Configuration#MAX_RETRANSMITS_PROP_NAME
+         * @since 1.43.0
+         */
+        public int maxRetransmits()
+        {
+            return maxRetransmits;
+        }
+
         /**
          * Clock used record channel receive timestamps.
          *
@@ -3677,14 +4379,24 @@ public final class MediaDriver implements AutoCloseable
                 receiveChannelEndpointSupplier = Configuration.receiveChannelEndpointSupplier();
             }
 
+            if (null == dataTransportPollerSupplier)
+            {
+                dataTransportPollerSupplier = Configuration.dataTransportPollerSupplier();
+            }
+
+            if (null == controlTransportPollerSupplier)
+            {
+                controlTransportPollerSupplier = Configuration.controlTransportPollerSupplier();
+            }
+
             if (null == dataTransportPoller)
             {
-                dataTransportPoller = new DataTransportPoller(errorHandler);
+                dataTransportPoller = dataTransportPollerSupplier.newInstance(this);
             }
 
             if (null == controlTransportPoller)
             {
-                controlTransportPoller = new ControlTransportPoller(errorHandler);
+                controlTransportPoller = controlTransportPollerSupplier.newInstance(this);
             }
 
             if (null == applicationSpecificFeedback)
@@ -3780,6 +4492,7 @@ public final class MediaDriver implements AutoCloseable
             }
         }
 
+        @SuppressWarnings("MethodLength")
         private void concludeDependantProperties()
         {
             clientProxy = new ClientProxy(new BroadcastTransmitter(
@@ -3805,7 +4518,18 @@ public final class MediaDriver implements AutoCloseable
             if (null == logFactory)
             {
                 logFactory = new FileStoreLogFactory(
-                    aeronDirectoryName(), filePageSize, performStorageChecks, lowStorageWarningThreshold, errorHandler);
+                    logBuffersDirectory().getPath(),
+                    filePageSize,
+                    performStorageChecks,
+                    lowStorageWarningThreshold,
+                    errorHandler,
+                    nanoClock,
+                    systemCounters.get(LOG_BUFFER_MAP_MAX_TIME),
+                    systemCounters.get(LOG_BUFFER_MAP_TOTAL_TIME),
+                    logBuffersPoolCapacity,
+                    logBuffersPoolReuseDelayNs,
+                    systemCounters.get(LOG_BUFFER_POOL_HITS),
+                    systemCounters.get(LOG_BUFFER_POOL_MISSES));
             }
 
             if (null == lossReport)
@@ -3824,26 +4548,29 @@ public final class MediaDriver implements AutoCloseable
 
             if (null == conductorDutyCycleTracker)
             {
-                conductorDutyCycleTracker = new DutyCycleStallTracker(
+                conductorDutyCycleTracker = newDutyCycleTracker(
                     systemCounters.get(CONDUCTOR_MAX_CYCLE_TIME),
                     systemCounters.get(CONDUCTOR_CYCLE_TIME_THRESHOLD_EXCEEDED),
-                    conductorCycleThresholdNs);
+                    conductorCycleThresholdNs,
+                    DutyCycleHistogramTracker.CONDUCTOR_NAME);
             }
 
             if (null == senderDutyCycleTracker)
             {
-                senderDutyCycleTracker = new DutyCycleStallTracker(
+                senderDutyCycleTracker = newDutyCycleTracker(
                     systemCounters.get(SENDER_MAX_CYCLE_TIME),
                     systemCounters.get(SENDER_CYCLE_TIME_THRESHOLD_EXCEEDED),
-                    senderCycleThresholdNs);
+                    senderCycleThresholdNs,
+                    DutyCycleHistogramTracker.SENDER_NAME);
             }
 
             if (null == receiverDutyCycleTracker)
             {
-                receiverDutyCycleTracker = new DutyCycleStallTracker(
+                receiverDutyCycleTracker = newDutyCycleTracker(
                     systemCounters.get(RECEIVER_MAX_CYCLE_TIME),
                     systemCounters.get(RECEIVER_CYCLE_TIME_THRESHOLD_EXCEEDED),
-                    receiverCycleThresholdNs);
+                    receiverCycleThresholdNs,
+                    DutyCycleHistogramTracker.RECEIVER_NAME);
             }
 
             if (null == nameResolverTimeTracker)
@@ -3869,6 +4596,66 @@ public final class MediaDriver implements AutoCloseable
             nameResolver.init(countersManager, countersManager::newCounter);
         }
 
+        private File logBuffersDirectory()
+        {
+            if (null == logBuffersDirectoryName)
+            {
+                return aeronDirectory();
+            }
+
+            if (null == logBuffersDirectory)
+            {
+                final File aeronDirectory = aeronDirectory();
+                String aeronDirectoryPath;
+                try
+                {
+                    aeronDirectoryPath = aeronDirectory.getCanonicalPath();
+                }
+                catch (final IOException ignore)
+                {
+                    aeronDirectoryPath = aeronDirectory.getAbsolutePath();
+                }
+
+                logBuffersDirectory = new File(
+                    logBuffersDirectoryName,
+                    aeronDirectory.getName() + "-" + Integer.toHexString(aeronDirectoryPath.hashCode()));
+            }
+
+            return logBuffersDirectory;
+        }
+
+        DutyCycleTracker newAgentDutyCycleTracker(final String roleName, final long cycleTimeThresholdNs)
+        {
+            final AtomicCounter maxCycleTime = countersManager.newCounter(
+                roleName + " max cycle time doing its work in ns: " + threadingMode.name(),
+                AeronCounters.DRIVER_AGENT_MAX_CYCLE_TIME_TYPE_ID);
+            final AtomicCounter cycleTimeThresholdExceededCount = countersManager.newCounter(
+                roleName + " work cycle exceeded threshold count: threshold=" + cycleTimeThresholdNs + "ns " +
+                threadingMode.name(),
+                AeronCounters.DRIVER_AGENT_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID);
+
+            return newDutyCycleTracker(
+                maxCycleTime, cycleTimeThresholdExceededCount, cycleTimeThresholdNs, roleName + "-cycle-time");
+        }
+
+        private DutyCycleTracker newDutyCycleTracker(
+            final AtomicCounter maxCycleTime,
+            final AtomicCounter cycleTimeThresholdExceededCount,
+            final long cycleTimeThresholdNs,
+            final String name)
+        {
+            if (dutyCycleHistogramEnabled)
+            {
+                return new DutyCycleHistogramTracker(
+                    maxCycleTime,
+                    cycleTimeThresholdExceededCount,
+                    cycleTimeThresholdNs,
+                    DutyCycleHistogramTracker.allocate(countersManager, name, latencyHistogramIntervalNs));
+            }
+
+            return new DutyCycleStallTracker(maxCycleTime, cycleTimeThresholdExceededCount, cycleTimeThresholdNs);
+        }
+
         private void concludeCounters()
         {
             if (null == countersManager)
@@ -3904,6 +4691,18 @@ public final class MediaDriver implements AutoCloseable
             final StatusIndicator indicator = new UnsafeBufferStatusIndicator(
                 countersManager.valuesBuffer(), CONTROLLABLE_IDLE_STRATEGY.id());
 
+            if (logBuffersAsyncAllocation)
+            {
+                if (null == logBuffersAllocatorThreadFactory)
+                {
+                    logBuffersAllocatorThreadFactory = Thread::new;
+                }
+                if (null == logBuffersAllocatorIdleStrategy)
+                {
+                    logBuffersAllocatorIdleStrategy = Configuration.logBuffersAllocatorIdleStrategy(indicator);
+                }
+            }
+
             switch (threadingMode)
             {
                 case INVOKER:
@@ -3960,10 +4759,18 @@ public final class MediaDriver implements AutoCloseable
                     {
                         senderIdleStrategy = Configuration.senderIdleStrategy(indicator);
                     }
+                    if (null == senderIdleStrategySupplier)
+                    {
+                        senderIdleStrategySupplier = () -> Configuration.senderIdleStrategy(indicator);
+                    }
                     if (null == receiverIdleStrategy)
                     {
                         receiverIdleStrategy = Configuration.receiverIdleStrategy(indicator);
                     }
+                    if (null == receiverIdleStrategySupplier)
+                    {
+                        receiverIdleStrategySupplier = () -> Configuration.receiverIdleStrategy(indicator);
+                    }
                     break;
             }
         }
@@ -3981,6 +4788,10 @@ public final class MediaDriver implements AutoCloseable
                 "\n    cncVersion=" + SemanticVersion.toString(CNC_VERSION) +
                 "\n    aeronDirectory=" + aeronDirectory() +
                 "\n    aeronDirectoryName='" + aeronDirectoryName() + '\'' +
+                "\n    logBuffersDirectoryName='" + logBuffersDirectoryName + '\'' +
+                "\n    logBuffersPoolCapacity=" + logBuffersPoolCapacity +
+                "\n    logBuffersPoolReuseDelayNs=" + logBuffersPoolReuseDelayNs +
+                "\n    logBuffersAsyncAllocation=" + logBuffersAsyncAllocation +
                 "\n    cncFile=" + cncFile() +
                 "\n    countersMetaDataBuffer=" + countersMetaDataBuffer() +
                 "\n    countersValuesBuffer=" + countersValuesBuffer() +
@@ -4045,13 +4856,19 @@ public final class MediaDriver implements AutoCloseable
                 "\n    receiverThreadFactory=" + receiverThreadFactory +
                 "\n    sharedThreadFactory=" + sharedThreadFactory +
                 "\n    sharedNetworkThreadFactory=" + sharedNetworkThreadFactory +
+                "\n    logBuffersAllocatorThreadFactory=" + logBuffersAllocatorThreadFactory +
                 "\n    conductorIdleStrategy=" + conductorIdleStrategy +
                 "\n    senderIdleStrategy=" + senderIdleStrategy +
+                "\n    senderIdleStrategySupplier=" + senderIdleStrategySupplier +
                 "\n    receiverIdleStrategy=" + receiverIdleStrategy +
+                "\n    receiverIdleStrategySupplier=" + receiverIdleStrategySupplier +
                 "\n    sharedNetworkIdleStrategy=" + sharedNetworkIdleStrategy +
                 "\n    sharedIdleStrategy=" + sharedIdleStrategy +
+                "\n    logBuffersAllocatorIdleStrategy=" + logBuffersAllocatorIdleStrategy +
                 "\n    sendChannelEndpointSupplier=" + sendChannelEndpointSupplier +
                 "\n    receiveChannelEndpointSupplier=" + receiveChannelEndpointSupplier +
+                "\n    dataTransportPollerSupplier=" + dataTransportPollerSupplier +
+                "\n    controlTransportPollerSupplier=" + controlTransportPollerSupplier +
                 "\n    receiveChannelEndpointThreadLocals=" + receiveChannelEndpointThreadLocals +
                 "\n    tempBuffer=" + tempBuffer +
                 "\n    unicastFlowControlSupplier=" + unicastFlowControlSupplier +
@@ -4062,6 +4879,9 @@ public final class MediaDriver implements AutoCloseable
                 "\n    flowControlGroupMinSize=" + flowControlGroupMinSize +
                 "\n    flowControlReceiverTimeoutNs=" + flowControlReceiverTimeoutNs +
                 "\n    reResolutionCheckIntervalNs=" + reResolutionCheckIntervalNs +
+                "\n    latencyHistogramIntervalNs=" + latencyHistogramIntervalNs +
+                "\n    rttMeasurementIntervalNs=" + rttMeasurementIntervalNs +
+                "\n    dutyCycleHistogramEnabled=" + dutyCycleHistogramEnabled +
                 "\n    receiverGroupConsideration=" + receiverGroupConsideration +
                 "\n    congestionControlSupplier=" + congestionControlSupplier +
                 "\n    terminationValidator=" + terminationValidator +
@@ -4105,6 +4925,12 @@ public final class MediaDriver implements AutoCloseable
                 "\n    senderPortManager=" + senderPortManager +
                 "\n    receiverPortManager=" + receiverPortManager +
                 "\n    resourceFreeLimit=" + resourceFreeLimit +
+                "\n    receiverIoVectorCapacity=" + receiverIoVectorCapacity +
+                "\n    networkPublicationMaxMessagesPerSend=" + networkPublicationMaxMessagesPerSend +
+                "\n    receiverAgentCount=" + receiverAgentCount +
+                "\n    senderAgentCount=" + senderAgentCount +
+                "\n    nakMaxGaps=" + nakMaxGaps +
+                "\n    maxRetransmits=" + maxRetransmits +
                 "\n}";
         }
     }
@@ -18,12 +18,15 @@ package io.aeron.driver;
 import io.aeron.CommonContext;
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.status.LatencyCounters;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.LogBufferUnblocker;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
+import io.aeron.protocol.SackFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.CloseHelper;
@@ -31,6 +34,7 @@ import org.agrona.ErrorHandler;
 import org.agrona.collections.ArrayListUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.CachedNanoClock;
+import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.Position;
@@ -39,7 +43,9 @@ import org.agrona.concurrent.status.ReadablePosition;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
 
+import static io.aeron.driver.Configuration.MAX_UDP_PAYLOAD_LENGTH;
 import static io.aeron.driver.Configuration.PUBLICATION_HEARTBEAT_TIMEOUT_NS;
 import static io.aeron.driver.Configuration.PUBLICATION_SETUP_TIMEOUT_NS;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
@@ -83,6 +89,10 @@ class NetworkPublicationSenderFields extends NetworkPublicationPadding2
     long timeOfLastDataOrHeartbeatNs;
     long timeOfLastSetupNs;
     long timeOfLastStatusMessageNs;
+    long timeOfZeroSendCreditNs;
+    long timeOfLastRttMeasurementNs;
+    long fecGroupPosition;
+    int currentMessagesPerSend;
     boolean trackSenderLimits = false;
     boolean isSetupElicited = false;
     boolean hasInitialConnection = false;
@@ -108,6 +118,8 @@ public final class NetworkPublication
         ACTIVE, DRAINING, LINGER, DONE
     }
 
+    private static final long SECOND_IN_NS = TimeUnit.SECONDS.toNanos(1);
+
     private final long registrationId;
     private final long unblockTimeoutNs;
     private final long connectionTimeoutNs;
@@ -115,6 +127,9 @@ public final class NetworkPublication
     private final long untetheredWindowLimitTimeoutNs;
     private final long untetheredRestingTimeoutNs;
     private final long tag;
+    private final long maxSendRate;
+    private final long sendBurstNs;
+    private final long rttMeasurementIntervalNs;
     private final int positionBitsToShift;
     private final int initialTermId;
     private final int startingTermId;
@@ -122,12 +137,17 @@ public final class NetworkPublication
     private final int termBufferLength;
     private final int termLengthMask;
     private final int mtuLength;
+    private final int maxMessagesPerSend;
+    private final int fecBlockLength;
+    private final int fecGroupLength;
     private final int termWindowLength;
     private final int sessionId;
     private final int streamId;
     private final boolean isExclusive;
     private final boolean spiesSimulateConnection;
     private final boolean signalEos;
+    private final short setupFlags;
+    private final boolean hasMultipleSenders;
     private volatile boolean hasReceivers;
     private volatile boolean hasSpies;
     private volatile boolean isConnected;
@@ -150,16 +170,23 @@ public final class NetworkPublication
     private final SetupFlyweight setupHeader;
     private final ByteBuffer rttMeasurementBuffer;
     private final RttMeasurementFlyweight rttMeasurementHeader;
+    private final ByteBuffer fecBuffer;
+    private final FecFlyweight fecHeader;
     private final FlowControl flowControl;
     private final CachedNanoClock cachedNanoClock;
+    private final NanoClock nanoClock;
     private final RetransmitHandler retransmitHandler;
     private final UnsafeBuffer metaDataBuffer;
     private final RawLog rawLog;
     private final AtomicCounter heartbeatsSent;
     private final AtomicCounter retransmitsSent;
+    private final AtomicCounter retransmittedBytes;
     private final AtomicCounter senderFlowControlLimits;
     private final AtomicCounter senderBpe;
+    private final AtomicCounter senderPacingDelay;
+    private final LatencyCounters senderRtt;
     private final AtomicCounter shortSends;
+    private final AtomicCounter fecFramesSent;
     private final AtomicCounter unblockedPublications;
 
     NetworkPublication(
@@ -174,6 +201,8 @@ public final class NetworkPublication
         final Position senderPosition,
         final Position senderLimit,
         final AtomicCounter senderBpe,
+        final AtomicCounter senderPacingDelay,
+        final LatencyCounters senderRtt,
         final int sessionId,
         final int streamId,
         final int initialTermId,
@@ -191,7 +220,9 @@ public final class NetworkPublication
         this.tag = params.entityTag;
         this.channelEndpoint = channelEndpoint;
         this.rawLog = rawLog;
-        this.cachedNanoClock = ctx.senderCachedNanoClock();
+        this.cachedNanoClock = channelEndpoint.cachedNanoClock();
+        this.nanoClock = ctx.nanoClock();
+        this.rttMeasurementIntervalNs = ctx.rttMeasurementIntervalNs();
         this.senderPosition = senderPosition;
         this.senderLimit = senderLimit;
         this.flowControl = flowControl;
@@ -199,6 +230,11 @@ public final class NetworkPublication
         this.publisherPos = publisherPos;
         this.publisherLimit = publisherLimit;
         this.mtuLength = params.mtuLength;
+        this.maxMessagesPerSend = params.maxMessagesPerSend;
+        this.currentMessagesPerSend = maxMessagesPerSend;
+        this.maxSendRate = params.maxSendRate;
+        this.setupFlags = params.isSack ? SetupFlyweight.SACK_FLAG : 0;
+        this.sendBurstNs = 0 == maxSendRate ? 0 : Math.max(1, (params.sendBurst * SECOND_IN_NS) / maxSendRate);
         this.initialTermId = initialTermId;
         this.sessionId = sessionId;
         this.streamId = streamId;
@@ -215,14 +251,21 @@ public final class NetworkPublication
         heartbeatDataHeader = threadLocals.heartbeatDataHeader();
         rttMeasurementBuffer = threadLocals.rttMeasurementBuffer();
         rttMeasurementHeader = threadLocals.rttMeasurementHeader();
+        fecBuffer = 0 == params.fecGroupSize ? null : threadLocals.fecBuffer();
+        fecHeader = 0 == params.fecGroupSize ? null : threadLocals.fecHeader();
 
+        hasMultipleSenders = ctx.senderAgentCount() > 1;
         final SystemCounters systemCounters = ctx.systemCounters();
         heartbeatsSent = systemCounters.get(HEARTBEATS_SENT);
         shortSends = systemCounters.get(SHORT_SENDS);
         retransmitsSent = systemCounters.get(RETRANSMITS_SENT);
+        retransmittedBytes = systemCounters.get(RETRANSMITTED_BYTES);
         senderFlowControlLimits = systemCounters.get(SENDER_FLOW_CONTROL_LIMITS);
         unblockedPublications = systemCounters.get(UNBLOCKED_PUBLICATIONS);
+        fecFramesSent = systemCounters.get(FEC_FRAMES_SENT);
         this.senderBpe = senderBpe;
+        this.senderPacingDelay = senderPacingDelay;
+        this.senderRtt = senderRtt;
 
         termBuffers = rawLog.termBuffers();
         for (final UnsafeBuffer termBuffer : termBuffers)
@@ -236,16 +279,22 @@ public final class NetworkPublication
         final int termLength = rawLog.termLength();
         termBufferLength = termLength;
         termLengthMask = termLength - 1;
+        fecBlockLength = Math.min(mtuLength, MAX_UDP_PAYLOAD_LENGTH - FecFlyweight.HEADER_LENGTH);
+        fecGroupLength = (int)Math.min((long)fecBlockLength * params.fecGroupSize, termLength);
 
         final long nowNs = cachedNanoClock.nanoTime();
         timeOfLastDataOrHeartbeatNs = nowNs - PUBLICATION_HEARTBEAT_TIMEOUT_NS - 1;
         timeOfLastSetupNs = nowNs - PUBLICATION_SETUP_TIMEOUT_NS - 1;
         timeOfLastStatusMessageNs = nowNs;
+        timeOfZeroSendCreditNs = nowNs - sendBurstNs;
+        timeOfLastRttMeasurementNs = nowNs;
 
         positionBitsToShift = LogBufferDescriptor.positionBitsToShift(termLength);
         this.termWindowLength = termWindowLength;
 
         lastSenderPosition = senderPosition.get();
+        fecGroupPosition = 0 == fecGroupLength ?
+            lastSenderPosition : lastSenderPosition - (((int)lastSenderPosition & termLengthMask) % fecGroupLength);
         cleanPosition = lastSenderPosition;
         timeOfLastActivityNs = nowNs;
     }
@@ -268,6 +317,8 @@ public final class NetworkPublication
         CloseHelper.close(errorHandler, senderPosition);
         CloseHelper.close(errorHandler, senderLimit);
         CloseHelper.close(errorHandler, senderBpe);
+        CloseHelper.close(errorHandler, senderPacingDelay);
+        CloseHelper.close(errorHandler, senderRtt);
         CloseHelper.closeAll(errorHandler, spyPositions);
 
         for (int i = 0, size = untetheredSubscriptions.size(); i < size; i++)
@@ -397,6 +448,16 @@ public final class NetworkPublication
         retransmitHandler.onNak(termId, termOffset, length, termBufferLength, this);
     }
 
+    /**
+     * Process a SACK message so the blocks it reports as missing can be retransmitted.
+     *
+     * @param msg flyweight over the SACK message.
+     */
+    public void onSack(final SackFlyweight msg)
+    {
+        retransmitHandler.onSack(msg, termBufferLength, this);
+    }
+
     /**
      * Process a status message to track connectivity and apply flow control.
      *
@@ -465,8 +526,10 @@ public final class NetworkPublication
                 shortSends.increment();
             }
         }
-
-        // handling of RTT measurements would be done in an else clause here.
+        else if (null != senderRtt)
+        {
+            senderRtt.recordValue(nanoClock.nanoTime() - msg.echoTimestampNs() - msg.receptionDelta());
+        }
     }
 
     /**
@@ -487,6 +550,7 @@ public final class NetworkPublication
 
             int remainingBytes = length;
             int bytesSent = 0;
+            long totalBytesSent = 0;
             int offset = termOffset;
             do
             {
@@ -509,10 +573,16 @@ public final class NetworkPublication
 
                 bytesSent = available + padding(scanOutcome);
                 remainingBytes -= bytesSent;
+                totalBytesSent += available;
             }
             while (remainingBytes > 0);
 
-            retransmitsSent.incrementOrdered();
+            SystemCounters.increment(retransmitsSent, hasMultipleSenders);
+            if (totalBytesSent > 0)
+            {
+                SystemCounters.getAndAdd(retransmittedBytes, totalBytesSent, hasMultipleSenders);
+                consumeSendCredit(totalBytesSent);
+            }
         }
     }
 
@@ -548,6 +618,11 @@ public final class NetworkPublication
         updateHasReceivers(nowNs);
         retransmitHandler.processTimeouts(nowNs, this);
 
+        if (null != senderRtt)
+        {
+            rttMeasurementCheck(nowNs);
+        }
+
         return bytesSent;
     }
 
@@ -673,43 +748,162 @@ public final class NetworkPublication
     private int sendData(final long nowNs, final long senderPosition, final int termOffset)
     {
         int bytesSent = 0;
-        final int availableWindow = (int)(senderLimit.get() - senderPosition);
+        int availableWindow = (int)(senderLimit.get() - senderPosition);
         if (availableWindow > 0)
         {
-            final int scanLimit = Math.min(availableWindow, mtuLength);
+            final long sendCredit = 0 == maxSendRate ? Long.MAX_VALUE : sendCredit(nowNs, senderPosition);
+            if (sendCredit <= 0)
+            {
+                return 0;
+            }
+
             final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
+            final UnsafeBuffer termBuffer = termBuffers[activeIndex];
+            final ByteBuffer sendBuffer = sendBuffers[activeIndex];
+            long highestPosition = senderPosition;
+            int offset = termOffset;
+            boolean isShortSend = false;
 
-            final long scanOutcome = scanForAvailability(termBuffers[activeIndex], termOffset, scanLimit);
-            final int available = available(scanOutcome);
-            if (available > 0)
+            for (int i = 0, maxMessages = currentMessagesPerSend;
+                i < maxMessages && availableWindow > 0 && bytesSent < sendCredit;
+                i++)
             {
-                final ByteBuffer sendBuffer = sendBuffers[activeIndex];
-                sendBuffer.limit(termOffset + available).position(termOffset);
+                final int scanLimit = Math.min(availableWindow, mtuLength);
+                final long scanOutcome = scanForAvailability(termBuffer, offset, scanLimit);
+                final int available = available(scanOutcome);
+                if (available <= 0)
+                {
+                    break;
+                }
 
-                if (available == channelEndpoint.send(sendBuffer))
+                sendBuffer.limit(offset + available).position(offset);
+                if (available != channelEndpoint.send(sendBuffer))
                 {
-                    timeOfLastDataOrHeartbeatNs = nowNs;
-                    trackSenderLimits = true;
+                    isShortSend = true;
+                    shortSends.increment();
+                    break;
+                }
+
+                final int totalAvailable = available + padding(scanOutcome);
+                bytesSent += available;
+                availableWindow -= totalAvailable;
+                offset += totalAvailable;
+                highestPosition += totalAvailable;
 
-                    bytesSent = available;
-                    this.senderPosition.setOrdered(senderPosition + bytesSent + padding(scanOutcome));
+                if (termBufferLength == offset)
+                {
+                    break;
                 }
-                else
+            }
+
+            if (bytesSent > 0)
+            {
+                timeOfLastDataOrHeartbeatNs = nowNs;
+                trackSenderLimits = true;
+                this.senderPosition.setOrdered(highestPosition);
+                consumeSendCredit(bytesSent);
+
+                if (0 != fecGroupLength)
                 {
-                    shortSends.increment();
+                    sendFecFrames(senderPosition, highestPosition);
                 }
             }
+
+            currentMessagesPerSend = isShortSend ? 1 : maxMessagesPerSend;
         }
         else if (trackSenderLimits)
         {
             trackSenderLimits = false;
             senderBpe.incrementOrdered();
-            senderFlowControlLimits.incrementOrdered();
+            SystemCounters.increment(senderFlowControlLimits, hasMultipleSenders);
         }
 
         return bytesSent;
     }
 
+    private void sendFecFrames(final long fromPosition, final long toPosition)
+    {
+        if (fecGroupPosition + fecGroupLength <= fromPosition)
+        {
+            // sender position has moved on without sending, such as when spies simulate a connection
+            fecGroupPosition = fromPosition - (((int)fromPosition & termLengthMask) % fecGroupLength);
+        }
+
+        while (true)
+        {
+            final int termOffset = (int)fecGroupPosition & termLengthMask;
+            final int groupLength = Math.min(fecGroupLength, termBufferLength - termOffset);
+            if (fecGroupPosition + groupLength > toPosition)
+            {
+                break;
+            }
+
+            final UnsafeBuffer termBuffer = termBuffers[indexByPosition(fecGroupPosition, positionBitsToShift)];
+            fecHeader.setMemory(FecFlyweight.HEADER_LENGTH, fecBlockLength, (byte)0);
+
+            for (int blockOffset = 0; blockOffset < groupLength; blockOffset += fecBlockLength)
+            {
+                final int offset = termOffset + blockOffset;
+                final int length = Math.min(fecBlockLength, groupLength - blockOffset);
+                for (int i = 0; i < length; i += SIZE_OF_LONG)
+                {
+                    final int index = FecFlyweight.HEADER_LENGTH + i;
+                    fecHeader.putLong(index, fecHeader.getLong(index) ^ termBuffer.getLong(offset + i));
+                }
+            }
+
+            final int frameLength = FecFlyweight.HEADER_LENGTH + fecBlockLength;
+            fecHeader
+                .sessionId(sessionId)
+                .streamId(streamId)
+                .termId(computeTermIdFromPosition(fecGroupPosition, positionBitsToShift, initialTermId))
+                .termOffset(termOffset)
+                .blockLength(fecBlockLength)
+                .groupLength(groupLength)
+                .frameLength(frameLength);
+
+            fecBuffer.limit(frameLength).position(0);
+            if (frameLength == channelEndpoint.send(fecBuffer))
+            {
+                SystemCounters.increment(fecFramesSent, hasMultipleSenders);
+            }
+            else
+            {
+                shortSends.increment();
+            }
+
+            fecGroupPosition += groupLength;
+        }
+    }
+
+    private long sendCredit(final long nowNs, final long senderPosition)
+    {
+        // token bucket tracked as the time at which it was empty, which is at most a burst in the past when full
+        if (timeOfZeroSendCreditNs - (nowNs - sendBurstNs) < 0)
+        {
+            timeOfZeroSendCreditNs = nowNs - sendBurstNs;
+        }
+
+        final long sendCredit = ((nowNs - timeOfZeroSendCreditNs) * maxSendRate) / SECOND_IN_NS;
+        final long pacingDelayNs = sendCredit <= 0 && producerPosition() > senderPosition ?
+            (timeOfZeroSendCreditNs - nowNs) + Math.max(1, SECOND_IN_NS / maxSendRate) : 0;
+
+        if (senderPacingDelay.get() != pacingDelayNs)
+        {
+            senderPacingDelay.setOrdered(pacingDelayNs);
+        }
+
+        return sendCredit;
+    }
+
+    private void consumeSendCredit(final long bytesSent)
+    {
+        if (0 != maxSendRate)
+        {
+            timeOfZeroSendCreditNs += (bytesSent * SECOND_IN_NS) / maxSendRate;
+        }
+    }
+
     private void setupMessageCheck(final long nowNs, final int activeTermId, final int termOffset)
     {
         if ((timeOfLastSetupNs + PUBLICATION_SETUP_TIMEOUT_NS) - nowNs < 0)
@@ -725,7 +919,8 @@ public final class NetworkPublication
                 .initialTermId(initialTermId)
                 .termLength(termBufferLength)
                 .mtuLength(mtuLength)
-                .ttl(channelEndpoint.multicastTtl());
+                .ttl(channelEndpoint.multicastTtl())
+                .flags(setupFlags);
 
             if (isSetupElicited)
             {
@@ -744,6 +939,31 @@ public final class NetworkPublication
         }
     }
 
+    private void rttMeasurementCheck(final long nowNs)
+    {
+        if (hasReceivers && (timeOfLastRttMeasurementNs + rttMeasurementIntervalNs) - nowNs < 0)
+        {
+            rttMeasurementBuffer.clear();
+            rttMeasurementHeader
+                .receiverId(0)
+                .echoTimestampNs(nanoClock.nanoTime())
+                .receptionDelta(0)
+                .sessionId(sessionId)
+                .streamId(streamId)
+                .flags(RttMeasurementFlyweight.REPLY_FLAG);
+
+            final int bytesSent = channelEndpoint.send(rttMeasurementBuffer);
+            if (RttMeasurementFlyweight.HEADER_LENGTH != bytesSent)
+            {
+                shortSends.increment();
+            }
+
+            timeOfLastRttMeasurementNs = nowNs;
+        }
+
+        senderRtt.update(nowNs);
+    }
+
     private int heartbeatMessageCheck(
         final long nowNs, final int activeTermId, final int termOffset, final boolean signalEos)
     {
@@ -766,7 +986,7 @@ public final class NetworkPublication
             }
 
             timeOfLastDataOrHeartbeatNs = nowNs;
-            heartbeatsSent.incrementOrdered();
+            SystemCounters.increment(heartbeatsSent, hasMultipleSenders);
         }
 
         return bytesSent;
@@ -16,6 +16,7 @@
 package io.aeron.driver;
 
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
@@ -33,6 +34,8 @@ final class NetworkPublicationThreadLocals
     private final SetupFlyweight setupHeader;
     private final ByteBuffer rttMeasurementBuffer;
     private final RttMeasurementFlyweight rttMeasurementHeader;
+    private ByteBuffer fecBuffer;
+    private FecFlyweight fecHeader;
 
     NetworkPublicationThreadLocals()
     {
@@ -98,4 +101,26 @@ final class NetworkPublicationThreadLocals
     {
         return rttMeasurementHeader;
     }
+
+    ByteBuffer fecBuffer()
+    {
+        if (null == fecBuffer)
+        {
+            fecBuffer = BufferUtil.allocateDirectAligned(Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH);
+            fecHeader = new FecFlyweight(fecBuffer);
+
+            fecHeader
+                .version(HeaderFlyweight.CURRENT_VERSION)
+                .headerType(HeaderFlyweight.HDR_TYPE_FEC)
+                .frameLength(FecFlyweight.HEADER_LENGTH);
+        }
+
+        return fecBuffer;
+    }
+
+    FecFlyweight fecHeader()
+    {
+        fecBuffer();
+        return fecHeader;
+    }
 }
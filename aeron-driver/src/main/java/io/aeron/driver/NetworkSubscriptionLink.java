@@ -55,7 +55,7 @@ class NetworkSubscriptionLink extends SubscriptionLink
 
     boolean matches(final PublicationImage image)
     {
-        return image.channelEndpoint() == this.channelEndpoint &&
+        return image.channelEndpoint().fanOutPrimary() == this.channelEndpoint &&
             image.streamId() == this.streamId &&
             isWildcardOrSessionIdMatch(image.sessionId());
     }
@@ -65,14 +65,14 @@ class NetworkSubscriptionLink extends SubscriptionLink
         final boolean isExactWildcardOrSessionIdMatch =
             hasSessionId == params.hasSessionId && (!hasSessionId || this.sessionId == params.sessionId);
 
-        return channelEndpoint == this.channelEndpoint &&
+        return channelEndpoint.fanOutPrimary() == this.channelEndpoint &&
             streamId == this.streamId &&
             isExactWildcardOrSessionIdMatch;
     }
 
     boolean matches(final ReceiveChannelEndpoint channelEndpoint, final int streamId, final int sessionId)
     {
-        return channelEndpoint == this.channelEndpoint &&
+        return channelEndpoint.fanOutPrimary() == this.channelEndpoint &&
             streamId == this.streamId &&
             isWildcardOrSessionIdMatch(sessionId);
     }
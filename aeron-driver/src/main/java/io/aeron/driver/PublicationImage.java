@@ -20,19 +20,26 @@ import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.media.ImageConnection;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveDestinationTransport;
+import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.reports.LossReport;
+import io.aeron.driver.status.LatencyCounters;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.LogBufferDescriptor;
+import io.aeron.logbuffer.TermGapScanner;
 import io.aeron.logbuffer.TermRebuilder;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
+import io.aeron.protocol.SackFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.BitUtil;
 import org.agrona.CloseHelper;
 import org.agrona.ErrorHandler;
 import org.agrona.collections.ArrayListUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.CachedNanoClock;
 import org.agrona.concurrent.EpochClock;
+import org.agrona.concurrent.EpochNanoClock;
 import org.agrona.concurrent.MemoryAccess;
 import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -47,9 +54,21 @@ import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import static io.aeron.driver.LossDetector.lossFound;
 import static io.aeron.driver.LossDetector.rebuildOffset;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.logbuffer.TermGapFiller.tryFillGap;
+import static io.aeron.protocol.DataHeaderFlyweight.DATA_OFFSET;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.SESSION_ID_FIELD_OFFSET;
+import static io.aeron.protocol.DataHeaderFlyweight.STREAM_ID_FIELD_OFFSET;
+import static io.aeron.protocol.DataHeaderFlyweight.TERM_ID_FIELD_OFFSET;
+import static io.aeron.protocol.DataHeaderFlyweight.TERM_OFFSET_FIELD_OFFSET;
+import static io.aeron.protocol.HeaderFlyweight.FRAME_LENGTH_FIELD_OFFSET;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.HeaderFlyweight.TYPE_FIELD_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.agrona.BitUtil.align;
 
 class PublicationImagePadding1
 {
@@ -81,6 +100,7 @@ class PublicationImageReceiverFields extends PublicationImagePadding2
     boolean isEndOfStream = false;
     boolean isSendingEosSm = false;
     long timeOfLastPacketNs;
+    int fecGapLength;
     ImageConnection[] imageConnections = new ImageConnection[1];
 }
 
@@ -106,6 +126,7 @@ public final class PublicationImage
 
     // expected minimum number of SMs with EOS bit set sent during draining.
     private static final long SM_EOS_MULTIPLE = 5;
+    private static final int MAX_SACK_RANGE_LENGTH = SackFlyweight.MAX_BLOCK_COUNT * FRAME_ALIGNMENT;
 
     private static final AtomicLongFieldUpdater<PublicationImage> BEGIN_SM_CHANGE_UPDATER =
         AtomicLongFieldUpdater.newUpdater(PublicationImage.class, "beginSmChange");
@@ -124,13 +145,19 @@ public final class PublicationImage
     private long timeOfLastSmNs;
     private final long smTimeoutNs;
     private final long maxReceiverWindowLength;
+    private final long initialPosition;
 
     private volatile long beginLossChange = Aeron.NULL_VALUE;
     private volatile long endLossChange = Aeron.NULL_VALUE;
-    private int lossTermId;
-    private int lossTermOffset;
-    private int lossLength;
+    private final int lossMask;
+    private final int[] lossTermIds;
+    private final int[] lossTermOffsets;
+    private final int[] lossLengths;
     private long lastLossChangeNumber = Aeron.NULL_VALUE;
+    private final int[] sackGapTermOffsets;
+    private final int[] sackGapLengths;
+    private int sackGapCount;
+    private int sackTermId;
 
     private volatile long timeOfLastStateChangeNs;
 
@@ -144,8 +171,11 @@ public final class PublicationImage
     private final int termLengthMask;
     private final int initialTermId;
     private final boolean isReliable;
+    private final boolean isFecRecoveryEnabled;
+    private final boolean hasMultipleReceivers;
 
     private boolean isRebuilding = true;
+    private boolean isSack = false;
     private volatile boolean isReceiverReleaseTriggered = false;
     private volatile boolean hasReceiverReleased = false;
     private volatile State state = State.INIT;
@@ -163,12 +193,23 @@ public final class PublicationImage
     private final AtomicCounter heartbeatsReceived;
     private final AtomicCounter statusMessagesSent;
     private final AtomicCounter nakMessagesSent;
+    private final AtomicCounter sackMessagesSent;
     private final AtomicCounter flowControlUnderRuns;
     private final AtomicCounter flowControlOverRuns;
     private final AtomicCounter lossGapFills;
+    private final AtomicCounter fecRecoveredBytes;
+    private final AtomicCounter nakedLossBytes;
+    private final UnsafeBuffer fecFrameBuffer = new UnsafeBuffer(0, 0);
+    private final TermGapScanner.GapHandler fecGapHandler = (termId, termOffset, length) -> fecGapLength = length;
     private final EpochClock epochClock;
     private final NanoClock nanoClock;
+    private final EpochNanoClock channelReceiveTimestampClock;
     private final RawLog rawLog;
+    private LatencyCounters receiverLatency;
+    private int channelSendTimestampOffset;
+    private LatencyCounters receiverRtt;
+    private long timeOfLastRttMeasurementNs;
+    private final long rttMeasurementIntervalNs;
 
     PublicationImage(
         final long correlationId,
@@ -210,7 +251,9 @@ public final class PublicationImage
 
         this.nanoClock = ctx.nanoClock();
         this.epochClock = ctx.epochClock();
-        this.cachedNanoClock = ctx.receiverCachedNanoClock();
+        this.channelReceiveTimestampClock = ctx.channelReceiveTimestampClock();
+        this.rttMeasurementIntervalNs = ctx.rttMeasurementIntervalNs();
+        this.cachedNanoClock = channelEndpoint.cachedNanoClock();
 
         final long nowNs = cachedNanoClock.nanoTime();
         this.timeOfLastStateChangeNs = nowNs;
@@ -219,19 +262,35 @@ public final class PublicationImage
         this.subscriberPositions = positionArray(subscriberPositions, nowNs);
         this.isReliable = subscriberPositions.get(0).subscription().isReliable();
 
+        final UdpChannel udpChannel = channelEndpoint.udpChannel();
+        this.isFecRecoveryEnabled =
+            !udpChannel.isChannelReceiveTimestampEnabled() && !udpChannel.isChannelSendTimestampEnabled();
+
+        hasMultipleReceivers = ctx.receiverAgentCount() > 1;
         final SystemCounters systemCounters = ctx.systemCounters();
         heartbeatsReceived = systemCounters.get(HEARTBEATS_RECEIVED);
         statusMessagesSent = systemCounters.get(STATUS_MESSAGES_SENT);
         nakMessagesSent = systemCounters.get(NAK_MESSAGES_SENT);
+        sackMessagesSent = systemCounters.get(SACK_MESSAGES_SENT);
         flowControlUnderRuns = systemCounters.get(FLOW_CONTROL_UNDER_RUNS);
         flowControlOverRuns = systemCounters.get(FLOW_CONTROL_OVER_RUNS);
         lossGapFills = systemCounters.get(LOSS_GAP_FILLS);
+        fecRecoveredBytes = systemCounters.get(FEC_RECOVERED_BYTES);
+        nakedLossBytes = systemCounters.get(NAKED_LOSS_BYTES);
 
         imageConnections = ArrayUtil.ensureCapacity(imageConnections, transportIndex + 1);
         imageConnections[transportIndex] = new ImageConnection(nowNs, controlAddress);
 
         termBuffers = rawLog.termBuffers();
-        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this);
+        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this, ctx.nakMaxGaps());
+
+        final int lossCapacity = BitUtil.findNextPositivePowerOfTwo(ctx.nakMaxGaps());
+        lossMask = lossCapacity - 1;
+        lossTermIds = new int[lossCapacity];
+        lossTermOffsets = new int[lossCapacity];
+        lossLengths = new int[lossCapacity];
+        sackGapTermOffsets = new int[lossCapacity];
+        sackGapLengths = new int[lossCapacity];
 
         final int termLength = rawLog.termLength();
         termLengthMask = termLength - 1;
@@ -244,6 +303,7 @@ public final class PublicationImage
         lastSmPosition = position;
         lastOverrunThreshold = position + nextSmReceiverWindowLength;
         cleanPosition = position;
+        initialPosition = position;
 
         hwmPosition.setOrdered(position);
         rebuildPosition.setOrdered(position);
@@ -276,6 +336,34 @@ public final class PublicationImage
         }
 
         CloseHelper.close(errorHandler, congestionControl);
+        CloseHelper.close(errorHandler, receiverLatency);
+        CloseHelper.close(errorHandler, receiverRtt);
+    }
+
+    /**
+     * Set the counters which summarise the one-way latency of the frames of the image from the send timestamps applied
+     * by the sending driver. Must be set before the image is added to the {@link Receiver}.
+     *
+     * @param receiverLatency            counters to record the latency of frames in.
+     * @param channelSendTimestampOffset offset of the send timestamp in the frames.
+     */
+    void receiverLatency(final LatencyCounters receiverLatency, final int channelSendTimestampOffset)
+    {
+        this.receiverLatency = receiverLatency;
+        this.channelSendTimestampOffset = channelSendTimestampOffset;
+    }
+
+    /**
+     * Set the counters which summarise the round trip times measured to the sources of the image, which are measured
+     * in addition to those required by congestion control. Must be set before the image is added to the
+     * {@link Receiver}.
+     *
+     * @param receiverRtt counters to record the round trip times in.
+     */
+    void receiverRtt(final LatencyCounters receiverRtt)
+    {
+        this.receiverRtt = receiverRtt;
+        this.timeOfLastRttMeasurementNs = cachedNanoClock.nanoTime();
     }
 
     /**
@@ -368,16 +456,21 @@ public final class PublicationImage
     /**
      * Called from the {@link LossDetector} when gap is detected by the {@link DriverConductor} thread.
      * <p>
+     * Gaps are passed to the {@link Receiver} thread via a ring of {@link Configuration#NAK_MAX_GAPS_PROP_NAME}
+     * entries, rounded up to a power of two, so the gaps notified for a single timer expiry are not overwritten by
+     * each other.
+     * <p>
      * {@inheritDoc}
      */
     public void onGapDetected(final int termId, final int termOffset, final int length)
     {
         final long changeNumber = beginLossChange + 1;
+        final int index = (int)changeNumber & lossMask;
 
         beginLossChange = changeNumber;
-        lossTermId = termId;
-        lossTermOffset = termOffset;
-        lossLength = length;
+        lossTermIds[index] = termId;
+        lossTermOffsets[index] = termOffset;
+        lossLengths[index] = length;
         endLossChange = changeNumber;
 
         if (null != reportEntry)
@@ -446,6 +539,17 @@ public final class PublicationImage
         return rawLog;
     }
 
+    /**
+     * Set if loss should be requested for retransmit with SACK messages, as negotiated with the source, from the
+     * {@link Receiver}.
+     *
+     * @param isSack true if loss should be requested with SACK messages rather than NAK messages.
+     */
+    void isSack(final boolean isSack)
+    {
+        this.isSack = isSack;
+    }
+
     /**
      * Activate this image from the {@link Receiver}.
      */
@@ -609,12 +713,17 @@ public final class PublicationImage
                         isEndOfStream = true;
                     }
 
-                    heartbeatsReceived.incrementOrdered();
+                    SystemCounters.increment(heartbeatsReceived, hasMultipleReceivers);
                 }
                 else
                 {
                     final UnsafeBuffer termBuffer = termBuffers[indexByPosition(packetPosition, positionBitsToShift)];
                     TermRebuilder.insert(termBuffer, termOffset, buffer, length);
+
+                    if (null != receiverLatency)
+                    {
+                        recordReceiverLatency(buffer, length);
+                    }
                 }
 
                 hwmPosition.proposeMaxOrdered(proposedPosition);
@@ -628,6 +737,131 @@ public final class PublicationImage
         return length;
     }
 
+    /**
+     * Rebuild a gap in a group of a term from a forward error correction frame from the {@link Receiver}.
+     * <p>
+     * The parity is the XOR of the blocks of the group. A single gap of up to a block, with the rest of the group
+     * received, is the XOR of the parity and the received blocks as the bytes of the gap are zero in the term. The
+     * rebuilt bytes are only inserted if they are whole frames of this stream at the expected offsets, otherwise the
+     * gap is left to be NAKed.
+     * <p>
+     * FEC frames are ignored when the channel has send or receive timestamps, as they change the frames in the term
+     * after the parity was computed by the sender.
+     *
+     * @param termId      of the group.
+     * @param termOffset  at which the group begins.
+     * @param blockLength of each block in the group and of the parity.
+     * @param groupLength of the range of the term covered by the parity.
+     * @param buffer      containing the FEC frame, which is overwritten with the rebuilt bytes.
+     * @param length      of the FEC frame.
+     */
+    void onFecPacket(
+        final int termId,
+        final int termOffset,
+        final int blockLength,
+        final int groupLength,
+        final UnsafeBuffer buffer,
+        final int length)
+    {
+        if (!isFecRecoveryEnabled ||
+            blockLength <= 0 ||
+            groupLength <= 0 ||
+            termOffset < 0 ||
+            length < FecFlyweight.HEADER_LENGTH + blockLength ||
+            groupLength > (termLengthMask + 1) - termOffset ||
+            0 != ((termOffset | blockLength | groupLength) & (FRAME_ALIGNMENT - 1)))
+        {
+            return;
+        }
+
+        final long groupPosition = computePosition(termId, termOffset, positionBitsToShift, initialTermId);
+        final long groupEndPosition = groupPosition + groupLength;
+        final long rebuildPosition = this.rebuildPosition.getVolatile();
+        if (groupEndPosition <= rebuildPosition ||
+            groupPosition < initialPosition ||
+            (!isReliable && groupPosition < rebuildPosition) ||
+            isFlowControlOverRun(groupEndPosition))
+        {
+            return;
+        }
+
+        final UnsafeBuffer termBuffer = termBuffers[indexByPosition(groupPosition, positionBitsToShift)];
+        final int groupEndOffset = termOffset + groupLength;
+        int scanOffset = computeTermIdFromPosition(rebuildPosition, positionBitsToShift, initialTermId) == termId ?
+            (int)rebuildPosition & termLengthMask : 0;
+
+        int gapOffset;
+        int gapLength;
+        do
+        {
+            // frames are scanned from a frame boundary and gaps before the group are skipped
+            fecGapLength = 0;
+            gapOffset = TermGapScanner.scanForGap(termBuffer, termId, scanOffset, groupEndOffset, fecGapHandler);
+            gapLength = fecGapLength;
+            scanOffset = gapOffset + gapLength;
+        }
+        while (scanOffset <= termOffset && gapOffset < groupEndOffset);
+
+        if (gapOffset >= groupEndOffset || gapOffset < termOffset || gapLength > blockLength)
+        {
+            return;
+        }
+
+        final int gapEndOffset = gapOffset + gapLength;
+        if (gapEndOffset < groupEndOffset &&
+            TermGapScanner.scanForGap(termBuffer, termId, gapEndOffset, groupEndOffset, fecGapHandler) < groupEndOffset)
+        {
+            // a second gap in the group can not be rebuilt from the parity
+            return;
+        }
+
+        final int gapColumn = (gapOffset - termOffset) % blockLength;
+        for (int i = 0; i < gapLength; i += SIZE_OF_LONG)
+        {
+            final int column = parityColumn(gapColumn + i, blockLength);
+            final int index = FecFlyweight.HEADER_LENGTH + column;
+            long value = buffer.getLong(index);
+            for (int offset = termOffset + column; offset < groupEndOffset; offset += blockLength)
+            {
+                value ^= termBuffer.getLong(offset);
+            }
+
+            buffer.putLong(index, value);
+        }
+
+        for (int i = 0; i < gapLength;)
+        {
+            final int frameIndex = FecFlyweight.HEADER_LENGTH + parityColumn(gapColumn + i, blockLength);
+            final int frameLength = buffer.getInt(frameIndex + FRAME_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+            if (frameLength < HEADER_LENGTH ||
+                buffer.getInt(frameIndex + TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN) != gapOffset + i ||
+                buffer.getInt(frameIndex + SESSION_ID_FIELD_OFFSET, LITTLE_ENDIAN) != sessionId ||
+                buffer.getInt(frameIndex + STREAM_ID_FIELD_OFFSET, LITTLE_ENDIAN) != streamId ||
+                buffer.getInt(frameIndex + TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN) != termId)
+            {
+                return;
+            }
+
+            i += align(frameLength, FRAME_ALIGNMENT);
+            if (i > gapLength)
+            {
+                return;
+            }
+        }
+
+        final int firstLength = Math.min(gapLength, blockLength - gapColumn);
+        if (firstLength < gapLength)
+        {
+            termBuffer.putBytes(gapOffset + firstLength, buffer, FecFlyweight.HEADER_LENGTH, gapLength - firstLength);
+        }
+
+        fecFrameBuffer.wrap(buffer, FecFlyweight.HEADER_LENGTH + gapColumn, firstLength);
+        TermRebuilder.insert(termBuffer, gapOffset, fecFrameBuffer, firstLength);
+
+        hwmPosition.proposeMaxOrdered(groupPosition + (gapEndOffset - termOffset));
+        SystemCounters.getAndAdd(fecRecoveredBytes, gapLength, hasMultipleReceivers);
+    }
+
     /**
      * To be called from the {@link Receiver} to see if image should be dispatched to.
      *
@@ -689,7 +923,7 @@ public final class PublicationImage
                 channelEndpoint.sendStatusMessage(
                     imageConnections, sessionId, streamId, termId, termOffset, receiverWindowLength, flags);
 
-                statusMessagesSent.incrementOrdered();
+                SystemCounters.increment(statusMessagesSent, hasMultipleReceivers);
 
                 lastSmPosition = smPosition;
                 lastOverrunThreshold = smPosition + maxReceiverWindowLength;
@@ -717,29 +951,52 @@ public final class PublicationImage
 
         if (changeNumber != lastLossChangeNumber)
         {
-            final int termId = lossTermId;
-            final int termOffset = lossTermOffset;
-            final int length = lossLength;
-
-            MemoryAccess.acquireFence();
+            final int capacity = lossMask + 1;
+            long nextChangeNumber = Math.max(lastLossChangeNumber + 1, changeNumber - lossMask);
 
-            if (changeNumber == beginLossChange)
+            for (; nextChangeNumber <= changeNumber; nextChangeNumber++)
             {
+                final int index = (int)nextChangeNumber & lossMask;
+                final int termId = lossTermIds[index];
+                final int termOffset = lossTermOffsets[index];
+                final int length = lossLengths[index];
+
+                MemoryAccess.acquireFence();
+
+                if (beginLossChange - nextChangeNumber >= capacity)
+                {
+                    break;
+                }
+
                 if (isReliable)
                 {
-                    channelEndpoint.sendNakMessage(imageConnections, sessionId, streamId, termId, termOffset, length);
-                    nakMessagesSent.incrementOrdered();
+                    SystemCounters.getAndAdd(nakedLossBytes, length, hasMultipleReceivers);
+                    if (isSack && length <= MAX_SACK_RANGE_LENGTH)
+                    {
+                        addSackGap(termId, termOffset, length);
+                    }
+                    else
+                    {
+                        channelEndpoint.sendNakMessage(
+                            imageConnections, sessionId, streamId, termId, termOffset, length);
+                        SystemCounters.increment(nakMessagesSent, hasMultipleReceivers);
+                    }
                 }
                 else
                 {
                     final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
                     if (tryFillGap(rawLog.metaData(), termBuffer, termId, termOffset, length))
                     {
-                        lossGapFills.incrementOrdered();
+                        SystemCounters.increment(lossGapFills, hasMultipleReceivers);
                     }
                 }
 
-                lastLossChangeNumber = changeNumber;
+                lastLossChangeNumber = nextChangeNumber;
+            }
+
+            if (sackGapCount > 0)
+            {
+                sendSack();
             }
 
             workCount = 1;
@@ -748,6 +1005,44 @@ public final class PublicationImage
         return workCount;
     }
 
+    private void addSackGap(final int termId, final int termOffset, final int length)
+    {
+        if (sackGapCount > 0)
+        {
+            final int lastGapIndex = sackGapCount - 1;
+            if (termId != sackTermId ||
+                termOffset < sackGapTermOffsets[lastGapIndex] + sackGapLengths[lastGapIndex] ||
+                termOffset + length - sackGapTermOffsets[0] > MAX_SACK_RANGE_LENGTH)
+            {
+                sendSack();
+            }
+        }
+
+        sackTermId = termId;
+        sackGapTermOffsets[sackGapCount] = termOffset;
+        sackGapLengths[sackGapCount] = length;
+        sackGapCount++;
+    }
+
+    private void sendSack()
+    {
+        channelEndpoint.sendSackMessage(
+            imageConnections, sessionId, streamId, sackTermId, sackGapTermOffsets, sackGapLengths, sackGapCount);
+        SystemCounters.increment(sackMessagesSent, hasMultipleReceivers);
+        sackGapCount = 0;
+    }
+
+    /**
+     * Called from the {@link Receiver} thread to summarise the latency of frames into counters each interval.
+     *
+     * @param nowNs current time.
+     * @return number of work items processed.
+     */
+    int updateReceiverLatency(final long nowNs)
+    {
+        return null != receiverLatency ? receiverLatency.update(nowNs) : 0;
+    }
+
     /**
      * Called from the {@link Receiver} thread to check for initiating an RTT measurement.
      *
@@ -758,16 +1053,27 @@ public final class PublicationImage
     {
         int workCount = 0;
 
-        if (congestionControl.shouldMeasureRtt(nowNs))
+        final boolean shouldMeasureRtt = congestionControl.shouldMeasureRtt(nowNs);
+        if (shouldMeasureRtt ||
+            (null != receiverRtt && (timeOfLastRttMeasurementNs + rttMeasurementIntervalNs) - nowNs < 0))
         {
             final long preciseTimeNs = nanoClock.nanoTime();
 
             channelEndpoint.sendRttMeasurement(imageConnections, sessionId, streamId, preciseTimeNs, 0, true);
-            congestionControl.onRttMeasurementSent(preciseTimeNs);
+            if (shouldMeasureRtt)
+            {
+                congestionControl.onRttMeasurementSent(preciseTimeNs);
+            }
 
+            timeOfLastRttMeasurementNs = nowNs;
             workCount = 1;
         }
 
+        if (null != receiverRtt)
+        {
+            workCount += receiverRtt.update(nowNs);
+        }
+
         return workCount;
     }
 
@@ -785,6 +1091,11 @@ public final class PublicationImage
         final long rttInNs = nowNs - header.echoTimestampNs() - header.receptionDelta();
 
         congestionControl.onRttMeasurement(nowNs, rttInNs, srcAddress);
+
+        if (null != receiverRtt)
+        {
+            receiverRtt.recordValue(rttInNs);
+        }
     }
 
     boolean isAcceptingSubscriptions()
@@ -873,13 +1184,18 @@ public final class PublicationImage
         return subscriberPositions.length == 0;
     }
 
+    private static int parityColumn(final int column, final int blockLength)
+    {
+        return column < blockLength ? column : column - blockLength;
+    }
+
     private boolean isFlowControlUnderRun(final long packetPosition)
     {
         final boolean isFlowControlUnderRun = packetPosition < lastSmPosition;
 
         if (isFlowControlUnderRun)
         {
-            flowControlUnderRuns.incrementOrdered();
+            SystemCounters.increment(flowControlUnderRuns, hasMultipleReceivers);
         }
 
         return isFlowControlUnderRun;
@@ -891,7 +1207,7 @@ public final class PublicationImage
 
         if (isFlowControlOverRun)
         {
-            flowControlOverRuns.incrementOrdered();
+            SystemCounters.increment(flowControlOverRuns, hasMultipleReceivers);
         }
 
         return isFlowControlOverRun;
@@ -913,6 +1229,17 @@ public final class PublicationImage
         }
     }
 
+    private void recordReceiverLatency(final UnsafeBuffer buffer, final int length)
+    {
+        final int offset = DATA_OFFSET + channelSendTimestampOffset;
+        final int type = buffer.getShort(TYPE_FIELD_OFFSET, LITTLE_ENDIAN) & 0xFFFF;
+        if (HDR_TYPE_DATA == type && offset + BitUtil.SIZE_OF_LONG <= length)
+        {
+            final long sendTimestampNs = buffer.getLong(offset, LITTLE_ENDIAN);
+            receiverLatency.recordValue(channelReceiveTimestampClock.nanoTime() - sendTimestampNs);
+        }
+    }
+
     private void trackConnection(final int transportIndex, final InetSocketAddress srcAddress, final long nowNs)
     {
         imageConnections = ArrayUtil.ensureCapacity(imageConnections, transportIndex + 1);
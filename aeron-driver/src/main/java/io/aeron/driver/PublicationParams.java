@@ -28,8 +28,13 @@ final class PublicationParams
 {
     long lingerTimeoutNs;
     long entityTag = ChannelUri.INVALID_TAG;
+    long maxSendRate = 0;
     int termLength;
     int mtuLength;
+    int maxMessagesPerSend;
+    int maxRetransmits;
+    int sendBurst;
+    int fecGroupSize = 0;
     int initialTermId = 0;
     int termId = 0;
     int termOffset = 0;
@@ -38,6 +43,7 @@ final class PublicationParams
     boolean hasSessionId = false;
     boolean isSessionIdTagged = false;
     boolean signalEos = true;
+    boolean isSack = false;
     boolean isSparse;
     boolean spiesSimulateConnection;
 
@@ -57,8 +63,13 @@ final class PublicationParams
         params.getSessionId(channelUri, driverConductor);
         params.getTermBufferLength(channelUri);
         params.getMtuLength(channelUri);
+        params.getMaxMessagesPerSend(channelUri);
+        params.getMaxRetransmits(channelUri);
+        params.getSendPacing(channelUri);
+        params.getFecGroupSize(channelUri);
         params.getLingerTimeoutNs(channelUri);
         params.getEos(channelUri);
+        params.getSack(channelUri);
         params.getSparse(channelUri, ctx);
         params.getSpiesSimulateConnection(channelUri, ctx);
 
@@ -124,6 +135,8 @@ final class PublicationParams
     {
         termLength = isIpc ? context.ipcTermBufferLength() : context.publicationTermBufferLength();
         mtuLength = isIpc ? context.ipcMtuLength() : context.mtuLength();
+        maxMessagesPerSend = context.networkPublicationMaxMessagesPerSend();
+        maxRetransmits = context.maxRetransmits();
         lingerTimeoutNs = context.publicationLingerTimeoutNs();
         isSparse = context.termBufferSparseFile();
     }
@@ -161,6 +174,125 @@ final class PublicationParams
         }
     }
 
+    private void getMaxMessagesPerSend(final ChannelUri channelUri)
+    {
+        final String maxMessagesPerSendParam = channelUri.get(MAX_MESSAGES_PER_SEND_PARAM_NAME);
+        if (null != maxMessagesPerSendParam)
+        {
+            final int maxMessagesPerSend;
+            try
+            {
+                maxMessagesPerSend = Integer.parseInt(maxMessagesPerSendParam);
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException(
+                    MAX_MESSAGES_PER_SEND_PARAM_NAME + "=" + maxMessagesPerSendParam + " must be a number: channel=" +
+                    channelUri, ex);
+            }
+
+            final int max = Configuration.NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_MAX;
+            if (maxMessagesPerSend < 1 || maxMessagesPerSend > max)
+            {
+                throw new IllegalArgumentException(
+                    MAX_MESSAGES_PER_SEND_PARAM_NAME + "=" + maxMessagesPerSend + " must be in range 1-" + max +
+                    ": channel=" + channelUri);
+            }
+
+            this.maxMessagesPerSend = maxMessagesPerSend;
+        }
+    }
+
+    private void getMaxRetransmits(final ChannelUri channelUri)
+    {
+        final String maxRetransmitsParam = channelUri.get(MAX_RETRANSMITS_PARAM_NAME);
+        if (null != maxRetransmitsParam)
+        {
+            final int maxRetransmits;
+            try
+            {
+                maxRetransmits = Integer.parseInt(maxRetransmitsParam);
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException(
+                    MAX_RETRANSMITS_PARAM_NAME + "=" + maxRetransmitsParam + " must be a number: channel=" +
+                    channelUri, ex);
+            }
+
+            final int max = Configuration.MAX_RETRANSMITS_MAX;
+            if (maxRetransmits < 1 || maxRetransmits > max)
+            {
+                throw new IllegalArgumentException(
+                    MAX_RETRANSMITS_PARAM_NAME + "=" + maxRetransmits + " must be in range 1-" + max +
+                    ": channel=" + channelUri);
+            }
+
+            this.maxRetransmits = maxRetransmits;
+        }
+    }
+
+    private void getSendPacing(final ChannelUri channelUri)
+    {
+        final String maxSendRateParam = channelUri.get(MAX_SEND_RATE_PARAM_NAME);
+        if (null != maxSendRateParam)
+        {
+            final long maxSendRate = SystemUtil.parseSize(MAX_SEND_RATE_PARAM_NAME, maxSendRateParam);
+            if (maxSendRate < 1)
+            {
+                throw new IllegalArgumentException(
+                    MAX_SEND_RATE_PARAM_NAME + "=" + maxSendRate + " must be positive: channel=" + channelUri);
+            }
+
+            this.maxSendRate = maxSendRate;
+        }
+
+        final String sendBurstParam = channelUri.get(SEND_BURST_PARAM_NAME);
+        if (null != sendBurstParam)
+        {
+            final long sendBurst = SystemUtil.parseSize(SEND_BURST_PARAM_NAME, sendBurstParam);
+            if (sendBurst < mtuLength || sendBurst > termLength)
+            {
+                throw new IllegalArgumentException(
+                    SEND_BURST_PARAM_NAME + "=" + sendBurst + " must be in range " + mtuLength + "-" + termLength +
+                    ": channel=" + channelUri);
+            }
+
+            this.sendBurst = (int)sendBurst;
+        }
+        else
+        {
+            this.sendBurst = (int)Math.min((long)mtuLength * maxMessagesPerSend, termLength);
+        }
+    }
+
+    private void getFecGroupSize(final ChannelUri channelUri)
+    {
+        final String fecParam = channelUri.get(FEC_PARAM_NAME);
+        if (null != fecParam)
+        {
+            final int fecGroupSize;
+            try
+            {
+                fecGroupSize = Integer.parseInt(fecParam);
+            }
+            catch (final NumberFormatException ex)
+            {
+                throw new IllegalArgumentException(
+                    FEC_PARAM_NAME + "=" + fecParam + " must be a number: channel=" + channelUri, ex);
+            }
+
+            final int max = Configuration.FEC_GROUP_SIZE_MAX;
+            if (fecGroupSize < 1 || fecGroupSize > max)
+            {
+                throw new IllegalArgumentException(
+                    FEC_PARAM_NAME + "=" + fecGroupSize + " must be in range 1-" + max + ": channel=" + channelUri);
+            }
+
+            this.fecGroupSize = fecGroupSize;
+        }
+    }
+
     static void validateMtuForMaxMessage(final PublicationParams params, final String channel)
     {
         final int termLength = params.termLength;
@@ -368,6 +500,11 @@ final class PublicationParams
         }
     }
 
+    private void getSack(final ChannelUri channelUri)
+    {
+        isSack = "true".equals(channelUri.get(SACK_PARAM_NAME));
+    }
+
     private void getSparse(final ChannelUri channelUri, final MediaDriver.Context ctx)
     {
         final String sparseStr = channelUri.get(SPARSE_PARAM_NAME);
@@ -421,6 +558,11 @@ final class PublicationParams
             ", entityTag=" + entityTag +
             ", termLength=" + termLength +
             ", mtuLength=" + mtuLength +
+            ", maxMessagesPerSend=" + maxMessagesPerSend +
+            ", maxRetransmits=" + maxRetransmits +
+            ", maxSendRate=" + maxSendRate +
+            ", sendBurst=" + sendBurst +
+            ", fecGroupSize=" + fecGroupSize +
             ", initialTermId=" + initialTermId +
             ", termId=" + termId +
             ", termOffset=" + termOffset +
@@ -428,6 +570,7 @@ final class PublicationParams
             ", hasPosition=" + hasPosition +
             ", hasSessionId=" + hasSessionId +
             ", isSessionIdTagged=" + isSessionIdTagged +
+            ", isSack=" + isSack +
             ", isSparse=" + isSparse +
             ", signalEos=" + signalEos +
             ", spiesSimulateConnection=" + spiesSimulateConnection +
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.CommonContext;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.net.InetSocketAddress;
+
+import static org.agrona.AsciiEncoding.parseIntAscii;
+import static org.agrona.SystemUtil.parseSize;
+
+/**
+ * Quorum multicast sender flow control strategy which limits the sender to the k-th slowest receiver, or to the
+ * slowest receiver of a percentile of receivers, so a small number of slow receivers cannot throttle a large group.
+ * <p>
+ * Receivers which trail the gating receiver by more than an ejection lag are ejected from tracking and counted so
+ * they are not overrun silently. Configured with the channel URI param, e.g.
+ * {@code fc=quorum,k:3,l:16m} to limit the sender to the third slowest receiver and eject receivers more than 16MB
+ * behind it, or {@code fc=quorum,p:95} to keep the sender within the window of 95% of receivers. The {@code g:} and
+ * {@code t:} options of {@link MinMulticastFlowControl} are also supported.
+ */
+public class QuorumMulticastFlowControl extends AbstractMinMulticastFlowControl
+{
+    /**
+     * URI param value to identify this {@link FlowControl} strategy.
+     */
+    public static final String FC_PARAM_VALUE = "quorum";
+
+    private int rank = 1;
+    private int percentile;
+    private long ejectionLag;
+
+    QuorumMulticastFlowControl()
+    {
+        super(false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void initialize(
+        final MediaDriver.Context context,
+        final CountersManager countersManager,
+        final UdpChannel udpChannel,
+        final int streamId,
+        final int sessionId,
+        final long registrationId,
+        final int initialTermId,
+        final int termBufferLength)
+    {
+        parseUriParam(udpChannel.channelUri().get(CommonContext.FLOW_CONTROL_PARAM_NAME));
+        super.initialize(
+            context,
+            countersManager,
+            udpChannel,
+            streamId,
+            sessionId,
+            registrationId,
+            initialTermId,
+            termBufferLength);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long onStatusMessage(
+        final StatusMessageFlyweight flyweight,
+        final InetSocketAddress receiverAddress,
+        final long senderLimit,
+        final int initialTermId,
+        final int positionBitsToShift,
+        final long timeNs)
+    {
+        return processStatusMessage(flyweight, senderLimit, initialTermId, positionBitsToShift, timeNs, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected int gatingRank(final int receiverCount)
+    {
+        if (0 != percentile)
+        {
+            final int keptUpCount = (int)(((long)receiverCount * percentile + 99) / 100);
+            return receiverCount - keptUpCount + 1;
+        }
+
+        return rank;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected long receiverEjectionLag()
+    {
+        return ejectionLag;
+    }
+
+    private void parseUriParam(final String fcValue)
+    {
+        if (null != fcValue)
+        {
+            for (final String arg : fcValue.split(","))
+            {
+                if (arg.startsWith("k:"))
+                {
+                    rank = parseIntAscii(arg, 2, arg.length() - 2);
+                    if (rank < 1)
+                    {
+                        throw new IllegalArgumentException("fc quorum rank must be at least 1: fc=" + fcValue);
+                    }
+                }
+                else if (arg.startsWith("p:"))
+                {
+                    percentile = parseIntAscii(arg, 2, arg.length() - 2);
+                    if (percentile < 1 || percentile > 100)
+                    {
+                        throw new IllegalArgumentException(
+                            "fc quorum percentile must be in range 1-100: fc=" + fcValue);
+                    }
+                }
+                else if (arg.startsWith("l:"))
+                {
+                    ejectionLag = parseSize("fc receiver ejection lag", arg.substring(2));
+                }
+            }
+
+            if (1 != rank && 0 != percentile)
+            {
+                throw new IllegalArgumentException(
+                    "fc quorum can have a rank or a percentile but not both: fc=" + fcValue);
+            }
+        }
+    }
+}
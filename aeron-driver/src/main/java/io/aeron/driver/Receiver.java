@@ -20,6 +20,7 @@ import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveDestinationTransport;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.driver.status.DutyCycleStallTracker;
+import io.aeron.driver.status.SystemCounters;
 import org.agrona.collections.ArrayListUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.Agent;
@@ -43,6 +44,8 @@ public final class Receiver implements Agent
 {
     private static final PublicationImage[] EMPTY_IMAGES = new PublicationImage[0];
 
+    private final int index;
+    private final boolean hasMultipleReceivers;
     private final long reResolutionCheckIntervalNs;
     private long reResolutionDeadlineNs;
     private final DataTransportPoller dataTransportPoller;
@@ -58,15 +61,34 @@ public final class Receiver implements Agent
 
     Receiver(final MediaDriver.Context ctx)
     {
-        dataTransportPoller = ctx.dataTransportPoller();
-        commandQueue = ctx.receiverCommandQueue();
+        this(
+            ctx,
+            0,
+            ctx.dataTransportPoller(),
+            ctx.receiverCommandQueue(),
+            ctx.receiverDutyCycleTracker(),
+            ctx.receiverCachedNanoClock());
+    }
+
+    Receiver(
+        final MediaDriver.Context ctx,
+        final int index,
+        final DataTransportPoller dataTransportPoller,
+        final OneToOneConcurrentArrayQueue<Runnable> commandQueue,
+        final DutyCycleTracker dutyCycleTracker,
+        final CachedNanoClock cachedNanoClock)
+    {
+        this.index = index;
+        this.hasMultipleReceivers = ctx.receiverAgentCount() > 1;
+        this.dataTransportPoller = dataTransportPoller;
+        this.commandQueue = commandQueue;
+        this.dutyCycleTracker = dutyCycleTracker;
         totalBytesReceived = ctx.systemCounters().get(BYTES_RECEIVED);
         resolutionChanges = ctx.systemCounters().get(RESOLUTION_CHANGES);
         nanoClock = ctx.nanoClock();
-        cachedNanoClock = ctx.receiverCachedNanoClock();
+        this.cachedNanoClock = cachedNanoClock;
         conductorProxy = ctx.driverConductorProxy();
         reResolutionCheckIntervalNs = ctx.reResolutionCheckIntervalNs();
-        dutyCycleTracker = ctx.receiverDutyCycleTracker();
     }
 
     /**
@@ -79,7 +101,7 @@ public final class Receiver implements Agent
         dutyCycleTracker.update(nowNs);
         reResolutionDeadlineNs = nowNs + reResolutionCheckIntervalNs;
 
-        if (dutyCycleTracker instanceof DutyCycleStallTracker)
+        if (0 == index && dutyCycleTracker instanceof DutyCycleStallTracker)
         {
             final DutyCycleStallTracker dutyCycleStallTracker = (DutyCycleStallTracker)dutyCycleTracker;
 
@@ -103,7 +125,7 @@ public final class Receiver implements Agent
      */
     public String roleName()
     {
-        return "receiver";
+        return 0 == index ? "receiver" : "receiver-" + index;
     }
 
     /**
@@ -118,7 +140,10 @@ public final class Receiver implements Agent
         int workCount = commandQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
 
         final int bytesReceived = dataTransportPoller.pollTransports();
-        totalBytesReceived.getAndAddOrdered(bytesReceived);
+        if (bytesReceived > 0)
+        {
+            SystemCounters.getAndAdd(totalBytesReceived, bytesReceived, hasMultipleReceivers);
+        }
 
         final PublicationImage[] publicationImages = this.publicationImages;
         for (int lastIndex = publicationImages.length - 1, i = lastIndex; i >= 0; i--)
@@ -131,6 +156,7 @@ public final class Receiver implements Agent
                 workCount += image.sendPendingStatusMessage(nowNs);
                 workCount += image.processPendingLoss();
                 workCount += image.initiateAnyRttMeasurements(nowNs);
+                workCount += image.updateReceiverLatency(nowNs);
             }
             else
             {
@@ -152,6 +178,16 @@ public final class Receiver implements Agent
         return workCount + bytesReceived;
     }
 
+    CachedNanoClock cachedNanoClock()
+    {
+        return cachedNanoClock;
+    }
+
+    OneToOneConcurrentArrayQueue<Runnable> commandQueue()
+    {
+        return commandQueue;
+    }
+
     void addPendingSetupMessage(
         final int sessionId,
         final int streamId,
@@ -298,7 +334,7 @@ public final class Receiver implements Agent
                 pending.transportIndex() == transportIndex)
             {
                 pending.controlAddress(newAddress);
-                resolutionChanges.getAndAddOrdered(1);
+                SystemCounters.increment(resolutionChanges, hasMultipleReceivers);
             }
         }
 
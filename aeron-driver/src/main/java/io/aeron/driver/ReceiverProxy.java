@@ -19,6 +19,7 @@ import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveDestinationTransport;
 import io.aeron.driver.media.UdpChannel;
 import org.agrona.concurrent.AgentTerminationException;
+import org.agrona.concurrent.CachedNanoClock;
 import org.agrona.concurrent.QueuedPipe;
 import org.agrona.concurrent.status.AtomicCounter;
 
@@ -28,21 +29,21 @@ import static io.aeron.driver.ThreadingMode.INVOKER;
 import static io.aeron.driver.ThreadingMode.SHARED;
 
 /**
- * Proxy for offering into the {@link Receiver} Thread's command queue.
+ * Proxy for offering into the {@link Receiver} Threads' command queues. Commands for a {@link ReceiveChannelEndpoint}
+ * are routed to the {@link Receiver} which owns the endpoint as given by {@link ReceiveChannelEndpoint#receiverIndex()}.
  */
 final class ReceiverProxy
 {
     private final ThreadingMode threadingMode;
-    private final QueuedPipe<Runnable> commandQueue;
     private final AtomicCounter failCount;
-
-    private Receiver receiver;
+    private QueuedPipe<?>[] commandQueues;
+    private Receiver[] receivers;
 
     ReceiverProxy(
         final ThreadingMode threadingMode, final QueuedPipe<Runnable> commandQueue, final AtomicCounter failCount)
     {
         this.threadingMode = threadingMode;
-        this.commandQueue = commandQueue;
+        this.commandQueues = new QueuedPipe<?>[]{ commandQueue };
         this.failCount = failCount;
     }
 
@@ -59,149 +60,195 @@ final class ReceiverProxy
 
     void receiver(final Receiver receiver)
     {
-        this.receiver = receiver;
+        receivers(new Receiver[]{ receiver });
+    }
+
+    void receivers(final Receiver[] receivers)
+    {
+        final QueuedPipe<?>[] commandQueues = new QueuedPipe<?>[receivers.length];
+        for (int i = 0; i < receivers.length; i++)
+        {
+            commandQueues[i] = receivers[i].commandQueue();
+        }
+
+        this.receivers = receivers;
+        this.commandQueues = commandQueues;
     }
 
     Receiver receiver()
     {
-        return receiver;
+        return receiver(0);
+    }
+
+    Receiver receiver(final int index)
+    {
+        return receivers[index];
+    }
+
+    int receiverCount()
+    {
+        return receivers.length;
+    }
+
+    CachedNanoClock cachedNanoClock(final int receiverIndex)
+    {
+        return receivers[receiverIndex].cachedNanoClock();
     }
 
     boolean isApplyingBackpressure()
     {
-        return commandQueue.remainingCapacity() < 1;
+        for (final QueuedPipe<?> commandQueue : commandQueues)
+        {
+            if (commandQueue.remainingCapacity() < 1)
+            {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     void addSubscription(final ReceiveChannelEndpoint mediaEndpoint, final int streamId)
     {
+        final Receiver receiver = receivers[mediaEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onAddSubscription(mediaEndpoint, streamId);
         }
         else
         {
-            offer(() -> receiver.onAddSubscription(mediaEndpoint, streamId));
+            offer(receiver, () -> receiver.onAddSubscription(mediaEndpoint, streamId));
         }
     }
 
     void addSubscription(final ReceiveChannelEndpoint mediaEndpoint, final int streamId, final int sessionId)
     {
+        final Receiver receiver = receivers[mediaEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onAddSubscription(mediaEndpoint, streamId, sessionId);
         }
         else
         {
-            offer(() -> receiver.onAddSubscription(mediaEndpoint, streamId, sessionId));
+            offer(receiver, () -> receiver.onAddSubscription(mediaEndpoint, streamId, sessionId));
         }
     }
 
     void removeSubscription(final ReceiveChannelEndpoint mediaEndpoint, final int streamId)
     {
+        final Receiver receiver = receivers[mediaEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onRemoveSubscription(mediaEndpoint, streamId);
         }
         else
         {
-            offer(() -> receiver.onRemoveSubscription(mediaEndpoint, streamId));
+            offer(receiver, () -> receiver.onRemoveSubscription(mediaEndpoint, streamId));
         }
     }
 
     void removeSubscription(final ReceiveChannelEndpoint mediaEndpoint, final int streamId, final int sessionId)
     {
+        final Receiver receiver = receivers[mediaEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onRemoveSubscription(mediaEndpoint, streamId, sessionId);
         }
         else
         {
-            offer(() -> receiver.onRemoveSubscription(mediaEndpoint, streamId, sessionId));
+            offer(receiver, () -> receiver.onRemoveSubscription(mediaEndpoint, streamId, sessionId));
         }
     }
 
     void newPublicationImage(final ReceiveChannelEndpoint channelEndpoint, final PublicationImage image)
     {
+        final Receiver receiver = receivers[channelEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onNewPublicationImage(channelEndpoint, image);
         }
         else
         {
-            offer(() -> receiver.onNewPublicationImage(channelEndpoint, image));
+            offer(receiver, () -> receiver.onNewPublicationImage(channelEndpoint, image));
         }
     }
 
     void registerReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
     {
+        final Receiver receiver = receivers[channelEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onRegisterReceiveChannelEndpoint(channelEndpoint);
         }
         else
         {
-            offer(() -> receiver.onRegisterReceiveChannelEndpoint(channelEndpoint));
+            offer(receiver, () -> receiver.onRegisterReceiveChannelEndpoint(channelEndpoint));
         }
     }
 
     void closeReceiveChannelEndpoint(final ReceiveChannelEndpoint channelEndpoint)
     {
+        final Receiver receiver = receivers[channelEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onCloseReceiveChannelEndpoint(channelEndpoint);
         }
         else
         {
-            offer(() -> receiver.onCloseReceiveChannelEndpoint(channelEndpoint));
+            offer(receiver, () -> receiver.onCloseReceiveChannelEndpoint(channelEndpoint));
         }
     }
 
     void removeCoolDown(final ReceiveChannelEndpoint channelEndpoint, final int sessionId, final int streamId)
     {
+        final Receiver receiver = receivers[channelEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onRemoveCoolDown(channelEndpoint, sessionId, streamId);
         }
         else
         {
-            offer(() -> receiver.onRemoveCoolDown(channelEndpoint, sessionId, streamId));
+            offer(receiver, () -> receiver.onRemoveCoolDown(channelEndpoint, sessionId, streamId));
         }
     }
 
     void addDestination(final ReceiveChannelEndpoint channelEndpoint, final ReceiveDestinationTransport transport)
     {
+        final Receiver receiver = receivers[channelEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onAddDestination(channelEndpoint, transport);
         }
         else
         {
-            offer(() -> receiver.onAddDestination(channelEndpoint, transport));
+            offer(receiver, () -> receiver.onAddDestination(channelEndpoint, transport));
         }
     }
 
     void removeDestination(final ReceiveChannelEndpoint channelEndpoint, final UdpChannel udpChannel)
     {
+        final Receiver receiver = receivers[channelEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onRemoveDestination(channelEndpoint, udpChannel);
         }
         else
         {
-            offer(() -> receiver.onRemoveDestination(channelEndpoint, udpChannel));
+            offer(receiver, () -> receiver.onRemoveDestination(channelEndpoint, udpChannel));
         }
     }
 
     void onResolutionChange(
         final ReceiveChannelEndpoint channelEndpoint, final UdpChannel udpChannel, final InetSocketAddress newAddress)
     {
+        final Receiver receiver = receivers[channelEndpoint.receiverIndex()];
         if (notConcurrent())
         {
             receiver.onResolutionChange(channelEndpoint, udpChannel, newAddress);
         }
         else
         {
-            offer(() -> receiver.onResolutionChange(channelEndpoint, udpChannel, newAddress));
+            offer(receiver, () -> receiver.onResolutionChange(channelEndpoint, udpChannel, newAddress));
         }
     }
 
@@ -210,8 +257,9 @@ final class ReceiverProxy
         return threadingMode == SHARED || threadingMode == INVOKER;
     }
 
-    private void offer(final Runnable cmd)
+    private void offer(final Receiver receiver, final Runnable cmd)
     {
+        final QueuedPipe<Runnable> commandQueue = receiver.commandQueue();
         while (!commandQueue.offer(cmd))
         {
             if (!failCount.isClosed())
@@ -16,51 +16,64 @@
 package io.aeron.driver;
 
 import io.aeron.protocol.DataHeaderFlyweight;
-import org.agrona.collections.BiInt2ObjectMap;
+import io.aeron.protocol.SackFlyweight;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.NanoClock;
 
-import static io.aeron.driver.Configuration.MAX_RETRANSMITS_DEFAULT;
 import static io.aeron.driver.RetransmitHandler.State.DELAYED;
 import static io.aeron.driver.RetransmitHandler.State.LINGERING;
 
 /**
  * Tracking and handling of retransmit request, NAKs, for senders, and receivers.
  * <p>
- * A max number of retransmits is permitted by {@link Configuration#MAX_RETRANSMITS_DEFAULT}. Additional received NAKs
- * will be ignored if this maximum is reached.
+ * Requests are tracked as ranges of a term so a NAK which overlaps, or is adjacent to, a delayed retransmit is merged
+ * into it, and any part of a retransmit covered by a lingering retransmit is skipped when it is sent so it is not
+ * retransmitted again. A max number of active retransmits is permitted by
+ * {@link Configuration#MAX_RETRANSMITS_PROP_NAME}, or per publication. NAKs which need an additional retransmit will be
+ * dropped if this maximum is reached.
  */
 public final class RetransmitHandler
 {
-    private final BiInt2ObjectMap<RetransmitAction> activeRetransmitsMap = new BiInt2ObjectMap<>();
-    private final RetransmitAction[] retransmitActionPool = new RetransmitAction[MAX_RETRANSMITS_DEFAULT];
+    private final RetransmitAction[] retransmitActions;
     private final NanoClock nanoClock;
     private final FeedbackDelayGenerator delayGenerator;
     private final FeedbackDelayGenerator lingerTimeoutGenerator;
     private final AtomicCounter invalidPackets;
+    private final AtomicCounter retransmitBytesCoalesced;
+    private final AtomicCounter retransmitBytesDropped;
+    private int activeRetransmitCount = 0;
 
     /**
      * Create a handler for the dealing with the reception of frame request a frame to be retransmitted.
      *
-     * @param nanoClock              used to determine time
-     * @param invalidPackets         for recording invalid packets
-     * @param delayGenerator         to use for delay determination
-     * @param lingerTimeoutGenerator to use for linger timeout
+     * @param nanoClock                used to determine time
+     * @param invalidPackets           for recording invalid packets
+     * @param delayGenerator           to use for delay determination
+     * @param lingerTimeoutGenerator   to use for linger timeout
+     * @param maxRetransmits           number of retransmits which can be active at the same time
+     * @param retransmitBytesCoalesced for recording bytes requested which are covered by an active retransmit
+     * @param retransmitBytesDropped   for recording bytes requested which are dropped as max retransmits are active
      */
     public RetransmitHandler(
         final NanoClock nanoClock,
         final AtomicCounter invalidPackets,
         final FeedbackDelayGenerator delayGenerator,
-        final FeedbackDelayGenerator lingerTimeoutGenerator)
+        final FeedbackDelayGenerator lingerTimeoutGenerator,
+        final int maxRetransmits,
+        final AtomicCounter retransmitBytesCoalesced,
+        final AtomicCounter retransmitBytesDropped)
     {
         this.nanoClock = nanoClock;
         this.invalidPackets = invalidPackets;
         this.delayGenerator = delayGenerator;
         this.lingerTimeoutGenerator = lingerTimeoutGenerator;
+        this.retransmitBytesCoalesced = retransmitBytesCoalesced;
+        this.retransmitBytesDropped = retransmitBytesDropped;
 
-        for (int i = 0; i < MAX_RETRANSMITS_DEFAULT; i++)
+        retransmitActions = new RetransmitAction[maxRetransmits];
+        for (int i = 0; i < maxRetransmits; i++)
         {
-            retransmitActionPool[i] = new RetransmitAction();
+            retransmitActions[i] = new RetransmitAction();
         }
     }
 
@@ -80,29 +93,142 @@ public final class RetransmitHandler
         final int termLength,
         final RetransmitSender retransmitSender)
     {
-        if (!isInvalid(termOffset, termLength))
+        if (isInvalid(termOffset, termLength))
         {
-            if (null == activeRetransmitsMap.get(termId, termOffset) &&
-                activeRetransmitsMap.size() < MAX_RETRANSMITS_DEFAULT)
+            return;
+        }
+
+        final int requestedLength = (int)Math.min(length, (long)termLength - termOffset);
+        int begin = termOffset;
+        int end = termOffset + requestedLength;
+
+        boolean isTrimmed;
+        do
+        {
+            isTrimmed = false;
+            for (int i = 0; i < activeRetransmitCount && begin < end; i++)
             {
-                final RetransmitAction action = assignRetransmitAction();
-                action.termId = termId;
-                action.termOffset = termOffset;
-                action.length = Math.min(length, termLength - termOffset);
+                final RetransmitAction action = retransmitActions[i];
+                if (LINGERING == action.state && termId == action.termId)
+                {
+                    final int actionEnd = action.termOffset + action.length;
+                    if (action.termOffset <= begin && begin < actionEnd)
+                    {
+                        begin = actionEnd;
+                        isTrimmed = true;
+                    }
 
-                final long delay = delayGenerator.generateDelay();
-                if (0 == delay)
+                    if (action.termOffset < end && end <= actionEnd)
+                    {
+                        end = action.termOffset;
+                        isTrimmed = true;
+                    }
+                }
+            }
+        }
+        while (isTrimmed && begin < end);
+
+        if (begin >= end)
+        {
+            addBytes(retransmitBytesCoalesced, requestedLength);
+            return;
+        }
+
+        RetransmitAction mergedAction = null;
+        long delayedLength = 0;
+        for (int i = 0; i < activeRetransmitCount;)
+        {
+            final RetransmitAction action = retransmitActions[i];
+            final int actionEnd = action.termOffset + action.length;
+            if (DELAYED == action.state && termId == action.termId && action.termOffset <= end && begin <= actionEnd)
+            {
+                delayedLength += action.length;
+                begin = Math.min(begin, action.termOffset);
+                end = Math.max(end, actionEnd);
+
+                if (null == mergedAction)
                 {
-                    retransmitSender.resend(termId, termOffset, action.length);
-                    action.linger(lingerTimeoutGenerator.generateDelay(), nanoClock.nanoTime());
+                    mergedAction = action;
                 }
                 else
                 {
-                    action.delay(delay, nanoClock.nanoTime());
+                    removeAction(i);
+                    continue;
                 }
+            }
+
+            i++;
+        }
+
+        final int newLength = (int)((end - begin) - delayedLength);
+        addBytes(retransmitBytesCoalesced, requestedLength - newLength);
+
+        if (null != mergedAction)
+        {
+            mergedAction.termOffset = begin;
+            mergedAction.length = end - begin;
+        }
+        else if (activeRetransmitCount < retransmitActions.length)
+        {
+            final RetransmitAction action = retransmitActions[activeRetransmitCount++];
+            action.termId = termId;
+            action.termOffset = begin;
+            action.length = end - begin;
+
+            final long delay = delayGenerator.generateDelay();
+            if (0 == delay)
+            {
+                resend(termId, begin, end, retransmitSender);
+                action.linger(lingerTimeoutGenerator.generateDelay(), nanoClock.nanoTime());
+            }
+            else
+            {
+                action.delay(delay, nanoClock.nanoTime());
+            }
+        }
+        else
+        {
+            addBytes(retransmitBytesDropped, newLength);
+        }
+    }
+
+    /**
+     * Called on reception of a SACK to start retransmits handling for each run of blocks reported as missing.
+     *
+     * @param msg              flyweight over the SACK which has had its block count validated against its length.
+     * @param termLength       of the term buffer.
+     * @param retransmitSender to call if an immediate retransmit is required
+     */
+    public void onSack(final SackFlyweight msg, final int termLength, final RetransmitSender retransmitSender)
+    {
+        final int termId = msg.termId();
+        final long termOffset = msg.termOffset();
+        final long blockLength = msg.blockLength();
+        final int blockCount = msg.blockCount();
+
+        int index = 0;
+        while (index < blockCount)
+        {
+            if (msg.isBlockReceived(index))
+            {
+                index++;
+                continue;
+            }
 
-                activeRetransmitsMap.put(termId, termOffset, action);
+            final int runStartIndex = index;
+            while (index < blockCount && !msg.isBlockReceived(index))
+            {
+                index++;
             }
+
+            final long runOffset = termOffset + (runStartIndex * blockLength);
+            if (runOffset >= termLength)
+            {
+                break;
+            }
+
+            final long runLength = Math.min((index - runStartIndex) * blockLength, termLength - runOffset);
+            onNak(termId, (int)runOffset, (int)runLength, termLength, retransmitSender);
         }
     }
 
@@ -116,13 +242,15 @@ public final class RetransmitHandler
      */
     public void onRetransmitReceived(final int termId, final int termOffset)
     {
-        final RetransmitAction action = activeRetransmitsMap.get(termId, termOffset);
-
-        if (null != action && DELAYED == action.state)
+        for (int i = 0; i < activeRetransmitCount; i++)
         {
-            activeRetransmitsMap.remove(termId, termOffset);
-            action.cancel();
-            // do not go into linger
+            final RetransmitAction action = retransmitActions[i];
+            if (DELAYED == action.state && termId == action.termId && termOffset == action.termOffset)
+            {
+                removeAction(i);
+                // do not go into linger
+                break;
+            }
         }
     }
 
@@ -134,22 +262,63 @@ public final class RetransmitHandler
      */
     public void processTimeouts(final long nowNs, final RetransmitSender retransmitSender)
     {
-        if (activeRetransmitsMap.size() > 0)
+        for (int i = 0; i < activeRetransmitCount;)
         {
-            for (final RetransmitAction action : retransmitActionPool)
+            final RetransmitAction action = retransmitActions[i];
+            if (DELAYED == action.state && (action.expireNs - nowNs < 0))
             {
-                if (DELAYED == action.state && (action.expireNs - nowNs < 0))
-                {
-                    retransmitSender.resend(action.termId, action.termOffset, action.length);
-                    action.linger(lingerTimeoutGenerator.generateDelay(), nanoClock.nanoTime());
-                }
-                else if (LINGERING == action.state && (action.expireNs - nowNs < 0))
+                resend(action.termId, action.termOffset, action.termOffset + action.length, retransmitSender);
+                action.linger(lingerTimeoutGenerator.generateDelay(), nanoClock.nanoTime());
+            }
+            else if (LINGERING == action.state && (action.expireNs - nowNs < 0))
+            {
+                removeAction(i);
+                continue;
+            }
+
+            i++;
+        }
+    }
+
+    private void resend(final int termId, final int termOffset, final int end, final RetransmitSender retransmitSender)
+    {
+        long skippedBytes = 0;
+        int begin = termOffset;
+        while (begin < end)
+        {
+            int sendEnd = end;
+            int skipEnd = begin;
+            for (int i = 0; i < activeRetransmitCount; i++)
+            {
+                final RetransmitAction action = retransmitActions[i];
+                if (LINGERING == action.state && termId == action.termId)
                 {
-                    action.cancel();
-                    activeRetransmitsMap.remove(action.termId, action.termOffset);
+                    final int actionEnd = action.termOffset + action.length;
+                    if (action.termOffset <= begin && begin < actionEnd)
+                    {
+                        skipEnd = Math.max(skipEnd, actionEnd);
+                    }
+                    else if (begin < action.termOffset && action.termOffset < sendEnd)
+                    {
+                        sendEnd = action.termOffset;
+                    }
                 }
             }
+
+            if (skipEnd > begin)
+            {
+                skipEnd = Math.min(skipEnd, end);
+                skippedBytes += skipEnd - begin;
+                begin = skipEnd;
+            }
+            else
+            {
+                retransmitSender.resend(termId, begin, sendEnd - begin);
+                begin = sendEnd;
+            }
         }
+
+        addBytes(retransmitBytesCoalesced, skippedBytes);
     }
 
     private boolean isInvalid(final int termOffset, final int termLength)
@@ -164,17 +333,22 @@ public final class RetransmitHandler
         return isInvalid;
     }
 
-    private RetransmitAction assignRetransmitAction()
+    private void removeAction(final int index)
     {
-        for (final RetransmitAction action : retransmitActionPool)
+        final int lastIndex = --activeRetransmitCount;
+        final RetransmitAction action = retransmitActions[index];
+        action.cancel();
+
+        retransmitActions[index] = retransmitActions[lastIndex];
+        retransmitActions[lastIndex] = action;
+    }
+
+    private static void addBytes(final AtomicCounter counter, final long bytes)
+    {
+        if (bytes > 0)
         {
-            if (State.INACTIVE == action.state)
-            {
-                return action;
-            }
+            counter.getAndAdd(bytes);
         }
-
-        throw new IllegalStateException("maximum number of active RetransmitActions reached");
     }
 
     enum State
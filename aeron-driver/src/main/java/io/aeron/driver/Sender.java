@@ -19,6 +19,7 @@ import io.aeron.ChannelUri;
 import io.aeron.driver.media.ControlTransportPoller;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.status.DutyCycleStallTracker;
+import io.aeron.driver.status.SystemCounters;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.Agent;
 import org.agrona.concurrent.CachedNanoClock;
@@ -63,6 +64,8 @@ public final class Sender extends SenderRhsPadding implements Agent
 {
     private NetworkPublication[] networkPublications = new NetworkPublication[0];
 
+    private final int index;
+    private final boolean hasMultipleSenders;
     private final long statusMessageReadTimeoutNs;
     private final long reResolutionCheckIntervalNs;
     private final int dutyCycleRatio;
@@ -77,18 +80,36 @@ public final class Sender extends SenderRhsPadding implements Agent
 
     Sender(final MediaDriver.Context ctx)
     {
-        this.controlTransportPoller = ctx.controlTransportPoller();
-        this.commandQueue = ctx.senderCommandQueue();
+        this(
+            ctx,
+            0,
+            ctx.controlTransportPoller(),
+            ctx.senderCommandQueue(),
+            ctx.senderDutyCycleTracker(),
+            ctx.senderCachedNanoClock());
+    }
+
+    Sender(
+        final MediaDriver.Context ctx,
+        final int index,
+        final ControlTransportPoller controlTransportPoller,
+        final OneToOneConcurrentArrayQueue<Runnable> commandQueue,
+        final DutyCycleTracker dutyCycleTracker,
+        final CachedNanoClock cachedNanoClock)
+    {
+        this.index = index;
+        this.hasMultipleSenders = ctx.senderAgentCount() > 1;
+        this.controlTransportPoller = controlTransportPoller;
+        this.commandQueue = commandQueue;
+        this.dutyCycleTracker = dutyCycleTracker;
         this.totalBytesSent = ctx.systemCounters().get(BYTES_SENT);
         this.resolutionChanges = ctx.systemCounters().get(RESOLUTION_CHANGES);
         this.nanoClock = ctx.nanoClock();
-        this.cachedNanoClock = ctx.senderCachedNanoClock();
+        this.cachedNanoClock = cachedNanoClock;
         this.statusMessageReadTimeoutNs = ctx.statusMessageTimeoutNs() >> 1;
         this.reResolutionCheckIntervalNs = ctx.reResolutionCheckIntervalNs();
         this.dutyCycleRatio = ctx.sendToStatusMessagePollRatio();
         this.conductorProxy = ctx.driverConductorProxy();
-
-        this.dutyCycleTracker = ctx.senderDutyCycleTracker();
     }
 
     /**
@@ -101,7 +122,7 @@ public final class Sender extends SenderRhsPadding implements Agent
         dutyCycleTracker.update(nowNs);
         reResolutionDeadlineNs = nowNs + reResolutionCheckIntervalNs;
 
-        if (dutyCycleTracker instanceof DutyCycleStallTracker)
+        if (0 == index && dutyCycleTracker instanceof DutyCycleStallTracker)
         {
             final DutyCycleStallTracker dutyCycleStallTracker = (DutyCycleStallTracker)dutyCycleTracker;
 
@@ -156,7 +177,17 @@ public final class Sender extends SenderRhsPadding implements Agent
      */
     public String roleName()
     {
-        return "sender";
+        return 0 == index ? "sender" : "sender-" + index;
+    }
+
+    CachedNanoClock cachedNanoClock()
+    {
+        return cachedNanoClock;
+    }
+
+    OneToOneConcurrentArrayQueue<Runnable> commandQueue()
+    {
+        return commandQueue;
     }
 
     void onRegisterSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
@@ -200,7 +231,7 @@ public final class Sender extends SenderRhsPadding implements Agent
         final SendChannelEndpoint channelEndpoint, final String endpoint, final InetSocketAddress newAddress)
     {
         channelEndpoint.resolutionChange(endpoint, newAddress);
-        resolutionChanges.getAndAddOrdered(1);
+        SystemCounters.increment(resolutionChanges, hasMultipleSenders);
     }
 
     private int doSend(final long nowNs)
@@ -225,7 +256,10 @@ public final class Sender extends SenderRhsPadding implements Agent
             bytesSent += publications[i].send(nowNs);
         }
 
-        totalBytesSent.getAndAddOrdered(bytesSent);
+        if (bytesSent > 0)
+        {
+            SystemCounters.getAndAdd(totalBytesSent, bytesSent, hasMultipleSenders);
+        }
 
         return bytesSent;
     }
@@ -18,6 +18,7 @@ package io.aeron.driver;
 import io.aeron.ChannelUri;
 import io.aeron.driver.media.SendChannelEndpoint;
 import org.agrona.concurrent.AgentTerminationException;
+import org.agrona.concurrent.CachedNanoClock;
 import org.agrona.concurrent.QueuedPipe;
 import org.agrona.concurrent.status.AtomicCounter;
 
@@ -27,20 +28,22 @@ import static io.aeron.driver.ThreadingMode.INVOKER;
 import static io.aeron.driver.ThreadingMode.SHARED;
 
 /**
- * Proxy for offering into the Sender Thread's command queue.
+ * Proxy for offering into the Sender Threads' command queues. Commands for a {@link SendChannelEndpoint}, and its
+ * {@link NetworkPublication}s, are routed to the {@link Sender} which owns the endpoint as given by
+ * {@link SendChannelEndpoint#senderIndex()}.
  */
 final class SenderProxy
 {
     private final ThreadingMode threadingMode;
-    private final QueuedPipe<Runnable> commandQueue;
     private final AtomicCounter failCount;
-    private Sender sender;
+    private QueuedPipe<?>[] commandQueues;
+    private Sender[] senders;
 
     SenderProxy(
         final ThreadingMode threadingMode, final QueuedPipe<Runnable> commandQueue, final AtomicCounter failCount)
     {
         this.threadingMode = threadingMode;
-        this.commandQueue = commandQueue;
+        this.commandQueues = new QueuedPipe<?>[]{ commandQueue };
         this.failCount = failCount;
     }
 
@@ -57,98 +60,135 @@ final class SenderProxy
 
     boolean isApplyingBackpressure()
     {
-        return commandQueue.remainingCapacity() < 1;
+        for (final QueuedPipe<?> commandQueue : commandQueues)
+        {
+            if (commandQueue.remainingCapacity() < 1)
+            {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     void sender(final Sender sender)
     {
-        this.sender = sender;
+        senders(new Sender[]{ sender });
+    }
+
+    void senders(final Sender[] senders)
+    {
+        final QueuedPipe<?>[] commandQueues = new QueuedPipe<?>[senders.length];
+        for (int i = 0; i < senders.length; i++)
+        {
+            commandQueues[i] = senders[i].commandQueue();
+        }
+
+        this.senders = senders;
+        this.commandQueues = commandQueues;
+    }
+
+    int senderCount()
+    {
+        return senders.length;
+    }
+
+    CachedNanoClock cachedNanoClock(final int senderIndex)
+    {
+        return senders[senderIndex].cachedNanoClock();
     }
 
     void registerSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
     {
+        final Sender sender = senders[channelEndpoint.senderIndex()];
         if (notConcurrent())
         {
             sender.onRegisterSendChannelEndpoint(channelEndpoint);
         }
         else
         {
-            offer(() -> sender.onRegisterSendChannelEndpoint(channelEndpoint));
+            offer(sender, () -> sender.onRegisterSendChannelEndpoint(channelEndpoint));
         }
     }
 
     void closeSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
     {
+        final Sender sender = senders[channelEndpoint.senderIndex()];
         if (notConcurrent())
         {
             sender.onCloseSendChannelEndpoint(channelEndpoint);
         }
         else
         {
-            offer(() -> sender.onCloseSendChannelEndpoint(channelEndpoint));
+            offer(sender, () -> sender.onCloseSendChannelEndpoint(channelEndpoint));
         }
     }
 
     void removeNetworkPublication(final NetworkPublication publication)
     {
+        final Sender sender = senders[publication.channelEndpoint().senderIndex()];
         if (notConcurrent())
         {
             sender.onRemoveNetworkPublication(publication);
         }
         else
         {
-            offer(() -> sender.onRemoveNetworkPublication(publication));
+            offer(sender, () -> sender.onRemoveNetworkPublication(publication));
         }
     }
 
     void newNetworkPublication(final NetworkPublication publication)
     {
+        final Sender sender = senders[publication.channelEndpoint().senderIndex()];
         if (notConcurrent())
         {
             sender.onNewNetworkPublication(publication);
         }
         else
         {
-            offer(() -> sender.onNewNetworkPublication(publication));
+            offer(sender, () -> sender.onNewNetworkPublication(publication));
         }
     }
 
     void addDestination(
         final SendChannelEndpoint channelEndpoint, final ChannelUri channelUri, final InetSocketAddress address)
     {
+        final Sender sender = senders[channelEndpoint.senderIndex()];
         if (notConcurrent())
         {
             sender.onAddDestination(channelEndpoint, channelUri, address);
         }
         else
         {
-            offer(() -> sender.onAddDestination(channelEndpoint, channelUri, address));
+            offer(sender, () -> sender.onAddDestination(channelEndpoint, channelUri, address));
         }
     }
 
     void removeDestination(
         final SendChannelEndpoint channelEndpoint, final ChannelUri channelUri, final InetSocketAddress address)
     {
+        final Sender sender = senders[channelEndpoint.senderIndex()];
         if (notConcurrent())
         {
             sender.onRemoveDestination(channelEndpoint, channelUri, address);
         }
         else
         {
-            offer(() -> sender.onRemoveDestination(channelEndpoint, channelUri, address));
+            offer(sender, () -> sender.onRemoveDestination(channelEndpoint, channelUri, address));
         }
     }
 
     void onResolutionChange(
         final SendChannelEndpoint channelEndpoint, final String endpoint, final InetSocketAddress newAddress)
     {
+        final Sender sender = senders[channelEndpoint.senderIndex()];
         if (notConcurrent())
         {
             sender.onResolutionChange(channelEndpoint, endpoint, newAddress);
         }
         else
         {
-            offer(() -> sender.onResolutionChange(channelEndpoint, endpoint, newAddress));
+            offer(sender, () -> sender.onResolutionChange(channelEndpoint, endpoint, newAddress));
         }
     }
 
@@ -157,8 +197,9 @@ final class SenderProxy
         return threadingMode == SHARED || threadingMode == INVOKER;
     }
 
-    private void offer(final Runnable cmd)
+    private void offer(final Sender sender, final Runnable cmd)
     {
+        final QueuedPipe<Runnable> commandQueue = sender.commandQueue();
         while (!commandQueue.offer(cmd))
         {
             if (!failCount.isClosed())
@@ -20,17 +20,33 @@ import io.aeron.exceptions.StorageSpaceException;
 import org.agrona.ErrorHandler;
 import org.agrona.IoUtil;
 import org.agrona.LangUtil;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.SystemNanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.FileStore;
 import java.nio.file.Files;
+import java.util.ArrayDeque;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.computeLogLength;
 
 /**
  * Factory for creating {@link RawLog}s in the source publications or publication images directories as appropriate.
+ * Logs can be created and freed from more than one thread, such as when allocated off the conductor thread.
+ * <p>
+ * When a pool capacity is given then freed logs are retained, up to the capacity for each term length, so they can be
+ * reused by a later publication or image with the same term length without the cost of creating, sizing, and mapping
+ * a new file. A reused log file is renamed to the location it would have been created at and zeroed, which is on the
+ * thread creating the log, such as the log buffer allocator thread, rather than the thread freeing it.
+ * <p>
+ * Clients keep the log of a closed publication or image mapped for their resource linger duration so a freed log is
+ * not reused until the pool reuse delay has elapsed, which must be at least the resource linger duration of clients
+ * so they do not see the log reused by another stream.
  */
 public class FileStoreLogFactory implements LogFactory
 {
@@ -41,6 +57,16 @@ public class FileStoreLogFactory implements LogFactory
     private final int filePageSize;
     private final boolean checkStorage;
     private final ErrorHandler errorHandler;
+    private final NanoClock nanoClock;
+    private final AtomicCounter mapMaxTimeNs;
+    private final AtomicCounter mapTotalTimeNs;
+    private final int poolCapacity;
+    private final long poolReuseDelayNs;
+    private final NanoClock poolNanoClock;
+    private final AtomicCounter poolHits;
+    private final AtomicCounter poolMisses;
+    private final Int2ObjectHashMap<ArrayDeque<FreedLog>> pooledLogsByTermLength = new Int2ObjectHashMap<>();
+    private boolean isClosed = false;
     private final File publicationsDir;
     private final File imagesDir;
     private final FileStore fileStore;
@@ -61,6 +87,61 @@ public class FileStoreLogFactory implements LogFactory
         final long lowStorageWarningThreshold,
         final ErrorHandler errorHandler)
     {
+        this(
+            dataDirectoryName,
+            filePageSize,
+            checkStorage,
+            lowStorageWarningThreshold,
+            errorHandler,
+            null,
+            null,
+            null,
+            0,
+            0,
+            null,
+            null);
+    }
+
+    /**
+     * Construct a {@link LogFactory} over a file store which records the time taken to create and map log buffers,
+     * and which can pool freed logs for reuse.
+     *
+     * @param dataDirectoryName          where the log buffers will be created.
+     * @param filePageSize               of the filesystem.
+     * @param checkStorage               for sufficient space before allocating files.
+     * @param lowStorageWarningThreshold when warnings about remaining space will begin.
+     * @param errorHandler               to call when an error is encountered.
+     * @param nanoClock                  to time the creation and mapping of log buffers, or null if not timed.
+     * @param mapMaxTimeNs               counter for the max time taken to create and map a log buffer.
+     * @param mapTotalTimeNs             counter for the total time taken to create and map log buffers.
+     * @param poolCapacity               of freed logs retained for reuse for each term length, 0 to not pool.
+     * @param poolReuseDelayNs           minimum time a freed log is retained before it can be reused which must be
+     *                                   at least the resource linger duration of clients.
+     * @param poolHits                   counter for logs reused from the pool, or null if not counted.
+     * @param poolMisses                 counter for logs created as none were pooled, or null if not counted.
+     */
+    public FileStoreLogFactory(
+        final String dataDirectoryName,
+        final int filePageSize,
+        final boolean checkStorage,
+        final long lowStorageWarningThreshold,
+        final ErrorHandler errorHandler,
+        final NanoClock nanoClock,
+        final AtomicCounter mapMaxTimeNs,
+        final AtomicCounter mapTotalTimeNs,
+        final int poolCapacity,
+        final long poolReuseDelayNs,
+        final AtomicCounter poolHits,
+        final AtomicCounter poolMisses)
+    {
+        this.poolCapacity = poolCapacity;
+        this.poolReuseDelayNs = poolReuseDelayNs;
+        this.poolNanoClock = null != nanoClock ? nanoClock : SystemNanoClock.INSTANCE;
+        this.poolHits = poolHits;
+        this.poolMisses = poolMisses;
+        this.nanoClock = nanoClock;
+        this.mapMaxTimeNs = mapMaxTimeNs;
+        this.mapTotalTimeNs = mapTotalTimeNs;
         this.filePageSize = filePageSize;
         this.lowStorageWarningThreshold = lowStorageWarningThreshold;
         this.checkStorage = checkStorage;
@@ -89,6 +170,21 @@ public class FileStoreLogFactory implements LogFactory
      */
     public void close()
     {
+        final ArrayDeque<FreedLog> freedLogs = new ArrayDeque<>();
+        synchronized (pooledLogsByTermLength)
+        {
+            isClosed = true;
+            for (final ArrayDeque<FreedLog> pooledLogs : pooledLogsByTermLength.values())
+            {
+                freedLogs.addAll(pooledLogs);
+                pooledLogs.clear();
+            }
+        }
+
+        for (final FreedLog freedLog : freedLogs)
+        {
+            freedLog.rawLog.close();
+        }
     }
 
     /**
@@ -122,14 +218,107 @@ public class FileStoreLogFactory implements LogFactory
         final long correlationId,
         final int termLength,
         final boolean useSparseFiles)
+    {
+        final File location = streamLocation(rootDir, correlationId);
+
+        if (poolCapacity > 0)
+        {
+            final MappedRawLog pooledLog = pollPooledLog(termLength);
+            if (null != pooledLog)
+            {
+                if (pooledLog.moveTo(location))
+                {
+                    zero(pooledLog);
+                    increment(poolHits);
+                    return new PooledRawLog(this, pooledLog);
+                }
+
+                pooledLog.close();
+            }
+
+            increment(poolMisses);
+            return new PooledRawLog(this, newMappedRawLog(location, termLength, useSparseFiles));
+        }
+
+        increment(poolMisses);
+        return newMappedRawLog(location, termLength, useSparseFiles);
+    }
+
+    boolean recycle(final MappedRawLog rawLog)
+    {
+        return offerPooledLog(new FreedLog(rawLog, poolNanoClock.nanoTime()));
+    }
+
+    private MappedRawLog pollPooledLog(final int termLength)
+    {
+        final long nowNs = poolNanoClock.nanoTime();
+        synchronized (pooledLogsByTermLength)
+        {
+            final ArrayDeque<FreedLog> pooledLogs = pooledLogsByTermLength.get(termLength);
+            final FreedLog freedLog = null != pooledLogs ? pooledLogs.peekFirst() : null;
+            if (null == freedLog || nowNs - freedLog.timeOfFreeNs < poolReuseDelayNs)
+            {
+                return null;
+            }
+
+            pooledLogs.pollFirst();
+            return freedLog.rawLog;
+        }
+    }
+
+    private boolean offerPooledLog(final FreedLog freedLog)
+    {
+        synchronized (pooledLogsByTermLength)
+        {
+            final int termLength = freedLog.rawLog.termLength();
+            ArrayDeque<FreedLog> pooledLogs = pooledLogsByTermLength.get(termLength);
+            if (null == pooledLogs)
+            {
+                pooledLogs = new ArrayDeque<>(poolCapacity);
+                pooledLogsByTermLength.put(termLength, pooledLogs);
+            }
+
+            if (isClosed || pooledLogs.size() >= poolCapacity)
+            {
+                return false;
+            }
+
+            pooledLogs.addLast(freedLog);
+
+            return true;
+        }
+    }
+
+    private static void zero(final MappedRawLog rawLog)
+    {
+        for (final UnsafeBuffer termBuffer : rawLog.termBuffers())
+        {
+            termBuffer.setMemory(0, termBuffer.capacity(), (byte)0);
+        }
+
+        final UnsafeBuffer metaData = rawLog.metaData();
+        metaData.setMemory(0, metaData.capacity(), (byte)0);
+    }
+
+    private MappedRawLog newMappedRawLog(final File location, final int termLength, final boolean useSparseFiles)
     {
         final long logLength = computeLogLength(termLength, filePageSize);
         checkStorage(logLength);
 
-        final File location = streamLocation(rootDir, correlationId);
+        if (null == nanoClock)
+        {
+            return new MappedRawLog(location, useSparseFiles, logLength, termLength, filePageSize, errorHandler);
+        }
 
-        return new MappedRawLog(
+        final long startNs = nanoClock.nanoTime();
+        final MappedRawLog rawLog = new MappedRawLog(
             location, useSparseFiles, logLength, termLength, filePageSize, errorHandler);
+        final long durationNs = nanoClock.nanoTime() - startNs;
+
+        mapMaxTimeNs.proposeMax(durationNs);
+        mapTotalTimeNs.getAndAdd(durationNs);
+
+        return rawLog;
     }
 
     private void checkStorage(final long logLength)
@@ -171,10 +360,30 @@ public class FileStoreLogFactory implements LogFactory
         return usableSpace;
     }
 
+    private static void increment(final AtomicCounter counter)
+    {
+        if (null != counter)
+        {
+            counter.increment();
+        }
+    }
+
     private static File streamLocation(final File rootDir, final long correlationId)
     {
         final String fileName = correlationId + ".logbuffer";
 
         return new File(rootDir, fileName);
     }
+
+    private static final class FreedLog
+    {
+        final MappedRawLog rawLog;
+        final long timeOfFreeNs;
+
+        FreedLog(final MappedRawLog rawLog, final long timeOfFreeNs)
+        {
+            this.rawLog = rawLog;
+            this.timeOfFreeNs = timeOfFreeNs;
+        }
+    }
 }
@@ -128,6 +128,17 @@ class MappedRawLog implements RawLog
         return termLength;
     }
 
+    boolean moveTo(final File location)
+    {
+        if (null != logFile && logFile.renameTo(location))
+        {
+            logFile = location;
+            return true;
+        }
+
+        return false;
+    }
+
     public boolean free()
     {
         final MappedByteBuffer[] mappedBuffers = this.mappedBuffers;
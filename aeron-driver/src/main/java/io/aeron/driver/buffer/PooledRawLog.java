@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link RawLog} created by a {@link FileStoreLogFactory} with a pool which on being freed is returned to the pool
+ * for reuse if it has capacity, otherwise the underlying log is freed.
+ */
+final class PooledRawLog implements RawLog
+{
+    private final FileStoreLogFactory logFactory;
+    private final MappedRawLog rawLog;
+    private boolean isReleased = false;
+    private boolean isRecycled = false;
+
+    PooledRawLog(final FileStoreLogFactory logFactory, final MappedRawLog rawLog)
+    {
+        this.logFactory = logFactory;
+        this.rawLog = rawLog;
+    }
+
+    public int termLength()
+    {
+        return rawLog.termLength();
+    }
+
+    public UnsafeBuffer[] termBuffers()
+    {
+        return rawLog.termBuffers();
+    }
+
+    public UnsafeBuffer metaData()
+    {
+        return rawLog.metaData();
+    }
+
+    public ByteBuffer[] sliceTerms()
+    {
+        return rawLog.sliceTerms();
+    }
+
+    public String fileName()
+    {
+        return rawLog.fileName();
+    }
+
+    public boolean free()
+    {
+        if (!isReleased)
+        {
+            isReleased = true;
+            isRecycled = logFactory.recycle(rawLog);
+        }
+
+        return isRecycled || rawLog.free();
+    }
+
+    public void close()
+    {
+        if (!free())
+        {
+            rawLog.close();
+        }
+    }
+}
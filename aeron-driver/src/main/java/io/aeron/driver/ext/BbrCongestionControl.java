@@ -0,0 +1,422 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.driver.Configuration;
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.PerImageIndicator;
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.Aeron.NULL_VALUE;
+import static io.aeron.driver.CongestionControl.packOutcome;
+
+/**
+ * BBR congestion control manipulation of the receiver window length based on a model of the path rather than loss.
+ * <p>
+ * <a target="_blank" href="https://queue.acm.org/detail.cfm?id=3022184">
+ * https://queue.acm.org/detail.cfm?id=3022184</a> and
+ * <a target="_blank" href="https://datatracker.ietf.org/doc/html/draft-cardwell-iccrg-bbr-congestion-control">
+ * https://datatracker.ietf.org/doc/html/draft-cardwell-iccrg-bbr-congestion-control</a>
+ * <p>
+ * The bottleneck bandwidth is estimated as the max delivery rate, measured by the advance of the high-water-mark,
+ * over the last 10 rounds where a round is the min RTT. The min RTT is taken from RTT measurements over the last
+ * {@link BbrCongestionControlConfiguration#MIN_RTT_WINDOW_NS}. The window is then the bandwidth-delay product scaled
+ * by a gain for the phase:
+ * <ul>
+ *     <li>STARTUP: gain of 2/ln(2) to double the delivery rate each round until it stops growing or loss occurs.</li>
+ *     <li>DRAIN: inverse of the startup gain for a round to drain the queue built in STARTUP.</li>
+ *     <li>PROBE_BW: cycle of gains 1.25, 0.75, then 1 for 6 rounds, to probe for more bandwidth then drain.</li>
+ *     <li>PROBE_RTT: min window for {@link BbrCongestionControlConfiguration#PROBE_RTT_DURATION_NS} when the min RTT
+ *     has not been refreshed so queues drain and a new min RTT can be measured.</li>
+ * </ul>
+ * As the sender is only constrained by the window the window is the pacing of the sender. Rounds in which less than
+ * a quarter of the window is delivered are app-limited and can only increase the bandwidth estimate. The window does
+ * not shrink in STARTUP, and full bandwidth is not assessed until the min RTT has been measured. The first round
+ * starts from the high-water-mark first observed so the join position of a late joiner is not counted as delivered.
+ */
+public class BbrCongestionControl implements CongestionControl
+{
+    /**
+     * URI param value to identify this {@link CongestionControl} strategy.
+     */
+    public static final String CC_PARAM_VALUE = "bbr";
+
+    enum State
+    {
+        STARTUP,
+        DRAIN,
+        PROBE_BW,
+        PROBE_RTT
+    }
+
+    private static final long SECOND_IN_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_EXACT_DELIVERED_BYTES = Long.MAX_VALUE / SECOND_IN_NS;
+    private static final int INITCWND = 10;
+    private static final int MIN_CWND = 4;
+    private static final int RTT_TIMEOUT_MULTIPLE = 4;
+    private static final int BANDWIDTH_FILTER_ROUNDS = 10;
+    private static final int FULL_BANDWIDTH_ROUNDS = 3;
+    private static final int APP_LIMITED_WINDOW_SHIFT = 2;
+
+    private static final double HIGH_GAIN = 2.0 / Math.log(2.0);
+    private static final double DRAIN_GAIN = 1.0 / HIGH_GAIN;
+    private static final double FULL_BANDWIDTH_GROWTH = 1.25;
+    private static final double[] PROBE_BW_GAINS = { 1.25, 0.75, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0 };
+
+    private final int initialWindowLength;
+    private final int minWindowLength;
+    private final int maxWindowLength;
+    private final long[] bandwidthSamples = new long[BANDWIDTH_FILTER_ROUNDS];
+
+    private State state = State.STARTUP;
+    private int windowLength;
+    private int roundCount;
+    private int cycleIndex;
+    private int fullBandwidthRoundCount;
+    private long maxBandwidth;
+    private long fullBandwidth;
+    private long minRttNs;
+    private long minRttTimestampNs;
+    private long lastRttTimestampNs = 0;
+    private long roundStartNs;
+    private long roundStartPosition = NULL_VALUE;
+    private long probeRttDoneNs;
+
+    private final ErrorHandler errorHandler;
+    private final AtomicCounter rttIndicator;
+    private final AtomicCounter bandwidthIndicator;
+    private final AtomicCounter windowIndicator;
+
+    /**
+     * Construct a new {@link CongestionControl} instance for a received stream image using the BBR algorithm.
+     *
+     * @param registrationId  for the publication image.
+     * @param udpChannel      for the publication image.
+     * @param streamId        for the publication image.
+     * @param sessionId       for the publication image.
+     * @param termLength      for the publication image.
+     * @param senderMtuLength for the publication image.
+     * @param controlAddress  for the publication image.
+     * @param sourceAddress   for the publication image.
+     * @param nanoClock       for the precise timing.
+     * @param context         for configuration options applied in the driver.
+     * @param countersManager for the driver.
+     */
+    @SuppressWarnings("this-escape")
+    public BbrCongestionControl(
+        final long registrationId,
+        final UdpChannel udpChannel,
+        final int streamId,
+        final int sessionId,
+        final int termLength,
+        final int senderMtuLength,
+        final InetSocketAddress controlAddress,
+        final InetSocketAddress sourceAddress,
+        final NanoClock nanoClock,
+        final MediaDriver.Context context,
+        final CountersManager countersManager)
+    {
+        try
+        {
+            errorHandler = context.errorHandler();
+
+            final int receiverWindowLength = 0 != udpChannel.receiverWindowLength() ?
+                udpChannel.receiverWindowLength() : context.initialWindowLength();
+            maxWindowLength = Configuration.receiverWindowLength(termLength, receiverWindowLength);
+            minWindowLength = Math.min(MIN_CWND * senderMtuLength, maxWindowLength);
+            initialWindowLength = Math.min(INITCWND * senderMtuLength, maxWindowLength);
+
+            rttIndicator = PerImageIndicator.allocate(
+                context.tempBuffer(),
+                "rcv-cc-bbr-rtt",
+                countersManager,
+                registrationId,
+                sessionId,
+                streamId,
+                udpChannel.originalUriString());
+
+            bandwidthIndicator = PerImageIndicator.allocate(
+                context.tempBuffer(),
+                "rcv-cc-bbr-bw",
+                countersManager,
+                registrationId,
+                sessionId,
+                streamId,
+                udpChannel.originalUriString());
+
+            windowIndicator = PerImageIndicator.allocate(
+                context.tempBuffer(),
+                "rcv-cc-bbr-wnd",
+                countersManager,
+                registrationId,
+                sessionId,
+                streamId,
+                udpChannel.originalUriString());
+
+            windowLength = initialWindowLength;
+            rttIndicator.setOrdered(0);
+            bandwidthIndicator.setOrdered(0);
+            windowIndicator.setOrdered(initialWindowLength);
+
+            roundStartNs = nanoClock.nanoTime();
+        }
+        catch (final Exception ex)
+        {
+            close();
+            throw ex;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void close()
+    {
+        CloseHelper.close(errorHandler, rttIndicator);
+        CloseHelper.close(errorHandler, bandwidthIndicator);
+        CloseHelper.close(errorHandler, windowIndicator);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean shouldMeasureRtt(final long nowNs)
+    {
+        final long rttTimeoutNs = State.PROBE_RTT == state ?
+            roundLengthNs() : roundLengthNs() * RTT_TIMEOUT_MULTIPLE;
+
+        return (lastRttTimestampNs + rttTimeoutNs) - nowNs < 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onRttMeasurementSent(final long nowNs)
+    {
+        lastRttTimestampNs = nowNs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onRttMeasurement(final long nowNs, final long rttNs, final InetSocketAddress srcAddress)
+    {
+        lastRttTimestampNs = nowNs;
+
+        if (rttNs > 0 && (0 == minRttNs || rttNs <= minRttNs || isMinRttExpired(nowNs)))
+        {
+            minRttNs = rttNs;
+            minRttTimestampNs = nowNs;
+            rttIndicator.setOrdered(rttNs);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long onTrackRebuild(
+        final long nowNs,
+        final long newConsumptionPosition,
+        final long lastSmPosition,
+        final long hwmPosition,
+        final long startingRebuildPosition,
+        final long endingRebuildPosition,
+        final boolean lossOccurred)
+    {
+        if (lossOccurred && State.STARTUP == state)
+        {
+            state = State.DRAIN;
+        }
+
+        if (NULL_VALUE == roundStartPosition)
+        {
+            roundStartNs = nowNs;
+            roundStartPosition = hwmPosition;
+        }
+
+        final long roundDurationNs = nowNs - roundStartNs;
+        if (roundDurationNs >= roundLengthNs())
+        {
+            onRoundEnd(nowNs, hwmPosition, roundDurationNs);
+        }
+
+        if (State.PROBE_RTT != state && 0 != minRttNs && isMinRttExpired(nowNs))
+        {
+            state = State.PROBE_RTT;
+            probeRttDoneNs = nowNs + Math.max(BbrCongestionControlConfiguration.PROBE_RTT_DURATION_NS, roundLengthNs());
+        }
+
+        final int windowLength = computeWindowLength();
+        if (windowLength != this.windowLength)
+        {
+            this.windowLength = windowLength;
+            windowIndicator.setOrdered(windowLength);
+        }
+
+        return packOutcome(windowLength, lossOccurred);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int initialWindowLength()
+    {
+        return initialWindowLength;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public int maxWindowLength()
+    {
+        return maxWindowLength;
+    }
+
+    State state()
+    {
+        return state;
+    }
+
+    long maxBandwidth()
+    {
+        return maxBandwidth;
+    }
+
+    long minRttNs()
+    {
+        return minRttNs;
+    }
+
+    private void onRoundEnd(final long nowNs, final long hwmPosition, final long roundDurationNs)
+    {
+        final long deliveredBytes = hwmPosition - roundStartPosition;
+        final long bandwidth = deliveredBytes <= MAX_EXACT_DELIVERED_BYTES ?
+            (deliveredBytes * SECOND_IN_NS) / roundDurationNs :
+            (long)((double)deliveredBytes * SECOND_IN_NS / roundDurationNs);
+        final boolean isWindowLimited = deliveredBytes >= (windowLength >> APP_LIMITED_WINDOW_SHIFT);
+
+        bandwidthSamples[roundCount++ % BANDWIDTH_FILTER_ROUNDS] =
+            isWindowLimited ? bandwidth : Math.max(bandwidth, maxBandwidth);
+
+        long maxBandwidth = 0;
+        for (final long sample : bandwidthSamples)
+        {
+            maxBandwidth = Math.max(maxBandwidth, sample);
+        }
+
+        if (maxBandwidth != this.maxBandwidth)
+        {
+            this.maxBandwidth = maxBandwidth;
+            bandwidthIndicator.setOrdered(maxBandwidth);
+        }
+
+        roundStartNs = nowNs;
+        roundStartPosition = hwmPosition;
+
+        switch (state)
+        {
+            case STARTUP:
+                if (maxBandwidth >= fullBandwidth * FULL_BANDWIDTH_GROWTH)
+                {
+                    fullBandwidth = maxBandwidth;
+                    fullBandwidthRoundCount = 0;
+                }
+                else if (0 != minRttNs && isWindowLimited && ++fullBandwidthRoundCount >= FULL_BANDWIDTH_ROUNDS)
+                {
+                    state = State.DRAIN;
+                }
+                break;
+
+            case DRAIN:
+                state = State.PROBE_BW;
+                cycleIndex = 0;
+                break;
+
+            case PROBE_BW:
+                cycleIndex = (cycleIndex + 1) % PROBE_BW_GAINS.length;
+                break;
+
+            case PROBE_RTT:
+                if (nowNs - probeRttDoneNs >= 0)
+                {
+                    state = State.PROBE_BW;
+                    cycleIndex = 0;
+                    if (isMinRttExpired(nowNs))
+                    {
+                        minRttTimestampNs = nowNs;
+                    }
+                }
+                break;
+        }
+    }
+
+    private int computeWindowLength()
+    {
+        if (State.PROBE_RTT == state)
+        {
+            return minWindowLength;
+        }
+
+        if (0 == maxBandwidth)
+        {
+            return Math.max(windowLength, initialWindowLength);
+        }
+
+        final double gain;
+        switch (state)
+        {
+            case STARTUP:
+                gain = HIGH_GAIN;
+                break;
+
+            case DRAIN:
+                gain = DRAIN_GAIN;
+                break;
+
+            default:
+                gain = PROBE_BW_GAINS[cycleIndex];
+                break;
+        }
+
+        final double bdp = (double)maxBandwidth * roundLengthNs() / SECOND_IN_NS;
+        long windowLength = (long)(gain * bdp);
+        if (State.STARTUP == state)
+        {
+            windowLength = Math.max(windowLength, this.windowLength);
+        }
+
+        return (int)Math.max(minWindowLength, Math.min(windowLength, maxWindowLength));
+    }
+
+    private long roundLengthNs()
+    {
+        return Math.max(minRttNs, BbrCongestionControlConfiguration.INITIAL_RTT_NS);
+    }
+
+    private boolean isMinRttExpired(final long nowNs)
+    {
+        return nowNs - minRttTimestampNs > BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import org.agrona.SystemUtil;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration options to be applied when {@link BbrCongestionControl} is loaded.
+ */
+public class BbrCongestionControlConfiguration
+{
+    /**
+     * Property name for initial RTT in nanoseconds which is used until a measurement is taken. This is also the
+     * minimum duration of a round over which the delivery rate is sampled.
+     */
+    public static final String INITIAL_RTT_NS_PROP_NAME = "aeron.BbrCongestionControl.initialRtt";
+
+    /**
+     * Default initial RTT in nanoseconds.
+     */
+    public static final long INITIAL_RTT_NS_DEFAULT = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * Property name for the length of time in nanoseconds for which a min RTT measurement is valid before the window
+     * is reduced to probe for a new min RTT.
+     */
+    public static final String MIN_RTT_WINDOW_NS_PROP_NAME = "aeron.BbrCongestionControl.minRttWindow";
+
+    /**
+     * Default length of time in nanoseconds for which a min RTT measurement is valid.
+     */
+    public static final long MIN_RTT_WINDOW_NS_DEFAULT = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Property name for the length of time in nanoseconds the window is held at its minimum when probing for RTT.
+     */
+    public static final String PROBE_RTT_DURATION_NS_PROP_NAME = "aeron.BbrCongestionControl.probeRttDuration";
+
+    /**
+     * Default length of time in nanoseconds the window is held at its minimum when probing for RTT.
+     */
+    public static final long PROBE_RTT_DURATION_NS_DEFAULT = TimeUnit.MILLISECONDS.toNanos(200);
+
+    /**
+     * Setting to be used for the initial RTT time before a measurement is taken.
+     * @see #INITIAL_RTT_NS_PROP_NAME
+     */
+    public static final long INITIAL_RTT_NS = SystemUtil.getDurationInNanos(
+        INITIAL_RTT_NS_PROP_NAME, INITIAL_RTT_NS_DEFAULT);
+
+    /**
+     * Setting to be used for the length of time a min RTT measurement is valid.
+     * @see #MIN_RTT_WINDOW_NS_PROP_NAME
+     */
+    public static final long MIN_RTT_WINDOW_NS = SystemUtil.getDurationInNanos(
+        MIN_RTT_WINDOW_NS_PROP_NAME, MIN_RTT_WINDOW_NS_DEFAULT);
+
+    /**
+     * Setting to be used for the length of time the window is held at its minimum when probing for RTT.
+     * @see #PROBE_RTT_DURATION_NS_PROP_NAME
+     */
+    public static final long PROBE_RTT_DURATION_NS = SystemUtil.getDurationInNanos(
+        PROBE_RTT_DURATION_NS_PROP_NAME, PROBE_RTT_DURATION_NS_DEFAULT);
+}
@@ -20,6 +20,7 @@ import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.DataPacketDispatcher;
 import io.aeron.driver.media.UdpChannel;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -151,4 +152,20 @@ public class DebugReceiveChannelEndpoint extends ReceiveChannelEndpoint
             super.onRttMeasurement(header, buffer, length, srcAddress, transportIndex);
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void onFecMessage(
+        final FecFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress,
+        final int transportIndex)
+    {
+        if (!dataLossGenerator.shouldDropFrame(srcAddress, buffer, header.frameLength()))
+        {
+            super.onFecMessage(header, buffer, length, srcAddress, transportIndex);
+        }
+    }
 }
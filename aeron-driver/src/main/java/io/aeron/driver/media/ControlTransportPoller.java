@@ -19,6 +19,7 @@ import io.aeron.driver.Configuration;
 import io.aeron.driver.DriverConductorProxy;
 import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
+import io.aeron.protocol.SackFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.BufferUtil;
 import org.agrona.CloseHelper;
@@ -40,8 +41,10 @@ import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 
 /**
  * Encapsulates the polling of control {@link UdpChannelTransport}s using whatever means provides the lowest latency.
+ * <p>
+ * Specialised implementations can be provided via {@link io.aeron.driver.ControlTransportPollerSupplier}.
  */
-public final class ControlTransportPoller extends UdpTransportPoller
+public class ControlTransportPoller extends UdpTransportPoller
 {
     private final ByteBuffer byteBuffer = BufferUtil.allocateDirectAligned(
         Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH);
@@ -49,6 +52,7 @@ public final class ControlTransportPoller extends UdpTransportPoller
     private final NakFlyweight nakMessage = new NakFlyweight(unsafeBuffer);
     private final StatusMessageFlyweight statusMessage = new StatusMessageFlyweight(unsafeBuffer);
     private final RttMeasurementFlyweight rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
+    private final SackFlyweight sackMessage = new SackFlyweight(unsafeBuffer);
     private SendChannelEndpoint[] transports = new SendChannelEndpoint[0];
 
     /**
@@ -188,6 +192,10 @@ public final class ControlTransportPoller extends UdpTransportPoller
                 {
                     channelEndpoint.onRttMeasurement(rttMeasurement, unsafeBuffer, bytesReceived, srcAddress);
                 }
+                else if (HDR_TYPE_SACK == frameType)
+                {
+                    channelEndpoint.onSackMessage(sackMessage, unsafeBuffer, bytesReceived, srcAddress);
+                }
             }
         }
 
@@ -18,6 +18,7 @@ package io.aeron.driver.media;
 import io.aeron.driver.Configuration;
 import io.aeron.driver.DriverConductorProxy;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.BufferUtil;
@@ -40,8 +41,10 @@ import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 
 /**
  * Encapsulates the polling of data {@link UdpChannelTransport}s using whatever means provides the lowest latency.
+ * <p>
+ * Specialised implementations can be provided via {@link io.aeron.driver.DataTransportPollerSupplier}.
  */
-public final class DataTransportPoller extends UdpTransportPoller
+public class DataTransportPoller extends UdpTransportPoller
 {
     private static final ChannelAndTransport[] EMPTY_TRANSPORTS = new ChannelAndTransport[0];
 
@@ -51,6 +54,8 @@ public final class DataTransportPoller extends UdpTransportPoller
     private final DataHeaderFlyweight dataMessage = new DataHeaderFlyweight(unsafeBuffer);
     private final SetupFlyweight setupMessage = new SetupFlyweight(unsafeBuffer);
     private final RttMeasurementFlyweight rttMeasurement = new RttMeasurementFlyweight(unsafeBuffer);
+    private final FecFlyweight fecMessage = new FecFlyweight(unsafeBuffer);
+    private final int ioVectorCapacity;
     private ChannelAndTransport[] channelAndTransports = EMPTY_TRANSPORTS;
 
     /**
@@ -59,8 +64,22 @@ public final class DataTransportPoller extends UdpTransportPoller
      * @param errorHandler which can be used to log errors and continue.
      */
     public DataTransportPoller(final ErrorHandler errorHandler)
+    {
+        this(errorHandler, Configuration.RECEIVER_IO_VECTOR_CAPACITY_DEFAULT);
+    }
+
+    /**
+     * Construct a new {@link TransportPoller} with an {@link ErrorHandler} for logging and a limit on the number of
+     * datagrams to be read from a transport in a single poll.
+     *
+     * @param errorHandler     which can be used to log errors and continue.
+     * @param ioVectorCapacity maximum number of datagrams to read from a transport before moving to the next.
+     * @see Configuration#RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME
+     */
+    public DataTransportPoller(final ErrorHandler errorHandler, final int ioVectorCapacity)
     {
         super(errorHandler);
+        this.ioVectorCapacity = ioVectorCapacity;
     }
 
     /**
@@ -201,33 +220,52 @@ public final class DataTransportPoller extends UdpTransportPoller
     private int poll(final ChannelAndTransport channelAndTransport)
     {
         int bytesReceived = 0;
-        final InetSocketAddress srcAddress = channelAndTransport.transport.receive(byteBuffer);
+        final UdpChannelTransport transport = channelAndTransport.transport;
 
-        if (null != srcAddress)
+        for (int i = 0; i < ioVectorCapacity; i++)
         {
-            final int length = byteBuffer.position();
-            final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
-
-            if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+            final InetSocketAddress srcAddress = transport.receive(byteBuffer);
+            if (null == srcAddress)
             {
-                channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
+                break;
+            }
 
-                final int frameType = frameType(unsafeBuffer, 0);
-                if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
-                {
-                    bytesReceived = channelEndpoint.onDataPacket(
-                        dataMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
-                }
-                else if (HDR_TYPE_SETUP == frameType)
-                {
-                    channelEndpoint.onSetupMessage(
-                        setupMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
-                }
-                else if (HDR_TYPE_RTTM == frameType)
-                {
-                    channelEndpoint.onRttMeasurement(
-                        rttMeasurement, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
-                }
+            bytesReceived += onFrame(channelAndTransport, byteBuffer.position(), srcAddress);
+        }
+
+        return bytesReceived;
+    }
+
+    private int onFrame(
+        final ChannelAndTransport channelAndTransport, final int length, final InetSocketAddress srcAddress)
+    {
+        int bytesReceived = 0;
+        final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+
+        if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+        {
+            channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
+
+            final int frameType = frameType(unsafeBuffer, 0);
+            if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
+            {
+                bytesReceived = channelEndpoint.onDataPacket(
+                    dataMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+            }
+            else if (HDR_TYPE_SETUP == frameType)
+            {
+                channelEndpoint.onSetupMessage(
+                    setupMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+            }
+            else if (HDR_TYPE_RTTM == frameType)
+            {
+                channelEndpoint.onRttMeasurement(
+                    rttMeasurement, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
+            }
+            else if (HDR_TYPE_FEC == frameType)
+            {
+                channelEndpoint.onFecMessage(
+                    fecMessage, unsafeBuffer, length, srcAddress, channelAndTransport.transportIndex);
             }
         }
 
@@ -239,7 +277,9 @@ public final class DataTransportPoller extends UdpTransportPoller
      */
     public String toString()
     {
-        return "DataTransportPoller{}";
+        return "DataTransportPoller{" +
+            "ioVectorCapacity=" + ioVectorCapacity +
+            '}';
     }
 
     static class ChannelAndTransport
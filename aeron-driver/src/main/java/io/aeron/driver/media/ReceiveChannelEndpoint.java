@@ -20,6 +20,7 @@ import io.aeron.ErrorCode;
 import io.aeron.driver.DataPacketDispatcher;
 import io.aeron.driver.DriverConductorProxy;
 import io.aeron.driver.MediaDriver;
+import io.aeron.driver.status.SystemCounters;
 import io.aeron.exceptions.AeronException;
 import io.aeron.exceptions.ControlProtocolException;
 import io.aeron.protocol.*;
@@ -104,29 +105,37 @@ abstract class ReceiveChannelEndpointRhsPadding extends ReceiveChannelEndpointHo
 public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
 {
     static final long DESTINATION_ADDRESS_TIMEOUT = TimeUnit.SECONDS.toNanos(5);
+    private static final ReceiveChannelEndpoint[] EMPTY_FAN_OUT_ENDPOINTS = new ReceiveChannelEndpoint[0];
 
     private final DataPacketDispatcher dispatcher;
-    private final ByteBuffer smBuffer;
-    private final StatusMessageFlyweight statusMessageFlyweight;
-    private final ByteBuffer nakBuffer;
-    private final NakFlyweight nakFlyweight;
-    private final ByteBuffer rttMeasurementBuffer;
-    private final RttMeasurementFlyweight rttMeasurementFlyweight;
     private final AtomicCounter shortSends;
     private final AtomicCounter possibleTtlAsymmetry;
     private final AtomicCounter statusIndicator;
     private final Int2IntCounterMap refCountByStreamIdMap = new Int2IntCounterMap(0);
     private final Long2LongCounterMap refCountByStreamIdAndSessionIdMap = new Long2LongCounterMap(0);
     private final MultiRcvDestination multiRcvDestination;
-    private final CachedNanoClock cachedNanoClock;
+    private CachedNanoClock cachedNanoClock;
     private final Long groupTag;
     private final boolean isChannelReceiveTimestampEnabled;
+    private final boolean hasMultipleReceivers;
+    private final boolean isSack;
     private final EpochNanoClock channelReceiveTimestampClock;
 
     private final long receiverId;
     private InetSocketAddress currentControlAddress;
     private AtomicCounter localSocketAddressIndicator;
     private int imageRefCount;
+    private int receiverIndex;
+    private ReceiveChannelEndpoint fanOutPrimary;
+    private ReceiveChannelEndpoint[] fanOutEndpoints = EMPTY_FAN_OUT_ENDPOINTS;
+    private ByteBuffer smBuffer;
+    private StatusMessageFlyweight statusMessageFlyweight;
+    private ByteBuffer nakBuffer;
+    private NakFlyweight nakFlyweight;
+    private ByteBuffer rttMeasurementBuffer;
+    private RttMeasurementFlyweight rttMeasurementFlyweight;
+    private ByteBuffer sackBuffer;
+    private SackFlyweight sackFlyweight;
 
     /**
      * Construct the receiver end for data streams.
@@ -149,14 +158,10 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
 
         shortSends = context.systemCounters().get(SHORT_SENDS);
         possibleTtlAsymmetry = context.systemCounters().get(POSSIBLE_TTL_ASYMMETRY);
+        hasMultipleReceivers = context.receiverAgentCount() > 1;
 
         final ReceiveChannelEndpointThreadLocals threadLocals = context.receiveChannelEndpointThreadLocals();
-        smBuffer = threadLocals.statusMessageBuffer();
-        statusMessageFlyweight = threadLocals.statusMessageFlyweight();
-        nakBuffer = threadLocals.nakBuffer();
-        nakFlyweight = threadLocals.nakFlyweight();
-        rttMeasurementBuffer = threadLocals.rttMeasurementBuffer();
-        rttMeasurementFlyweight = threadLocals.rttMeasurementFlyweight();
+        threadLocals(threadLocals);
         cachedNanoClock = context.receiverCachedNanoClock();
         timeOfLastActivityNs = cachedNanoClock.nanoTime();
         receiverId = threadLocals.nextReceiverId();
@@ -168,6 +173,7 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
 
         channelReceiveTimestampClock = context.channelReceiveTimestampClock();
         isChannelReceiveTimestampEnabled = udpChannel.isChannelReceiveTimestampEnabled();
+        isSack = "true".equals(udpChannel.channelUri().get(CommonContext.SACK_PARAM_NAME));
     }
 
     /**
@@ -240,6 +246,11 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
      */
     public void indicateActive()
     {
+        if (null != fanOutPrimary)
+        {
+            return;
+        }
+
         final long currentStatus = statusIndicator.get();
         if (currentStatus != ChannelEndpointStatus.INITIALIZING)
         {
@@ -330,7 +341,7 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
      */
     public void possibleTtlAsymmetryEncountered()
     {
-        possibleTtlAsymmetry.incrementOrdered();
+        SystemCounters.increment(possibleTtlAsymmetry, hasMultipleReceivers);
     }
 
     /**
@@ -418,6 +429,12 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
      */
     public boolean shouldBeClosed()
     {
+        int imageRefCount = this.imageRefCount;
+        for (final ReceiveChannelEndpoint fanOutEndpoint : fanOutEndpoints)
+        {
+            imageRefCount += fanOutEndpoint.imageRefCount;
+        }
+
         return refCountByStreamIdMap.isEmpty() &&
             refCountByStreamIdAndSessionIdMap.isEmpty() &&
             !statusIndicator.isClosed() &&
@@ -698,6 +715,26 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
         dispatcher.onSetupMessage(this, header, srcAddress, transportIndex);
     }
 
+    /**
+     * Callback to handle a received forward error correction frame.
+     *
+     * @param header         of the FEC frame.
+     * @param buffer         containing the FEC frame.
+     * @param length         of the FEC frame.
+     * @param srcAddress     the message came from.
+     * @param transportIndex on which the message was received.
+     */
+    public void onFecMessage(
+        final FecFlyweight header,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress,
+        final int transportIndex)
+    {
+        updateTimeOfLastActivityNs(cachedNanoClock.nanoTime(), transportIndex);
+        dispatcher.onFecMessage(this, header, buffer, length, srcAddress, transportIndex);
+    }
+
     /**
      * Callback to handle a received RTT Measurement frame.
      *
@@ -844,6 +881,73 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
         send(nakBuffer, NakFlyweight.HEADER_LENGTH, controlAddresses);
     }
 
+    /**
+     * Is the channel configured to request retransmits with SACK messages to sources which support them.
+     *
+     * @return true if the channel is configured to request retransmits with SACK messages.
+     * @see CommonContext#SACK_PARAM_NAME
+     */
+    public boolean isSack()
+    {
+        return isSack;
+    }
+
+    /**
+     * Send a SACK frame to the sources reporting the gaps in a term as missing and the ranges between them as
+     * received. Gaps must be in ascending order of term offset, not overlap, and span no more than
+     * {@link SackFlyweight#MAX_BLOCK_COUNT} blocks of {@link io.aeron.logbuffer.FrameDescriptor#FRAME_ALIGNMENT}.
+     *
+     * @param controlAddresses of the sources.
+     * @param sessionId        for the image.
+     * @param streamId         for the image.
+     * @param termId           in which the gaps occurred.
+     * @param gapTermOffsets   at which each gap begins.
+     * @param gapLengths       of each gap.
+     * @param gapCount         number of gaps to report.
+     */
+    public void sendSackMessage(
+        final ImageConnection[] controlAddresses,
+        final int sessionId,
+        final int streamId,
+        final int termId,
+        final int[] gapTermOffsets,
+        final int[] gapLengths,
+        final int gapCount)
+    {
+        final int blockLength = sackFlyweight.blockLength();
+        final int termOffset = gapTermOffsets[0];
+        final int lastGapIndex = gapCount - 1;
+        final int length = gapTermOffsets[lastGapIndex] + gapLengths[lastGapIndex] - termOffset;
+        final int blockCount = (length + blockLength - 1) / blockLength;
+
+        sackFlyweight
+            .sessionId(sessionId)
+            .streamId(streamId)
+            .termId(termId)
+            .termOffset(termOffset)
+            .blockCount(blockCount)
+            .allBlocksReceived(blockCount);
+
+        for (int i = 0; i < gapCount; i++)
+        {
+            final int gapOffset = gapTermOffsets[i] - termOffset;
+            final int firstBlock = gapOffset / blockLength;
+            final int lastBlock = (gapOffset + gapLengths[i] + blockLength - 1) / blockLength;
+
+            for (int block = firstBlock; block < lastBlock; block++)
+            {
+                sackFlyweight.blockReceived(block, false);
+            }
+        }
+
+        final int frameLength = SackFlyweight.computeFrameLength(blockCount);
+        sackFlyweight.frameLength(frameLength);
+        sackBuffer.clear();
+        sackBuffer.limit(frameLength);
+
+        send(sackBuffer, frameLength, controlAddresses);
+    }
+
     /**
      * Send RTT Measurement frame to the sources.
      *
@@ -884,6 +988,102 @@ public class ReceiveChannelEndpoint extends ReceiveChannelEndpointRhsPadding
         return dispatcher;
     }
 
+    /**
+     * Index of the {@link io.aeron.driver.Receiver} agent which owns this endpoint.
+     *
+     * @return index of the {@link io.aeron.driver.Receiver} agent which owns this endpoint.
+     * @see io.aeron.driver.MediaDriver.Context#receiverAgentCount()
+     */
+    public int receiverIndex()
+    {
+        return receiverIndex;
+    }
+
+    /**
+     * Set the index of the {@link io.aeron.driver.Receiver} agent which owns this endpoint, and the thread locals and
+     * clock of that agent, as the endpoint is serviced on its thread. Must be set before the endpoint is registered
+     * with the receiver.
+     *
+     * @param receiverIndex   of the {@link io.aeron.driver.Receiver} agent which owns this endpoint.
+     * @param threadLocals    of the {@link io.aeron.driver.Receiver} agent used for sending control messages.
+     * @param cachedNanoClock of the {@link io.aeron.driver.Receiver} agent which is updated each duty cycle.
+     */
+    public void receiverIndex(
+        final int receiverIndex,
+        final ReceiveChannelEndpointThreadLocals threadLocals,
+        final CachedNanoClock cachedNanoClock)
+    {
+        this.receiverIndex = receiverIndex;
+        this.cachedNanoClock = cachedNanoClock;
+        threadLocals(threadLocals);
+    }
+
+    /**
+     * The clock of the {@link io.aeron.driver.Receiver} agent which owns this endpoint.
+     *
+     * @return the clock of the {@link io.aeron.driver.Receiver} agent which owns this endpoint.
+     */
+    public CachedNanoClock cachedNanoClock()
+    {
+        return cachedNanoClock;
+    }
+
+    /**
+     * Add an endpoint which opens another socket on the same address and port with SO_REUSEPORT, so the kernel spreads
+     * sources across the sockets, for the subscriptions of this endpoint. The added endpoint shares the status
+     * indicator of this endpoint and is closed with it. Must be called before the endpoints are registered with the
+     * receivers.
+     *
+     * @param fanOutEndpoint to be added which shares the channel of this endpoint.
+     * @see io.aeron.CommonContext#RECEIVE_SOCKET_COUNT_PARAM_NAME
+     */
+    public void addFanOutEndpoint(final ReceiveChannelEndpoint fanOutEndpoint)
+    {
+        fanOutEndpoint.fanOutPrimary = this;
+        fanOutEndpoints = ArrayUtil.add(fanOutEndpoints, fanOutEndpoint);
+    }
+
+    /**
+     * Endpoints which have been added to open further sockets for the subscriptions of this endpoint.
+     *
+     * @return endpoints which have been added to open further sockets, which may be empty.
+     */
+    public ReceiveChannelEndpoint[] fanOutEndpoints()
+    {
+        return fanOutEndpoints;
+    }
+
+    /**
+     * The endpoint which holds the subscriptions for this endpoint. This is the endpoint to which this one was added
+     * as a fan out endpoint, otherwise it is this endpoint.
+     *
+     * @return the endpoint which holds the subscriptions for this endpoint.
+     */
+    public ReceiveChannelEndpoint fanOutPrimary()
+    {
+        return null != fanOutPrimary ? fanOutPrimary : this;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    protected boolean isReusePort()
+    {
+        return null != fanOutPrimary || fanOutEndpoints.length > 0;
+    }
+
+    private void threadLocals(final ReceiveChannelEndpointThreadLocals threadLocals)
+    {
+        smBuffer = threadLocals.statusMessageBuffer();
+        statusMessageFlyweight = threadLocals.statusMessageFlyweight();
+        nakBuffer = threadLocals.nakBuffer();
+        nakFlyweight = threadLocals.nakFlyweight();
+        rttMeasurementBuffer = threadLocals.rttMeasurementBuffer();
+        rttMeasurementFlyweight = threadLocals.rttMeasurementFlyweight();
+        sackBuffer = threadLocals.sackBuffer();
+        sackFlyweight = threadLocals.sackFlyweight();
+    }
+
     /**
      * Update the control address for a channel transport when re-resolution occurs.
      *
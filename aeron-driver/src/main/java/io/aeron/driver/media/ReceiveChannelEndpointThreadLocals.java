@@ -18,6 +18,7 @@ package io.aeron.driver.media;
 import io.aeron.protocol.HeaderFlyweight;
 import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
+import io.aeron.protocol.SackFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import org.agrona.BitUtil;
 import org.agrona.BufferUtil;
@@ -41,6 +42,8 @@ public final class ReceiveChannelEndpointThreadLocals
     private final NakFlyweight nakFlyweight;
     private final ByteBuffer rttMeasurementBuffer;
     private final RttMeasurementFlyweight rttMeasurementFlyweight;
+    private final ByteBuffer sackBuffer;
+    private final SackFlyweight sackFlyweight;
     private long nextReceiverId;
 
     /**
@@ -52,7 +55,8 @@ public final class ReceiveChannelEndpointThreadLocals
         final int bufferLength =
             BitUtil.align(smLength, CACHE_LINE_LENGTH) +
             BitUtil.align(NakFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH) +
-            BitUtil.align(RttMeasurementFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH);
+            BitUtil.align(RttMeasurementFlyweight.HEADER_LENGTH, CACHE_LINE_LENGTH) +
+            BitUtil.align(SackFlyweight.MAX_FRAME_LENGTH, CACHE_LINE_LENGTH);
 
         final UUID uuid = UUID.randomUUID();
         nextReceiverId = uuid.getMostSignificantBits() ^ uuid.getLeastSignificantBits();
@@ -73,6 +77,12 @@ public final class ReceiveChannelEndpointThreadLocals
         rttMeasurementBuffer = byteBuffer.slice();
         rttMeasurementFlyweight = new RttMeasurementFlyweight(rttMeasurementBuffer);
 
+        final int sackOffset =
+            rttMeasurementOffset + BitUtil.align(RttMeasurementFlyweight.HEADER_LENGTH, FRAME_ALIGNMENT);
+        byteBuffer.limit(sackOffset + SackFlyweight.MAX_FRAME_LENGTH).position(sackOffset);
+        sackBuffer = byteBuffer.slice();
+        sackFlyweight = new SackFlyweight(sackBuffer);
+
         statusMessageFlyweight
             .version(HeaderFlyweight.CURRENT_VERSION)
             .headerType(HeaderFlyweight.HDR_TYPE_SM)
@@ -87,6 +97,12 @@ public final class ReceiveChannelEndpointThreadLocals
             .version(HeaderFlyweight.CURRENT_VERSION)
             .headerType(HeaderFlyweight.HDR_TYPE_RTTM)
             .frameLength(RttMeasurementFlyweight.HEADER_LENGTH);
+
+        sackFlyweight
+            .blockLength(FRAME_ALIGNMENT)
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .headerType(HeaderFlyweight.HDR_TYPE_SACK)
+            .frameLength(SackFlyweight.HEADER_LENGTH);
     }
 
     /**
@@ -149,6 +165,26 @@ public final class ReceiveChannelEndpointThreadLocals
         return rttMeasurementFlyweight;
     }
 
+    /**
+     * Buffer for writing SACK messages to send.
+     *
+     * @return buffer for writing SACK messages to send.
+     */
+    public ByteBuffer sackBuffer()
+    {
+        return sackBuffer;
+    }
+
+    /**
+     * Flyweight over the {@link #sackBuffer()}.
+     *
+     * @return flyweight over the {@link #sackBuffer()}.
+     */
+    public SackFlyweight sackFlyweight()
+    {
+        return sackFlyweight;
+    }
+
     /**
      * Get the next receiver id to be used for a receiver channel identity.
      *
@@ -23,10 +23,12 @@ import io.aeron.driver.MediaDriver;
 import io.aeron.driver.NetworkPublication;
 import io.aeron.driver.Sender;
 import io.aeron.driver.status.MdcDestinations;
+import io.aeron.driver.status.SystemCounters;
 import io.aeron.exceptions.ControlProtocolException;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
+import io.aeron.protocol.SackFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import io.aeron.status.ChannelEndpointStatus;
 import io.aeron.status.LocalSocketAddressStatus;
@@ -51,6 +53,7 @@ import java.util.concurrent.TimeUnit;
 import static io.aeron.driver.media.SendChannelEndpoint.DESTINATION_TIMEOUT;
 import static io.aeron.driver.media.UdpChannelTransport.sendError;
 import static io.aeron.driver.status.SystemCounterDescriptor.NAK_MESSAGES_RECEIVED;
+import static io.aeron.driver.status.SystemCounterDescriptor.SACK_MESSAGES_RECEIVED;
 import static io.aeron.driver.status.SystemCounterDescriptor.STATUS_MESSAGES_RECEIVED;
 import static io.aeron.protocol.StatusMessageFlyweight.SEND_SETUP_FLAG;
 import static io.aeron.status.ChannelEndpointStatus.status;
@@ -73,12 +76,16 @@ public class SendChannelEndpoint extends UdpChannelTransport
     private final MultiSndDestination multiSndDestination;
     private final AtomicCounter statusMessagesReceived;
     private final AtomicCounter nakMessagesReceived;
+    private final AtomicCounter sackMessagesReceived;
     private final AtomicCounter statusIndicator;
     private final boolean isChannelSendTimestampEnabled;
+    private final boolean hasMultipleSenders;
     private final EpochNanoClock sendTimestampClock;
     private final UnsafeBuffer bufferForTimestamping = new UnsafeBuffer();
     private AtomicCounter localSocketAddressIndicator;
     private AtomicCounter mdcDestinationsCounter;
+    private CachedNanoClock cachedNanoClock;
+    private int senderIndex;
 
     /**
      * Construct the sender end for data streams.
@@ -99,17 +106,20 @@ public class SendChannelEndpoint extends UdpChannelTransport
             context);
 
         nakMessagesReceived = context.systemCounters().get(NAK_MESSAGES_RECEIVED);
+        sackMessagesReceived = context.systemCounters().get(SACK_MESSAGES_RECEIVED);
         statusMessagesReceived = context.systemCounters().get(STATUS_MESSAGES_RECEIVED);
+        hasMultipleSenders = context.senderAgentCount() > 1;
         this.statusIndicator = statusIndicator;
+        this.cachedNanoClock = context.senderCachedNanoClock();
 
         MultiSndDestination multiSndDestination = null;
         if (udpChannel.isManualControlMode())
         {
-            multiSndDestination = new ManualSndMultiDestination(context.senderCachedNanoClock());
+            multiSndDestination = new ManualSndMultiDestination(cachedNanoClock);
         }
         else if (udpChannel.isDynamicControlMode() || udpChannel.hasExplicitControl())
         {
-            multiSndDestination = new DynamicSndMultiDestination(context.senderCachedNanoClock());
+            multiSndDestination = new DynamicSndMultiDestination(cachedNanoClock);
         }
 
         this.multiSndDestination = multiSndDestination;
@@ -194,6 +204,45 @@ public class SendChannelEndpoint extends UdpChannelTransport
         return statusIndicator.id();
     }
 
+    /**
+     * Index of the {@link io.aeron.driver.Sender} agent which owns this endpoint.
+     *
+     * @return index of the {@link io.aeron.driver.Sender} agent which owns this endpoint.
+     * @see io.aeron.driver.MediaDriver.Context#senderAgentCount()
+     */
+    public int senderIndex()
+    {
+        return senderIndex;
+    }
+
+    /**
+     * Set the index of the {@link io.aeron.driver.Sender} agent which owns this endpoint, and the clock of that agent,
+     * as the endpoint is serviced on its thread. Must be set before the endpoint is registered with the sender.
+     *
+     * @param senderIndex     of the {@link io.aeron.driver.Sender} agent which owns this endpoint.
+     * @param cachedNanoClock of the {@link io.aeron.driver.Sender} agent which is updated each duty cycle.
+     */
+    public void senderIndex(final int senderIndex, final CachedNanoClock cachedNanoClock)
+    {
+        this.senderIndex = senderIndex;
+        this.cachedNanoClock = cachedNanoClock;
+
+        if (null != multiSndDestination)
+        {
+            multiSndDestination.nanoClock = cachedNanoClock;
+        }
+    }
+
+    /**
+     * The clock of the {@link io.aeron.driver.Sender} agent which owns this endpoint.
+     *
+     * @return the clock of the {@link io.aeron.driver.Sender} agent which owns this endpoint.
+     */
+    public CachedNanoClock cachedNanoClock()
+    {
+        return cachedNanoClock;
+    }
+
     /**
      * Indicate that the channel as active after successfully opening it.
      */
@@ -337,7 +386,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
         final int sessionId = msg.sessionId();
         final int streamId = msg.streamId();
 
-        statusMessagesReceived.incrementOrdered();
+        SystemCounters.increment(statusMessagesReceived, hasMultipleSenders);
 
         if (null != multiSndDestination)
         {
@@ -378,7 +427,43 @@ public class SendChannelEndpoint extends UdpChannelTransport
         if (null != publication)
         {
             publication.onNak(msg.termId(), msg.termOffset(), msg.length());
-            nakMessagesReceived.incrementOrdered();
+            SystemCounters.increment(nakMessagesReceived, hasMultipleSenders);
+        }
+    }
+
+    /**
+     * Callback back handler for received SACK messages.
+     *
+     * @param msg        flyweight over the SACK message.
+     * @param buffer     containing the message.
+     * @param length     of the message.
+     * @param srcAddress of the message.
+     */
+    public void onSackMessage(
+        final SackFlyweight msg,
+        final UnsafeBuffer buffer,
+        final int length,
+        final InetSocketAddress srcAddress)
+    {
+        if (length < SackFlyweight.HEADER_LENGTH)
+        {
+            return;
+        }
+
+        final int blockCount = msg.blockCount();
+        if (blockCount < 0 || blockCount > SackFlyweight.MAX_BLOCK_COUNT ||
+            SackFlyweight.computeFrameLength(blockCount) > length || msg.blockLength() <= 0)
+        {
+            return;
+        }
+
+        final long key = compoundKey(msg.sessionId(), msg.streamId());
+        final NetworkPublication publication = publicationBySessionAndStreamId.get(key);
+
+        if (null != publication)
+        {
+            publication.onSack(msg);
+            SystemCounters.increment(sackMessagesReceived, hasMultipleSenders);
         }
     }
 
@@ -544,7 +629,7 @@ abstract class MultiSndDestination extends MultiSndDestinationRhsPadding
     static final Destination[] EMPTY_DESTINATIONS = new Destination[0];
 
     Destination[] destinations = EMPTY_DESTINATIONS;
-    final CachedNanoClock nanoClock;
+    CachedNanoClock nanoClock;
     AtomicCounter destinationsCounter = null;
 
     MultiSndDestination(final CachedNanoClock nanoClock)
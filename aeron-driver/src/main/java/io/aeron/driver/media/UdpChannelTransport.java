@@ -29,6 +29,7 @@ import org.agrona.concurrent.status.AtomicCounter;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.PortUnreachableException;
+import java.net.SocketOption;
 import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
@@ -43,6 +44,8 @@ import static java.net.StandardSocketOptions.SO_SNDBUF;
  */
 public abstract class UdpChannelTransport implements AutoCloseable
 {
+    private static final SocketOption<Boolean> SO_REUSEPORT = reusePortOption();
+
     /**
      * Context for configuration.
      */
@@ -206,6 +209,11 @@ public abstract class UdpChannelTransport implements AutoCloseable
             }
             else
             {
+                if (isReusePort())
+                {
+                    enableReusePort(sendDatagramChannel);
+                }
+
                 bindAddress = portManager.getManagedPort(udpChannel, bindAddress);
                 sendDatagramChannel.bind(bindAddress);
             }
@@ -500,4 +508,38 @@ public abstract class UdpChannelTransport implements AutoCloseable
     {
         return socketRcvbufLength;
     }
+
+    /**
+     * Should the socket be bound with SO_REUSEPORT so other sockets can be bound to the same address and port.
+     *
+     * @return true if the socket should be bound with SO_REUSEPORT.
+     */
+    protected boolean isReusePort()
+    {
+        return false;
+    }
+
+    private static void enableReusePort(final DatagramChannel channel) throws IOException
+    {
+        if (null == SO_REUSEPORT || !channel.supportedOptions().contains(SO_REUSEPORT))
+        {
+            throw new IOException("SO_REUSEPORT is not supported on this platform");
+        }
+
+        channel.setOption(SO_REUSEPORT, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SocketOption<Boolean> reusePortOption()
+    {
+        // SO_REUSEPORT is only available as a standard option from Java 9.
+        try
+        {
+            return (SocketOption<Boolean>)StandardSocketOptions.class.getField("SO_REUSEPORT").get(null);
+        }
+        catch (final ReflectiveOperationException ex)
+        {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.AeronCounters;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Duty cycle tracker which in addition to tracking stalls records the distribution of cycle times in a
+ * {@link LatencyHistogram} that is summarised as min, p50, p99, and max counters each interval.
+ * <p>
+ * The interval is measured as the sum of the reported cycle times so the tracker does not need to read a clock.
+ */
+public class DutyCycleHistogramTracker extends DutyCycleStallTracker
+{
+    /**
+     * Type id of a duty cycle time counter.
+     */
+    public static final int DUTY_CYCLE_TIME_TYPE_ID = AeronCounters.DRIVER_DUTY_CYCLE_TIME_TYPE_ID;
+
+    /**
+     * Name for the conductor cycle time counters which is suffixed with the statistic.
+     */
+    public static final String CONDUCTOR_NAME = "conductor-cycle-time";
+
+    /**
+     * Name for the sender cycle time counters which is suffixed with the statistic.
+     */
+    public static final String SENDER_NAME = "sender-cycle-time";
+
+    /**
+     * Name for the receiver cycle time counters which is suffixed with the statistic.
+     */
+    public static final String RECEIVER_NAME = "receiver-cycle-time";
+
+    private final LatencyCounters cycleTimes;
+    private long totalCycleTimeNs;
+
+    /**
+     * Create a tracker to track max cycle time, excesses of a threshold, and the distribution of cycle times.
+     *
+     * @param maxCycleTime                    counter for tracking.
+     * @param cycleTimeThresholdExceededCount counter for tracking.
+     * @param cycleTimeThresholdNs            to use for tracking excesses.
+     * @param cycleTimes                      counters for the distribution of cycle times.
+     */
+    public DutyCycleHistogramTracker(
+        final AtomicCounter maxCycleTime,
+        final AtomicCounter cycleTimeThresholdExceededCount,
+        final long cycleTimeThresholdNs,
+        final LatencyCounters cycleTimes)
+    {
+        super(maxCycleTime, cycleTimeThresholdExceededCount, cycleTimeThresholdNs);
+        this.cycleTimes = requireNonNull(cycleTimes);
+    }
+
+    /**
+     * Allocate the counters for the distribution of cycle times of an agent.
+     *
+     * @param countersManager to allocate the counters from.
+     * @param name            of the agent cycle time which is suffixed with the statistic.
+     * @param intervalNs      over which cycle times are summarised.
+     * @return the allocated counters.
+     */
+    public static LatencyCounters allocate(
+        final CountersManager countersManager, final String name, final long intervalNs)
+    {
+        return LatencyCounters.allocate(countersManager, name, DUTY_CYCLE_TIME_TYPE_ID, intervalNs, 0);
+    }
+
+    /**
+     * Get the counters for the distribution of cycle times.
+     *
+     * @return the counters for the distribution of cycle times.
+     */
+    public LatencyCounters cycleTimes()
+    {
+        return cycleTimes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void reportMeasurement(final long durationNs)
+    {
+        super.reportMeasurement(durationNs);
+
+        if (!cycleTimes.max().isClosed())
+        {
+            cycleTimes.recordValue(durationNs);
+            totalCycleTimeNs += durationNs;
+            cycleTimes.update(totalCycleTimeNs);
+        }
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import org.agrona.CloseHelper;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+/**
+ * Latencies of a stream recorded into a {@link LatencyHistogram} which is summarised as min, p50, p99, and max
+ * counters at the end of each interval before being reset for the next interval.
+ * <p>
+ * An interval without any recorded values is summarised as zeros. Recording and updating should be done by the same
+ * thread.
+ */
+public final class LatencyCounters implements AutoCloseable
+{
+    /**
+     * Suffix of the counter name for the min latency of an interval.
+     */
+    public static final String MIN_SUFFIX = "-min";
+
+    /**
+     * Suffix of the counter name for the 50th percentile latency of an interval.
+     */
+    public static final String P50_SUFFIX = "-p50";
+
+    /**
+     * Suffix of the counter name for the 99th percentile latency of an interval.
+     */
+    public static final String P99_SUFFIX = "-p99";
+
+    /**
+     * Suffix of the counter name for the max latency of an interval.
+     */
+    public static final String MAX_SUFFIX = "-max";
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final AtomicCounter min;
+    private final AtomicCounter p50;
+    private final AtomicCounter p99;
+    private final AtomicCounter max;
+    private final long intervalNs;
+    private long timeOfNextUpdateNs;
+
+    LatencyCounters(
+        final AtomicCounter min,
+        final AtomicCounter p50,
+        final AtomicCounter p99,
+        final AtomicCounter max,
+        final long intervalNs,
+        final long nowNs)
+    {
+        this.min = min;
+        this.p50 = p50;
+        this.p99 = p99;
+        this.max = max;
+        this.intervalNs = intervalNs;
+        this.timeOfNextUpdateNs = nowNs + intervalNs;
+    }
+
+    /**
+     * Allocate the counters which summarise the latencies of a stream.
+     *
+     * @param tempBuffer      to build the labels.
+     * @param countersManager to allocate the counters from.
+     * @param name            of the latency which is suffixed with the statistic for each counter.
+     * @param typeId          of the counters.
+     * @param registrationId  associated with the counters.
+     * @param sessionId       associated with the counters.
+     * @param streamId        associated with the counters.
+     * @param channel         associated with the counters.
+     * @param intervalNs      over which latencies are summarised.
+     * @param nowNs           current time from which the first interval begins.
+     * @return the allocated counters.
+     */
+    public static LatencyCounters allocate(
+        final MutableDirectBuffer tempBuffer,
+        final CountersManager countersManager,
+        final String name,
+        final int typeId,
+        final long registrationId,
+        final int sessionId,
+        final int streamId,
+        final String channel,
+        final long intervalNs,
+        final long nowNs)
+    {
+        AtomicCounter min = null;
+        AtomicCounter p50 = null;
+        AtomicCounter p99 = null;
+        AtomicCounter max = null;
+
+        try
+        {
+            min = allocate(
+                tempBuffer, countersManager, name + MIN_SUFFIX, typeId, registrationId, sessionId, streamId, channel);
+            p50 = allocate(
+                tempBuffer, countersManager, name + P50_SUFFIX, typeId, registrationId, sessionId, streamId, channel);
+            p99 = allocate(
+                tempBuffer, countersManager, name + P99_SUFFIX, typeId, registrationId, sessionId, streamId, channel);
+            max = allocate(
+                tempBuffer, countersManager, name + MAX_SUFFIX, typeId, registrationId, sessionId, streamId, channel);
+        }
+        catch (final RuntimeException ex)
+        {
+            CloseHelper.quietCloseAll(min, p50, p99, max);
+            throw ex;
+        }
+
+        return new LatencyCounters(min, p50, p99, max, intervalNs, nowNs);
+    }
+
+    /**
+     * Allocate the counters which summarise latencies which are not associated with a stream.
+     *
+     * @param countersManager to allocate the counters from.
+     * @param name            of the latency which is suffixed with the statistic for each counter label.
+     * @param typeId          of the counters.
+     * @param intervalNs      over which latencies are summarised.
+     * @param nowNs           current time from which the first interval begins.
+     * @return the allocated counters.
+     */
+    public static LatencyCounters allocate(
+        final CountersManager countersManager,
+        final String name,
+        final int typeId,
+        final long intervalNs,
+        final long nowNs)
+    {
+        AtomicCounter min = null;
+        AtomicCounter p50 = null;
+        AtomicCounter p99 = null;
+        AtomicCounter max = null;
+
+        try
+        {
+            min = countersManager.newCounter(name + MIN_SUFFIX, typeId);
+            p50 = countersManager.newCounter(name + P50_SUFFIX, typeId);
+            p99 = countersManager.newCounter(name + P99_SUFFIX, typeId);
+            max = countersManager.newCounter(name + MAX_SUFFIX, typeId);
+        }
+        catch (final RuntimeException ex)
+        {
+            CloseHelper.quietCloseAll(min, p50, p99, max);
+            throw ex;
+        }
+
+        return new LatencyCounters(min, p50, p99, max, intervalNs, nowNs);
+    }
+
+    /**
+     * Record a latency in the histogram for the current interval.
+     *
+     * @param latencyNs to be recorded.
+     */
+    public void recordValue(final long latencyNs)
+    {
+        histogram.recordValue(latencyNs);
+    }
+
+    /**
+     * Summarise the histogram into the counters and reset it if the current interval has elapsed.
+     *
+     * @param nowNs current time.
+     * @return 1 if the counters were updated otherwise 0.
+     */
+    public int update(final long nowNs)
+    {
+        if (timeOfNextUpdateNs - nowNs > 0)
+        {
+            return 0;
+        }
+
+        timeOfNextUpdateNs = nowNs + intervalNs;
+
+        min.setOrdered(histogram.minValue());
+        p50.setOrdered(histogram.valueAtPercentile(50.0));
+        p99.setOrdered(histogram.valueAtPercentile(99.0));
+        max.setOrdered(histogram.maxValue());
+        histogram.reset();
+
+        return 1;
+    }
+
+    /**
+     * Histogram of the current interval.
+     *
+     * @return histogram of the current interval.
+     */
+    public LatencyHistogram histogram()
+    {
+        return histogram;
+    }
+
+    /**
+     * Counter for the min latency of the last interval.
+     *
+     * @return counter for the min latency of the last interval.
+     */
+    public AtomicCounter min()
+    {
+        return min;
+    }
+
+    /**
+     * Counter for the 50th percentile latency of the last interval.
+     *
+     * @return counter for the 50th percentile latency of the last interval.
+     */
+    public AtomicCounter p50()
+    {
+        return p50;
+    }
+
+    /**
+     * Counter for the 99th percentile latency of the last interval.
+     *
+     * @return counter for the 99th percentile latency of the last interval.
+     */
+    public AtomicCounter p99()
+    {
+        return p99;
+    }
+
+    /**
+     * Counter for the max latency of the last interval.
+     *
+     * @return counter for the max latency of the last interval.
+     */
+    public AtomicCounter max()
+    {
+        return max;
+    }
+
+    /**
+     * Close the counters so they can be reused.
+     */
+    public void close()
+    {
+        CloseHelper.closeAll(min, p50, p99, max);
+    }
+
+    private static AtomicCounter allocate(
+        final MutableDirectBuffer tempBuffer,
+        final CountersManager countersManager,
+        final String name,
+        final int typeId,
+        final long registrationId,
+        final int sessionId,
+        final int streamId,
+        final String channel)
+    {
+        final int counterId = StreamCounter.allocateCounterId(
+            tempBuffer, name, typeId, countersManager, registrationId, sessionId, streamId, channel);
+
+        return new AtomicCounter(countersManager.valuesBuffer(), counterId, countersManager);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of latencies in nanoseconds with log-linear buckets which records without allocation so it can be used
+ * on the hot path of a duty cycle.
+ * <p>
+ * Each power of two range is split into {@link #SUB_BUCKET_COUNT} linear sub-buckets so values are recorded to within
+ * 1/16th of their magnitude, and values above {@link #MAX_VALUE} are recorded as {@link #MAX_VALUE}. Not thread safe,
+ * recording and reading of the histogram should be done by the same thread.
+ */
+public final class LatencyHistogram
+{
+    /**
+     * Number of linear sub-buckets for each power of two range of values.
+     */
+    public static final int SUB_BUCKET_COUNT = 16;
+
+    /**
+     * Max value which can be recorded, larger values are recorded as this value.
+     */
+    public static final long MAX_VALUE = (1L << 40) - 1;
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue;
+
+    /**
+     * Record a value in the histogram, with negative values being recorded as 0.
+     *
+     * @param valueNs to be recorded.
+     */
+    public void recordValue(final long valueNs)
+    {
+        final long value = Math.min(Math.max(valueNs, 0), MAX_VALUE);
+
+        counts[bucketIndex(value)]++;
+        totalCount++;
+
+        if (value < minValue)
+        {
+            minValue = value;
+        }
+
+        if (value > maxValue)
+        {
+            maxValue = value;
+        }
+    }
+
+    /**
+     * Total number of values recorded since the last reset.
+     *
+     * @return total number of values recorded since the last reset.
+     */
+    public long totalCount()
+    {
+        return totalCount;
+    }
+
+    /**
+     * Min value recorded since the last reset.
+     *
+     * @return min value recorded since the last reset or 0 if no values have been recorded.
+     */
+    public long minValue()
+    {
+        return 0 == totalCount ? 0 : minValue;
+    }
+
+    /**
+     * Max value recorded since the last reset.
+     *
+     * @return max value recorded since the last reset or 0 if no values have been recorded.
+     */
+    public long maxValue()
+    {
+        return maxValue;
+    }
+
+    /**
+     * Value at or below which the given percentile of the recorded values fall, to within the precision of a bucket.
+     *
+     * @param percentile in the range 0.0 to 100.0.
+     * @return the value at the percentile or 0 if no values have been recorded.
+     */
+    public long valueAtPercentile(final double percentile)
+    {
+        if (0 == totalCount)
+        {
+            return 0;
+        }
+
+        final long countAtPercentile = Math.max(1, (long)Math.ceil((percentile / 100.0) * totalCount));
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+        {
+            count += counts[i];
+            if (count >= countAtPercentile)
+            {
+                return Math.max(minValue, Math.min(highestEquivalentValue(i), maxValue));
+            }
+        }
+
+        return maxValue;
+    }
+
+    /**
+     * Reset the histogram so it can be used for the next interval.
+     */
+    public void reset()
+    {
+        if (totalCount > 0)
+        {
+            Arrays.fill(counts, 0);
+            totalCount = 0;
+            minValue = Long.MAX_VALUE;
+            maxValue = 0;
+        }
+    }
+
+    static int bucketIndex(final long value)
+    {
+        final int shift = Math.max(0, (63 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS);
+
+        return (shift << SUB_BUCKET_BITS) + (int)(value >>> shift);
+    }
+
+    static long highestEquivalentValue(final int index)
+    {
+        final int shift = Math.max(0, (index >> SUB_BUCKET_BITS) - 1);
+        final long lowestValue = (long)(index - (shift << SUB_BUCKET_BITS)) << shift;
+
+        return lowestValue + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.AeronCounters;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.status.CountersManager;
+
+/**
+ * Summary of the round trip times measured by an image to its sources, from sending an RTT measurement frame to
+ * receiving the reply from the source, as min, p50, p99, and max counters for each interval.
+ */
+public class ReceiverRtt
+{
+    /**
+     * Type id of a receiver RTT counter.
+     */
+    public static final int RECEIVER_RTT_TYPE_ID = AeronCounters.DRIVER_RECEIVER_RTT_TYPE_ID;
+
+    /**
+     * Human-readable name for the counters which is suffixed with the statistic.
+     */
+    public static final String NAME = "rcv-rtt";
+
+    /**
+     * Allocate the receiver RTT counters for an image.
+     *
+     * @param tempBuffer      to build the labels.
+     * @param countersManager to allocate the counters from.
+     * @param registrationId  associated with the counters.
+     * @param sessionId       associated with the counters.
+     * @param streamId        associated with the counters.
+     * @param channel         associated with the counters.
+     * @param intervalNs      over which round trip times are summarised.
+     * @param nowNs           current time from which the first interval begins.
+     * @return the allocated counters.
+     */
+    public static LatencyCounters allocate(
+        final MutableDirectBuffer tempBuffer,
+        final CountersManager countersManager,
+        final long registrationId,
+        final int sessionId,
+        final int streamId,
+        final String channel,
+        final long intervalNs,
+        final long nowNs)
+    {
+        return LatencyCounters.allocate(
+            tempBuffer,
+            countersManager,
+            NAME,
+            RECEIVER_RTT_TYPE_ID,
+            registrationId,
+            sessionId,
+            streamId,
+            channel,
+            intervalNs,
+            nowNs);
+    }
+}
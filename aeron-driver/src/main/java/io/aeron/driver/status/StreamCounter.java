@@ -251,6 +251,18 @@ public class StreamCounter
             case SenderBpe.SENDER_BPE_TYPE_ID:
                 return SenderBpe.NAME;
 
+            case SenderPacingDelay.SENDER_PACING_DELAY_TYPE_ID:
+                return SenderPacingDelay.NAME;
+
+            case ReceiverLatency.RECEIVER_LATENCY_TYPE_ID:
+                return ReceiverLatency.NAME;
+
+            case SenderRtt.SENDER_RTT_TYPE_ID:
+                return SenderRtt.NAME;
+
+            case ReceiverRtt.RECEIVER_RTT_TYPE_ID:
+                return ReceiverRtt.NAME;
+
             default:
                 return "<unknown>";
         }
@@ -192,7 +192,72 @@ public enum SystemCounterDescriptor
     /**
      * Count of the number of times the time threshold has been exceeded by the NameResolver.
      */
-    NAME_RESOLVER_TIME_THRESHOLD_EXCEEDED(33, "NameResolver exceeded threshold count");
+    NAME_RESOLVER_TIME_THRESHOLD_EXCEEDED(33, "NameResolver exceeded threshold count"),
+
+    /**
+     * Count of Selective-ACKs sent back to senders requesting re-transmits.
+     */
+    SACK_MESSAGES_SENT(34, "SACKs sent"),
+
+    /**
+     * Count of Selective-ACKs received from receivers requesting re-transmits.
+     */
+    SACK_MESSAGES_RECEIVED(35, "SACKs received"),
+
+    /**
+     * Count of bytes sent in retransmissions by network publications.
+     */
+    RETRANSMITTED_BYTES(36, "Retransmitted bytes"),
+
+    /**
+     * Count of bytes requested for retransmit which were already covered by an active retransmission.
+     */
+    RETRANSMIT_BYTES_COALESCED(37, "Retransmit bytes coalesced"),
+
+    /**
+     * Count of bytes requested for retransmit which were dropped as the max active retransmissions was reached.
+     */
+    RETRANSMIT_BYTES_DROPPED(38, "Retransmit bytes dropped"),
+
+    /**
+     * Count of forward error correction parity frames sent by network publications.
+     */
+    FEC_FRAMES_SENT(39, "FEC frames sent"),
+
+    /**
+     * Count of bytes of loss rebuilt by images from forward error correction parity frames.
+     */
+    FEC_RECOVERED_BYTES(40, "FEC recovered bytes"),
+
+    /**
+     * Count of bytes of loss requested for retransmit by images with a NAK or Selective-ACK.
+     */
+    NAKED_LOSS_BYTES(41, "NAKed loss bytes"),
+
+    /**
+     * Max time in nanoseconds taken to create and map a log buffer, including pre-touching its pages.
+     */
+    LOG_BUFFER_MAP_MAX_TIME(42, "Log buffer max time to create and map in ns"),
+
+    /**
+     * Total time in nanoseconds taken to create and map log buffers, including pre-touching their pages.
+     */
+    LOG_BUFFER_MAP_TOTAL_TIME(43, "Log buffer total time to create and map in ns"),
+
+    /**
+     * Count of log buffers for publications and images reused from the pool of freed log buffers.
+     */
+    LOG_BUFFER_POOL_HITS(44, "Log buffer pool hits"),
+
+    /**
+     * Count of log buffers for publications and images created as none of the term length were pooled.
+     */
+    LOG_BUFFER_POOL_MISSES(45, "Log buffer pool misses"),
+
+    /**
+     * Count of receivers ejected from multicast flow control for trailing the gating receiver by more than the lag.
+     */
+    FLOW_CONTROL_RECEIVERS_EJECTED(46, "Flow control receivers ejected");
 
     /**
      * All system counters have the same type id, i.e. system counters are the same type. Other types can exist.
@@ -53,6 +53,47 @@ public final class SystemCounters implements AutoCloseable
         return counterByDescriptorMap.get(descriptor);
     }
 
+    /**
+     * Increment a counter which has a single writer unless it is updated from more than one agent, such as when there
+     * is more than one {@link io.aeron.driver.Receiver} or {@link io.aeron.driver.Sender}.
+     *
+     * @param counter       to be incremented.
+     * @param isMultiWriter true if the counter is updated from more than one thread so must be incremented atomically.
+     * @since 1.43.0
+     */
+    public static void increment(final AtomicCounter counter, final boolean isMultiWriter)
+    {
+        if (isMultiWriter)
+        {
+            counter.increment();
+        }
+        else
+        {
+            counter.incrementOrdered();
+        }
+    }
+
+    /**
+     * Add to a counter which has a single writer unless it is updated from more than one agent, such as when there
+     * is more than one {@link io.aeron.driver.Receiver} or {@link io.aeron.driver.Sender}.
+     *
+     * @param counter       to be added to.
+     * @param increment     to add to the counter.
+     * @param isMultiWriter true if the counter is updated from more than one thread so must be added to atomically.
+     * @since 1.43.0
+     */
+    public static void getAndAdd(final AtomicCounter counter, final long increment, final boolean isMultiWriter)
+    {
+        if (isMultiWriter)
+        {
+            counter.getAndAdd(increment);
+        }
+        else
+        {
+            counter.getAndAddOrdered(increment);
+        }
+    }
+
     /**
      * Close all the counters.
      */
@@ -236,6 +236,43 @@ class DataPacketDispatcherTest
         verify(mockImage2).insertPacket(ACTIVE_TERM_ID, TERM_OFFSET, mockBuffer, LENGTH, 0, SRC_ADDRESS);
     }
 
+    @Test
+    void shouldElicitSetupMessageAfterSessionSpecificSubscriptionWithNoInterestRemoved()
+    {
+        dispatcher.addSubscription(STREAM_ID, SESSION_ID + 1);
+        dispatcher.onDataPacket(mockChannelEndpoint, mockHeader, mockBuffer, LENGTH, SRC_ADDRESS, 0);
+        dispatcher.removeSubscription(STREAM_ID, SESSION_ID + 1);
+
+        verify(mockChannelEndpoint, never()).sendSetupElicitingStatusMessage(0, SRC_ADDRESS, SESSION_ID, STREAM_ID);
+
+        dispatcher.addSubscription(STREAM_ID);
+        dispatcher.onDataPacket(mockChannelEndpoint, mockHeader, mockBuffer, LENGTH, SRC_ADDRESS, 0);
+
+        verify(mockChannelEndpoint).sendSetupElicitingStatusMessage(0, SRC_ADDRESS, SESSION_ID, STREAM_ID);
+        verify(mockReceiver).addPendingSetupMessage(SESSION_ID, STREAM_ID, 0, mockChannelEndpoint, false, SRC_ADDRESS);
+    }
+
+    @Test
+    void shouldOnlyDeactivateImagesOfRemovedStream()
+    {
+        final PublicationImage otherStreamImage = mock(PublicationImage.class);
+        when(otherStreamImage.sessionId()).thenReturn(SESSION_ID);
+        when(otherStreamImage.streamId()).thenReturn(STREAM_ID + 1);
+
+        dispatcher.addSubscription(STREAM_ID);
+        dispatcher.addSubscription(STREAM_ID + 1);
+        dispatcher.addPublicationImage(mockImage);
+        dispatcher.addPublicationImage(otherStreamImage);
+        dispatcher.removeSubscription(STREAM_ID + 1);
+
+        verify(otherStreamImage).deactivate();
+        verify(mockImage, never()).deactivate();
+
+        dispatcher.onDataPacket(mockChannelEndpoint, mockHeader, mockBuffer, LENGTH, SRC_ADDRESS, 0);
+
+        verify(mockImage).insertPacket(ACTIVE_TERM_ID, TERM_OFFSET, mockBuffer, LENGTH, 0, SRC_ADDRESS);
+    }
+
     @Test
     void shouldRemoveSessionSpecificSubscriptionWithoutAny()
     {
@@ -59,6 +59,17 @@ class DefaultMulticastFlowControlSupplierTest
         assertEquals(TaggedMulticastFlowControl.class, supplier.newInstance(UdpChannel.parse(uri), 0, 0).getClass());
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "aeron:udp?endpoint=224.20.30.39:54326|interface=localhost|fc=quorum",
+        "aeron:udp?endpoint=224.20.30.39:54326|interface=localhost|fc=quorum,k:3,l:16m",
+        "aeron:udp?endpoint=224.20.30.39:54326|interface=localhost|fc=quorum,p:95,t:100ms,g:/10",
+    })
+    void shouldReturnQuorumFlowControl(final String uri)
+    {
+        assertEquals(QuorumMulticastFlowControl.class, supplier.newInstance(UdpChannel.parse(uri), 0, 0).getClass());
+    }
+
 
     @ParameterizedTest
     @ValueSource(strings = {
@@ -21,6 +21,7 @@ import io.aeron.ErrorCode;
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.buffer.TestLogFactory;
 import io.aeron.driver.exceptions.InvalidChannelException;
+import io.aeron.exceptions.StorageSpaceException;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveChannelEndpointThreadLocals;
 import io.aeron.driver.media.WildcardPortManager;
@@ -34,6 +35,7 @@ import io.aeron.test.Tests;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
 import org.agrona.ErrorHandler;
+import org.agrona.concurrent.BackoffIdleStrategy;
 import org.agrona.concurrent.CachedEpochClock;
 import org.agrona.concurrent.CachedNanoClock;
 import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
@@ -53,7 +55,9 @@ import org.mockito.stubbing.Answer;
 
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 import java.util.function.LongConsumer;
 
@@ -127,6 +131,7 @@ class DriverConductorTest
     private CountersManager spyCountersManager;
     private DriverProxy driverProxy;
     private DriverConductor driverConductor;
+    private MediaDriver.Context ctx;
 
     private final Answer<Void> closeChannelEndpointAnswer =
         (invocation) ->
@@ -160,7 +165,7 @@ class DriverConductorTest
             spySystemCounters.get(NAME_RESOLVER_TIME_THRESHOLD_EXCEEDED),
             1_000_000_000);
 
-        final MediaDriver.Context ctx = new MediaDriver.Context()
+        ctx = new MediaDriver.Context()
             .tempBuffer(new UnsafeBuffer(new byte[METADATA_LENGTH]))
             .timerIntervalNs(DEFAULT_TIMER_INTERVAL_NS)
             .publicationTermBufferLength(TERM_BUFFER_LENGTH)
@@ -200,6 +205,8 @@ class DriverConductorTest
         driverConductor.onStart();
 
         doAnswer(closeChannelEndpointAnswer).when(receiverProxy).closeReceiveChannelEndpoint(any());
+        when(receiverProxy.cachedNanoClock(anyInt())).thenReturn(nanoClock);
+        when(senderProxy.cachedNanoClock(anyInt())).thenReturn(nanoClock);
     }
 
     @AfterEach
@@ -246,6 +253,153 @@ class DriverConductorTest
             anyLong(), anyLong(), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
     }
 
+    @Test
+    void shouldCompleteAddPublicationOnceLogIsAllocatedWhileProcessingOtherCommands()
+    {
+        final CountDownLatch allocationLatch = new CountDownLatch(1);
+        final DriverConductor asyncConductor = newAsyncLogBufferAllocationConductor(new TestLogFactory()
+        {
+            public RawLog newPublication(
+                final long correlationId, final int termBufferLength, final boolean useSparseFiles)
+            {
+                try
+                {
+                    allocationLatch.await();
+                }
+                catch (final InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                return super.newPublication(correlationId, termBufferLength, useSparseFiles);
+            }
+        });
+
+        try
+        {
+            final long publicationId = driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+            final long subscriptionId = driverProxy.addSubscription(CHANNEL_4001, STREAM_ID_1);
+            asyncConductor.doWork();
+
+            verify(mockClientProxy).onSubscriptionReady(eq(subscriptionId), anyInt());
+            verify(senderProxy, never()).newNetworkPublication(any());
+            verify(mockClientProxy, never()).onPublicationReady(
+                anyLong(), anyLong(), anyInt(), anyInt(), any(), anyInt(), anyInt(), anyBoolean());
+
+            allocationLatch.countDown();
+            awaitInvocation(asyncConductor, mockClientProxy, "onPublicationReady");
+
+            verify(senderProxy).newNetworkPublication(any());
+            verify(mockClientProxy).onPublicationReady(
+                eq(publicationId), eq(publicationId), eq(STREAM_ID_1), anyInt(), any(), anyInt(), anyInt(), eq(false));
+        }
+        finally
+        {
+            allocationLatch.countDown();
+            asyncConductor.onClose();
+        }
+    }
+
+    @Test
+    void shouldCancelPendingAddPublicationWhenRemovedBeforeLogIsAllocated()
+    {
+        final CountDownLatch allocationLatch = new CountDownLatch(1);
+        final AtomicReference<RawLog> allocatedLog = new AtomicReference<>();
+        final DriverConductor asyncConductor = newAsyncLogBufferAllocationConductor(
+            newLatchedLogFactory(allocationLatch, allocatedLog));
+
+        try
+        {
+            final long publicationId = driverProxy.addPublication(CHANNEL_4000, STREAM_ID_1);
+            final long removeCorrelationId = driverProxy.removePublication(publicationId);
+            asyncConductor.doWork();
+
+            verify(mockClientProxy).operationSucceeded(removeCorrelationId);
+
+            allocationLatch.countDown();
+            Tests.await(
+                () ->
+                {
+                    asyncConductor.doWork();
+                    return null != allocatedLog.get();
+                },
+                SECONDS.toNanos(10));
+            awaitInvocation(asyncConductor, allocatedLog.get(), "close");
+
+            verify(senderProxy, never()).newNetworkPublication(any());
+            verify(mockClientProxy, never()).onPublicationReady(
+                anyLong(), anyLong(), anyInt(), anyInt(), any(), anyInt(), anyInt(), anyBoolean());
+            verify(mockClientProxy, never()).onError(anyLong(), any(), anyString());
+        }
+        finally
+        {
+            allocationLatch.countDown();
+            asyncConductor.onClose();
+        }
+    }
+
+    @Test
+    void shouldNotAddClientWhenClosedBeforeLogIsAllocated()
+    {
+        final CountDownLatch allocationLatch = new CountDownLatch(1);
+        final AtomicReference<RawLog> allocatedLog = new AtomicReference<>();
+        final DriverConductor asyncConductor = newAsyncLogBufferAllocationConductor(
+            newLatchedLogFactory(allocationLatch, allocatedLog));
+
+        try
+        {
+            driverProxy.addExclusivePublication(CHANNEL_IPC, STREAM_ID_1);
+            driverProxy.clientClose();
+            asyncConductor.doWork();
+
+            allocationLatch.countDown();
+            Tests.await(
+                () ->
+                {
+                    asyncConductor.doWork();
+                    return null != allocatedLog.get();
+                },
+                SECONDS.toNanos(10));
+            awaitInvocation(asyncConductor, allocatedLog.get(), "close");
+
+            verify(mockClientProxy, never()).onPublicationReady(
+                anyLong(), anyLong(), anyInt(), anyInt(), any(), anyInt(), anyInt(), anyBoolean());
+            verify(mockClientProxy, never()).onCounterReady(anyLong(), anyInt());
+        }
+        finally
+        {
+            allocationLatch.countDown();
+            asyncConductor.onClose();
+        }
+    }
+
+    @Test
+    void shouldErrorOnAddPublicationWhenLogAllocationFails()
+    {
+        final DriverConductor asyncConductor = newAsyncLogBufferAllocationConductor(new TestLogFactory()
+        {
+            public RawLog newPublication(
+                final long correlationId, final int termBufferLength, final boolean useSparseFiles)
+            {
+                throw new StorageSpaceException("insufficient usable storage");
+            }
+        });
+
+        try
+        {
+            final long publicationId = driverProxy.addPublication(CHANNEL_IPC, STREAM_ID_1);
+            awaitInvocation(asyncConductor, mockClientProxy, "onError");
+
+            verify(mockClientProxy).onError(publicationId, STORAGE_SPACE, "ERROR - insufficient usable storage");
+            verify(mockClientProxy, never()).onPublicationReady(
+                anyLong(), anyLong(), anyInt(), anyInt(), any(), anyInt(), anyInt(), anyBoolean());
+        }
+        finally
+        {
+            asyncConductor.onClose();
+        }
+    }
+
     @Test
     void shouldBeAbleToAddPublicationForReplay()
     {
@@ -327,6 +481,100 @@ class DriverConductorTest
         verify(mockClientProxy).onSubscriptionReady(eq(id), anyInt());
     }
 
+    @Test
+    void shouldAssignSubscriptionChannelToReceiverAgentFromHint()
+    {
+        final CachedNanoClock receiverNanoClock = new CachedNanoClock();
+        when(receiverProxy.receiverCount()).thenReturn(2);
+        when(receiverProxy.cachedNanoClock(1)).thenReturn(receiverNanoClock);
+
+        driverProxy.addSubscription(CHANNEL_4000 + "|" + CommonContext.RECEIVER_AGENT_PARAM_NAME + "=1", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<ReceiveChannelEndpoint> captor = ArgumentCaptor.forClass(ReceiveChannelEndpoint.class);
+        verify(receiverProxy).registerReceiveChannelEndpoint(captor.capture());
+        receiveChannelEndpoint = captor.getValue();
+
+        assertEquals(1, receiveChannelEndpoint.receiverIndex());
+        assertSame(receiverNanoClock, receiveChannelEndpoint.cachedNanoClock());
+        verify(receiverProxy).receiver(1);
+    }
+
+    @Test
+    void shouldErrorOnAddSubscriptionWithReceiverAgentOutOfRange()
+    {
+        when(receiverProxy.receiverCount()).thenReturn(2);
+
+        final long id = driverProxy.addSubscription(
+            CHANNEL_4000 + "|" + CommonContext.RECEIVER_AGENT_PARAM_NAME + "=2", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(receiverProxy, never()).registerReceiveChannelEndpoint(any());
+        verify(mockClientProxy).onError(eq(id), eq(GENERIC_ERROR), anyString());
+        verify(mockErrorCounter).increment();
+        verify(mockErrorHandler).onError(any(Throwable.class));
+    }
+
+    @Test
+    void shouldFanOutSubscriptionAcrossReceiveSockets()
+    {
+        when(receiverProxy.receiverCount()).thenReturn(2);
+
+        final long id = driverProxy.addSubscription(
+            CHANNEL_4000 + "|" + CommonContext.RECEIVER_AGENT_PARAM_NAME + "=0|" +
+            CommonContext.RECEIVE_SOCKET_COUNT_PARAM_NAME + "=2", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<ReceiveChannelEndpoint> captor = ArgumentCaptor.forClass(ReceiveChannelEndpoint.class);
+        verify(receiverProxy, times(2)).registerReceiveChannelEndpoint(captor.capture());
+        receiveChannelEndpoint = captor.getAllValues().get(0);
+        final ReceiveChannelEndpoint fanOutEndpoint = captor.getAllValues().get(1);
+
+        assertArrayEquals(new ReceiveChannelEndpoint[]{ fanOutEndpoint }, receiveChannelEndpoint.fanOutEndpoints());
+        assertSame(receiveChannelEndpoint, fanOutEndpoint.fanOutPrimary());
+        assertEquals(0, receiveChannelEndpoint.receiverIndex());
+        assertEquals(1, fanOutEndpoint.receiverIndex());
+        verify(receiverProxy).addSubscription(receiveChannelEndpoint, STREAM_ID_1);
+        verify(receiverProxy).addSubscription(fanOutEndpoint, STREAM_ID_1);
+        verify(mockClientProxy).onSubscriptionReady(eq(id), anyInt());
+
+        driverProxy.removeSubscription(id);
+        driverConductor.doWork();
+
+        verify(receiverProxy).closeReceiveChannelEndpoint(receiveChannelEndpoint);
+        verify(receiverProxy).closeReceiveChannelEndpoint(fanOutEndpoint);
+        CloseHelper.close(fanOutEndpoint);
+    }
+
+    @Test
+    void shouldErrorOnAddSubscriptionWithReceiveSocketsForMulticast()
+    {
+        final long id = driverProxy.addSubscription(
+            "aeron:udp?endpoint=224.20.30.39:24326|interface=localhost|" +
+            CommonContext.RECEIVE_SOCKET_COUNT_PARAM_NAME + "=2", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(receiverProxy, never()).registerReceiveChannelEndpoint(any());
+        verify(mockClientProxy).onError(eq(id), eq(INVALID_CHANNEL), anyString());
+    }
+
+    @Test
+    void shouldErrorOnAddSubscriptionWithSameSendAndReceiveTimestampOffsets()
+    {
+        final long id = driverProxy.addSubscription(
+            CHANNEL_4000 + "|" + CommonContext.CHANNEL_SEND_TIMESTAMP_OFFSET_PARAM_NAME + "=reserved|" +
+            CommonContext.CHANNEL_RECEIVE_TIMESTAMP_OFFSET_PARAM_NAME + "=reserved", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(receiverProxy, never()).registerReceiveChannelEndpoint(any());
+        verify(mockClientProxy).onError(eq(id), eq(INVALID_CHANNEL), anyString());
+    }
+
     @Test
     void shouldBeAbleToAddAndRemoveSingleSubscription()
     {
@@ -490,6 +738,97 @@ class DriverConductorTest
         assertEquals(mtuLength, argumentCaptor.getValue().mtuLength());
     }
 
+    @Test
+    void shouldAssignPublicationChannelToSenderAgentFromHint()
+    {
+        final CachedNanoClock senderNanoClock = new CachedNanoClock();
+        when(senderProxy.senderCount()).thenReturn(3);
+        when(senderProxy.cachedNanoClock(2)).thenReturn(senderNanoClock);
+
+        driverProxy.addPublication(CHANNEL_4000 + "|" + CommonContext.SENDER_AGENT_PARAM_NAME + "=2", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<NetworkPublication> argumentCaptor = ArgumentCaptor.forClass(NetworkPublication.class);
+        verify(senderProxy).newNetworkPublication(argumentCaptor.capture());
+
+        assertEquals(2, argumentCaptor.getValue().channelEndpoint().senderIndex());
+        assertSame(senderNanoClock, argumentCaptor.getValue().channelEndpoint().cachedNanoClock());
+    }
+
+    @Test
+    void shouldErrorOnAddPublicationWithMaxMessagesPerSendOutOfRange()
+    {
+        final int maxMessagesPerSend = Configuration.NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_MAX + 1;
+        final String maxMessagesPerSendParam =
+            "|" + CommonContext.MAX_MESSAGES_PER_SEND_PARAM_NAME + "=" + maxMessagesPerSend;
+        final long correlationId = driverProxy.addPublication(CHANNEL_4000 + maxMessagesPerSendParam, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(senderProxy, never()).newNetworkPublication(any());
+        verify(mockClientProxy).onError(eq(correlationId), eq(GENERIC_ERROR), anyString());
+        verify(mockErrorCounter).increment();
+        verify(mockErrorHandler).onError(any(Throwable.class));
+    }
+
+    @Test
+    void shouldErrorOnAddPublicationWithMaxRetransmitsOutOfRange()
+    {
+        final int maxRetransmits = Configuration.MAX_RETRANSMITS_MAX + 1;
+        final String maxRetransmitsParam = "|" + CommonContext.MAX_RETRANSMITS_PARAM_NAME + "=" + maxRetransmits;
+        final long correlationId = driverProxy.addPublication(CHANNEL_4000 + maxRetransmitsParam, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(senderProxy, never()).newNetworkPublication(any());
+        verify(mockClientProxy).onError(eq(correlationId), eq(GENERIC_ERROR), anyString());
+        verify(mockErrorCounter).increment();
+        verify(mockErrorHandler).onError(any(Throwable.class));
+    }
+
+    @Test
+    void shouldErrorOnAddPublicationWithSendBurstLessThanMtu()
+    {
+        final String pacingParams = "|" + CommonContext.MAX_SEND_RATE_PARAM_NAME + "=1m|" +
+            CommonContext.SEND_BURST_PARAM_NAME + "=" + (Configuration.mtuLength() - 1);
+        final long correlationId = driverProxy.addPublication(CHANNEL_4000 + pacingParams, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(senderProxy, never()).newNetworkPublication(any());
+        verify(mockClientProxy).onError(eq(correlationId), eq(GENERIC_ERROR), anyString());
+        verify(mockErrorCounter).increment();
+        verify(mockErrorHandler).onError(any(Throwable.class));
+    }
+
+    @Test
+    void shouldErrorOnAddPublicationWithFecGroupSizeAboveMax()
+    {
+        final String fecParam = "|" + CommonContext.FEC_PARAM_NAME + "=" + (Configuration.FEC_GROUP_SIZE_MAX + 1);
+        final long correlationId = driverProxy.addPublication(CHANNEL_4000 + fecParam, STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(senderProxy, never()).newNetworkPublication(any());
+        verify(mockClientProxy).onError(eq(correlationId), eq(GENERIC_ERROR), anyString());
+        verify(mockErrorCounter).increment();
+        verify(mockErrorHandler).onError(any(Throwable.class));
+    }
+
+    @Test
+    void shouldErrorOnAddPublicationWithFecAndChannelSendTimestamps()
+    {
+        final long correlationId = driverProxy.addPublication(
+            CHANNEL_4000 + "|" + CommonContext.FEC_PARAM_NAME + "=4|" +
+            CommonContext.CHANNEL_SEND_TIMESTAMP_OFFSET_PARAM_NAME + "=reserved", STREAM_ID_1);
+
+        driverConductor.doWork();
+
+        verify(senderProxy, never()).newNetworkPublication(any());
+        verify(mockClientProxy).onError(eq(correlationId), eq(INVALID_CHANNEL), anyString());
+    }
+
     @Test
     void shouldErrorOnRemoveSubscriptionOnUnknownRegistrationId()
     {
@@ -1408,6 +1747,42 @@ class DriverConductorTest
         verify(spyCountersManager, never()).free(captor.getValue());
     }
 
+    @Test
+    void shouldRemoveCounterOnClientCloseWithoutWaitingForLivenessTimeout()
+    {
+        final long registrationId = driverProxy.addCounter(
+            COUNTER_TYPE_ID,
+            counterKeyAndLabel,
+            COUNTER_KEY_OFFSET,
+            COUNTER_KEY_LENGTH,
+            counterKeyAndLabel,
+            COUNTER_LABEL_OFFSET,
+            COUNTER_LABEL_LENGTH);
+
+        driverConductor.doWork();
+
+        final ArgumentCaptor<Integer> captor = ArgumentCaptor.forClass(Integer.class);
+        verify(mockClientProxy).onCounterReady(eq(registrationId), captor.capture());
+        final AtomicCounter heartbeatCounter = clientHeartbeatCounter(spyCountersManager);
+
+        doWorkUntil(() ->
+        {
+            heartbeatCounter.setOrdered(epochClock.time());
+            return (CLIENT_LIVENESS_TIMEOUT_NS * 2) - nanoClock.nanoTime() <= 0;
+        });
+
+        verify(spyCountersManager, never()).free(captor.getValue());
+
+        driverProxy.clientClose();
+        driverConductor.doWork();
+
+        final long deadlineNs = nanoClock.nanoTime() + (DEFAULT_TIMER_INTERVAL_NS * 2);
+        doWorkUntil(() -> deadlineNs - nanoClock.nanoTime() <= 0);
+
+        verify(spyCountersManager).free(captor.getValue());
+        verify(mockClientProxy).onUnavailableCounter(eq(registrationId), eq(captor.getValue()));
+    }
+
     @Test
     void shouldInformClientsOfRemovedCounter()
     {
@@ -1921,4 +2296,55 @@ class DriverConductorTest
 
         frameLengthOrdered(termBuffer, termOffset, frameLength);
     }
+
+    private DriverConductor newAsyncLogBufferAllocationConductor(final TestLogFactory logFactory)
+    {
+        ctx.logFactory(logFactory)
+            .logBuffersAsyncAllocation(true)
+            .logBuffersAllocatorIdleStrategy(new BackoffIdleStrategy())
+            .logBuffersAllocatorThreadFactory(Thread::new);
+
+        final DriverConductor asyncConductor = new DriverConductor(ctx);
+        asyncConductor.onStart();
+
+        return asyncConductor;
+    }
+
+    private static TestLogFactory newLatchedLogFactory(
+        final CountDownLatch allocationLatch, final AtomicReference<RawLog> allocatedLog)
+    {
+        return new TestLogFactory()
+        {
+            public RawLog newPublication(
+                final long correlationId, final int termBufferLength, final boolean useSparseFiles)
+            {
+                try
+                {
+                    allocationLatch.await();
+                }
+                catch (final InterruptedException ex)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                final RawLog rawLog = spy(super.newPublication(correlationId, termBufferLength, useSparseFiles));
+                allocatedLog.set(rawLog);
+
+                return rawLog;
+            }
+        };
+    }
+
+    private static void awaitInvocation(
+        final DriverConductor conductor, final Object mock, final String methodName)
+    {
+        Tests.await(
+            () ->
+            {
+                conductor.doWork();
+                return mockingDetails(mock).getInvocations().stream()
+                    .anyMatch((invocation) -> methodName.equals(invocation.getMethod().getName()));
+            },
+            SECONDS.toNanos(10));
+    }
 }
@@ -288,6 +288,71 @@ class LossDetectorTest
         verifyNoMoreInteractions(lossHandler);
     }
 
+    @Test
+    void shouldNakAllGapsInScanWhenMaxGapsGreaterThanOne()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 4);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7L);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        final InOrder inOrder = inOrder(lossHandler);
+        inOrder.verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        inOrder.verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(3), gapLength());
+        inOrder.verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(5), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    void shouldLimitGapsNakedToMaxGaps()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler, 2);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7L);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(3), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    void shouldNakFurtherGapsFoundAfterFirstGapActivatedWhenTimerExpires()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, 4);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 3L);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        insertDataFrame(offsetOfMessage(4));
+        hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 5L);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(3), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
     private LossDetector getLossHandlerWithImmediate()
     {
         return new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler);
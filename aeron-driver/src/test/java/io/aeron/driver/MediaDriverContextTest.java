@@ -16,7 +16,10 @@
 package io.aeron.driver;
 
 import io.aeron.driver.MediaDriver.Context;
+import io.aeron.driver.media.ControlTransportPoller;
+import io.aeron.driver.media.DataTransportPoller;
 import io.aeron.exceptions.ConfigurationException;
+import org.agrona.CloseHelper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -142,4 +145,30 @@ class MediaDriverContextTest
         final ConfigurationException exception = assertThrows(ConfigurationException.class, context::conclude);
         assertTrue(exception.getMessage().contains("ipcPublicationTermWindowLength"));
     }
+
+    @Test
+    void shouldCreateTransportPollersFromSuppliers(final @TempDir Path temp) throws IOException
+    {
+        final Path aeronDir = temp.resolve("aeron");
+        Files.createDirectories(aeronDir);
+
+        final DataTransportPoller dataTransportPoller = new DataTransportPoller(Throwable::printStackTrace);
+        final ControlTransportPoller controlTransportPoller = new ControlTransportPoller(Throwable::printStackTrace);
+
+        try
+        {
+            context
+                .aeronDirectoryName(aeronDir.toString())
+                .dataTransportPollerSupplier((ctx) -> dataTransportPoller)
+                .controlTransportPollerSupplier((ctx) -> controlTransportPoller)
+                .conclude();
+
+            assertSame(dataTransportPoller, context.dataTransportPoller());
+            assertSame(controlTransportPoller, context.controlTransportPoller());
+        }
+        finally
+        {
+            CloseHelper.closeAll(dataTransportPoller, controlTransportPoller);
+        }
+    }
 }
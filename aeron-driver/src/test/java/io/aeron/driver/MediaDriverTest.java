@@ -15,16 +15,25 @@
  */
 package io.aeron.driver;
 
+import io.aeron.AeronCounters;
 import io.aeron.driver.status.DutyCycleStallTracker;
 import io.aeron.driver.status.SystemCounterDescriptor;
+import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.SleepingMillisIdleStrategy;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -148,6 +157,134 @@ class MediaDriverTest
         }
     }
 
+    @Test
+    void shouldUseContextForAdditionalReceiverAgents(final @TempDir Path tempDir)
+    {
+        final AtomicInteger idleStrategiesSupplied = new AtomicInteger();
+        final Supplier<IdleStrategy> idleStrategySupplier = () ->
+        {
+            idleStrategiesSupplied.incrementAndGet();
+            return new SleepingMillisIdleStrategy();
+        };
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .aeronDirectoryName(tempDir.resolve("aeron").toString())
+            .threadingMode(ThreadingMode.DEDICATED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true)
+            .receiverAgentCount(3)
+            .receiverCycleThresholdNs(789)
+            .receiverIdleStrategySupplier(idleStrategySupplier);
+
+        try (MediaDriver mediaDriver = MediaDriver.launch(context))
+        {
+            assertEquals(2, idleStrategiesSupplied.get());
+
+            final List<String> labels = new ArrayList<>();
+            mediaDriver.context().countersManager().forEach(
+                (counterId, typeId, keyBuffer, label) ->
+                {
+                    if (AeronCounters.DRIVER_AGENT_MAX_CYCLE_TIME_TYPE_ID == typeId ||
+                        AeronCounters.DRIVER_AGENT_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID == typeId)
+                    {
+                        labels.add(label);
+                    }
+                });
+
+            final List<String> expectedLabels = Arrays.asList(
+                "receiver-1 max cycle time doing its work in ns: DEDICATED",
+                "receiver-1 work cycle exceeded threshold count: threshold=789ns DEDICATED",
+                "receiver-2 max cycle time doing its work in ns: DEDICATED",
+                "receiver-2 work cycle exceeded threshold count: threshold=789ns DEDICATED");
+            assertEquals(expectedLabels, labels);
+        }
+    }
+
+    @Test
+    void shouldUseContextForAdditionalSenderAgents(final @TempDir Path tempDir)
+    {
+        final AtomicInteger idleStrategiesSupplied = new AtomicInteger();
+        final Supplier<IdleStrategy> idleStrategySupplier = () ->
+        {
+            idleStrategiesSupplied.incrementAndGet();
+            return new SleepingMillisIdleStrategy();
+        };
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .aeronDirectoryName(tempDir.resolve("aeron").toString())
+            .threadingMode(ThreadingMode.DEDICATED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true)
+            .senderAgentCount(3)
+            .senderCycleThresholdNs(456)
+            .senderIdleStrategySupplier(idleStrategySupplier);
+
+        try (MediaDriver mediaDriver = MediaDriver.launch(context))
+        {
+            assertEquals(2, idleStrategiesSupplied.get());
+
+            final List<String> labels = new ArrayList<>();
+            mediaDriver.context().countersManager().forEach(
+                (counterId, typeId, keyBuffer, label) ->
+                {
+                    if (AeronCounters.DRIVER_AGENT_MAX_CYCLE_TIME_TYPE_ID == typeId ||
+                        AeronCounters.DRIVER_AGENT_CYCLE_TIME_THRESHOLD_EXCEEDED_TYPE_ID == typeId)
+                    {
+                        labels.add(label);
+                    }
+                });
+
+            final List<String> expectedLabels = Arrays.asList(
+                "sender-1 max cycle time doing its work in ns: DEDICATED",
+                "sender-1 work cycle exceeded threshold count: threshold=456ns DEDICATED",
+                "sender-2 max cycle time doing its work in ns: DEDICATED",
+                "sender-2 work cycle exceeded threshold count: threshold=456ns DEDICATED");
+            assertEquals(expectedLabels, labels);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    void shouldNotDeleteLogBuffersOfAnotherDriverSharingLogBuffersDirectory(final @TempDir Path tempDir)
+        throws IOException
+    {
+        final Path logBuffersDir = tempDir.resolve("log-buffers");
+        final MediaDriver.Context contextA = new MediaDriver.Context()
+            .aeronDirectoryName(tempDir.resolve("a").resolve("aeron").toString())
+            .logBuffersDirectoryName(logBuffersDir.toString())
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+        final MediaDriver.Context contextB = new MediaDriver.Context()
+            .aeronDirectoryName(tempDir.resolve("b").resolve("aeron").toString())
+            .logBuffersDirectoryName(logBuffersDir.toString())
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        try (MediaDriver ignoreA = MediaDriver.launch(contextA))
+        {
+            final List<Path> dirsOfA = listDirectories(logBuffersDir);
+            assertEquals(1, dirsOfA.size());
+            final Path markerFile = Files.createFile(dirsOfA.get(0).resolve("marker"));
+
+            try (MediaDriver ignoreB = MediaDriver.launch(contextB))
+            {
+                assertEquals(2, listDirectories(logBuffersDir).size());
+                assertTrue(Files.exists(markerFile));
+            }
+        }
+    }
+
+    private static List<Path> listDirectories(final Path dir) throws IOException
+    {
+        final List<Path> dirs = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir))
+        {
+            stream.forEach(dirs::add);
+        }
+
+        return dirs;
+    }
+
     private static void verifyStallTracker(
         final DutyCycleTracker dutyCycleTracker,
         final SystemCounterDescriptor maxCycleTimeCounter,
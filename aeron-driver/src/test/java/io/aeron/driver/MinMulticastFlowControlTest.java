@@ -145,8 +145,48 @@ class MinMulticastFlowControlTest
         assertEquals(termOffset2 + WINDOW_LENGTH, onStatusMessage(flowControl, 3, termOffset2, senderLimit));
     }
 
+    @Test
+    void shouldTrackMinPositionAcrossManyReceiversAsTheyAdvanceAndTimeout()
+    {
+        final UdpChannel udpChannel = UdpChannel.parse(
+            "aeron:udp?endpoint=224.20.30.39:24326|interface=localhost|fc=min,g:/1,t:100ms");
+
+        flowControl.initialize(
+            newContext(), countersManager, udpChannel, 0, 0, 0, 0, 0);
+
+        final int receiverCount = 100;
+        final int senderLimit = 0;
+        for (int i = 0; i < receiverCount; i++)
+        {
+            onStatusMessage(flowControl, i, ((i * 37) % receiverCount) * 32, senderLimit);
+        }
+        assertEquals(WINDOW_LENGTH, onIdle(flowControl, senderLimit));
+
+        onStatusMessage(flowControl, 0, receiverCount * 32, senderLimit);
+        assertEquals(32 + WINDOW_LENGTH, onIdle(flowControl, senderLimit));
+
+        final long timeNs = 50_000_000;
+        for (int i = 1; i < receiverCount; i++)
+        {
+            if (i != 46)
+            {
+                flowControl.onStatusMessage(
+                    statusMessage(i, receiverCount * 64), null, senderLimit, 0, 0, timeNs);
+            }
+        }
+
+        assertEquals(64 + WINDOW_LENGTH, flowControl.onIdle(timeNs, senderLimit, 0, false));
+        assertEquals(
+            receiverCount * 64 + WINDOW_LENGTH, flowControl.onIdle(timeNs + 60_000_000, senderLimit, 0, false));
+    }
+
     private long onStatusMessage(
         final MinMulticastFlowControl flowControl, final long receiverId, final int termOffset, final long senderLimit)
+    {
+        return flowControl.onStatusMessage(statusMessage(receiverId, termOffset), null, senderLimit, 0, 0, 0);
+    }
+
+    private static StatusMessageFlyweight statusMessage(final long receiverId, final int termOffset)
     {
         final StatusMessageFlyweight statusMessageFlyweight = new StatusMessageFlyweight();
         statusMessageFlyweight.wrap(new byte[1024]);
@@ -156,7 +196,7 @@ class MinMulticastFlowControlTest
         statusMessageFlyweight.consumptionTermOffset(termOffset);
         statusMessageFlyweight.receiverWindowLength(WINDOW_LENGTH);
 
-        return flowControl.onStatusMessage(statusMessageFlyweight, null, senderLimit, 0, 0, 0);
+        return statusMessageFlyweight;
     }
 
     private long onIdle(final MinMulticastFlowControl flowControl, final long senderLimit)
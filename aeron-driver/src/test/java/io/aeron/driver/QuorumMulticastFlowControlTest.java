@@ -0,0 +1,137 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.SystemCounters;
+import io.aeron.protocol.StatusMessageFlyweight;
+import io.aeron.test.Tests;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static io.aeron.driver.status.SystemCounterDescriptor.FLOW_CONTROL_RECEIVERS_EJECTED;
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuorumMulticastFlowControlTest
+{
+    private static final int WINDOW_LENGTH = 16 * 1024;
+    private static final int COUNTERS_BUFFER_LENGTH = 64 * 1024;
+    private static final String CHANNEL = "aeron:udp?endpoint=224.20.30.39:24326|interface=localhost|fc=quorum";
+
+    private final UnsafeBuffer tempBuffer = new UnsafeBuffer(new byte[8192]);
+    private final QuorumMulticastFlowControl flowControl = new QuorumMulticastFlowControl();
+    private final CountersManager countersManager = Tests.newCountersMananger(COUNTERS_BUFFER_LENGTH);
+    private final SystemCounters systemCounters = new SystemCounters(countersManager);
+
+    MediaDriver.Context newContext()
+    {
+        return new MediaDriver.Context().tempBuffer(tempBuffer).systemCounters(systemCounters);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { ",k:0", ",p:0", ",p:101", ",k:2,p:90" })
+    void shouldRejectInvalidFlowControlConfiguration(final String params)
+    {
+        final UdpChannel udpChannel = UdpChannel.parse(CHANNEL + params);
+
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> flowControl.initialize(newContext(), countersManager, udpChannel, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void shouldLimitSenderToReceiverOfGatingRank()
+    {
+        flowControl.initialize(
+            newContext(), countersManager, UdpChannel.parse(CHANNEL + ",k:2,g:/1"), 0, 0, 0, 0, 0);
+
+        final int senderLimit = 0;
+        assertEquals(2000 + WINDOW_LENGTH, onStatusMessage(1, 2000, senderLimit));
+        assertEquals(2000 + WINDOW_LENGTH, onStatusMessage(2, 1000, senderLimit));
+        assertEquals(1000 + WINDOW_LENGTH, onStatusMessage(3, 0, senderLimit));
+        assertEquals(1000 + WINDOW_LENGTH, onIdle(senderLimit));
+
+        assertEquals(2000 + WINDOW_LENGTH, onStatusMessage(2, 3000, senderLimit));
+        assertEquals(3000 + WINDOW_LENGTH, onStatusMessage(3, 4000, senderLimit));
+        assertEquals(4000 + WINDOW_LENGTH, onStatusMessage(1, 5000, senderLimit));
+        assertEquals(4000 + WINDOW_LENGTH, onIdle(senderLimit));
+    }
+
+    @Test
+    void shouldLimitSenderToSlowestReceiverOfPercentile()
+    {
+        flowControl.initialize(
+            newContext(), countersManager, UdpChannel.parse(CHANNEL + ",p:50,g:/1"), 0, 0, 0, 0, 0);
+
+        final int senderLimit = 0;
+        onStatusMessage(1, 4000, senderLimit);
+        onStatusMessage(2, 3000, senderLimit);
+        onStatusMessage(3, 2000, senderLimit);
+        assertEquals(3000 + WINDOW_LENGTH, onStatusMessage(4, 1000, senderLimit));
+
+        onStatusMessage(5, 0, senderLimit);
+        assertEquals(2000 + WINDOW_LENGTH, onIdle(senderLimit));
+    }
+
+    @Test
+    void shouldEjectReceiverWhichTrailsGatingReceiverByMoreThanLag()
+    {
+        flowControl.initialize(
+            newContext(), countersManager, UdpChannel.parse(CHANNEL + ",k:2,l:32k,g:/3"), 0, 0, 0, 0, 0);
+
+        final int senderLimit = 0;
+        onStatusMessage(1, 0, senderLimit);
+        onStatusMessage(2, 0, senderLimit);
+        onStatusMessage(3, 0, senderLimit);
+        assertTrue(flowControl.hasRequiredReceivers());
+
+        onStatusMessage(2, 64 * 1024, senderLimit);
+        assertEquals(64 * 1024 + WINDOW_LENGTH, onStatusMessage(3, 64 * 1024, senderLimit));
+        assertEquals(0, systemCounters.get(FLOW_CONTROL_RECEIVERS_EJECTED).get());
+
+        assertEquals(senderLimit, onStatusMessage(1, 0, senderLimit));
+        assertEquals(1, systemCounters.get(FLOW_CONTROL_RECEIVERS_EJECTED).get());
+        assertFalse(flowControl.hasRequiredReceivers());
+
+        onStatusMessage(1, 0, senderLimit);
+        assertFalse(flowControl.hasRequiredReceivers());
+
+        onStatusMessage(1, 48 * 1024, senderLimit);
+        assertTrue(flowControl.hasRequiredReceivers());
+        assertEquals(1, systemCounters.get(FLOW_CONTROL_RECEIVERS_EJECTED).get());
+    }
+
+    private long onStatusMessage(final long receiverId, final int termOffset, final long senderLimit)
+    {
+        final StatusMessageFlyweight statusMessageFlyweight = new StatusMessageFlyweight();
+        statusMessageFlyweight.wrap(new byte[1024]);
+
+        statusMessageFlyweight.receiverId(receiverId);
+        statusMessageFlyweight.consumptionTermId(0);
+        statusMessageFlyweight.consumptionTermOffset(termOffset);
+        statusMessageFlyweight.receiverWindowLength(WINDOW_LENGTH);
+
+        return flowControl.onStatusMessage(statusMessageFlyweight, null, senderLimit, 0, 0, 0);
+    }
+
+    private long onIdle(final long senderLimit)
+    {
+        return flowControl.onIdle(0, senderLimit, 0, false);
+    }
+}
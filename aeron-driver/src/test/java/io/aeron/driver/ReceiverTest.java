@@ -15,17 +15,22 @@
  */
 package io.aeron.driver;
 
+import io.aeron.CommonContext;
 import io.aeron.driver.buffer.RawLog;
 import io.aeron.driver.buffer.TestLogFactory;
 import io.aeron.driver.media.*;
 import io.aeron.driver.reports.LossReport;
+import io.aeron.driver.status.LatencyCounters;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.Header;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.TermReader;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
+import io.aeron.protocol.NakFlyweight;
+import io.aeron.protocol.SackFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
 import io.aeron.test.InterruptAfter;
@@ -69,6 +74,10 @@ class ReceiverTest
     private static final int INITIAL_TERM_OFFSET = 0;
     private static final int ACTIVE_INDEX = indexByTerm(ACTIVE_TERM_ID, ACTIVE_TERM_ID);
     private static final byte[] FAKE_PAYLOAD = "Hello there, message!".getBytes();
+    private static final int FEC_ALIGNED_FRAME_LENGTH =
+        align(DataHeaderFlyweight.HEADER_LENGTH + FAKE_PAYLOAD.length, FrameDescriptor.FRAME_ALIGNMENT);
+    private static final int FEC_BLOCK_LENGTH = 2 * FEC_ALIGNED_FRAME_LENGTH;
+    private static final int FEC_GROUP_LENGTH = 4 * FEC_BLOCK_LENGTH;
     private static final int INITIAL_WINDOW_LENGTH = Configuration.INITIAL_WINDOW_LENGTH_DEFAULT;
     private static final long STATUS_MESSAGE_TIMEOUT = Configuration.STATUS_MESSAGE_TIMEOUT_DEFAULT_NS;
     private static final InetSocketAddress SOURCE_ADDRESS = new InetSocketAddress("localhost", 45679);
@@ -121,6 +130,8 @@ class ReceiverTest
         .lossReport(mockLossReport)
         .receiverDutyCycleTracker(new DutyCycleTracker());
 
+    private DriverConductorProxy driverConductorProxy;
+    private MediaDriver.Context receiverChannelContext;
     private ReceiveChannelEndpoint receiveChannelEndpoint;
 
     @BeforeEach
@@ -139,8 +150,8 @@ class ReceiverTest
             .thenReturn(CongestionControl.packOutcome(INITIAL_WINDOW_LENGTH, false));
         when(congestionControl.initialWindowLength()).thenReturn(INITIAL_WINDOW_LENGTH);
 
-        final DriverConductorProxy driverConductorProxy =
-            new DriverConductorProxy(ThreadingMode.DEDICATED, toConductorQueue, mock(AtomicCounter.class));
+        driverConductorProxy = new DriverConductorProxy(
+            ThreadingMode.DEDICATED, toConductorQueue, mock(AtomicCounter.class));
 
         final MediaDriver.Context ctx = new MediaDriver.Context()
             .driverCommandQueue(toConductorQueue)
@@ -169,7 +180,7 @@ class ReceiverTest
 
         termBuffers = rawLog.termBuffers();
 
-        final MediaDriver.Context receiverChannelContext = new MediaDriver.Context()
+        receiverChannelContext = new MediaDriver.Context()
             .receiveChannelEndpointThreadLocals(new ReceiveChannelEndpointThreadLocals())
             .systemCounters(mockSystemCounters)
             .cachedNanoClock(nanoClock)
@@ -178,11 +189,7 @@ class ReceiverTest
             .senderPortManager(new WildcardPortManager(WildcardPortManager.EMPTY_PORT_RANGE, true))
             .receiverPortManager(new WildcardPortManager(WildcardPortManager.EMPTY_PORT_RANGE, false));
 
-        receiveChannelEndpoint = new ReceiveChannelEndpoint(
-            UdpChannel.parse(URI),
-            new DataPacketDispatcher(driverConductorProxy, receiver),
-            mock(AtomicCounter.class),
-            receiverChannelContext);
+        receiveChannelEndpoint = newReceiveChannelEndpoint(URI);
     }
 
     @AfterEach
@@ -576,6 +583,306 @@ class ReceiverTest
         verify(mockImage, never()).removeFromDispatcher();
     }
 
+    @Test
+    @InterruptAfter(10)
+    void shouldSendNakForEachGapDetectedBeforeLossIsProcessed() throws IOException
+    {
+        receiverProxy.registerReceiveChannelEndpoint(receiveChannelEndpoint);
+        receiver.doWork();
+
+        final PublicationImage image = new PublicationImage(
+            CORRELATION_ID,
+            ctx.nakMaxGaps(4),
+            receiveChannelEndpoint,
+            0,
+            senderAddress,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ACTIVE_TERM_ID,
+            INITIAL_TERM_OFFSET,
+            rawLog,
+            mockFeedbackDelayGenerator,
+            POSITIONS,
+            mockHighestReceivedPosition,
+            mockRebuildPosition,
+            SOURCE_ADDRESS,
+            SOURCE_IDENTITY,
+            congestionControl);
+
+        image.onGapDetected(ACTIVE_TERM_ID, 64, 32);
+        image.onGapDetected(ACTIVE_TERM_ID, 256, 64);
+        image.onGapDetected(ACTIVE_TERM_ID, 1024, 128);
+
+        assertThat(image.processPendingLoss(), is(1));
+        assertThat(image.processPendingLoss(), is(0));
+
+        final ByteBuffer rcvBuffer = ByteBuffer.allocateDirect(256);
+        final NakFlyweight nakHeader = new NakFlyweight(rcvBuffer);
+
+        receiveControlFrame(rcvBuffer);
+        assertThat(nakHeader.termOffset(), is(64));
+        assertThat(nakHeader.length(), is(32));
+
+        receiveControlFrame(rcvBuffer);
+        assertThat(nakHeader.termOffset(), is(256));
+        assertThat(nakHeader.length(), is(64));
+
+        receiveControlFrame(rcvBuffer);
+        assertThat(nakHeader.termOffset(), is(1024));
+        assertThat(nakHeader.length(), is(128));
+        assertThat(nakHeader.termId(), is(ACTIVE_TERM_ID));
+        assertThat(nakHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_NAK));
+    }
+
+    @Test
+    void shouldSendSackForGapsDetectedBeforeLossIsProcessedWhenNegotiated() throws IOException
+    {
+        receiverProxy.registerReceiveChannelEndpoint(receiveChannelEndpoint);
+        receiver.doWork();
+
+        final PublicationImage image = new PublicationImage(
+            CORRELATION_ID,
+            ctx.nakMaxGaps(4),
+            receiveChannelEndpoint,
+            0,
+            senderAddress,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ACTIVE_TERM_ID,
+            INITIAL_TERM_OFFSET,
+            rawLog,
+            mockFeedbackDelayGenerator,
+            POSITIONS,
+            mockHighestReceivedPosition,
+            mockRebuildPosition,
+            SOURCE_ADDRESS,
+            SOURCE_IDENTITY,
+            congestionControl);
+
+        image.isSack(true);
+        image.onGapDetected(ACTIVE_TERM_ID, 64, 32);
+        image.onGapDetected(ACTIVE_TERM_ID, 256, 64);
+        image.onGapDetected(ACTIVE_TERM_ID, 1024, 128);
+
+        assertThat(image.processPendingLoss(), is(1));
+
+        final ByteBuffer rcvBuffer = ByteBuffer.allocateDirect(256);
+        final SackFlyweight sackHeader = new SackFlyweight(rcvBuffer);
+
+        receiveControlFrame(rcvBuffer);
+        assertThat(rcvBuffer.position(), is(SackFlyweight.computeFrameLength(34)));
+        assertThat(sackHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_SACK));
+        assertThat(sackHeader.termId(), is(ACTIVE_TERM_ID));
+        assertThat(sackHeader.termOffset(), is(64));
+        assertThat(sackHeader.blockLength(), is(FrameDescriptor.FRAME_ALIGNMENT));
+        assertThat(sackHeader.blockCount(), is(34));
+
+        for (int i = 0; i < 34; i++)
+        {
+            final boolean isMissing = 0 == i || 6 == i || 7 == i || i >= 30;
+            assertThat(sackHeader.isBlockReceived(i), is(!isMissing));
+        }
+    }
+
+    @Test
+    void shouldRebuildGapInGroupFromFecFrame()
+    {
+        addPublicationImageAfterSetup();
+
+        final UnsafeBuffer sourceBuffer = receiveFecGroupWithLoss(192, 256);
+
+        final UnsafeBuffer termBuffer = termBuffers[ACTIVE_INDEX];
+        for (int i = 0; i < FEC_GROUP_LENGTH; i++)
+        {
+            assertThat(termBuffer.getByte(i), is(sourceBuffer.getByte(i)));
+        }
+
+        final int readOutcome = TermReader.read(
+            termBuffer,
+            INITIAL_TERM_OFFSET,
+            (buffer, offset, length, header) -> {},
+            Integer.MAX_VALUE,
+            header,
+            mockErrorHandler,
+            0,
+            mockSubscriberPosition);
+
+        assertThat(readOutcome, is(FEC_GROUP_LENGTH / FEC_ALIGNED_FRAME_LENGTH));
+    }
+
+    @Test
+    void shouldNotRebuildFromFecFrameWhenMoreThanOneGapInGroup()
+    {
+        addPublicationImageAfterSetup();
+
+        receiveFecGroupWithLoss(64, 320);
+
+        final UnsafeBuffer termBuffer = termBuffers[ACTIVE_INDEX];
+        assertThat(termBuffer.getInt(64), is(0));
+        assertThat(termBuffer.getInt(320), is(0));
+    }
+
+    @Test
+    void shouldRecordReceiverLatencyForDataFramesOnly()
+    {
+        final LatencyCounters receiverLatency = mock(LatencyCounters.class);
+        final PublicationImage image = new PublicationImage(
+            CORRELATION_ID,
+            ctx.channelReceiveTimestampClock(() -> 1000L),
+            receiveChannelEndpoint,
+            0,
+            senderAddress,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            ACTIVE_TERM_ID,
+            INITIAL_TERM_OFFSET,
+            rawLog,
+            mockFeedbackDelayGenerator,
+            POSITIONS,
+            mockHighestReceivedPosition,
+            mockRebuildPosition,
+            SOURCE_ADDRESS,
+            SOURCE_IDENTITY,
+            congestionControl);
+
+        image.receiverLatency(receiverLatency, UdpChannel.RESERVED_VALUE_MESSAGE_OFFSET);
+
+        fillDataFrame(dataHeader, 0, new byte[0]);
+        dataHeader.reservedValue(0).headerType(HeaderFlyweight.HDR_TYPE_PAD);
+        image.insertPacket(ACTIVE_TERM_ID, 0, dataBuffer, dataHeader.frameLength(), 0, senderAddress);
+
+        verify(receiverLatency, never()).recordValue(anyLong());
+
+        fillDataFrame(dataHeader, DataHeaderFlyweight.HEADER_LENGTH, FAKE_PAYLOAD);
+        dataHeader.reservedValue(400);
+        image.insertPacket(
+            ACTIVE_TERM_ID, DataHeaderFlyweight.HEADER_LENGTH, dataBuffer, dataHeader.frameLength(), 0, senderAddress);
+
+        verify(receiverLatency).recordValue(600);
+    }
+
+    @Test
+    void shouldNotRebuildFromFecFrameWhenChannelReceiveTimestampsEnabled()
+    {
+        receiveChannelEndpoint.close();
+        receiverChannelContext.channelReceiveTimestampClock(() -> 1000L);
+        receiveChannelEndpoint = newReceiveChannelEndpoint(
+            URI + "|" + CommonContext.CHANNEL_RECEIVE_TIMESTAMP_OFFSET_PARAM_NAME + "=reserved");
+        addPublicationImageAfterSetup();
+
+        receiveFecGroupWithLoss(192);
+
+        assertThat(termBuffers[ACTIVE_INDEX].getInt(192), is(0));
+    }
+
+    private ReceiveChannelEndpoint newReceiveChannelEndpoint(final String uri)
+    {
+        return new ReceiveChannelEndpoint(
+            UdpChannel.parse(uri),
+            new DataPacketDispatcher(driverConductorProxy, receiver),
+            mock(AtomicCounter.class),
+            receiverChannelContext);
+    }
+
+    private void addPublicationImageAfterSetup()
+    {
+        receiverProxy.registerReceiveChannelEndpoint(receiveChannelEndpoint);
+        receiverProxy.addSubscription(receiveChannelEndpoint, STREAM_ID);
+
+        receiver.doWork();
+
+        fillSetupFrame(setupHeader);
+        receiveChannelEndpoint.onSetupMessage(setupHeader, setupBuffer, SetupFlyweight.HEADER_LENGTH, senderAddress, 0);
+
+        final int commandsRead = toConductorQueue.drain(
+            (e) ->
+            {
+                final PublicationImage image = new PublicationImage(
+                    CORRELATION_ID,
+                    ctx,
+                    receiveChannelEndpoint,
+                    0,
+                    senderAddress,
+                    SESSION_ID,
+                    STREAM_ID,
+                    INITIAL_TERM_ID,
+                    ACTIVE_TERM_ID,
+                    INITIAL_TERM_OFFSET,
+                    rawLog,
+                    mockFeedbackDelayGenerator,
+                    POSITIONS,
+                    mockHighestReceivedPosition,
+                    mockRebuildPosition,
+                    SOURCE_ADDRESS,
+                    SOURCE_IDENTITY,
+                    congestionControl);
+
+                receiverProxy.newPublicationImage(receiveChannelEndpoint, image);
+            });
+
+        assertThat(commandsRead, is(1));
+
+        receiver.doWork();
+    }
+
+    private UnsafeBuffer receiveFecGroupWithLoss(final int... droppedTermOffsets)
+    {
+        final UnsafeBuffer sourceBuffer = new UnsafeBuffer(new byte[FEC_GROUP_LENGTH]);
+        final UnsafeBuffer fecBuffer = new UnsafeBuffer(new byte[FecFlyweight.HEADER_LENGTH + FEC_BLOCK_LENGTH]);
+
+        for (int termOffset = 0; termOffset < FEC_GROUP_LENGTH; termOffset += FEC_ALIGNED_FRAME_LENGTH)
+        {
+            fillDataFrame(dataHeader, termOffset, FAKE_PAYLOAD);
+            dataBuffer.putInt(dataHeader.dataOffset(), termOffset);
+            sourceBuffer.putBytes(termOffset, dataBuffer, 0, dataHeader.frameLength());
+
+            boolean isDropped = false;
+            for (final int droppedTermOffset : droppedTermOffsets)
+            {
+                isDropped |= droppedTermOffset == termOffset;
+            }
+
+            if (!isDropped)
+            {
+                receiveChannelEndpoint.onDataPacket(
+                    dataHeader, dataBuffer, dataHeader.frameLength(), senderAddress, 0);
+            }
+        }
+
+        for (int i = 0; i < FEC_GROUP_LENGTH; i++)
+        {
+            final int index = FecFlyweight.HEADER_LENGTH + (i % FEC_BLOCK_LENGTH);
+            fecBuffer.putByte(index, (byte)(fecBuffer.getByte(index) ^ sourceBuffer.getByte(i)));
+        }
+
+        final FecFlyweight fecHeader = new FecFlyweight(fecBuffer);
+        fecHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(ACTIVE_TERM_ID)
+            .termOffset(0)
+            .blockLength(FEC_BLOCK_LENGTH)
+            .groupLength(FEC_GROUP_LENGTH)
+            .headerType(HeaderFlyweight.HDR_TYPE_FEC)
+            .frameLength(fecBuffer.capacity());
+
+        receiveChannelEndpoint.onFecMessage(fecHeader, fecBuffer, fecBuffer.capacity(), senderAddress, 0);
+
+        return sourceBuffer;
+    }
+
+    private void receiveControlFrame(final ByteBuffer rcvBuffer) throws IOException
+    {
+        rcvBuffer.clear();
+        while (null == senderChannel.receive(rcvBuffer))
+        {
+            Thread.yield();
+        }
+    }
+
     private void fillDataFrame(final DataHeaderFlyweight header, final int termOffset, final byte[] payload)
     {
         header.wrap(dataBuffer);
@@ -21,6 +21,7 @@ import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.logbuffer.TermRebuilder;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
+import io.aeron.protocol.SackFlyweight;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.junit.jupiter.api.BeforeEach;
@@ -68,12 +69,13 @@ class RetransmitHandlerTest
 
     private final RetransmitSender retransmitSender = mock(RetransmitSender.class);
     private final AtomicCounter invalidPackets = mock(AtomicCounter.class);
+    private final AtomicCounter retransmitBytesCoalesced = mock(AtomicCounter.class);
+    private final AtomicCounter retransmitBytesDropped = mock(AtomicCounter.class);
 
     private final HeaderWriter headerWriter = HeaderWriter.newInstance(
         DataHeaderFlyweight.createDefaultHeader(0, 0, 0));
 
-    private RetransmitHandler handler = new RetransmitHandler(
-        () -> currentTime, invalidPackets, DELAY_GENERATOR, LINGER_GENERATOR);
+    private RetransmitHandler handler = newRetransmitHandler(DELAY_GENERATOR, Configuration.MAX_RETRANSMITS_DEFAULT);
 
     @BeforeEach
     void before()
@@ -132,19 +134,180 @@ class RetransmitHandlerTest
         verify(retransmitSender, times(2)).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
     }
 
+    @ParameterizedTest
+    @MethodSource("consumers")
+    void shouldRetransmitEachMissingRangeOnSack(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        final int blocksPerFrame = ALIGNED_FRAME_LENGTH / FRAME_ALIGNMENT;
+        final int blockCount = 4 * blocksPerFrame;
+        final SackFlyweight sack = new SackFlyweight(
+            new UnsafeBuffer(new byte[SackFlyweight.computeFrameLength(blockCount)]));
+        sack.termId(TERM_ID)
+            .termOffset(offsetOfFrame(1))
+            .blockLength(FRAME_ALIGNMENT)
+            .blockCount(blockCount)
+            .allBlocksReceived(blockCount);
+
+        for (int i = 0; i < blocksPerFrame; i++)
+        {
+            sack.blockReceived(i, false);
+            sack.blockReceived((2 * blocksPerFrame) + i, false);
+        }
+
+        handler.onSack(sack, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(3), ALIGNED_FRAME_LENGTH);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
     @ParameterizedTest
     @MethodSource("consumers")
     void shouldRetransmitOnMultipleNaks(final BiConsumer<RetransmitHandlerTest, Integer> creator)
     {
         createTermBuffer(creator, 5);
         handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    void shouldCoalesceAdjacentNaksIntoOneRetransmit(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
         handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
         currentTime = TimeUnit.MILLISECONDS.toNanos(100);
         handler.processTimeouts(currentTime, retransmitSender);
 
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 3);
+        verifyNoMoreInteractions(retransmitSender);
+        verifyNoInteractions(retransmitBytesCoalesced);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    void shouldCoalesceOverlappingNaksFromManyReceivers(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(3), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 4, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 4);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(retransmitBytesCoalesced).getAndAdd(ALIGNED_FRAME_LENGTH * 2);
+        verify(retransmitBytesCoalesced).getAndAdd(ALIGNED_FRAME_LENGTH);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    void shouldOnlyRetransmitPartOfNakNotCoveredWhileInLinger(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        handler.processTimeouts(currentTime, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 3, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(70);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH * 2);
+        verify(retransmitBytesCoalesced).getAndAdd(ALIGNED_FRAME_LENGTH);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    void shouldNotRetransmitLingeringRangeInsideNak(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        handler.processTimeouts(currentTime, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 3, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(70);
+        handler.processTimeouts(currentTime, retransmitSender);
+
         final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
         inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(retransmitBytesCoalesced).getAndAdd(ALIGNED_FRAME_LENGTH);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    void shouldNotRetransmitLingeringRangeInsideImmediateRetransmit(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = newZeroDelayRetransmitHandler();
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 3, TERM_BUFFER_LENGTH, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
         inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(retransmitBytesCoalesced).getAndAdd(ALIGNED_FRAME_LENGTH);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    void shouldNotRetransmitLingeringRangeBridgedByMerge(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 6);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        handler.processTimeouts(currentTime, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 4, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(70);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        final InOrder inOrder = inOrder(retransmitSender);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH * 2);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2);
+        inOrder.verify(retransmitSender).resend(TERM_ID, offsetOfFrame(4), ALIGNED_FRAME_LENGTH);
+        verifyNoMoreInteractions(retransmitSender);
+        verify(retransmitBytesCoalesced).getAndAdd(ALIGNED_FRAME_LENGTH);
+        verify(retransmitBytesCoalesced).getAndAdd(ALIGNED_FRAME_LENGTH * 2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("consumers")
+    void shouldDropNakWhenMaxRetransmitsActive(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = newRetransmitHandler(DELAY_GENERATOR, 2);
+
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(4), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitBytesDropped).getAndAdd(ALIGNED_FRAME_LENGTH);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 3);
+        verifyNoMoreInteractions(retransmitSender);
     }
 
     @ParameterizedTest
@@ -191,12 +354,12 @@ class RetransmitHandlerTest
     {
         createTermBuffer(creator, 5);
         handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
-        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
         handler.onRetransmitReceived(TERM_ID, offsetOfFrame(0));
         currentTime = TimeUnit.MILLISECONDS.toNanos(100);
         handler.processTimeouts(currentTime, retransmitSender);
 
-        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH);
     }
 
     @ParameterizedTest
@@ -238,7 +401,20 @@ class RetransmitHandlerTest
 
     private RetransmitHandler newZeroDelayRetransmitHandler()
     {
-        return new RetransmitHandler(() -> currentTime, invalidPackets, ZERO_DELAY_GENERATOR, LINGER_GENERATOR);
+        return newRetransmitHandler(ZERO_DELAY_GENERATOR, Configuration.MAX_RETRANSMITS_DEFAULT);
+    }
+
+    private RetransmitHandler newRetransmitHandler(
+        final FeedbackDelayGenerator delayGenerator, final int maxRetransmits)
+    {
+        return new RetransmitHandler(
+            () -> currentTime,
+            invalidPackets,
+            delayGenerator,
+            LINGER_GENERATOR,
+            maxRetransmits,
+            retransmitBytesCoalesced,
+            retransmitBytesDropped);
     }
 
     private void createTermBuffer(final BiConsumer<RetransmitHandlerTest, Integer> creator, final int num)
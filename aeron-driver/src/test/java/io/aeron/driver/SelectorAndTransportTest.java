@@ -43,6 +43,8 @@ import java.net.StandardSocketOptions;
 import java.nio.ByteBuffer;
 import java.nio.channels.DatagramChannel;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 
@@ -294,6 +296,68 @@ class SelectorAndTransportTest
         assertEquals(1, dataHeadersReceived.get());
     }
 
+    @Test
+    @InterruptAfter(10)
+    void shouldReceiveMultipleDatagramsPerPollUpToIoVectorCapacity()
+    {
+        final int ioVectorCapacity = 2;
+        final int datagramCount = 5;
+        final MutableInteger dataHeadersReceived = new MutableInteger(0);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.value++;
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class),
+            anyInt());
+
+        try (DataTransportPoller batchingTransportPoller = new DataTransportPoller(errorHandler, ioVectorCapacity))
+        {
+            receiveChannelEndpoint = new ReceiveChannelEndpoint(
+                RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+            sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+            receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+            receiveChannelEndpoint.registerForRead(batchingTransportPoller);
+            sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+            sendChannelEndpoint.registerForRead(controlTransportPoller);
+
+            encodeDataHeader.wrap(buffer);
+            encodeDataHeader
+                .version(HeaderFlyweight.CURRENT_VERSION)
+                .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+                .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+                .frameLength(FRAME_LENGTH);
+            encodeDataHeader
+                .sessionId(SESSION_ID)
+                .streamId(STREAM_ID)
+                .termId(TERM_ID);
+
+            processLoop(batchingTransportPoller, 5);
+            for (int i = 0; i < datagramCount; i++)
+            {
+                byteBuffer.position(0).limit(FRAME_LENGTH);
+                sendChannelEndpoint.send(byteBuffer);
+            }
+
+            while (dataHeadersReceived.get() < datagramCount)
+            {
+                final int receivedBeforePoll = dataHeadersReceived.get();
+                processLoop(batchingTransportPoller, 1);
+                assertThat(dataHeadersReceived.get() - receivedBeforePoll, lessThanOrEqualTo(ioVectorCapacity));
+            }
+
+            assertEquals(datagramCount, dataHeadersReceived.get());
+        }
+    }
+
     @Test
     @InterruptAfter(10)
     void shouldHandleSmFrameFromReceiverToSender()
@@ -20,13 +20,18 @@ import io.aeron.driver.buffer.TestLogFactory;
 import io.aeron.driver.media.ControlTransportPoller;
 import io.aeron.driver.media.SendChannelEndpoint;
 import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.LatencyCounters;
+import io.aeron.driver.status.SenderRtt;
 import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.HeaderWriter;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.protocol.FecFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
+import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import io.aeron.protocol.StatusMessageFlyweight;
+import io.aeron.test.Tests;
 import org.agrona.DirectBuffer;
 import org.agrona.ErrorHandler;
 import org.agrona.concurrent.CachedEpochClock;
@@ -35,6 +40,7 @@ import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.AtomicLongPosition;
+import org.agrona.concurrent.status.CountersReader;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -44,13 +50,16 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 
 import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.FrameDescriptor.frameLengthOrdered;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static org.agrona.BitUtil.align;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
@@ -70,8 +79,10 @@ class SenderTest
     private static final int ALIGNED_FRAME_LENGTH = align(FRAME_LENGTH, FRAME_ALIGNMENT);
 
     private final ControlTransportPoller mockTransportPoller = mock(ControlTransportPoller.class);
+    private final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
 
     private final RawLog rawLog = TestLogFactory.newLogBuffers(TERM_BUFFER_LENGTH);
+    private MediaDriver.Context ctx;
     private NetworkPublication publication;
     private Sender sender;
 
@@ -110,12 +121,12 @@ class SenderTest
     @BeforeEach
     void setUp()
     {
-        final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
         when(mockSendChannelEndpoint.udpChannel()).thenReturn(udpChannel);
         when(mockSendChannelEndpoint.send(any())).thenAnswer(saveByteBufferAnswer);
+        when(mockSendChannelEndpoint.cachedNanoClock()).thenReturn(nanoClock);
         when(mockSystemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
 
-        final MediaDriver.Context ctx = new MediaDriver.Context()
+        ctx = new MediaDriver.Context()
             .cachedEpochClock(new CachedEpochClock())
             .cachedNanoClock(nanoClock)
             .senderCachedNanoClock(nanoClock)
@@ -134,27 +145,10 @@ class SenderTest
         params.entityTag = 101;
         params.mtuLength = MAX_FRAME_LENGTH;
         params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
+        params.maxMessagesPerSend = ctx.networkPublicationMaxMessagesPerSend();
         params.signalEos = true;
 
-        publication = new NetworkPublication(
-            1,
-            ctx,
-            params,
-            mockSendChannelEndpoint,
-            rawLog,
-            Configuration.producerWindowLength(TERM_BUFFER_LENGTH, Configuration.publicationTermWindowLength()),
-            new AtomicLongPosition(),
-            new AtomicLongPosition(),
-            new AtomicLongPosition(),
-            new AtomicLongPosition(),
-            mock(AtomicCounter.class),
-            SESSION_ID,
-            STREAM_ID,
-            INITIAL_TERM_ID,
-            flowControl,
-            mockRetransmitHandler,
-            new NetworkPublicationThreadLocals(),
-            false);
+        publication = newNetworkPublication(params, mock(AtomicCounter.class), null);
 
         assertTrue(senderCommandQueue.offer(() -> sender.onNewNetworkPublication(publication)));
     }
@@ -189,6 +183,27 @@ class SenderTest
         assertThat(setupHeader.version(), is((short)HeaderFlyweight.CURRENT_VERSION));
     }
 
+    @Test
+    void shouldSetSackFlagInSetupFrameWhenPublicationChannelHasSack()
+    {
+        final PublicationParams params = new PublicationParams();
+        params.entityTag = 101;
+        params.mtuLength = MAX_FRAME_LENGTH;
+        params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
+        params.maxMessagesPerSend = ctx.networkPublicationMaxMessagesPerSend();
+        params.signalEos = true;
+        params.isSack = true;
+
+        final NetworkPublication sackPublication = newNetworkPublication(params, mock(AtomicCounter.class), null);
+
+        sackPublication.send(nanoClock.nanoTime());
+        assertThat(receivedFrames.size(), is(1));
+
+        setupHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(setupHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_SETUP));
+        assertThat(setupHeader.flags(), is(SetupFlyweight.SACK_FLAG));
+    }
+
     @Test
     void shouldSendMultipleSetupFramesOnChannelWhenTimeoutWithoutStatusMessage()
     {
@@ -372,6 +387,41 @@ class SenderTest
         assertThat(dataHeader.version(), is((short)HeaderFlyweight.CURRENT_VERSION));
     }
 
+    @Test
+    void shouldSendMultipleMtuLengthDatagramsInSingleDutyCycle()
+    {
+        final int messagesPerMtu = MAX_FRAME_LENGTH / ALIGNED_FRAME_LENGTH;
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(4 * MAX_FRAME_LENGTH);
+
+        publication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        int offset = 0;
+        for (int i = 0; i < 3 * messagesPerMtu; i++)
+        {
+            offset = appendUnfragmentedMessage(
+                rawLog, 0, INITIAL_TERM_ID, offset, headerWriter, buffer, 0, PAYLOAD.length);
+        }
+
+        sender.doWork();
+
+        assertThat(receivedFrames.size(), is(Configuration.NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_DEFAULT));
+
+        for (int i = 0; i < Configuration.NETWORK_PUBLICATION_MAX_MESSAGES_PER_SEND_DEFAULT; i++)
+        {
+            final ByteBuffer frame = receivedFrames.remove();
+            assertThat(frame.capacity(), is(MAX_FRAME_LENGTH));
+
+            dataHeader.wrap(new UnsafeBuffer(frame));
+            assertThat(dataHeader.termOffset(), is(offsetOfMessage(1 + (i * messagesPerMtu))));
+        }
+    }
+
     @Test
     void shouldNotSendUntilStatusMessageReceived()
     {
@@ -520,6 +570,221 @@ class SenderTest
         assertThat(dataHeader.termOffset(), is(offsetOfMessage(2)));
     }
 
+    @Test
+    void shouldPaceSendsToMaxSendRate()
+    {
+        final long maxSendRate = MAX_FRAME_LENGTH * 1000L;
+        final PublicationParams params = new PublicationParams();
+        params.entityTag = 101;
+        params.mtuLength = MAX_FRAME_LENGTH;
+        params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
+        params.maxMessagesPerSend = 4;
+        params.maxSendRate = maxSendRate;
+        params.sendBurst = 2 * MAX_FRAME_LENGTH;
+        params.signalEos = true;
+
+        final AtomicCounter senderPacingDelay = new AtomicCounter(
+            new UnsafeBuffer(new byte[CountersReader.COUNTER_LENGTH]), 0);
+        final NetworkPublication pacedPublication = newNetworkPublication(params, senderPacingDelay, null);
+
+        final int messagesPerMtu = MAX_FRAME_LENGTH / ALIGNED_FRAME_LENGTH;
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(8 * MAX_FRAME_LENGTH);
+
+        pacedPublication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        int offset = 0;
+        for (int i = 0; i < 4 * messagesPerMtu; i++)
+        {
+            offset = appendUnfragmentedMessage(
+                rawLog, 0, INITIAL_TERM_ID, offset, headerWriter, buffer, 0, PAYLOAD.length);
+        }
+
+        pacedPublication.send(nanoClock.nanoTime());
+        assertThat(receivedFrames.size(), is(2));
+        receivedFrames.clear();
+
+        pacedPublication.send(nanoClock.nanoTime());
+        assertThat(receivedFrames.size(), is(0));
+        assertThat(senderPacingDelay.get(), greaterThan(0L));
+        assertThat(senderPacingDelay.get(), lessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(1)));
+
+        nanoClock.advance(TimeUnit.MILLISECONDS.toNanos(1));
+        pacedPublication.send(nanoClock.nanoTime());
+        assertThat(receivedFrames.size(), is(1));
+        assertThat(senderPacingDelay.get(), is(0L));
+
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.termOffset(), is(offsetOfMessage(1 + (2 * messagesPerMtu))));
+    }
+
+    @Test
+    void shouldSendFecFrameWithParityOfEachGroupOnceSent()
+    {
+        final PublicationParams params = new PublicationParams();
+        params.entityTag = 101;
+        params.mtuLength = MAX_FRAME_LENGTH;
+        params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
+        params.maxMessagesPerSend = 4;
+        params.fecGroupSize = 2;
+        params.signalEos = true;
+
+        final NetworkPublication fecPublication = newNetworkPublication(params, mock(AtomicCounter.class), null);
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(8 * MAX_FRAME_LENGTH);
+
+        fecPublication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(PAYLOAD.length));
+        buffer.putBytes(0, PAYLOAD);
+
+        final int groupLength = params.fecGroupSize * MAX_FRAME_LENGTH;
+        int offset = 0;
+        for (int i = 0; offset < groupLength + MAX_FRAME_LENGTH; i++)
+        {
+            buffer.putInt(0, i);
+            offset = appendUnfragmentedMessage(
+                rawLog, 0, INITIAL_TERM_ID, offset, headerWriter, buffer, 0, PAYLOAD.length);
+        }
+
+        fecPublication.send(nanoClock.nanoTime());
+        assertThat(receivedFrames.size(), is(4));
+
+        for (int i = 0; i < 3; i++)
+        {
+            dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+            assertThat(dataHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_DATA));
+        }
+
+        final FecFlyweight fecHeader = new FecFlyweight(receivedFrames.remove());
+        assertThat(fecHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_FEC));
+        assertThat(fecHeader.frameLength(), is(FecFlyweight.HEADER_LENGTH + MAX_FRAME_LENGTH));
+        assertThat(fecHeader.sessionId(), is(SESSION_ID));
+        assertThat(fecHeader.streamId(), is(STREAM_ID));
+        assertThat(fecHeader.termId(), is(INITIAL_TERM_ID));
+        assertThat(fecHeader.termOffset(), is(0));
+        assertThat(fecHeader.blockLength(), is(MAX_FRAME_LENGTH));
+        assertThat(fecHeader.groupLength(), is(groupLength));
+
+        final UnsafeBuffer termBuffer = rawLog.termBuffers()[0];
+        for (int i = 0; i < MAX_FRAME_LENGTH; i++)
+        {
+            final int parity = termBuffer.getByte(i) ^ termBuffer.getByte(MAX_FRAME_LENGTH + i);
+            assertThat(fecHeader.getByte(FecFlyweight.HEADER_LENGTH + i), is((byte)parity));
+        }
+
+        fecPublication.send(nanoClock.nanoTime());
+        assertThat(receivedFrames.size(), is(0));
+    }
+
+    @Test
+    void shouldMeasureRttToReceiversAtIntervalWhenEnabled()
+    {
+        final long rttMeasurementIntervalNs = TimeUnit.MILLISECONDS.toNanos(100);
+        final long summaryIntervalNs = TimeUnit.SECONDS.toNanos(1);
+        ctx.rttMeasurementIntervalNs(rttMeasurementIntervalNs);
+
+        final PublicationParams params = new PublicationParams();
+        params.entityTag = 101;
+        params.mtuLength = MAX_FRAME_LENGTH;
+        params.lingerTimeoutNs = Configuration.publicationLingerTimeoutNs();
+        params.maxMessagesPerSend = 4;
+        params.signalEos = true;
+
+        final LatencyCounters senderRtt = SenderRtt.allocate(
+            new UnsafeBuffer(new byte[1024]),
+            Tests.newCountersMananger(16 * 1024),
+            1,
+            SESSION_ID,
+            STREAM_ID,
+            udpChannel.originalUriString(),
+            summaryIntervalNs,
+            nanoClock.nanoTime());
+        final NetworkPublication rttPublication = newNetworkPublication(params, mock(AtomicCounter.class), senderRtt);
+
+        rttPublication.send(nanoClock.nanoTime());
+        receivedFrames.clear();
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(8 * MAX_FRAME_LENGTH);
+        rttPublication.onStatusMessage(msg, rcvAddress);
+
+        nanoClock.advance(rttMeasurementIntervalNs + 1);
+        rttPublication.send(nanoClock.nanoTime());
+
+        RttMeasurementFlyweight rttHeader = null;
+        while (!receivedFrames.isEmpty())
+        {
+            final RttMeasurementFlyweight header = new RttMeasurementFlyweight(receivedFrames.remove());
+            if (HeaderFlyweight.HDR_TYPE_RTTM == header.headerType())
+            {
+                rttHeader = header;
+            }
+        }
+
+        assertThat(rttHeader.flags(), is(RttMeasurementFlyweight.REPLY_FLAG));
+        assertThat(rttHeader.receiverId(), is(0L));
+        assertThat(rttHeader.sessionId(), is(SESSION_ID));
+        assertThat(rttHeader.streamId(), is(STREAM_ID));
+
+        final long rttNs = TimeUnit.MICROSECONDS.toNanos(250);
+        final RttMeasurementFlyweight reply = new RttMeasurementFlyweight(
+            ByteBuffer.allocate(RttMeasurementFlyweight.HEADER_LENGTH));
+        reply
+            .receiverId(7)
+            .echoTimestampNs(rttHeader.echoTimestampNs())
+            .receptionDelta(0)
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .flags((short)0);
+
+        nanoClock.advance(rttNs);
+        rttPublication.onRttMeasurement(reply, rcvAddress);
+
+        nanoClock.advance(summaryIntervalNs);
+        rttPublication.send(nanoClock.nanoTime());
+
+        assertThat(senderRtt.min().get(), is(rttNs));
+        assertThat(senderRtt.max().get(), is(rttNs));
+        assertThat(senderRtt.p99().get(), is(rttNs));
+    }
+
+    private NetworkPublication newNetworkPublication(
+        final PublicationParams params, final AtomicCounter senderPacingDelay, final LatencyCounters senderRtt)
+    {
+        return new NetworkPublication(
+            1,
+            ctx,
+            params,
+            mockSendChannelEndpoint,
+            rawLog,
+            Configuration.producerWindowLength(TERM_BUFFER_LENGTH, Configuration.publicationTermWindowLength()),
+            new AtomicLongPosition(),
+            new AtomicLongPosition(),
+            new AtomicLongPosition(),
+            new AtomicLongPosition(),
+            mock(AtomicCounter.class),
+            senderPacingDelay,
+            senderRtt,
+            SESSION_ID,
+            STREAM_ID,
+            INITIAL_TERM_ID,
+            flowControl,
+            mockRetransmitHandler,
+            new NetworkPublicationThreadLocals(),
+            false);
+    }
+
     private int offsetOfMessage(final int offset)
     {
         return (offset - 1) * align(HEADER.capacity() + PAYLOAD.length, FRAME_ALIGNMENT);
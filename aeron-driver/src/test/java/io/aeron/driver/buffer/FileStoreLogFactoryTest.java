@@ -23,7 +23,10 @@ import org.agrona.CloseHelper;
 import org.agrona.ErrorHandler;
 import org.agrona.IoUtil;
 import org.agrona.SystemUtil;
+import org.agrona.concurrent.CachedNanoClock;
+import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,7 @@ import java.io.IOException;
 import java.nio.file.FileStore;
 import java.nio.file.Files;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.PARTITION_COUNT;
 import static io.aeron.logbuffer.LogBufferDescriptor.computeLogLength;
@@ -121,6 +125,142 @@ class FileStoreLogFactoryTest
         assertEquals(0, metaData.getByte(LogBufferDescriptor.LOG_META_DATA_LENGTH - 1));
     }
 
+    @Test
+    void shouldRecordTimeToCreateAndMapLogBuffers()
+    {
+        final NanoClock nanoClock = mock(NanoClock.class);
+        when(nanoClock.nanoTime()).thenReturn(1_000L, 1_750L, 2_000L, 2_300L);
+        final AtomicCounter mapMaxTimeNs = mock(AtomicCounter.class);
+        final AtomicCounter mapTotalTimeNs = mock(AtomicCounter.class);
+
+        try (FileStoreLogFactory logFactory = new FileStoreLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            PERFORM_STORAGE_CHECKS,
+            LOW_STORAGE_THRESHOLD,
+            mock(ErrorHandler.class),
+            nanoClock,
+            mapMaxTimeNs,
+            mapTotalTimeNs,
+            0,
+            0,
+            null,
+            null))
+        {
+            final int termLength = 64 * 1024;
+            try (RawLog rawLog = logFactory.newPublication(1, termLength, false))
+            {
+                assertNotNull(rawLog);
+            }
+            try (RawLog rawLog = logFactory.newImage(2, termLength, true))
+            {
+                assertNotNull(rawLog);
+            }
+        }
+
+        verify(mapMaxTimeNs).proposeMax(750L);
+        verify(mapMaxTimeNs).proposeMax(300L);
+        verify(mapTotalTimeNs).getAndAdd(750L);
+        verify(mapTotalTimeNs).getAndAdd(300L);
+    }
+
+    @Test
+    void shouldReuseFreedLogOfSameTermLengthZeroedAndRenamed()
+    {
+        final AtomicCounter poolHits = mock(AtomicCounter.class);
+        final AtomicCounter poolMisses = mock(AtomicCounter.class);
+        final int termLength = 64 * 1024;
+
+        try (FileStoreLogFactory logFactory = newPooledLogFactory(1, poolHits, poolMisses))
+        {
+            final RawLog publicationLog = logFactory.newPublication(1, termLength, false);
+            final File publicationFile = new File(publicationLog.fileName());
+            publicationLog.termBuffers()[1].putLong(termLength - 8, 777L);
+            publicationLog.metaData().putLong(0, 999L);
+            assertTrue(publicationLog.free());
+            assertTrue(publicationFile.exists());
+
+            rawLog = logFactory.newImage(2, termLength, false);
+
+            assertEquals(new File(new File(DATA_DIR, "images"), "2.logbuffer").getAbsolutePath(), rawLog.fileName());
+            assertTrue(new File(rawLog.fileName()).exists());
+            assertFalse(publicationFile.exists());
+            assertEquals(termLength, rawLog.termLength());
+            assertEquals(0, rawLog.termBuffers()[1].getLong(termLength - 8));
+            assertEquals(0, rawLog.metaData().getLong(0));
+
+            try (RawLog otherLog = logFactory.newImage(3, termLength * 2, false))
+            {
+                assertEquals(termLength * 2, otherLog.termLength());
+            }
+        }
+
+        verify(poolHits, times(1)).increment();
+        verify(poolMisses, times(2)).increment();
+    }
+
+    @Test
+    void shouldNotReuseFreedLogUntilReuseDelayHasElapsed()
+    {
+        final CachedNanoClock nanoClock = new CachedNanoClock();
+        final long reuseDelayNs = TimeUnit.SECONDS.toNanos(3);
+        final int termLength = 64 * 1024;
+
+        try (FileStoreLogFactory logFactory = new FileStoreLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            PERFORM_STORAGE_CHECKS,
+            LOW_STORAGE_THRESHOLD,
+            mock(ErrorHandler.class),
+            nanoClock,
+            mock(AtomicCounter.class),
+            mock(AtomicCounter.class),
+            1,
+            reuseDelayNs,
+            null,
+            null))
+        {
+            final RawLog freedLog = logFactory.newPublication(1, termLength, false);
+            final File freedFile = new File(freedLog.fileName());
+            assertTrue(freedLog.free());
+
+            nanoClock.advance(reuseDelayNs - 1);
+            try (RawLog lingeringLog = logFactory.newPublication(2, termLength, false))
+            {
+                assertTrue(freedFile.exists());
+                assertTrue(new File(lingeringLog.fileName()).exists());
+            }
+
+            nanoClock.advance(1);
+            rawLog = logFactory.newPublication(3, termLength, false);
+
+            assertFalse(freedFile.exists());
+            assertTrue(new File(rawLog.fileName()).exists());
+        }
+    }
+
+    @Test
+    void shouldFreeLogWhenPoolForTermLengthIsFull()
+    {
+        final int termLength = 64 * 1024;
+        final File fileOne;
+
+        try (FileStoreLogFactory logFactory = newPooledLogFactory(1, null, null))
+        {
+            final RawLog logOne = logFactory.newPublication(1, termLength, true);
+            final RawLog logTwo = logFactory.newPublication(2, termLength, true);
+            fileOne = new File(logOne.fileName());
+            final File fileTwo = new File(logTwo.fileName());
+
+            assertTrue(logOne.free());
+            assertTrue(logTwo.free());
+            assertTrue(fileOne.exists());
+            assertFalse(fileTwo.exists());
+        }
+
+        assertFalse(fileOne.exists());
+    }
+
     @Test
     void shouldThrowInsufficientUsableStorageExceptionIfNotEnoughSpaceOnDisc() throws IOException
     {
@@ -197,6 +337,24 @@ class FileStoreLogFactoryTest
         verifyNoMoreInteractions(errorHandler);
     }
 
+    private static FileStoreLogFactory newPooledLogFactory(
+        final int poolCapacity, final AtomicCounter poolHits, final AtomicCounter poolMisses)
+    {
+        return new FileStoreLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            PERFORM_STORAGE_CHECKS,
+            LOW_STORAGE_THRESHOLD,
+            mock(ErrorHandler.class),
+            null,
+            null,
+            null,
+            poolCapacity,
+            0,
+            poolHits,
+            poolMisses);
+    }
+
     private static void assertThrowsStorageSpaceException(
         final FileStore fileStore, final int termBufferLength, final Executable executable)
     {
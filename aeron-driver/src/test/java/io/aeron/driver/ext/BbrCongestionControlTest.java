@@ -0,0 +1,298 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.ext;
+
+import io.aeron.Aeron;
+import io.aeron.Publication;
+import io.aeron.Subscription;
+import io.aeron.driver.CongestionControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.test.InterruptAfter;
+import io.aeron.test.InterruptingTestCallback;
+import io.aeron.test.Tests;
+import org.agrona.collections.MutableInteger;
+import org.agrona.collections.MutableLong;
+import org.agrona.concurrent.CachedNanoClock;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.agrona.concurrent.status.CountersReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(InterruptingTestCallback.class)
+class BbrCongestionControlTest
+{
+    private static final int CONTEXT_RECEIVER_WINDOW_LENGTH = 1024 * 1024;
+    private static final int CHANNEL_RECEIVER_WINDOW_LENGTH = 8192;
+    private static final int MTU_LENGTH = 1024;
+    private static final int TERM_LENGTH = 4 * 1024 * 1024;
+    private static final long BOTTLENECK_BANDWIDTH = 100_000_000;
+    private static final long RTT_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long STEP_NS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long BDP = BOTTLENECK_BANDWIDTH * RTT_NS / TimeUnit.SECONDS.toNanos(1);
+
+    private final CountersManager countersManager = mock(CountersManager.class);
+    private final UnsafeBuffer tempBuffer = new UnsafeBuffer(new byte[8192]);
+    private final UnsafeBuffer valuesBuffer = new UnsafeBuffer(new byte[8192]);
+    private final MediaDriver.Context context = new MediaDriver.Context()
+        .initialWindowLength(CONTEXT_RECEIVER_WINDOW_LENGTH)
+        .tempBuffer(tempBuffer);
+    private final UdpChannel channelWithWindow = UdpChannel.parse(
+        "aeron:udp?endpoint=127.0.0.1:9999|rcv-wnd=" + CHANNEL_RECEIVER_WINDOW_LENGTH);
+    private final UdpChannel channelWithoutWindow = UdpChannel.parse("aeron:udp?endpoint=127.0.0.1:9999");
+    private final NanoClock nanoClock = new CachedNanoClock();
+
+    private long nowNs = 0;
+    private long position = 0;
+    private int windowLength;
+
+    @BeforeEach
+    void setUp()
+    {
+        when(countersManager.valuesBuffer()).thenReturn(valuesBuffer);
+    }
+
+    @Test
+    void shouldSetMaxWindowLengthFromChannel()
+    {
+        final BbrCongestionControl bbrCongestionControl = newBbrCongestionControl(channelWithWindow, TERM_LENGTH);
+
+        assertEquals(CHANNEL_RECEIVER_WINDOW_LENGTH, bbrCongestionControl.maxWindowLength());
+        assertEquals(CHANNEL_RECEIVER_WINDOW_LENGTH, bbrCongestionControl.initialWindowLength());
+    }
+
+    @Test
+    void shouldSetMaxWindowLengthFromContext()
+    {
+        final BbrCongestionControl bbrCongestionControl = newBbrCongestionControl(channelWithoutWindow, TERM_LENGTH);
+
+        assertEquals(CONTEXT_RECEIVER_WINDOW_LENGTH, bbrCongestionControl.maxWindowLength());
+        assertEquals(10 * MTU_LENGTH, bbrCongestionControl.initialWindowLength());
+    }
+
+    @Test
+    void shouldSetMaxWindowLengthFromTermLength()
+    {
+        final int smallTermLength = 8192;
+        final BbrCongestionControl bbrCongestionControl = newBbrCongestionControl(channelWithWindow, smallTermLength);
+
+        assertEquals(smallTermLength / 2, bbrCongestionControl.maxWindowLength());
+    }
+
+    @Test
+    void shouldGrowWindowInStartupWhenWindowLimited()
+    {
+        final BbrCongestionControl bbrCongestionControl = newBbrCongestionControl(channelWithoutWindow, TERM_LENGTH);
+        windowLength = bbrCongestionControl.initialWindowLength();
+
+        simulate(bbrCongestionControl, RTT_NS, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(BbrCongestionControl.State.STARTUP, bbrCongestionControl.state());
+        assertEquals(RTT_NS, bbrCongestionControl.minRttNs());
+        assertThat(windowLength, greaterThan(4 * bbrCongestionControl.initialWindowLength()));
+    }
+
+    @Test
+    void shouldConvergeOnBandwidthDelayProduct()
+    {
+        final BbrCongestionControl bbrCongestionControl = newBbrCongestionControl(channelWithoutWindow, TERM_LENGTH);
+        windowLength = bbrCongestionControl.initialWindowLength();
+
+        simulate(bbrCongestionControl, RTT_NS, TimeUnit.SECONDS.toNanos(1));
+
+        assertEquals(BbrCongestionControl.State.PROBE_BW, bbrCongestionControl.state());
+        assertThat(bbrCongestionControl.maxBandwidth(), greaterThan(BOTTLENECK_BANDWIDTH * 9 / 10));
+        assertThat(bbrCongestionControl.maxBandwidth(), lessThanOrEqualTo(BOTTLENECK_BANDWIDTH * 11 / 10));
+        assertThat((long)windowLength, greaterThanOrEqualTo(BDP * 3 / 4 * 9 / 10));
+        assertThat((long)windowLength, lessThanOrEqualTo(BDP * 5 / 4 * 11 / 10));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1L << 30, 1L << 36 })
+    void shouldNotCountJoinPositionAsDeliveredForLateJoiner(final long joinPosition)
+    {
+        final BbrCongestionControl bbrCongestionControl = newBbrCongestionControl(channelWithoutWindow, TERM_LENGTH);
+        windowLength = bbrCongestionControl.initialWindowLength();
+        position = joinPosition;
+        nowNs = TimeUnit.MILLISECONDS.toNanos(5);
+
+        simulate(bbrCongestionControl, RTT_NS, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(BbrCongestionControl.State.STARTUP, bbrCongestionControl.state());
+        assertThat(bbrCongestionControl.maxBandwidth(), greaterThan(0L));
+        assertThat(bbrCongestionControl.maxBandwidth(), lessThanOrEqualTo(BOTTLENECK_BANDWIDTH * 11 / 10));
+        assertThat(windowLength, lessThan(bbrCongestionControl.maxWindowLength()));
+    }
+
+    @Test
+    void shouldProbeRttWhenMinRttIsNotRefreshed()
+    {
+        final long longerRttNs = RTT_NS + TimeUnit.MICROSECONDS.toNanos(200);
+        final BbrCongestionControl bbrCongestionControl = newBbrCongestionControl(channelWithoutWindow, TERM_LENGTH);
+        windowLength = bbrCongestionControl.initialWindowLength();
+
+        simulate(bbrCongestionControl, RTT_NS, TimeUnit.SECONDS.toNanos(1));
+        simulate(bbrCongestionControl, longerRttNs, BbrCongestionControlConfiguration.MIN_RTT_WINDOW_NS);
+
+        assertEquals(BbrCongestionControl.State.PROBE_RTT, bbrCongestionControl.state());
+        assertEquals(4 * MTU_LENGTH, windowLength);
+
+        simulate(bbrCongestionControl, longerRttNs, BbrCongestionControlConfiguration.PROBE_RTT_DURATION_NS * 2);
+
+        assertEquals(BbrCongestionControl.State.PROBE_BW, bbrCongestionControl.state());
+        assertEquals(longerRttNs, bbrCongestionControl.minRttNs());
+    }
+
+    @Test
+    void shouldExitStartupAndForceStatusMessageOnLoss()
+    {
+        final BbrCongestionControl bbrCongestionControl = newBbrCongestionControl(channelWithoutWindow, TERM_LENGTH);
+
+        final long outcome = bbrCongestionControl.onTrackRebuild(0, 0, 0, 0, 0, 0, true);
+
+        assertTrue(CongestionControl.shouldForceStatusMessage(outcome));
+        assertEquals(BbrCongestionControl.State.DRAIN, bbrCongestionControl.state());
+    }
+
+    @Test
+    @InterruptAfter(20)
+    @SuppressWarnings("try")
+    void shouldDeliverAllMessagesOverLossyLoopback(final @TempDir Path tempDir)
+    {
+        final String channel = "aeron:udp?endpoint=localhost:24325|cc=" + BbrCongestionControl.CC_PARAM_VALUE;
+        final int streamId = 1001;
+        final int messageCount = 20_000;
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[MTU_LENGTH]);
+        final LossGenerator dataLossGenerator = DebugChannelEndpointConfiguration.lossGeneratorSupplier(0.01, 7);
+        final LossGenerator noLossGenerator = DebugChannelEndpointConfiguration.lossGeneratorSupplier(0, 0);
+
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .aeronDirectoryName(tempDir.resolve("aeron").toString())
+            .threadingMode(ThreadingMode.SHARED)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        ctx.sendChannelEndpointSupplier((udpChannel, statusIndicator, context) -> new DebugSendChannelEndpoint(
+            udpChannel, statusIndicator, context, dataLossGenerator, noLossGenerator));
+
+        try (MediaDriver mediaDriver = MediaDriver.launch(ctx);
+            Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(ctx.aeronDirectoryName()));
+            Subscription subscription = aeron.addSubscription(channel, streamId);
+            Publication publication = aeron.addPublication(channel, streamId))
+        {
+            Tests.awaitConnected(publication);
+            Tests.awaitConnected(subscription);
+
+            final MutableInteger received = new MutableInteger();
+            final FragmentHandler handler = (buffer, offset, length, header) ->
+            {
+                assertEquals(received.get(), buffer.getInt(offset));
+                received.increment();
+            };
+
+            for (int i = 0; i < messageCount; i++)
+            {
+                srcBuffer.putInt(0, i);
+                while (publication.offer(srcBuffer, 0, MTU_LENGTH / 2) < 0)
+                {
+                    if (0 == subscription.poll(handler, 10))
+                    {
+                        Tests.yield();
+                    }
+                }
+            }
+
+            while (received.get() < messageCount)
+            {
+                if (0 == subscription.poll(handler, 10))
+                {
+                    Tests.yield();
+                }
+            }
+
+            final CountersReader countersReader = aeron.countersReader();
+            final MutableLong bandwidth = new MutableLong();
+            final MutableLong rtt = new MutableLong();
+            countersReader.forEach((counterId, typeId, keyBuffer, label) ->
+            {
+                if (label.startsWith("rcv-cc-bbr-bw"))
+                {
+                    bandwidth.set(countersReader.getCounterValue(counterId));
+                }
+                else if (label.startsWith("rcv-cc-bbr-rtt"))
+                {
+                    rtt.set(countersReader.getCounterValue(counterId));
+                }
+            });
+
+            assertEquals(messageCount, received.get());
+            assertThat(bandwidth.get(), greaterThan(0L));
+            assertThat(rtt.get(), greaterThan(0L));
+        }
+    }
+
+    private BbrCongestionControl newBbrCongestionControl(final UdpChannel udpChannel, final int termLength)
+    {
+        return new BbrCongestionControl(
+            0, udpChannel, 0, 0, termLength, MTU_LENGTH, null, null, nanoClock, context, countersManager);
+    }
+
+    private void simulate(final BbrCongestionControl bbrCongestionControl, final long rttNs, final long durationNs)
+    {
+        final long endNs = nowNs + durationNs;
+        double carryBytes = 0;
+
+        while (nowNs < endNs)
+        {
+            nowNs += STEP_NS;
+
+            if (bbrCongestionControl.shouldMeasureRtt(nowNs))
+            {
+                bbrCongestionControl.onRttMeasurementSent(nowNs);
+                bbrCongestionControl.onRttMeasurement(nowNs, rttNs, null);
+            }
+
+            final double windowRate = (double)windowLength * TimeUnit.SECONDS.toNanos(1) / rttNs;
+            final double rate = Math.min(windowRate, BOTTLENECK_BANDWIDTH);
+
+            carryBytes += rate * STEP_NS / TimeUnit.SECONDS.toNanos(1);
+            position += (long)carryBytes;
+            carryBytes -= (long)carryBytes;
+
+            final long outcome = bbrCongestionControl.onTrackRebuild(
+                nowNs, position, position, position, position, position, false);
+
+            windowLength = CongestionControl.receiverWindowLength(outcome);
+        }
+    }
+}
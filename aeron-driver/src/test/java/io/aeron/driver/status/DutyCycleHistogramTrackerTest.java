@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.test.Tests;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.mockito.Mockito.*;
+
+class DutyCycleHistogramTrackerTest
+{
+    private final CountersManager countersManager = Tests.newCountersMananger(16 * 1024);
+
+    @Test
+    void throwsNullPointerExceptionIfCycleTimesIsNull()
+    {
+        assertThrowsExactly(
+            NullPointerException.class,
+            () -> new DutyCycleHistogramTracker(mock(AtomicCounter.class), mock(AtomicCounter.class), 1, null));
+    }
+
+    @Test
+    void summariseCycleTimesOnceIntervalOfCyclesHasElapsed()
+    {
+        final AtomicCounter maxCycleTime = mock(AtomicCounter.class);
+        final AtomicCounter cycleTimeThresholdExceededCount = mock(AtomicCounter.class);
+        final LatencyCounters cycleTimes = DutyCycleHistogramTracker.allocate(
+            countersManager, DutyCycleHistogramTracker.SENDER_NAME, 1000);
+        final DutyCycleHistogramTracker tracker =
+            new DutyCycleHistogramTracker(maxCycleTime, cycleTimeThresholdExceededCount, 500, cycleTimes);
+
+        tracker.update(0);
+        tracker.measureAndUpdate(10);
+        tracker.measureAndUpdate(20);
+        tracker.measureAndUpdate(600);
+
+        assertEquals(0, cycleTimes.max().get());
+        verify(cycleTimeThresholdExceededCount).incrementOrdered();
+
+        tracker.measureAndUpdate(1000);
+
+        assertEquals(10, cycleTimes.min().get());
+        assertEquals(580, cycleTimes.max().get());
+        assertEquals(0, cycleTimes.histogram().totalCount());
+        assertEquals("sender-cycle-time-p99", countersManager.getCounterLabel(cycleTimes.p99().id()));
+        assertEquals(
+            DutyCycleHistogramTracker.DUTY_CYCLE_TIME_TYPE_ID, countersManager.getCounterTypeId(cycleTimes.p50().id()));
+    }
+}
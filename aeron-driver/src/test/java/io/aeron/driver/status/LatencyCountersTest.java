@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import io.aeron.test.Tests;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyCountersTest
+{
+    private static final long INTERVAL_NS = 1_000_000_000L;
+
+    private final UnsafeBuffer tempBuffer = new UnsafeBuffer(new byte[8192]);
+    private final CountersManager countersManager = Tests.newCountersMananger(16 * 1024);
+
+    @Test
+    void shouldSummariseAndResetHistogramEachInterval()
+    {
+        final LatencyCounters counters = ReceiverLatency.allocate(
+            tempBuffer, countersManager, 1, 2, 3, "aeron:udp?endpoint=localhost:40123", INTERVAL_NS, 0);
+
+        for (int i = 1; i <= 100; i++)
+        {
+            counters.recordValue(i);
+        }
+
+        assertEquals(0, counters.update(INTERVAL_NS - 1));
+        assertEquals(0, counters.max().get());
+
+        assertEquals(1, counters.update(INTERVAL_NS));
+        assertEquals(1, counters.min().get());
+        assertEquals(50, counters.p50().get(), 50 / LatencyHistogram.SUB_BUCKET_COUNT);
+        assertEquals(99, counters.p99().get(), 99 / LatencyHistogram.SUB_BUCKET_COUNT);
+        assertEquals(100, counters.max().get());
+        assertEquals(0, counters.histogram().totalCount());
+
+        assertEquals(1, counters.update(INTERVAL_NS * 2));
+        assertEquals(0, counters.min().get());
+        assertEquals(0, counters.max().get());
+    }
+
+    @Test
+    void shouldLabelCountersWithStatistic()
+    {
+        final LatencyCounters counters = ReceiverLatency.allocate(
+            tempBuffer, countersManager, 1, 2, 3, "aeron:udp?endpoint=localhost:40123", INTERVAL_NS, 0);
+
+        assertEquals(
+            "rcv-lat-p99: 1 2 3 aeron:udp?endpoint=localhost:40123",
+            countersManager.getCounterLabel(counters.p99().id()));
+        assertEquals(ReceiverLatency.RECEIVER_LATENCY_TYPE_ID, countersManager.getCounterTypeId(counters.max().id()));
+
+        counters.close();
+        assertEquals(CountersManager.RECORD_RECLAIMED, countersManager.getCounterState(counters.min().id()));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest
+{
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    void shouldReportZerosWhenEmpty()
+    {
+        assertEquals(0, histogram.totalCount());
+        assertEquals(0, histogram.minValue());
+        assertEquals(0, histogram.maxValue());
+        assertEquals(0, histogram.valueAtPercentile(50.0));
+    }
+
+    @Test
+    void shouldRecordSmallValuesExactly()
+    {
+        for (int i = 1; i <= 20; i++)
+        {
+            histogram.recordValue(i);
+        }
+
+        assertEquals(20, histogram.totalCount());
+        assertEquals(1, histogram.minValue());
+        assertEquals(20, histogram.maxValue());
+        assertEquals(10, histogram.valueAtPercentile(50.0));
+        assertEquals(20, histogram.valueAtPercentile(99.0));
+    }
+
+    @Test
+    void shouldRecordLargeValuesWithinBucketPrecision()
+    {
+        for (long value = 1_000; value <= 100_000; value += 1_000)
+        {
+            histogram.recordValue(value);
+        }
+
+        final long p50 = histogram.valueAtPercentile(50.0);
+        final long p99 = histogram.valueAtPercentile(99.0);
+
+        assertTrue(p50 >= 50_000 && p50 <= 50_000 + (50_000 / LatencyHistogram.SUB_BUCKET_COUNT), "p50=" + p50);
+        assertTrue(p99 >= 99_000 && p99 <= 100_000, "p99=" + p99);
+        assertEquals(1_000, histogram.minValue());
+        assertEquals(100_000, histogram.valueAtPercentile(100.0));
+    }
+
+    @Test
+    void shouldMapEachValueToBucketWhichContainsIt()
+    {
+        long value = 0;
+        while (value < LatencyHistogram.MAX_VALUE)
+        {
+            final int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.highestEquivalentValue(index) >= value);
+            assertTrue(index == 0 || LatencyHistogram.highestEquivalentValue(index - 1) < value);
+
+            value = (value * 3 / 2) + 1;
+        }
+    }
+
+    @Test
+    void shouldClampNegativeAndLargeValues()
+    {
+        histogram.recordValue(-5);
+        histogram.recordValue(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.minValue());
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.maxValue());
+        assertEquals(LatencyHistogram.MAX_VALUE, histogram.valueAtPercentile(99.0));
+    }
+
+    @Test
+    void shouldResetForNextInterval()
+    {
+        histogram.recordValue(100);
+        histogram.recordValue(200);
+        histogram.reset();
+        histogram.recordValue(7);
+
+        assertEquals(1, histogram.totalCount());
+        assertEquals(7, histogram.minValue());
+        assertEquals(7, histogram.maxValue());
+        assertEquals(7, histogram.valueAtPercentile(50.0));
+    }
+}
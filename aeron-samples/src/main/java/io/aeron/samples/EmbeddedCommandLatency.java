@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.Counter;
+import io.aeron.Publication;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import org.HdrHistogram.Histogram;
+import org.agrona.concurrent.BackoffIdleStrategy;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.agrona.SystemUtil.loadPropertiesFiles;
+
+/**
+ * Measures the latency of a command to the driver conductor from one client while another client concurrently adds
+ * and closes publications with large term buffers, first with log buffers allocated on the conductor thread and then
+ * with {@link io.aeron.driver.Configuration#LOG_BUFFERS_ASYNC_ALLOCATION_PROP_NAME} set.
+ * <p>
+ * The term length of the publications being added can be given as the first argument, and defaults to 64 MiB.
+ */
+public class EmbeddedCommandLatency
+{
+    private static final int STREAM_ID = SampleConfiguration.STREAM_ID;
+    private static final int COUNTER_TYPE_ID = 1001;
+    private static final long WARMUP_DURATION_NS = TimeUnit.SECONDS.toNanos(2);
+    private static final long RUN_DURATION_NS = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    public static void main(final String[] args) throws InterruptedException
+    {
+        loadPropertiesFiles(args);
+
+        final String termLength = args.length > 0 && !args[0].endsWith(".properties") ? args[0] : "64m";
+        final String channel = "aeron:ipc?term-length=" + termLength + "|sparse=false";
+
+        System.out.println("Adding publications on " + channel);
+
+        for (final boolean isAsync : new boolean[]{ false, true })
+        {
+            run(channel, isAsync);
+        }
+    }
+
+    @SuppressWarnings("try")
+    private static void run(final String channel, final boolean isAsync) throws InterruptedException
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.DEDICATED)
+            .conductorIdleStrategy(new BackoffIdleStrategy(1, 1, 1000, 1000))
+            .logBuffersAsyncAllocation(isAsync)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        final Histogram histogram = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+        final AtomicBoolean running = new AtomicBoolean(true);
+
+        try (MediaDriver mediaDriver = MediaDriver.launchEmbedded(ctx);
+            Aeron adder = Aeron.connect(new Aeron.Context().aeronDirectoryName(mediaDriver.aeronDirectoryName()));
+            Aeron client = Aeron.connect(new Aeron.Context().aeronDirectoryName(mediaDriver.aeronDirectoryName())))
+        {
+            final Thread adderThread = new Thread(
+                () ->
+                {
+                    while (running.get())
+                    {
+                        try (Publication ignore = adder.addExclusivePublication(channel, STREAM_ID))
+                        {
+                            Thread.yield();
+                        }
+                    }
+                },
+                "publication-adder");
+            adderThread.start();
+
+            final long startNs = System.nanoTime() + WARMUP_DURATION_NS;
+            final long deadlineNs = startNs + RUN_DURATION_NS;
+            long nowNs;
+            while ((nowNs = System.nanoTime()) < deadlineNs)
+            {
+                try (Counter counter = client.addCounter(COUNTER_TYPE_ID, "command latency"))
+                {
+                    final long latencyNs = System.nanoTime() - nowNs;
+                    if (nowNs >= startNs && null != counter)
+                    {
+                        histogram.recordValue(latencyNs);
+                    }
+                }
+
+                Thread.sleep(1);
+            }
+
+            running.set(false);
+            adderThread.join();
+        }
+
+        System.out.printf(
+            "%s allocation: commands=%d p50=%,dus p99=%,dus p99.9=%,dus max=%,dus%n",
+            isAsync ? "async" : "conductor",
+            histogram.getTotalCount(),
+            TimeUnit.NANOSECONDS.toMicros(histogram.getValueAtPercentile(50)),
+            TimeUnit.NANOSECONDS.toMicros(histogram.getValueAtPercentile(99)),
+            TimeUnit.NANOSECONDS.toMicros(histogram.getValueAtPercentile(99.9)),
+            TimeUnit.NANOSECONDS.toMicros(histogram.getMaxValue()));
+    }
+}
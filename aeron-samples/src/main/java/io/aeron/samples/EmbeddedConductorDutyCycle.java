@@ -0,0 +1,104 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.Aeron;
+import io.aeron.driver.DutyCycleTracker;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import org.HdrHistogram.Histogram;
+import org.agrona.concurrent.BusySpinIdleStrategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the duty cycle time of the driver conductor as the number of resources it manages grows.
+ * <p>
+ * A client adds an increasing number of subscriptions, each on its own stream, and while they are idle the cycle
+ * times of the conductor are recorded with a short timer interval so resource timeouts are checked often. The conductor
+ * busy spins so the cycles which check timers, roughly 1 in 10^5, show in the upper percentiles.
+ */
+public class EmbeddedConductorDutyCycle
+{
+    private static final int[] RESOURCE_COUNTS = { 100, 1_000, 10_000, 50_000 };
+    private static final long TIMER_INTERVAL_NS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long WARMUP_DURATION_NS = TimeUnit.SECONDS.toNanos(2);
+    private static final long RUN_DURATION_NS = TimeUnit.SECONDS.toNanos(5);
+
+    static final class HistogramDutyCycleTracker extends DutyCycleTracker
+    {
+        final Histogram histogram = new Histogram(TimeUnit.SECONDS.toNanos(10), 3);
+        volatile boolean isRecording = false;
+
+        public void reportMeasurement(final long durationNs)
+        {
+            if (isRecording)
+            {
+                histogram.recordValue(Math.min(durationNs, histogram.getHighestTrackableValue()));
+            }
+        }
+    }
+
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     * @throws InterruptedException if the thread is interrupted.
+     */
+    public static void main(final String[] args) throws InterruptedException
+    {
+        for (final int resourceCount : RESOURCE_COUNTS)
+        {
+            run(resourceCount);
+        }
+    }
+
+    private static void run(final int resourceCount) throws InterruptedException
+    {
+        final HistogramDutyCycleTracker dutyCycleTracker = new HistogramDutyCycleTracker();
+        final MediaDriver.Context ctx = new MediaDriver.Context()
+            .threadingMode(ThreadingMode.DEDICATED)
+            .conductorIdleStrategy(new BusySpinIdleStrategy())
+            .conductorDutyCycleTracker(dutyCycleTracker)
+            .timerIntervalNs(TIMER_INTERVAL_NS)
+            .dirDeleteOnStart(true)
+            .dirDeleteOnShutdown(true);
+
+        try (MediaDriver mediaDriver = MediaDriver.launchEmbedded(ctx);
+            Aeron aeron = Aeron.connect(new Aeron.Context().aeronDirectoryName(mediaDriver.aeronDirectoryName())))
+        {
+            for (int i = 0; i < resourceCount; i++)
+            {
+                aeron.addSubscription("aeron:ipc", i + 1);
+            }
+
+            Thread.sleep(TimeUnit.NANOSECONDS.toMillis(WARMUP_DURATION_NS));
+            dutyCycleTracker.isRecording = true;
+            Thread.sleep(TimeUnit.NANOSECONDS.toMillis(RUN_DURATION_NS));
+            dutyCycleTracker.isRecording = false;
+        }
+
+        final Histogram histogram = dutyCycleTracker.histogram;
+        System.out.printf(
+            "resources=%,d: cycles=%,d p50=%,dns p99.99=%,dns p99.999=%,dns max=%,dns%n",
+            resourceCount,
+            histogram.getTotalCount(),
+            histogram.getValueAtPercentile(50),
+            histogram.getValueAtPercentile(99.99),
+            histogram.getValueAtPercentile(99.999),
+            histogram.getMaxValue());
+    }
+}
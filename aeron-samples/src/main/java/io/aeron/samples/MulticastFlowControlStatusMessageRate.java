@@ -0,0 +1,136 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.driver.Configuration;
+import io.aeron.driver.FlowControl;
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.MinMulticastFlowControlSupplier;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersManager;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.positionBitsToShift;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+
+/**
+ * Benchmark of the rate at which min multicast flow control processes Status Messages, as the sender does, for a
+ * stream with a large number of tracked receivers.
+ * <p>
+ * Each receiver sends its Status Messages in turn and advances its position by a small random amount so the receiver
+ * which holds the minimum position changes as it would for a group of subscribers.
+ */
+public class MulticastFlowControlStatusMessageRate
+{
+    private static final int[] RECEIVER_COUNTS = { 10, 100, 500, 1000, 5000 };
+    private static final int TERM_LENGTH = 64 * 1024 * 1024;
+    private static final int WINDOW_LENGTH = 128 * 1024;
+    private static final long RUN_DURATION_NS = TimeUnit.SECONDS.toNanos(2);
+    private static final String CHANNEL =
+        "aeron:udp?endpoint=224.20.30.39:24326|interface=localhost|fc=min,g:/1,t:60s";
+
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     */
+    public static void main(final String[] args)
+    {
+        final UdpChannel udpChannel = UdpChannel.parse(CHANNEL);
+        final MediaDriver.Context context = new MediaDriver.Context()
+            .tempBuffer(new UnsafeBuffer(new byte[Configuration.MAX_UDP_PAYLOAD_LENGTH]));
+        final StatusMessageFlyweight statusMessage = new StatusMessageFlyweight();
+        statusMessage.wrap(new byte[StatusMessageFlyweight.HEADER_LENGTH + SIZE_OF_LONG]);
+        final int positionBitsToShift = positionBitsToShift(TERM_LENGTH);
+
+        for (int pass = 0; pass < 2; pass++)
+        {
+            System.out.println(0 == pass ? "Warmup:" : "Measured:");
+
+            for (final int receiverCount : RECEIVER_COUNTS)
+            {
+                final CountersManager countersManager = new CountersManager(
+                    new UnsafeBuffer(ByteBuffer.allocateDirect(Configuration.countersMetadataBufferLength(8192))),
+                    new UnsafeBuffer(ByteBuffer.allocateDirect(8192)));
+                final FlowControl flowControl = new MinMulticastFlowControlSupplier().newInstance(udpChannel, 1001, 1);
+                flowControl.initialize(context, countersManager, udpChannel, 1001, 1, 1, 0, TERM_LENGTH);
+
+                final long[] positions = new long[receiverCount];
+                long senderLimit = 0;
+                long seed = 0x9E3779B97F4A7C15L;
+                long timeNs = System.nanoTime();
+
+                for (int i = 0; i < receiverCount; i++)
+                {
+                    senderLimit = onStatusMessage(
+                        flowControl, statusMessage, i, 0, senderLimit, positionBitsToShift, timeNs);
+                }
+
+                long count = 0;
+                final long deadlineNs = timeNs + RUN_DURATION_NS;
+                do
+                {
+                    for (int i = 0; i < receiverCount; i++)
+                    {
+                        seed ^= seed << 13;
+                        seed ^= seed >>> 7;
+                        seed ^= seed << 17;
+                        final long position = positions[i] + (seed & 0xFFF);
+                        positions[i] = position;
+
+                        senderLimit = onStatusMessage(
+                            flowControl, statusMessage, i, position, senderLimit, positionBitsToShift, timeNs);
+                    }
+
+                    count += receiverCount;
+                    timeNs = System.nanoTime();
+                    flowControl.onIdle(timeNs, senderLimit, senderLimit, false);
+                }
+                while (timeNs - deadlineNs < 0);
+
+                final double nsPerMessage = (double)RUN_DURATION_NS / count;
+                System.out.printf("receivers=%,6d %,8.1f ns/SM %,14.0f SM/s senderLimit=%d%n",
+                    receiverCount, nsPerMessage, 1_000_000_000d / nsPerMessage, senderLimit);
+
+                flowControl.close();
+            }
+        }
+    }
+
+    private static long onStatusMessage(
+        final FlowControl flowControl,
+        final StatusMessageFlyweight statusMessage,
+        final long receiverId,
+        final long position,
+        final long senderLimit,
+        final int positionBitsToShift,
+        final long timeNs)
+    {
+        statusMessage
+            .receiverId(receiverId)
+            .consumptionTermId((int)(position >>> positionBitsToShift))
+            .consumptionTermOffset((int)position & (TERM_LENGTH - 1))
+            .receiverWindowLength(WINDOW_LENGTH)
+            .sessionId(1)
+            .streamId(1001);
+
+        return flowControl.onStatusMessage(statusMessage, null, senderLimit, 0, positionBitsToShift, timeNs);
+    }
+}
@@ -23,8 +23,11 @@ import java.util.*;
 
 import static io.aeron.driver.status.PublisherLimit.PUBLISHER_LIMIT_TYPE_ID;
 import static io.aeron.driver.status.PublisherPos.PUBLISHER_POS_TYPE_ID;
+import static io.aeron.driver.status.ReceiverLatency.RECEIVER_LATENCY_TYPE_ID;
 import static io.aeron.driver.status.ReceiverPos.RECEIVER_POS_TYPE_ID;
+import static io.aeron.driver.status.ReceiverRtt.RECEIVER_RTT_TYPE_ID;
 import static io.aeron.driver.status.SenderLimit.SENDER_LIMIT_TYPE_ID;
+import static io.aeron.driver.status.SenderRtt.SENDER_RTT_TYPE_ID;
 import static io.aeron.driver.status.StreamCounter.*;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
 import static org.agrona.BitUtil.SIZE_OF_INT;
@@ -37,6 +40,9 @@ import static org.agrona.BitUtil.SIZE_OF_INT;
  * <p>
  * Each counter has the format:
  * {@code <label-name>:<registration-id>:<position value>}
+ * <p>
+ * Streams with RTT or latency counters also have their min, p50, p99, and max in nanoseconds for the last interval,
+ * e.g. {@code snd-rtt-p99:<registration-id>:<value>}.
  */
 public final class StreamStat
 {
@@ -82,8 +88,11 @@ public final class StreamStat
         counters.forEach(
             (counterId, typeId, keyBuffer, label) ->
             {
+                final boolean isLatency = typeId == SENDER_RTT_TYPE_ID || typeId == RECEIVER_RTT_TYPE_ID ||
+                    typeId == RECEIVER_LATENCY_TYPE_ID;
+
                 if ((typeId >= PUBLISHER_LIMIT_TYPE_ID && typeId <= RECEIVER_POS_TYPE_ID) ||
-                    typeId == SENDER_LIMIT_TYPE_ID || typeId == PUBLISHER_POS_TYPE_ID)
+                    typeId == SENDER_LIMIT_TYPE_ID || typeId == PUBLISHER_POS_TYPE_ID || isLatency)
                 {
                     final String channel;
                     final int uriIndex = label.indexOf("aeron:");
@@ -104,10 +113,12 @@ public final class StreamStat
                         keyBuffer.getInt(STREAM_ID_OFFSET),
                         channel);
 
+                    final int nameLength = label.indexOf(':');
                     final StreamPosition position = new StreamPosition(
                         keyBuffer.getLong(REGISTRATION_ID_OFFSET),
                         counters.getCounterValue(counterId),
-                        typeId);
+                        typeId,
+                        isLatency && nameLength > 0 ? label.substring(0, nameLength) : labelName(typeId));
 
                     streams.computeIfAbsent(key, (ignore) -> new ArrayList<>()).add(position);
                 }
@@ -144,7 +155,7 @@ public final class StreamStat
             {
                 builder
                     .append(' ')
-                    .append(labelName(streamPosition.typeId()))
+                    .append(streamPosition.name())
                     .append(':').append(streamPosition.id())
                     .append(':').append(streamPosition.value());
             }
@@ -265,6 +276,7 @@ public final class StreamStat
         private final long id;
         private final long value;
         private final int typeId;
+        private final String name;
 
         /**
          * Stream position representation.
@@ -274,10 +286,25 @@ public final class StreamStat
          * @param typeId of the counter.
          */
         public StreamPosition(final long id, final long value, final int typeId)
+        {
+            this(id, value, typeId, labelName(typeId));
+        }
+
+        /**
+         * Stream position representation with a name for when the type of counter is not enough to identify it.
+         *
+         * @param id     of the registered entity.
+         * @param value  of the position.
+         * @param typeId of the counter.
+         * @param name   of the counter.
+         * @since 1.43.0
+         */
+        public StreamPosition(final long id, final long value, final int typeId, final String name)
         {
             this.id = id;
             this.value = value;
             this.typeId = typeId;
+            this.name = name;
         }
 
         /**
@@ -310,6 +337,17 @@ public final class StreamStat
             return typeId;
         }
 
+        /**
+         * The name of the counter for the stream position.
+         *
+         * @return the name of the counter for the stream position.
+         * @since 1.43.0
+         */
+        public String name()
+        {
+            return name;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -327,7 +365,8 @@ public final class StreamStat
 
             final StreamPosition that = (StreamPosition)o;
 
-            return this.id == that.id && this.value == that.value && this.typeId == that.typeId;
+            return this.id == that.id && this.value == that.value && this.typeId == that.typeId &&
+                this.name.equals(that.name);
         }
 
         /**
@@ -338,6 +377,7 @@ public final class StreamStat
             int result = (int)(id ^ (id >>> 32));
             result = 31 * result + (int)(value ^ (value >>> 32));
             result = 31 * result + typeId;
+            result = 31 * result + name.hashCode();
 
             return result;
         }
@@ -351,6 +391,7 @@ public final class StreamStat
                 "id=" + id +
                 ", value=" + value +
                 ", typeId=" + typeId +
+                ", name='" + name + '\'' +
                 '}';
         }
     }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples.raw;
+
+import io.aeron.driver.Configuration;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.aeron.samples.raw.Common.init;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Benchmark to compare the receive throughput of reading a single datagram per selected channel, as done by the NIO
+ * receive path, against draining a batch of datagrams per selected channel as done by the
+ * {@link io.aeron.driver.media.DataTransportPoller} with a
+ * {@link Configuration#RECEIVER_IO_VECTOR_CAPACITY_PROP_NAME} greater than 1.
+ */
+public class BatchReceiveUdpThroughput
+{
+    private static final int[] IO_VECTOR_CAPACITIES = { 1, 2, 4, 8, Configuration.RECEIVER_IO_VECTOR_CAPACITY_MAX };
+    private static final long RUN_DURATION_NS = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     * @throws IOException if an error occurs with the channel.
+     */
+    public static void main(final String[] args) throws IOException
+    {
+        int packetSize = 64;
+        if (1 <= args.length)
+        {
+            packetSize = min(Configuration.MTU_LENGTH_DEFAULT, max(packetSize, Integer.parseInt(args[0])));
+        }
+
+        System.out.printf("Packet size: %d%n", packetSize);
+
+        final InetSocketAddress receiveAddress = new InetSocketAddress("localhost", Common.PING_PORT);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final Thread sendThread = startSender(receiveAddress, packetSize, running);
+
+        try (DatagramChannel receiveChannel = DatagramChannel.open(); Selector selector = Selector.open())
+        {
+            init(receiveChannel);
+            receiveChannel.bind(receiveAddress);
+
+            receiveChannel.register(selector, SelectionKey.OP_READ);
+
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(Configuration.MAX_UDP_PAYLOAD_LENGTH);
+
+            for (final int ioVectorCapacity : IO_VECTOR_CAPACITIES)
+            {
+                receive(selector, buffer, ioVectorCapacity);
+            }
+        }
+        finally
+        {
+            running.set(false);
+            try
+            {
+                sendThread.join();
+            }
+            catch (final InterruptedException ignore)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void receive(
+        final Selector selector, final ByteBuffer buffer, final int ioVectorCapacity)
+        throws IOException
+    {
+        long datagrams = 0;
+        long polls = 0;
+        final long startNs = System.nanoTime();
+        final long deadlineNs = startNs + RUN_DURATION_NS;
+
+        while (System.nanoTime() < deadlineNs)
+        {
+            polls++;
+            if (selector.selectNow() > 0)
+            {
+                final Set<SelectionKey> selectedKeys = selector.selectedKeys();
+                for (final SelectionKey key : selectedKeys)
+                {
+                    final DatagramChannel channel = (DatagramChannel)key.channel();
+                    for (int j = 0; j < ioVectorCapacity; j++)
+                    {
+                        buffer.clear();
+                        if (null == channel.receive(buffer))
+                        {
+                            break;
+                        }
+
+                        datagrams++;
+                    }
+                }
+
+                selectedKeys.clear();
+            }
+        }
+
+        final double durationSeconds = (System.nanoTime() - startNs) / 1_000_000_000.0;
+        System.out.printf(
+            "ioVectorCapacity=%d: %,.0f datagrams/s, %.2f datagrams/poll%n",
+            ioVectorCapacity,
+            datagrams / durationSeconds,
+            (double)datagrams / polls);
+    }
+
+    private static Thread startSender(
+        final InetSocketAddress receiveAddress, final int packetSize, final AtomicBoolean running) throws IOException
+    {
+        final DatagramChannel sendChannel = DatagramChannel.open();
+        init(sendChannel, receiveAddress);
+
+        final Thread thread = new Thread(
+            () ->
+            {
+                final ByteBuffer buffer = ByteBuffer.allocateDirect(packetSize);
+                try (DatagramChannel channel = sendChannel)
+                {
+                    while (running.get())
+                    {
+                        buffer.clear();
+                        try
+                        {
+                            channel.write(buffer);
+                        }
+                        catch (final PortUnreachableException ignore)
+                        {
+                        }
+                    }
+                }
+                catch (final IOException ignore)
+                {
+                }
+            },
+            "batch-receive-sender");
+
+        thread.setDaemon(true);
+        thread.start();
+
+        return thread;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples.raw;
+
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.agrona.collections.Hashing.compoundKey;
+
+/**
+ * Benchmark of the per-packet cost of resolving the session interest for a data packet by (streamId, sessionId) with
+ * many sessions spread across many streams.
+ * <p>
+ * Compares a two level lookup of stream then session, as previously done by the
+ * {@code io.aeron.driver.DataPacketDispatcher}, against a single lookup keyed by the compound (streamId, sessionId)
+ * as now done. Packets arrive in a random order over all sessions to model interleaved traffic.
+ */
+public class DataPacketDispatchLookup
+{
+    private static final int[][] SHAPES = { { 10, 10 }, { 100, 10 }, { 200, 20 }, { 500, 10 } };
+    private static final int PACKET_COUNT = 64 * 1024;
+    private static final long WARMUP_DURATION_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long RUN_DURATION_NS = TimeUnit.SECONDS.toNanos(3);
+
+    static final class Interest
+    {
+        final int value;
+
+        Interest(final int value)
+        {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     */
+    public static void main(final String[] args)
+    {
+        for (final int[] shape : SHAPES)
+        {
+            final int streamCount = shape[0];
+            final int sessionsPerStream = shape[1];
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+            final Int2ObjectHashMap<Int2ObjectHashMap<Interest>> interestByStreamThenSession =
+                new Int2ObjectHashMap<>();
+            final Long2ObjectHashMap<Interest> interestByStreamAndSession = new Long2ObjectHashMap<>();
+            final int[] streamIds = new int[streamCount * sessionsPerStream];
+            final int[] sessionIds = new int[streamCount * sessionsPerStream];
+
+            for (int i = 0, s = 0; i < streamCount; i++)
+            {
+                final int streamId = 1000 + i;
+                final Int2ObjectHashMap<Interest> interestBySession = new Int2ObjectHashMap<>();
+                interestByStreamThenSession.put(streamId, interestBySession);
+
+                for (int j = 0; j < sessionsPerStream; j++, s++)
+                {
+                    final int sessionId = random.nextInt();
+                    final Interest interest = new Interest(s);
+                    interestBySession.put(sessionId, interest);
+                    interestByStreamAndSession.put(compoundKey(streamId, sessionId), interest);
+                    streamIds[s] = streamId;
+                    sessionIds[s] = sessionId;
+                }
+            }
+
+            final int[] packetStreamIds = new int[PACKET_COUNT];
+            final int[] packetSessionIds = new int[PACKET_COUNT];
+            for (int i = 0; i < PACKET_COUNT; i++)
+            {
+                final int s = random.nextInt(streamIds.length);
+                packetStreamIds[i] = streamIds[s];
+                packetSessionIds[i] = sessionIds[s];
+            }
+
+            twoLevel(streamCount, sessionsPerStream, interestByStreamThenSession, packetStreamIds, packetSessionIds);
+            flat(streamCount, sessionsPerStream, interestByStreamAndSession, packetStreamIds, packetSessionIds);
+        }
+    }
+
+    private static void twoLevel(
+        final int streamCount,
+        final int sessionsPerStream,
+        final Int2ObjectHashMap<Int2ObjectHashMap<Interest>> interestByStreamThenSession,
+        final int[] packetStreamIds,
+        final int[] packetSessionIds)
+    {
+        long lookups = 0;
+        long sum = 0;
+        final long startNs = System.nanoTime() + WARMUP_DURATION_NS;
+        final long deadlineNs = startNs + RUN_DURATION_NS;
+        boolean isWarmingUp = true;
+
+        while (true)
+        {
+            final long nowNs = System.nanoTime();
+            if (isWarmingUp && nowNs >= startNs)
+            {
+                isWarmingUp = false;
+                lookups = 0;
+            }
+            else if (nowNs >= deadlineNs)
+            {
+                break;
+            }
+
+            for (int i = 0; i < PACKET_COUNT; i++)
+            {
+                final Int2ObjectHashMap<Interest> interestBySession =
+                    interestByStreamThenSession.get(packetStreamIds[i]);
+                if (null != interestBySession)
+                {
+                    final Interest interest = interestBySession.get(packetSessionIds[i]);
+                    if (null != interest)
+                    {
+                        sum += interest.value;
+                    }
+                }
+            }
+
+            lookups += PACKET_COUNT;
+        }
+
+        report("two level", streamCount, sessionsPerStream, lookups, sum, System.nanoTime() - startNs);
+    }
+
+    private static void flat(
+        final int streamCount,
+        final int sessionsPerStream,
+        final Long2ObjectHashMap<Interest> interestByStreamAndSession,
+        final int[] packetStreamIds,
+        final int[] packetSessionIds)
+    {
+        long lookups = 0;
+        long sum = 0;
+        final long startNs = System.nanoTime() + WARMUP_DURATION_NS;
+        final long deadlineNs = startNs + RUN_DURATION_NS;
+        boolean isWarmingUp = true;
+
+        while (true)
+        {
+            final long nowNs = System.nanoTime();
+            if (isWarmingUp && nowNs >= startNs)
+            {
+                isWarmingUp = false;
+                lookups = 0;
+            }
+            else if (nowNs >= deadlineNs)
+            {
+                break;
+            }
+
+            for (int i = 0; i < PACKET_COUNT; i++)
+            {
+                final Interest interest = interestByStreamAndSession.get(
+                    compoundKey(packetStreamIds[i], packetSessionIds[i]));
+                if (null != interest)
+                {
+                    sum += interest.value;
+                }
+            }
+
+            lookups += PACKET_COUNT;
+        }
+
+        report("flat", streamCount, sessionsPerStream, lookups, sum, System.nanoTime() - startNs);
+    }
+
+    private static void report(
+        final String name,
+        final int streamCount,
+        final int sessionsPerStream,
+        final long lookups,
+        final long sum,
+        final long durationNs)
+    {
+        System.out.printf(
+            "%s: streams=%d, sessions=%d, %.2f ns/packet (checksum %d)%n",
+            name,
+            streamCount,
+            streamCount * sessionsPerStream,
+            (double)durationNs / lookups,
+            sum);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples.raw;
+
+import io.aeron.driver.Configuration;
+import io.aeron.logbuffer.FrameDescriptor;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.samples.raw.Common.init;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+/**
+ * Benchmark of the bytes received per poll on a single high rate stream when datagrams are received into a scratch
+ * buffer and then copied into a term buffer, as done by the receiver, against receiving directly into the term buffer.
+ * <p>
+ * Receiving a whole datagram directly into a term is not safe for an image as subscribers poll the frame length of
+ * the first frame which the kernel may write before the rest of the frame. A scatter read of the header into a scratch
+ * buffer and the body into the term avoids this, as the first header can then be written last, but is only available
+ * on a connected channel. Both are measured to show the cost of the copy.
+ */
+public class ReceiveIntoTermThroughput
+{
+    private static final int TERM_LENGTH = 64 * 1024 * 1024;
+    private static final long WARMUP_DURATION_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long RUN_DURATION_NS = TimeUnit.SECONDS.toNanos(5);
+
+    enum Mode
+    {
+        COPY, DIRECT, SCATTER
+    }
+
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     * @throws IOException if an error occurs with the channel.
+     */
+    public static void main(final String[] args) throws IOException
+    {
+        int packetSize = Configuration.MTU_LENGTH_DEFAULT;
+        if (1 <= args.length)
+        {
+            packetSize = min(Configuration.MAX_UDP_PAYLOAD_LENGTH, max(64, Integer.parseInt(args[0])));
+        }
+
+        System.out.printf("Packet size: %d%n", packetSize);
+
+        final InetSocketAddress receiveAddress = new InetSocketAddress("localhost", Common.PING_PORT);
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final DatagramChannel sendChannel = DatagramChannel.open();
+        init(sendChannel, receiveAddress);
+        final Thread sendThread = startSender(sendChannel, packetSize, running);
+
+        try (DatagramChannel receiveChannel = DatagramChannel.open())
+        {
+            init(receiveChannel);
+            receiveChannel.bind(receiveAddress);
+
+            final ByteBuffer scratchBuffer = BufferUtil.allocateDirectAligned(
+                Configuration.MAX_UDP_PAYLOAD_LENGTH, BitUtil.CACHE_LINE_LENGTH);
+            final ByteBuffer termByteBuffer = BufferUtil.allocateDirectAligned(TERM_LENGTH, BitUtil.CACHE_LINE_LENGTH);
+
+            receive(Mode.COPY, receiveChannel, scratchBuffer, termByteBuffer);
+            receive(Mode.DIRECT, receiveChannel, scratchBuffer, termByteBuffer);
+
+            receiveChannel.connect(sendChannel.getLocalAddress());
+            receive(Mode.SCATTER, receiveChannel, scratchBuffer, termByteBuffer);
+        }
+        finally
+        {
+            running.set(false);
+            try
+            {
+                sendThread.join();
+            }
+            catch (final InterruptedException ignore)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void receive(
+        final Mode mode,
+        final DatagramChannel channel,
+        final ByteBuffer scratchBuffer,
+        final ByteBuffer termByteBuffer) throws IOException
+    {
+        final UnsafeBuffer scratch = new UnsafeBuffer(scratchBuffer);
+        final UnsafeBuffer term = new UnsafeBuffer(termByteBuffer);
+        final ByteBuffer[] scatterBuffers = { scratchBuffer, termByteBuffer };
+        final int maxLength = Configuration.MAX_UDP_PAYLOAD_LENGTH;
+
+        long bytes = 0;
+        long polls = 0;
+        int termOffset = 0;
+        final long startNs = System.nanoTime() + WARMUP_DURATION_NS;
+        final long deadlineNs = startNs + RUN_DURATION_NS;
+        boolean isWarmingUp = true;
+
+        while (true)
+        {
+            final long nowNs = System.nanoTime();
+            if (isWarmingUp && nowNs >= startNs)
+            {
+                isWarmingUp = false;
+                bytes = 0;
+                polls = 0;
+            }
+            else if (nowNs >= deadlineNs)
+            {
+                break;
+            }
+
+            polls++;
+            if (TERM_LENGTH - termOffset < maxLength)
+            {
+                termOffset = 0;
+            }
+
+            int length = 0;
+            switch (mode)
+            {
+                case COPY:
+                    scratchBuffer.clear();
+                    if (null != channel.receive(scratchBuffer))
+                    {
+                        length = scratchBuffer.position();
+                        term.putBytes(termOffset, scratch, 0, length);
+                    }
+                    break;
+
+                case DIRECT:
+                    termByteBuffer.limit(termOffset + maxLength).position(termOffset);
+                    if (null != channel.receive(termByteBuffer))
+                    {
+                        length = termByteBuffer.position() - termOffset;
+                    }
+                    break;
+
+                case SCATTER:
+                {
+                    scratchBuffer.clear().limit(HEADER_LENGTH);
+                    termByteBuffer.limit(termOffset + maxLength).position(termOffset + HEADER_LENGTH);
+                    final long bytesRead = channel.read(scatterBuffers);
+                    if (bytesRead > 0)
+                    {
+                        length = (int)bytesRead;
+                        term.putLongOrdered(termOffset, scratch.getLong(0));
+                    }
+                    break;
+                }
+            }
+
+            if (length > 0)
+            {
+                bytes += length;
+                termOffset += BitUtil.align(length, FrameDescriptor.FRAME_ALIGNMENT);
+            }
+        }
+
+        final double durationSeconds = (System.nanoTime() - startNs) / 1_000_000_000.0;
+        System.out.printf(
+            "%s: %,.0f MB/s, %.1f bytes/poll%n",
+            mode,
+            bytes / durationSeconds / (1024 * 1024),
+            (double)bytes / polls);
+    }
+
+    private static Thread startSender(
+        final DatagramChannel sendChannel, final int packetSize, final AtomicBoolean running)
+    {
+        final Thread thread = new Thread(
+            () ->
+            {
+                final ByteBuffer buffer = ByteBuffer.allocateDirect(packetSize);
+                try (DatagramChannel channel = sendChannel)
+                {
+                    while (running.get())
+                    {
+                        buffer.clear();
+                        try
+                        {
+                            channel.write(buffer);
+                        }
+                        catch (final PortUnreachableException ignore)
+                        {
+                        }
+                    }
+                }
+                catch (final IOException ignore)
+                {
+                }
+            },
+            "receive-into-term-sender");
+
+        thread.setDaemon(true);
+        thread.start();
+
+        return thread;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2014-2023 Real Logic Limited.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples.raw;
+
+import io.aeron.driver.Configuration;
+import org.agrona.CloseHelper;
+import org.agrona.nio.NioSelectedKeySet;
+import org.agrona.nio.TransportPoller;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.samples.raw.Common.init;
+
+/**
+ * Benchmark of how the cost of a single poll of the receive transports scales with the number of registered endpoints
+ * when only one endpoint has traffic.
+ * <p>
+ * Compares iterating every channel with a non-blocking receive, as the transport pollers do at or below
+ * {@link TransportPoller#ITERATION_THRESHOLD}, against {@link Selector#selectNow()} which on Linux is backed by epoll
+ * and provides a ready list of channels. The ready list is read via the {@link NioSelectedKeySet} hack when it can be
+ * installed, as the transport pollers do, otherwise via {@link Selector#selectedKeys()}.
+ */
+public class TransportPollerScalability
+{
+    private static final int[] ENDPOINT_COUNTS = { 10, 100, 1000 };
+    private static final long WARMUP_DURATION_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final long RUN_DURATION_NS = TimeUnit.SECONDS.toNanos(3);
+
+    /**
+     * Main method for launching the process.
+     *
+     * @param args passed to the process.
+     * @throws IOException if an error occurs with the channel.
+     */
+    public static void main(final String[] args) throws IOException
+    {
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(Configuration.MAX_UDP_PAYLOAD_LENGTH);
+
+        for (final int endpointCount : ENDPOINT_COUNTS)
+        {
+            final DatagramChannel[] receiveChannels = new DatagramChannel[endpointCount];
+            DatagramChannel sendChannel = null;
+            Selector selector = null;
+
+            try
+            {
+                selector = Selector.open();
+                final NioSelectedKeySet keySet = Common.keySet(selector);
+
+                for (int i = 0; i < endpointCount; i++)
+                {
+                    final DatagramChannel channel = DatagramChannel.open();
+                    receiveChannels[i] = channel;
+                    init(channel);
+                    channel.bind(new InetSocketAddress("localhost", 0));
+                    channel.register(selector, SelectionKey.OP_READ);
+                }
+
+                sendChannel = DatagramChannel.open();
+                init(sendChannel, (InetSocketAddress)receiveChannels[endpointCount / 2].getLocalAddress());
+
+                iterate(endpointCount, receiveChannels, sendChannel, buffer);
+                select(endpointCount, selector, keySet, sendChannel, buffer);
+            }
+            finally
+            {
+                CloseHelper.close(sendChannel);
+                CloseHelper.closeAll(receiveChannels);
+                CloseHelper.close(selector);
+            }
+        }
+    }
+
+    private static void iterate(
+        final int endpointCount,
+        final DatagramChannel[] receiveChannels,
+        final DatagramChannel sendChannel,
+        final ByteBuffer buffer) throws IOException
+    {
+        long polls = 0;
+        long datagrams = 0;
+        final long startNs = System.nanoTime() + WARMUP_DURATION_NS;
+        final long deadlineNs = startNs + RUN_DURATION_NS;
+        boolean isWarmingUp = true;
+
+        while (true)
+        {
+            final long nowNs = System.nanoTime();
+            if (isWarmingUp && nowNs >= startNs)
+            {
+                isWarmingUp = false;
+                polls = 0;
+                datagrams = 0;
+            }
+            else if (nowNs >= deadlineNs)
+            {
+                break;
+            }
+
+            send(sendChannel, buffer);
+            polls++;
+
+            for (final DatagramChannel channel : receiveChannels)
+            {
+                buffer.clear();
+                if (null != channel.receive(buffer))
+                {
+                    datagrams++;
+                }
+            }
+        }
+
+        report("iterate", endpointCount, polls, datagrams, System.nanoTime() - startNs);
+    }
+
+    private static void select(
+        final int endpointCount,
+        final Selector selector,
+        final NioSelectedKeySet keySet,
+        final DatagramChannel sendChannel,
+        final ByteBuffer buffer) throws IOException
+    {
+        long polls = 0;
+        long datagrams = 0;
+        final long startNs = System.nanoTime() + WARMUP_DURATION_NS;
+        final long deadlineNs = startNs + RUN_DURATION_NS;
+        boolean isWarmingUp = true;
+
+        while (true)
+        {
+            final long nowNs = System.nanoTime();
+            if (isWarmingUp && nowNs >= startNs)
+            {
+                isWarmingUp = false;
+                polls = 0;
+                datagrams = 0;
+            }
+            else if (nowNs >= deadlineNs)
+            {
+                break;
+            }
+
+            send(sendChannel, buffer);
+            polls++;
+
+            if (selector.selectNow() > 0)
+            {
+                if (null != keySet)
+                {
+                    final SelectionKey[] keys = keySet.keys();
+                    for (int i = 0, length = keySet.size(); i < length; i++)
+                    {
+                        datagrams += receive((DatagramChannel)keys[i].channel(), buffer);
+                    }
+
+                    keySet.reset();
+                }
+                else
+                {
+                    final Set<SelectionKey> selectedKeys = selector.selectedKeys();
+                    for (final SelectionKey key : selectedKeys)
+                    {
+                        datagrams += receive((DatagramChannel)key.channel(), buffer);
+                    }
+
+                    selectedKeys.clear();
+                }
+            }
+        }
+
+        report(
+            null != keySet ? "select (key set hack)" : "select",
+            endpointCount,
+            polls,
+            datagrams,
+            System.nanoTime() - startNs);
+    }
+
+    private static int receive(final DatagramChannel channel, final ByteBuffer buffer) throws IOException
+    {
+        buffer.clear();
+        return null != channel.receive(buffer) ? 1 : 0;
+    }
+
+    private static void send(final DatagramChannel sendChannel, final ByteBuffer buffer) throws IOException
+    {
+        buffer.clear().limit(64);
+        sendChannel.write(buffer);
+    }
+
+    private static void report(
+        final String name, final int endpointCount, final long polls, final long datagrams, final long durationNs)
+    {
+        System.out.printf(
+            "%s: endpoints=%d, %,d ns/poll, %.2f datagrams/poll%n",
+            name,
+            endpointCount,
+            durationNs / polls,
+            (double)datagrams / polls);
+    }
+}